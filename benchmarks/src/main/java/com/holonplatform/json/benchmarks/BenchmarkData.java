@@ -0,0 +1,234 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.VirtualProperty;
+import com.holonplatform.core.temporal.TemporalType;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.config.JsonConfigProperties;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+import com.holonplatform.json.gson.GsonJson;
+import com.holonplatform.json.jackson.JacksonJson;
+
+/**
+ * Benchmark data factory.
+ */
+public final class BenchmarkData {
+
+	/**
+	 * JSON backends.
+	 */
+	public enum Backend {
+
+		JACKSON {
+
+			@Override
+			public Json create() {
+				return JacksonJson.create();
+			}
+
+		},
+
+		GSON {
+
+			@Override
+			public Json create() {
+				return GsonJson.create();
+			}
+
+		};
+
+		/**
+		 * Create a new {@link Json} instance using this backend.
+		 * @return A new {@link Json} instance
+		 */
+		public abstract Json create();
+
+	}
+
+	private static final long EPOCH_MILLIS = 1_500_000_000_000L;
+
+	private BenchmarkData() {
+	}
+
+	/**
+	 * Build a {@link PropertySet} with given number of scalar properties. When <code>depth</code> is greater than
+	 * <code>0</code>, the properties are distributed among four nested JSON objects with the given nesting depth, using
+	 * the path names dot notation. A {@link VirtualProperty} is always included, so that the {@link #propertyBox} JSON
+	 * differs between the {@link PropertyBoxSerializationMode#PATH} and {@link PropertyBoxSerializationMode#ALL}
+	 * serialization modes.
+	 * @param width Number of properties
+	 * @param depth Nesting depth
+	 * @param mode The serialization mode to configure in the property set
+	 * @return The property set
+	 */
+	public static PropertySet<?> propertySet(int width, int depth, PropertyBoxSerializationMode mode) {
+		final List<Property<?>> properties = new ArrayList<>(width + 1);
+		for (int i = 0; i < width; i++) {
+			final String name = path(i, depth) + "p" + i;
+			switch (i % 5) {
+			case 0:
+				properties.add(PathProperty.create(name, String.class));
+				break;
+			case 1:
+				properties.add(PathProperty.create(name, Integer.class));
+				break;
+			case 2:
+				properties.add(PathProperty.create(name, Long.class));
+				break;
+			case 3:
+				properties.add(PathProperty.create(name, Double.class));
+				break;
+			default:
+				properties.add(PathProperty.create(name, Boolean.class));
+				break;
+			}
+		}
+		properties.add(VirtualProperty.create(String.class, pb -> "virtual").name("virtual"));
+		return PropertySet.builder().add(properties)
+				.withConfiguration(JsonConfigProperties.PROPERTYBOX_SERIALIZATION_MODE, mode).build();
+	}
+
+	/**
+	 * Build a {@link PropertySet} of temporal type properties, repeating the supported temporal types until the given
+	 * number of properties is reached.
+	 * @param width Number of properties
+	 * @return The property set
+	 */
+	public static PropertySet<?> temporalPropertySet(int width) {
+		final List<Property<?>> properties = new ArrayList<>(width);
+		for (int i = 0; i < width; i++) {
+			final String name = "t" + i;
+			switch (i % 7) {
+			case 0:
+				properties.add(PathProperty.create(name, Date.class).temporalType(TemporalType.DATE));
+				break;
+			case 1:
+				properties.add(PathProperty.create(name, Date.class).temporalType(TemporalType.TIME));
+				break;
+			case 2:
+				properties.add(PathProperty.create(name, Date.class).temporalType(TemporalType.DATE_TIME));
+				break;
+			case 3:
+				properties.add(PathProperty.create(name, LocalDate.class));
+				break;
+			case 4:
+				properties.add(PathProperty.create(name, LocalTime.class));
+				break;
+			case 5:
+				properties.add(PathProperty.create(name, LocalDateTime.class));
+				break;
+			default:
+				properties.add(PathProperty.create(name, OffsetDateTime.class));
+				break;
+			}
+		}
+		return PropertySet.of(properties);
+	}
+
+	/**
+	 * Build a {@link PropertyBox} with a value for each {@link PathProperty} of given property set.
+	 * @param propertySet The property set
+	 * @param seed Values seed
+	 * @return The property box
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static PropertyBox propertyBox(PropertySet<?> propertySet, int seed) {
+		final PropertyBox.Builder builder = PropertyBox.builder(propertySet);
+		int index = 0;
+		for (Property property : propertySet) {
+			if (property instanceof PathProperty) {
+				builder.set(property, value(property.getType(), seed + index++));
+			}
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Build a list of {@link PropertyBox}s.
+	 * @param propertySet The property set
+	 * @param size List size
+	 * @return The property boxes
+	 */
+	public static List<PropertyBox> propertyBoxes(PropertySet<?> propertySet, int size) {
+		final List<PropertyBox> boxes = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			boxes.add(propertyBox(propertySet, i));
+		}
+		return boxes;
+	}
+
+	private static String path(int index, int depth) {
+		if (depth < 1) {
+			return "";
+		}
+		final StringBuilder sb = new StringBuilder();
+		sb.append('g').append(index % 4).append('.');
+		for (int i = 1; i < depth; i++) {
+			sb.append('l').append(i).append('.');
+		}
+		return sb.toString();
+	}
+
+	private static Object value(Class<?> type, int seed) {
+		if (type == String.class) {
+			return "value-" + seed;
+		}
+		if (type == Integer.class) {
+			return Integer.valueOf(seed);
+		}
+		if (type == Long.class) {
+			return Long.valueOf(EPOCH_MILLIS + seed);
+		}
+		if (type == Double.class) {
+			return Double.valueOf(seed + 0.5d);
+		}
+		if (type == Boolean.class) {
+			return Boolean.valueOf(seed % 2 == 0);
+		}
+		if (type == Date.class) {
+			return new Date(EPOCH_MILLIS + seed * 1000L);
+		}
+		final LocalDateTime dateTime = LocalDateTime.of(2020, 1, 1, 10, 30, 15).plusMinutes(seed);
+		if (type == LocalDate.class) {
+			return dateTime.toLocalDate();
+		}
+		if (type == LocalTime.class) {
+			return dateTime.toLocalTime();
+		}
+		if (type == LocalDateTime.class) {
+			return dateTime;
+		}
+		if (type == OffsetDateTime.class) {
+			return dateTime.atOffset(ZoneOffset.ofHours(2));
+		}
+		throw new IllegalArgumentException("Unsupported type: " + type);
+	}
+
+}
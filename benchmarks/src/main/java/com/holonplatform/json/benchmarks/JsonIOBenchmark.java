@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.JsonReader;
+import com.holonplatform.json.JsonWriter;
+import com.holonplatform.json.benchmarks.BenchmarkData.Backend;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+
+/**
+ * {@link PropertyBox} JSON array I/O benchmark, comparing String, byte array, byte buffer and stream targets and sources through
+ * the {@link JsonWriter} and {@link JsonReader} APIs, and the JSON Lines format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonIOBenchmark {
+
+	@Param({ "JACKSON", "GSON" })
+	private Backend backend;
+
+	@Param({ "100", "1000" })
+	private int size;
+
+	private Json json;
+
+	private PropertySet<?> propertySet;
+
+	private List<PropertyBox> propertyBoxes;
+
+	private String serialized;
+
+	private byte[] bytes;
+
+	private ByteBuffer buffer;
+
+	private ByteBuffer target;
+
+	private byte[] lines;
+
+	@Setup
+	public void setup() {
+		json = backend.create();
+		propertySet = BenchmarkData.propertySet(20, 1, PropertyBoxSerializationMode.PATH);
+		propertyBoxes = BenchmarkData.propertyBoxes(propertySet, size);
+		serialized = json.toJsonArray(PropertyBox.class, propertyBoxes).asString();
+		bytes = serialized.getBytes(StandardCharsets.UTF_8);
+		buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+		target = ByteBuffer.allocateDirect(bytes.length * 2);
+		lines = json.toJsonLines(PropertyBox.class, propertyBoxes.iterator()).asBytes();
+	}
+
+	@Benchmark
+	public String writeString() {
+		return json.toJsonArray(PropertyBox.class, propertyBoxes).asString();
+	}
+
+	@Benchmark
+	public byte[] writeBytes() {
+		return json.toJsonArray(PropertyBox.class, propertyBoxes).asBytes();
+	}
+
+	@Benchmark
+	public ByteBuffer writeByteBuffer() {
+		target.clear();
+		json.toJsonArray(PropertyBox.class, propertyBoxes).write(target);
+		return target;
+	}
+
+	@Benchmark
+	public int writeStream() {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream(bytes.length);
+		json.toJsonArray(PropertyBox.class, propertyBoxes).write(stream);
+		return stream.size();
+	}
+
+	@Benchmark
+	public int writeIncrementalStream() {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream(bytes.length);
+		json.toJsonArray(PropertyBox.class, propertyBoxes.stream()).write(stream);
+		return stream.size();
+	}
+
+	@Benchmark
+	public int writeJsonLines() {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream(lines.length);
+		json.toJsonLines(PropertyBox.class, propertyBoxes.iterator()).write(stream);
+		return stream.size();
+	}
+
+	@Benchmark
+	public List<PropertyBox> readString() {
+		return json.fromJsonArray(JsonReader.from(serialized), propertySet);
+	}
+
+	@Benchmark
+	public List<PropertyBox> readBytes() {
+		return json.fromJsonArray(JsonReader.from(bytes), propertySet);
+	}
+
+	@Benchmark
+	public List<PropertyBox> readByteBuffer() {
+		return json.fromJsonArray(JsonReader.from(buffer), propertySet);
+	}
+
+	@Benchmark
+	public List<PropertyBox> readStream() {
+		return json.fromJsonArray(JsonReader.from(new ByteArrayInputStream(bytes)), propertySet);
+	}
+
+	@Benchmark
+	public long readJsonLines() {
+		try (Stream<PropertyBox> values = json.streamJsonLines(JsonReader.from(new ByteArrayInputStream(lines)),
+				propertySet)) {
+			return values.count();
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.benchmarks.BenchmarkData.Backend;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+
+/**
+ * {@link PropertyBox} serialization and deserialization benchmark, by backend, PropertySet width, nesting depth and
+ * serialization mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyBoxBenchmark {
+
+	@Param({ "JACKSON", "GSON" })
+	private Backend backend;
+
+	@Param({ "10", "100", "1000" })
+	private int width;
+
+	@Param({ "0", "1", "3" })
+	private int depth;
+
+	@Param({ "PATH", "ALL" })
+	private PropertyBoxSerializationMode mode;
+
+	private Json json;
+
+	private PropertySet<?> propertySet;
+
+	private PropertyBox propertyBox;
+
+	private String serialized;
+
+	@Setup
+	public void setup() {
+		json = backend.create();
+		propertySet = BenchmarkData.propertySet(width, depth, mode);
+		propertyBox = BenchmarkData.propertyBox(propertySet, 0);
+		serialized = json.toJsonString(propertyBox);
+	}
+
+	@Benchmark
+	public String serialize() {
+		return json.toJsonString(propertyBox);
+	}
+
+	@Benchmark
+	public PropertyBox deserialize() {
+		return json.fromJson(serialized, propertySet);
+	}
+
+}
@@ -18,8 +18,10 @@ package com.holonplatform.json.gson.jaxrs;
 import jakarta.ws.rs.core.Feature;
 import jakarta.ws.rs.core.FeatureContext;
 
+import com.holonplatform.json.cache.CacheStatistics;
 import com.holonplatform.json.gson.jaxrs.internal.GsonContextResolverFeature;
 import com.holonplatform.json.gson.jaxrs.internal.GsonProviderFeature;
+import com.holonplatform.json.internal.model.PropertySetRefCache;
 
 /**
  * JAX-RS {@link Feature} to register Gson JSON providers and context resolver.
@@ -51,6 +53,16 @@ public class GsonFeature implements Feature {
 	 */
 	public static final String FEATURE_NAME = GsonFeature.class.getName();
 
+	/**
+	 * Get the statistics of the cache of the {@link com.holonplatform.core.property.PropertySet}s declared through the
+	 * {@link com.holonplatform.core.property.PropertySetRef} annotation by the JAX-RS resource method parameters.
+	 * @return The cache statistics snapshot
+	 * @since 6.0.3
+	 */
+	public static CacheStatistics getPropertySetRefCacheStatistics() {
+		return PropertySetRefCache.getDefault().getStatistics();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see jakarta.ws.rs.core.Feature#configure(jakarta.ws.rs.core.FeatureContext)
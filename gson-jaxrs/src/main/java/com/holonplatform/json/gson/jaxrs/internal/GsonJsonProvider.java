@@ -19,13 +19,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Produces;
@@ -46,11 +50,29 @@ import com.holonplatform.core.internal.property.PropertySetRefIntrospector;
 import com.holonplatform.core.internal.property.PropertySetRefIntrospector.PropertySetIntrospectionException;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
-import com.holonplatform.core.property.PropertySetRef;
+import com.holonplatform.json.ColumnarJson;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.Json.JsonWriteException;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.JsonReader;
+import com.holonplatform.json.config.JsonColumnarFormat;
 import com.holonplatform.json.gson.GsonConfiguration;
+import com.holonplatform.json.gson.internal.DefaultGsonJson;
+import com.holonplatform.json.internal.Writers;
+import com.holonplatform.json.internal.model.PropertySetRefCache;
 
 /**
  * JAX-RS message body reader and writer using {@link Gson} as JSON serializer/deserializer.
+ * <p>
+ * The charset declared by the media type is used, UTF-8 by default. The JSON data are written to the entity stream
+ * through a buffered writer, which encodes UTF-8 directly into bytes.
+ * </p>
+ * <p>
+ * When the media type declares the {@link JsonColumnarFormat#MEDIA_TYPE_PARAMETER} parameter with the
+ * {@link JsonColumnarFormat#MEDIA_TYPE_PARAMETER_VALUE} value (for example
+ * <code>application/json;layout=columnar</code>), a {@link List}, {@link Collection}, {@link Iterable} or
+ * {@link Stream} of {@link PropertyBox} is written and read using the {@link JsonColumnarFormat}.
+ * </p>
  *
  * @since 5.0.0
  */
@@ -58,8 +80,6 @@ import com.holonplatform.json.gson.GsonConfiguration;
 @Consumes(MediaType.APPLICATION_JSON)
 public class GsonJsonProvider implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
 
-	private static final Charset CHARSET = StandardCharsets.UTF_8;
-
 	@Context
 	private Providers providers;
 
@@ -67,6 +87,8 @@ public class GsonJsonProvider implements MessageBodyWriter<Object>, MessageBodyR
 
 	private PropertySetRefIntrospector propertySetRefIntrospector;
 
+	private ColumnarJson json;
+
 	/**
 	 * Get the {@link Gson} instance to use.
 	 * @return The {@link Gson} instance to use, from {@link ContextResolver} if available or the default one
@@ -87,6 +109,17 @@ public class GsonJsonProvider implements MessageBodyWriter<Object>, MessageBodyR
 		return gson;
 	}
 
+	/**
+	 * Get the {@link ColumnarJson} API to use.
+	 * @return The {@link ColumnarJson} API, backed by the {@link Gson} instance to use
+	 */
+	private ColumnarJson getJson() {
+		if (json == null) {
+			json = new DefaultGsonJson(getGson());
+		}
+		return json;
+	}
+
 	/**
 	 * Get the {@link PropertySetRefIntrospector} instance to use.
 	 * @return The {@link PropertySetRefIntrospector} instance to use, from {@link ContextResolver} if available or the
@@ -131,19 +164,22 @@ public class GsonJsonProvider implements MessageBodyWriter<Object>, MessageBodyR
 
 		final Type jsonType = type.equals(genericType) ? type : genericType;
 
-		try (final Reader reader = new InputStreamReader(entityStream, CHARSET)) {
+		if ((type.isAssignableFrom(List.class) || Stream.class == (Class<?>) type)
+				&& isColumnar(type, genericType, mediaType)) {
+			return readColumnar(type, annotations, entityStream, getCharset(mediaType));
+		}
+
+		try (final Reader reader = new InputStreamReader(entityStream, getCharset(mediaType))) {
 
 			// check property set
 			PropertySet<?> propertySet = null;
 			if (isPropertyBoxType(jsonType) && !com.holonplatform.core.Context.get()
 					.resource(PropertySet.CONTEXT_KEY, PropertySet.class).isPresent()) {
-				PropertySetRef propertySetRef = PropertySetRefIntrospector.getPropertySetRef(annotations).orElse(null);
-				if (propertySetRef != null) {
-					try {
-						propertySet = getPropertySetRefIntrospector().getPropertySet(propertySetRef);
-					} catch (PropertySetIntrospectionException e) {
-						throw new WebApplicationException(e.getMessage(), e, Status.INTERNAL_SERVER_ERROR);
-					}
+				try {
+					propertySet = PropertySetRefCache.getDefault().getPropertySet(annotations,
+							getPropertySetRefIntrospector());
+				} catch (PropertySetIntrospectionException e) {
+					throw new WebApplicationException(e.getMessage(), e, Status.INTERNAL_SERVER_ERROR);
 				}
 			}
 			if (propertySet != null) {
@@ -172,6 +208,47 @@ public class GsonJsonProvider implements MessageBodyWriter<Object>, MessageBodyR
 		}
 	}
 
+	/**
+	 * Read a sequence of {@link PropertyBox} using the {@link JsonColumnarFormat}.
+	 * @param type Entity type
+	 * @param annotations Entity annotations
+	 * @param entityStream Entity stream
+	 * @param charset Entity charset
+	 * @return The {@link PropertyBox} values, as a {@link List} or a {@link Stream} according to the entity type
+	 * @throws IOException IO read error
+	 * @throws WebApplicationException JSON syntax exception or missing property set
+	 */
+	private Object readColumnar(Class<?> type, Annotation[] annotations, InputStream entityStream, Charset charset)
+			throws IOException {
+		// check property set
+		PropertySet<?> propertySet = com.holonplatform.core.Context.get()
+				.resource(PropertySet.CONTEXT_KEY, PropertySet.class).orElse(null);
+		if (propertySet == null) {
+			try {
+				propertySet = PropertySetRefCache.getDefault().getPropertySet(annotations,
+						getPropertySetRefIntrospector());
+			} catch (PropertySetIntrospectionException e) {
+				throw new WebApplicationException(e.getMessage(), e, Status.INTERNAL_SERVER_ERROR);
+			}
+		}
+		if (propertySet == null) {
+			throw new WebApplicationException("Missing PropertySet instance to build a PropertyBox. "
+					+ "A PropertySet instance must be available to read a columnar JSON array.", Status.BAD_REQUEST);
+		}
+		final List<PropertyBox> values = new ArrayList<>();
+		try (JsonIterator<PropertyBox> iterator = getJson()
+				.iterateJsonColumnarArray(JsonReader.from(entityStream, charset), propertySet)) {
+			iterator.forEachRemaining(values::add);
+		} catch (JsonReadException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			final String message = (e.getCause() != null) ? e.getCause().getMessage() : e.getMessage();
+			throw new WebApplicationException(message, e, Status.BAD_REQUEST);
+		}
+		return (Stream.class == type) ? values.stream() : values;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see jakarta.ws.rs.ext.MessageBodyWriter#isWriteable(java.lang.Class, java.lang.reflect.Type,
@@ -202,8 +279,12 @@ public class GsonJsonProvider implements MessageBodyWriter<Object>, MessageBodyR
 	public void writeTo(Object t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
 			MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
 			throws IOException, WebApplicationException {
+		if (isColumnar(type, genericType, mediaType)) {
+			writeColumnar(t, entityStream, getCharset(mediaType));
+			return;
+		}
 		final Type jsonType = type.equals(genericType) ? type : genericType;
-		try (final Writer writer = new OutputStreamWriter(entityStream, CHARSET)) {
+		try (final Writer writer = Writers.buffered(entityStream, getCharset(mediaType))) {
 			try {
 				getGson().toJson(t, jsonType, writer);
 			} catch (JsonIOException e) {
@@ -214,6 +295,71 @@ public class GsonJsonProvider implements MessageBodyWriter<Object>, MessageBodyR
 		}
 	}
 
+	/**
+	 * Write a sequence of {@link PropertyBox} using the {@link JsonColumnarFormat}.
+	 * @param t The {@link Iterable} or {@link Stream} of {@link PropertyBox} to write
+	 * @param entityStream Entity stream
+	 * @param charset Entity charset
+	 * @throws IOException IO write error
+	 */
+	@SuppressWarnings("unchecked")
+	private void writeColumnar(Object t, OutputStream entityStream, Charset charset) throws IOException {
+		try {
+			if (t instanceof Stream) {
+				try (Stream<? extends PropertyBox> stream = (Stream<? extends PropertyBox>) t) {
+					getJson().toJsonColumnarArray(stream.iterator()).write(entityStream, charset);
+				}
+			} else {
+				getJson().toJsonColumnarArray(((Iterable<? extends PropertyBox>) t).iterator()).write(entityStream,
+						charset);
+			}
+		} catch (JsonWriteException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Checks whether the {@link JsonColumnarFormat} has to be used for given entity type and media type.
+	 * @param type Entity type
+	 * @param genericType Entity generic type
+	 * @param mediaType Media type
+	 * @return <code>true</code> if the entity is a sequence of {@link PropertyBox} and the media type requires the
+	 *         columnar format
+	 */
+	private static boolean isColumnar(Class<?> type, Type genericType, MediaType mediaType) {
+		if (mediaType == null || !JsonColumnarFormat.isColumnar(mediaType.getParameters())) {
+			return false;
+		}
+		if (Iterable.class.isAssignableFrom(type) || Stream.class.isAssignableFrom(type)) {
+			if (genericType instanceof ParameterizedType) {
+				final Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+				return arguments.length == 1 && arguments[0] instanceof Class
+						&& PropertyBox.class.isAssignableFrom((Class<?>) arguments[0]);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the charset declared by given media type.
+	 * @param mediaType The media type
+	 * @return The media type charset, UTF-8 if not declared or not supported
+	 */
+	private static Charset getCharset(MediaType mediaType) {
+		final String name = (mediaType != null) ? mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) : null;
+		if (name != null) {
+			try {
+				return Charset.forName(name);
+			} catch (IllegalArgumentException e) {
+				// fallback to default
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+
 	/**
 	 * Checks whether given <code>type</code> is a {@link PropertyBox} type.
 	 * @param type Type to check
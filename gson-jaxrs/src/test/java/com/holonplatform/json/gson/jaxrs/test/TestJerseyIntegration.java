@@ -81,6 +81,14 @@ public class TestJerseyIntegration extends JerseyTest5 {
 			return Response.accepted().build();
 		}
 
+		@PUT
+		@Path("charset")
+		@Consumes(MediaType.APPLICATION_JSON)
+		@Produces(MediaType.TEXT_PLAIN)
+		public String charset(@PropertySetRef(TestJerseyIntegration.class) PropertyBox data) {
+			return String.valueOf(data.getValue(NUM));
+		}
+
 	}
 
 	@BeforeAll
@@ -128,4 +136,17 @@ public class TestJerseyIntegration extends JerseyTest5 {
 
 	}
 
+	@Test
+	public void testCharset() {
+		PropertyBox box = PropertyBox.builder(SET).set(NUM, 42).set(DBL, 7.5).build();
+
+		String num = target("/test/charset").request()
+				.put(Entity.entity(box, MediaType.APPLICATION_JSON_TYPE.withCharset("UTF-16")), String.class);
+		assertEquals("42", num);
+
+		num = target("/test/charset").request()
+				.put(Entity.entity(box, MediaType.APPLICATION_JSON_TYPE.withCharset("UTF-8")), String.class);
+		assertEquals("42", num);
+	}
+
 }
@@ -26,15 +26,11 @@ import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 import com.google.gson.GsonBuilder;
-import com.holonplatform.core.internal.property.DefaultPropertyBox;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.json.config.PropertyBoxSerializationMode;
-import com.holonplatform.json.gson.internal.GsonPropertyBoxDeserializer;
-import com.holonplatform.json.gson.internal.GsonPropertyBoxSerializer;
-import com.holonplatform.json.gson.internal.datetime.GsonDateDeserializer;
-import com.holonplatform.json.gson.internal.datetime.GsonDateSerializer;
-import com.holonplatform.json.gson.internal.datetime.GsonSqlDateDeserializer;
+import com.holonplatform.json.gson.internal.GsonPropertyBoxTypeAdapterFactory;
+import com.holonplatform.json.gson.internal.datetime.GsonDateTypeAdapter;
 import com.holonplatform.json.gson.internal.datetime.GsonTemporalDeserializer;
 import com.holonplatform.json.gson.internal.datetime.GsonTemporalSerializer;
 
@@ -88,10 +84,7 @@ public interface GsonConfiguration {
 		ObjectUtils.argumentNotNull(builder, "GsonBuilder must be not null");
 
 		// PropertyBox
-		builder.registerTypeAdapter(PropertyBox.class, new GsonPropertyBoxSerializer(serializationMode));
-		builder.registerTypeAdapter(PropertyBox.class, new GsonPropertyBoxDeserializer());
-		builder.registerTypeAdapter(DefaultPropertyBox.class, new GsonPropertyBoxSerializer(serializationMode));
-		builder.registerTypeAdapter(DefaultPropertyBox.class, new GsonPropertyBoxDeserializer());
+		builder.registerTypeAdapterFactory(new GsonPropertyBoxTypeAdapterFactory(serializationMode));
 
 		// jdk8 java.time.* API using ISO-8601 format
 		builder.registerTypeAdapter(LocalDate.class, GsonTemporalSerializer.create(DateTimeFormatter.ISO_LOCAL_DATE));
@@ -121,10 +114,8 @@ public interface GsonConfiguration {
 				GsonTemporalDeserializer.create(DateTimeFormatter.ISO_INSTANT, Instant::from));
 
 		// java.util.Date using ISO-8601 format
-		builder.registerTypeAdapter(Date.class, new GsonDateSerializer());
-		builder.registerTypeAdapter(Date.class, new GsonDateDeserializer());
-		builder.registerTypeAdapter(java.sql.Date.class, new GsonDateSerializer());
-		builder.registerTypeAdapter(java.sql.Date.class, new GsonSqlDateDeserializer());
+		builder.registerTypeAdapter(Date.class, GsonDateTypeAdapter.forDate());
+		builder.registerTypeAdapter(java.sql.Date.class, GsonDateTypeAdapter.forSqlDate());
 
 		return builder;
 	}
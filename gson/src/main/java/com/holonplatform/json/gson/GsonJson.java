@@ -17,17 +17,21 @@ package com.holonplatform.json.gson;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.holonplatform.json.ColumnarJson;
 import com.holonplatform.json.Json;
 import com.holonplatform.json.gson.internal.DefaultGsonJson;
 
 /**
  * {@link Json} implementation using {@link Gson}.
+ * <p>
+ * The columnar format is supported, see {@link ColumnarJson}.
+ * </p>
  *
  * @since 5.1.0
  * 
  * @see Json
  */
-public interface GsonJson extends Json {
+public interface GsonJson extends ColumnarJson {
 
 	/**
 	 * Create a new {@link Json} instance using a default {@link GsonBuilder}.
@@ -16,6 +16,7 @@
 package com.holonplatform.json.gson.internal;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import com.google.gson.Gson;
@@ -24,6 +25,7 @@ import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.JsonIterator;
 import com.holonplatform.json.JsonReader;
 import com.holonplatform.json.JsonWriter;
 import com.holonplatform.json.gson.GsonJson;
@@ -75,6 +77,38 @@ public class DefaultGsonJson implements GsonJson {
 		return null;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.json.Json#toJsonArray(java.lang.Class,
+	 * java.util.Iterator)
+	 */
+	@Override
+	public <T> JsonWriter toJsonArray(Class<T> type, Iterator<? extends T> values) {
+		return new GsonJsonArrayWriter<>(gson, type, values);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.json.Json#toJsonLines(java.lang.Class,
+	 * java.util.Iterator)
+	 */
+	@Override
+	public <T> JsonWriter toJsonLines(Class<T> type, Iterator<? extends T> values) {
+		return new GsonJsonLinesWriter<>(gson, type, values);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.json.ColumnarJson#toJsonColumnarArray(java.util.Iterator)
+	 */
+	@Override
+	public JsonWriter toJsonColumnarArray(Iterator<? extends PropertyBox> values) {
+		return new GsonJsonColumnarArrayWriter(gson, values);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -122,9 +156,7 @@ public class DefaultGsonJson implements GsonJson {
 		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
 		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
 
-		final PropertySet<?> ps = (PropertySet.class.isAssignableFrom(propertySet.getClass()))
-				? (PropertySet<?>) propertySet
-				: PropertySet.of(propertySet);
+		final PropertySet<?> ps = asPropertySet(propertySet);
 
 		return ps.execute(() -> fromJson(reader, PropertyBox.class));
 	}
@@ -142,11 +174,149 @@ public class DefaultGsonJson implements GsonJson {
 		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
 		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
 
-		final PropertySet<?> ps = (PropertySet.class.isAssignableFrom(propertySet.getClass()))
-				? (PropertySet<?>) propertySet
-				: PropertySet.of(propertySet);
+		final PropertySet<?> ps = asPropertySet(propertySet);
 
 		return ps.execute(() -> fromJsonArray(reader, PropertyBox.class));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#iterateJsonArray(com.holonplatform.json.JsonReader,
+	 * java.lang.Class)
+	 */
+	@Override
+	public <T> JsonIterator<T> iterateJsonArray(JsonReader reader, Class<T> type) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(type, MESSAGE_TYPE_NOT_NULL);
+		return iterateJsonArray(reader, type, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#iterateJsonArray(com.holonplatform.json.JsonReader,
+	 * java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> JsonIterator<PropertyBox> iterateJsonArray(JsonReader reader,
+			Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+
+		final PropertySet<?> ps = asPropertySet(propertySet);
+
+		return iterateJsonArray(reader, PropertyBox.class, ps);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#iterateJsonLines(com.holonplatform.json.JsonReader,
+	 * java.lang.Class)
+	 */
+	@Override
+	public <T> JsonIterator<T> iterateJsonLines(JsonReader reader, Class<T> type) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(type, MESSAGE_TYPE_NOT_NULL);
+		return iterateJsonLines(reader, type, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#iterateJsonLines(com.holonplatform.json.JsonReader,
+	 * java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> JsonIterator<PropertyBox> iterateJsonLines(JsonReader reader,
+			Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+
+		final PropertySet<?> ps = asPropertySet(propertySet);
+
+		return iterateJsonLines(reader, PropertyBox.class, ps);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.ColumnarJson#iterateJsonColumnarArray(com.holonplatform.json.JsonReader,
+	 * java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> JsonIterator<PropertyBox> iterateJsonColumnarArray(JsonReader reader,
+			Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+
+		final PropertySet<?> ps = asPropertySet(propertySet);
+
+		try {
+			return new GsonJsonColumnarArrayIterator(gson, reader.getReader(), ps);
+		} catch (JsonReadException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonReadException("Failed to deserialize JSON columnar array", e);
+		}
+	}
+
+	/**
+	 * Build a {@link JsonIterator} to lazily deserialize the elements of a JSON array.
+	 * @param <T> Value type
+	 * @param reader JSON data source
+	 * @param type Value type
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values, <code>null</code> if
+	 *        none
+	 * @return A new {@link JsonIterator}
+	 */
+	private <T> JsonIterator<T> iterateJsonArray(JsonReader reader, Class<T> type, PropertySet<?> propertySet) {
+		try {
+			return new GsonJsonArrayIterator<>(gson, reader.getReader(), type, propertySet);
+		} catch (JsonReadException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonReadException("Failed to deserialize JSON array for type [" + type + "]", e);
+		}
+	}
+
+	/**
+	 * Build a {@link JsonIterator} to lazily deserialize JSON Lines.
+	 * @param <T> Value type
+	 * @param reader JSON data source
+	 * @param type Value type
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values, <code>null</code> if
+	 *        none
+	 * @return A new {@link JsonIterator}
+	 */
+	private <T> JsonIterator<T> iterateJsonLines(JsonReader reader, Class<T> type, PropertySet<?> propertySet) {
+		try {
+			return new GsonJsonLinesIterator<>(gson, reader.getReader(), type, propertySet);
+		} catch (JsonReadException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonReadException("Failed to deserialize JSON Lines for type [" + type + "]", e);
+		}
+	}
+
+	/**
+	 * Get given property set as a {@link PropertySet}, creating a new one if it is not a {@link PropertySet}.
+	 * @param <P> Property type
+	 * @param propertySet The property set
+	 * @return The {@link PropertySet}
+	 */
+	@SuppressWarnings("rawtypes")
+	private static <P extends Property> PropertySet<?> asPropertySet(Iterable<P> propertySet) {
+		return (propertySet instanceof PropertySet) ? (PropertySet<?>) propertySet : PropertySet.of(propertySet);
+	}
+
 }
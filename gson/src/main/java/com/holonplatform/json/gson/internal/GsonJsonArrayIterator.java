@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.internal.AbstractJsonIterator;
+
+/**
+ * Gson {@link JsonIterator} implementation to lazily deserialize the elements of a JSON array, using the Gson
+ * streaming {@link JsonReader}.
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class GsonJsonArrayIterator<T> extends AbstractJsonIterator<T> {
+
+	private final JsonReader in;
+
+	private final TypeAdapter<T> adapter;
+
+	/**
+	 * Constructor.
+	 * @param gson The {@link Gson} instance (not null)
+	 * @param reader JSON data source (not null)
+	 * @param type Value type (not null)
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values, <code>null</code> if
+	 *        none
+	 * @throws IOException If the JSON data source cannot be read
+	 * @throws JsonReadException If the JSON data source is not a JSON array
+	 */
+	public GsonJsonArrayIterator(Gson gson, Reader reader, Class<T> type, PropertySet<?> propertySet)
+			throws IOException {
+		super(type, propertySet);
+		this.in = gson.newJsonReader(reader);
+		try {
+			this.adapter = gson.getAdapter(type);
+			final JsonToken token = in.peek();
+			if (token != JsonToken.BEGIN_ARRAY) {
+				throw new JsonReadException("Failed to deserialize JSON for type [" + type + "]: the JSON data source ["
+						+ token + "] must be a JSON array");
+			}
+			in.beginArray();
+		} catch (IOException | RuntimeException e) {
+			in.close();
+			throw e;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#hasNextValue()
+	 */
+	@Override
+	protected boolean hasNextValue() throws Exception {
+		if (in.hasNext()) {
+			return true;
+		}
+		in.endArray();
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#nextValue()
+	 */
+	@Override
+	protected T nextValue() throws Exception {
+		return adapter.read(in);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#closeSource()
+	 */
+	@Override
+	protected void closeSource() throws Exception {
+		in.close();
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.config.JsonColumnarFormat;
+import com.holonplatform.json.internal.AbstractJsonIterator;
+import com.holonplatform.json.internal.model.PropertySetColumns;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Position;
+
+/**
+ * Gson {@link JsonIterator} implementation to lazily deserialize the rows of a {@link JsonColumnarFormat} JSON
+ * document as {@link PropertyBox} values.
+ * <p>
+ * The document columns are bound to the {@link PropertySet} properties only once, when the rows array is reached, and
+ * each row is then decoded by position. A JSON <code>null</code> row is decoded as a <code>null</code> value.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class GsonJsonColumnarArrayIterator extends AbstractJsonIterator<PropertyBox> {
+
+	private final Gson gson;
+
+	private final JsonReader in;
+
+	private final PropertySet<?> propertySet;
+
+	private final Position layout;
+
+	private final GsonPropertyBoxDeserializationPlan plan;
+
+	private boolean completed;
+
+	/**
+	 * Constructor.
+	 * @param gson The {@link Gson} instance (not null)
+	 * @param reader JSON data source (not null)
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values (not null)
+	 * @throws IOException If the JSON data source cannot be read
+	 * @throws JsonReadException If the JSON data source is not a columnar JSON document
+	 */
+	public GsonJsonColumnarArrayIterator(Gson gson, Reader reader, PropertySet<?> propertySet) throws IOException {
+		super(PropertyBox.class, propertySet);
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		this.gson = gson;
+		this.propertySet = propertySet;
+		this.in = gson.newJsonReader(reader);
+		try {
+			this.layout = readLayout();
+			this.completed = (layout == null);
+			this.plan = createPlan(propertySet);
+		} catch (IOException | RuntimeException e) {
+			in.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Read the document up to the rows array, binding the columns to the PropertySet properties.
+	 * @return The rows positional layout, <code>null</code> if the document has no rows
+	 * @throws IOException If a parsing error occurred
+	 */
+	private Position readLayout() throws IOException {
+		final JsonToken token = in.peek();
+		if (token != JsonToken.BEGIN_OBJECT) {
+			throw new JsonReadException("Failed to deserialize JSON columnar array: the JSON data source [" + token
+					+ "] must be a JSON object");
+		}
+		in.beginObject();
+		List<String> columns = null;
+		while (in.hasNext()) {
+			final String name = in.nextName();
+			if (JsonColumnarFormat.COLUMNS.equals(name)) {
+				columns = readColumns();
+			} else if (JsonColumnarFormat.ROWS.equals(name)) {
+				if (columns == null) {
+					throw new JsonReadException("Failed to deserialize JSON columnar array: the ["
+							+ JsonColumnarFormat.COLUMNS + "] field must precede the [" + JsonColumnarFormat.ROWS
+							+ "] field");
+				}
+				final JsonToken rows = in.peek();
+				if (rows != JsonToken.BEGIN_ARRAY) {
+					throw new JsonReadException("Failed to deserialize JSON columnar array: the ["
+							+ JsonColumnarFormat.ROWS + "] field [" + rows + "] must be a JSON array");
+				}
+				in.beginArray();
+				return PropertySetColumns.of(propertySet).getLayout(columns);
+			} else {
+				in.skipValue();
+			}
+		}
+		in.endObject();
+		return null;
+	}
+
+	/**
+	 * Read the column names.
+	 * @return The column names
+	 * @throws IOException If a parsing error occurred
+	 */
+	private List<String> readColumns() throws IOException {
+		final JsonToken token = in.peek();
+		if (token != JsonToken.BEGIN_ARRAY) {
+			throw new JsonReadException("Failed to deserialize JSON columnar array: the [" + JsonColumnarFormat.COLUMNS
+					+ "] field [" + token + "] must be a JSON array");
+		}
+		final List<String> columns = new ArrayList<>();
+		in.beginArray();
+		while (in.hasNext()) {
+			final JsonToken column = in.peek();
+			if (column != JsonToken.STRING) {
+				throw new JsonReadException("Failed to deserialize JSON columnar array: the column name [" + column
+						+ "] must be a JSON string");
+			}
+			columns.add(in.nextString());
+		}
+		in.endArray();
+		return columns;
+	}
+
+	/**
+	 * Create the deserialization plan for given PropertySet.
+	 * @param propertySet The PropertySet
+	 * @return The deserialization plan
+	 */
+	private GsonPropertyBoxDeserializationPlan createPlan(PropertySet<?> propertySet) {
+		return new GsonPropertyBoxDeserializationPlan(gson, PropertySetDeserializationPlan.of(propertySet),
+				this::createPlan);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#hasNextValue()
+	 */
+	@Override
+	protected boolean hasNextValue() throws Exception {
+		if (completed) {
+			return false;
+		}
+		if (in.hasNext()) {
+			return true;
+		}
+		in.endArray();
+		completed = true;
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#nextValue()
+	 */
+	@Override
+	protected PropertyBox nextValue() throws Exception {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return plan.deserialize(propertySet, layout, in);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#closeSource()
+	 */
+	@Override
+	protected void closeSource() throws Exception {
+		in.close();
+	}
+
+}
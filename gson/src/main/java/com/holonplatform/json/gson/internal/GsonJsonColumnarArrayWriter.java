@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.config.JsonColumnarFormat;
+import com.holonplatform.json.internal.AbstractJsonValuesWriter;
+import com.holonplatform.json.internal.Writers;
+import com.holonplatform.json.internal.model.PropertySetColumns;
+
+/**
+ * Gson {@link com.holonplatform.json.JsonWriter} implementation to incrementally serialize an {@link Iterator} of
+ * {@link PropertyBox} values using the {@link JsonColumnarFormat}.
+ * <p>
+ * The columns are obtained from the first {@link PropertyBox} property set, and the rows are written using a
+ * positional serialization plan built once for the whole JSON document. A <code>null</code> value is written as a
+ * JSON <code>null</code> row.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class GsonJsonColumnarArrayWriter extends AbstractJsonValuesWriter<PropertyBox> {
+
+	private final Gson gson;
+
+	/**
+	 * Constructor.
+	 * @param gson Gson istance (not null)
+	 * @param values The values to serialize (not null)
+	 */
+	public GsonJsonColumnarArrayWriter(Gson gson, Iterator<? extends PropertyBox> values) {
+		super(PropertyBox.class, values);
+		ObjectUtils.argumentNotNull(gson, "Gson instance must be not null");
+		this.gson = gson;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.Writer, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(Writer writer, Iterator<? extends PropertyBox> values) throws Exception {
+		final JsonWriter out = gson.newJsonWriter(writer);
+		writeValues(out, values);
+		out.flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.OutputStream,
+	 * java.nio.charset.Charset, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(OutputStream stream, Charset charset, Iterator<? extends PropertyBox> values)
+			throws Exception {
+		try (JsonWriter out = gson.newJsonWriter(Writers.buffered(stream, charset))) {
+			writeValues(out, values);
+		}
+	}
+
+	/**
+	 * Write the values as a columnar JSON document using given JSON writer.
+	 * @param out The JSON writer
+	 * @param values The values to write
+	 * @throws Exception If an error occurred
+	 */
+	private void writeValues(JsonWriter out, Iterator<? extends PropertyBox> values) throws Exception {
+		// leading null values
+		int nulls = 0;
+		PropertyBox first = null;
+		while (first == null && values.hasNext()) {
+			first = values.next();
+			if (first == null) {
+				nulls++;
+			}
+		}
+		final PropertySetColumns columns = (first != null) ? PropertySetColumns.of(first) : null;
+		out.beginObject();
+		// columns
+		out.name(JsonColumnarFormat.COLUMNS);
+		out.beginArray();
+		if (columns != null) {
+			for (String name : columns.getNames()) {
+				out.value(name);
+			}
+		}
+		out.endArray();
+		// rows
+		out.name(JsonColumnarFormat.ROWS);
+		out.beginArray();
+		int count = 0;
+		for (; count < nulls; count++) {
+			out.nullValue();
+		}
+		if (columns != null) {
+			final GsonPropertyBoxSerializationPlan plan = new GsonPropertyBoxSerializationPlan(gson,
+					columns.getSerializationTree(), true);
+			PropertyBox row = first;
+			while (true) {
+				if (row != null) {
+					out.beginArray();
+					plan.serialize(row, out);
+					out.endArray();
+				} else {
+					out.nullValue();
+				}
+				if (isFlushRequired(++count)) {
+					out.flush();
+				}
+				if (!values.hasNext()) {
+					break;
+				}
+				row = values.next();
+			}
+		}
+		out.endArray();
+		out.endObject();
+	}
+
+}
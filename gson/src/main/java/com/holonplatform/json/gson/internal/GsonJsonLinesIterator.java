@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import java.io.EOFException;
+import java.io.Reader;
+
+import com.google.gson.Gson;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.internal.AbstractJsonIterator;
+
+/**
+ * Gson {@link JsonIterator} implementation to lazily deserialize JSON Lines, i.e. a sequence of root-level JSON
+ * values, using a single Gson streaming {@link JsonReader}.
+ * <p>
+ * Since the Gson {@link JsonReader} accepts multiple root-level values only in lenient mode, the JSON data source is
+ * parsed using the {@link Strictness#LENIENT} strictness.
+ * </p>
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class GsonJsonLinesIterator<T> extends AbstractJsonIterator<T> {
+
+	private final JsonReader in;
+
+	private final TypeAdapter<T> adapter;
+
+	private boolean empty = true;
+
+	/**
+	 * Constructor.
+	 * @param gson The {@link Gson} instance (not null)
+	 * @param reader JSON data source (not null)
+	 * @param type Value type (not null)
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values, <code>null</code> if
+	 *        none
+	 */
+	public GsonJsonLinesIterator(Gson gson, Reader reader, Class<T> type, PropertySet<?> propertySet) {
+		super(type, propertySet);
+		this.adapter = gson.getAdapter(type);
+		this.in = gson.newJsonReader(reader);
+		this.in.setStrictness(Strictness.LENIENT);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#hasNextValue()
+	 */
+	@Override
+	protected boolean hasNextValue() throws Exception {
+		try {
+			return in.peek() != JsonToken.END_DOCUMENT;
+		} catch (EOFException e) {
+			// the Gson JsonReader does not accept an empty document
+			if (empty) {
+				return false;
+			}
+			throw e;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#nextValue()
+	 */
+	@Override
+	protected T nextValue() throws Exception {
+		empty = false;
+		return adapter.read(in);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#closeSource()
+	 */
+	@Override
+	protected void closeSource() throws Exception {
+		in.close();
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+
+import com.google.gson.Gson;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonWriter;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.internal.AbstractJsonValuesWriter;
+import com.holonplatform.json.internal.Writers;
+
+/**
+ * Gson {@link com.holonplatform.json.JsonWriter} implementation to incrementally serialize an {@link Iterator} of
+ * values as JSON Lines, i.e. one JSON value per line, using a single Gson streaming {@link JsonWriter}.
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class GsonJsonLinesWriter<T> extends AbstractJsonValuesWriter<T> {
+
+	private final Gson gson;
+
+	/**
+	 * Constructor.
+	 * @param gson Gson istance (not null)
+	 * @param type Value type (not null)
+	 * @param values The values to serialize (not null)
+	 */
+	public GsonJsonLinesWriter(Gson gson, Class<T> type, Iterator<? extends T> values) {
+		super(type, values);
+		ObjectUtils.argumentNotNull(gson, "Gson instance must be not null");
+		this.gson = gson;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.Writer, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(Writer writer, Iterator<? extends T> values) throws Exception {
+		writeValues(writer, values);
+		writer.flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.OutputStream,
+	 * java.nio.charset.Charset, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(OutputStream stream, Charset charset, Iterator<? extends T> values) throws Exception {
+		try (Writer writer = Writers.buffered(stream, charset)) {
+			writeValues(writer, values);
+		}
+	}
+
+	/**
+	 * Write the values as JSON Lines using given writer.
+	 * @param writer The writer
+	 * @param values The values to write
+	 * @throws Exception If an error occurred
+	 */
+	private void writeValues(Writer writer, Iterator<? extends T> values) throws Exception {
+		final JsonWriter out = gson.newJsonWriter(writer);
+		// multiple top-level values, each on a single line
+		out.setStrictness(Strictness.LENIENT);
+		out.setIndent("");
+		final GsonRuntimeTypeWriter valueWriter = new GsonRuntimeTypeWriter(gson);
+		int count = 0;
+		while (values.hasNext()) {
+			valueWriter.write(out, values.next());
+			// the Gson JsonWriter does not buffer the output
+			writer.write('\n');
+			if (isFlushRequired(++count)) {
+				writer.flush();
+			}
+		}
+	}
+
+}
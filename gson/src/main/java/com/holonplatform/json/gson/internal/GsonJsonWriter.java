@@ -15,17 +15,18 @@
  */
 package com.holonplatform.json.gson.internal;
 
+import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import com.google.gson.Gson;
-import com.holonplatform.core.internal.utils.ConversionUtils;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.json.Json.JsonWriteException;
 import com.holonplatform.json.JsonWriter;
+import com.holonplatform.json.internal.Writers;
 
 /**
  * Gson implementation of the {@link JsonWriter}.
@@ -84,7 +85,9 @@ public class GsonJsonWriter implements JsonWriter {
 	 */
 	@Override
 	public byte[] asBytes() {
-		return ConversionUtils.toBytes(asString());
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		write(stream, StandardCharsets.UTF_8);
+		return stream.toByteArray();
 	}
 
 	/*
@@ -111,8 +114,8 @@ public class GsonJsonWriter implements JsonWriter {
 	 */
 	@Override
 	public void write(OutputStream stream, Charset charset) {
-		try (OutputStreamWriter writer = new OutputStreamWriter(stream,
-				(charset != null) ? charset : StandardCharsets.UTF_8)) {
+		ObjectUtils.argumentNotNull(stream, "OutputStream must be not null");
+		try (Writer writer = Writers.buffered(stream, charset)) {
 			write(writer);
 		} catch (Exception e) {
 			throw new JsonWriteException("Failed to write value [" + value + "] as JSON", e);
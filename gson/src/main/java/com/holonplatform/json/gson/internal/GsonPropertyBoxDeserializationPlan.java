@@ -0,0 +1,410 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+import com.holonplatform.json.exceptions.JsonDeserializationException;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Field;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Node;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Position;
+
+/**
+ * A Gson {@link PropertyBox} deserialization plan, bound to a {@link PropertySetDeserializationPlan}.
+ * <p>
+ * The JSON object is read from a Gson {@link JsonReader}: each field name is dispatched through the plan field names
+ * trie and the field value is read using the property type {@link TypeAdapter}, while unknown fields are skipped. The
+ * property value {@link TypeAdapter}s are resolved once and cached by plan field.
+ * </p>
+ * <p>
+ * A JSON array is read according to the plan positional layout, as serialized using the
+ * {@link PropertyBoxSerializationMode#POSITIONAL} mode.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class GsonPropertyBoxDeserializationPlan {
+
+	private final Gson gson;
+
+	private final PropertySetDeserializationPlan plan;
+
+	/**
+	 * Nested PropertySet plans provider
+	 */
+	private final Function<PropertySet<?>, GsonPropertyBoxDeserializationPlan> nestedPlans;
+
+	/**
+	 * Lazily resolved value type adapters, by field index. A stale read only causes a redundant lookup.
+	 */
+	private final TypeAdapter<Object>[] adapters;
+
+	/**
+	 * Lazily resolved nested PropertySets and their plans, by field index
+	 */
+	private final Nested[] nested;
+
+	/**
+	 * Constructor.
+	 * @param gson The Gson instance to use to obtain the value type adapters
+	 * @param plan The PropertySet deserialization plan
+	 * @param nestedPlans The function to use to obtain the plans of the nested PropertySets
+	 */
+	@SuppressWarnings("unchecked")
+	public GsonPropertyBoxDeserializationPlan(Gson gson, PropertySetDeserializationPlan plan,
+			Function<PropertySet<?>, GsonPropertyBoxDeserializationPlan> nestedPlans) {
+		super();
+		this.gson = gson;
+		this.plan = plan;
+		this.nestedPlans = nestedPlans;
+		this.adapters = new TypeAdapter[plan.getFieldCount()];
+		this.nested = new Nested[plan.getFieldCount()];
+	}
+
+	/**
+	 * Deserialize a {@link PropertyBox} from given reader, which must be positioned on a JSON object, or on a JSON array
+	 * for the positional layout.
+	 * @param propertySet The PropertySet for which the plan was built
+	 * @param in JSON reader
+	 * @return Deserialized {@link PropertyBox} instance
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	public PropertyBox deserialize(PropertySet<?> propertySet, JsonReader in) throws JsonDeserializationException {
+		final PropertyBox.Builder builder = PropertyBox.builder(propertySet).invalidAllowed(true);
+		try {
+			if (in.peek() == JsonToken.BEGIN_ARRAY) {
+				readArray(plan.getPositionalRoot(), in, builder);
+			} else {
+				readObject(plan.getRoot(), in, builder);
+			}
+		} catch (JsonDeserializationException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonDeserializationException("Failed to deserialize JSON element as a PropertyBox", e);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Deserialize a {@link PropertyBox} from a JSON array, binding each array element to the property of the
+	 * corresponding position of given layout.
+	 * @param propertySet The PropertySet for which the plan was built
+	 * @param layout The positional layout to use, which must be built from the same PropertySet
+	 * @param in JSON reader, positioned on the JSON array
+	 * @return Deserialized {@link PropertyBox} instance
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	public PropertyBox deserialize(PropertySet<?> propertySet, Position layout, JsonReader in)
+			throws JsonDeserializationException {
+		final PropertyBox.Builder builder = PropertyBox.builder(propertySet).invalidAllowed(true);
+		try {
+			readArray(layout, in, builder);
+		} catch (JsonDeserializationException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonDeserializationException("Failed to deserialize JSON array as a PropertyBox", e);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Read the current JSON object fields.
+	 * @param node Trie node which corresponds to the JSON object
+	 * @param in JSON reader
+	 * @param builder PropertyBox builder
+	 * @throws IOException If a parsing error occurred
+	 */
+	private void readObject(Node node, JsonReader in, PropertyBox.Builder builder) throws IOException {
+		final JsonToken current = in.peek();
+		if (current != JsonToken.BEGIN_OBJECT) {
+			throw new JsonDeserializationException("Failed to deserialize JSON element as a PropertyBox [" + current
+					+ "]: the JSON element must be a JSON object");
+		}
+		in.beginObject();
+		while (in.hasNext()) {
+			final Node child = node.getChild(in.nextName());
+			if (child == null) {
+				// unknown field
+				in.skipValue();
+			} else {
+				final JsonToken token = in.peek();
+				if (token == JsonToken.NULL) {
+					in.nextNull();
+				} else {
+					readField(child, in, builder, token);
+				}
+			}
+		}
+		in.endObject();
+	}
+
+	/**
+	 * Read the current JSON array elements. The elements which exceed the positions count are skipped.
+	 * @param position Position which corresponds to the JSON array
+	 * @param in JSON reader
+	 * @param builder PropertyBox builder
+	 * @throws IOException If a parsing error occurred
+	 */
+	private void readArray(Position position, JsonReader in, PropertyBox.Builder builder) throws IOException {
+		in.beginArray();
+		for (int index = 0; in.hasNext(); index++) {
+			final Position element = position.getChild(index);
+			final JsonToken token = in.peek();
+			if (element == null) {
+				in.skipValue();
+			} else if (token == JsonToken.NULL) {
+				in.nextNull();
+			} else if (element.isNested()) {
+				if (token != JsonToken.BEGIN_ARRAY) {
+					throw new JsonDeserializationException("Failed to deserialize JSON element [" + token
+							+ "] at position [" + index + "]: the JSON element must be a JSON array");
+				}
+				readArray(element, in, builder);
+			} else if (element.getField() != null) {
+				setValue(element.getField(), in, builder, token);
+			} else {
+				in.skipValue();
+			}
+		}
+		in.endArray();
+	}
+
+	/**
+	 * Read the current JSON field value.
+	 * @param node Trie node which corresponds to the JSON field
+	 * @param in JSON reader, positioned on the field value
+	 * @param builder PropertyBox builder
+	 * @param token Current token
+	 * @throws IOException If a parsing error occurred
+	 */
+	private void readField(Node node, JsonReader in, PropertyBox.Builder builder, JsonToken token) throws IOException {
+		final boolean nestedObject = token == JsonToken.BEGIN_OBJECT && node.hasChildren();
+		final int fields = node.getFieldCount();
+		final int consumers = fields + (nestedObject ? 1 : 0);
+		if (consumers == 0) {
+			in.skipValue();
+		} else if (consumers == 1) {
+			if (nestedObject) {
+				readObject(node, in, builder);
+			} else {
+				setValue(node.getField(0), in, builder, token);
+			}
+		} else {
+			// the same JSON value is bound to more than one property: buffer it
+			readField(node, gson.getAdapter(JsonElement.class).read(in), builder);
+		}
+	}
+
+	/**
+	 * Deserialize a {@link PropertyBox} from given JSON tree, which must be a JSON object, or a JSON array for the
+	 * positional layout.
+	 * @param propertySet The PropertySet for which the plan was built
+	 * @param element The JSON tree
+	 * @return Deserialized {@link PropertyBox} instance
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	private PropertyBox deserialize(PropertySet<?> propertySet, JsonElement element)
+			throws JsonDeserializationException {
+		final PropertyBox.Builder builder = PropertyBox.builder(propertySet).invalidAllowed(true);
+		if (element.isJsonArray()) {
+			readArray(plan.getPositionalRoot(), element.getAsJsonArray(), builder);
+		} else if (element.isJsonObject()) {
+			readObject(plan.getRoot(), element.getAsJsonObject(), builder);
+		} else {
+			throw new JsonDeserializationException("Failed to deserialize JSON element as a PropertyBox [" + element
+					+ "]: the JSON element must be a JSON object");
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Read the fields of given JSON object tree.
+	 * @param node Trie node which corresponds to the JSON object
+	 * @param object JSON object
+	 * @param builder PropertyBox builder
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	private void readObject(Node node, JsonObject object, PropertyBox.Builder builder)
+			throws JsonDeserializationException {
+		for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+			final Node child = node.getChild(entry.getKey());
+			if (child != null && !entry.getValue().isJsonNull()) {
+				readField(child, entry.getValue(), builder);
+			}
+		}
+	}
+
+	/**
+	 * Read the elements of given JSON array tree. The elements which exceed the positions count are skipped.
+	 * @param position Position which corresponds to the JSON array
+	 * @param array JSON array
+	 * @param builder PropertyBox builder
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	private void readArray(Position position, JsonArray array, PropertyBox.Builder builder)
+			throws JsonDeserializationException {
+		for (int index = 0; index < array.size(); index++) {
+			final Position element = position.getChild(index);
+			final JsonElement value = array.get(index);
+			if (element == null || value.isJsonNull()) {
+				continue;
+			}
+			if (element.isNested()) {
+				if (!value.isJsonArray()) {
+					throw new JsonDeserializationException("Failed to deserialize JSON element [" + value
+							+ "] at position [" + index + "]: the JSON element must be a JSON array");
+				}
+				readArray(element, value.getAsJsonArray(), builder);
+			} else if (element.getField() != null) {
+				setValue(element.getField(), value, builder);
+			}
+		}
+	}
+
+	/**
+	 * Read given JSON field value tree, binding it to each property of the field node.
+	 * @param node Trie node which corresponds to the JSON field
+	 * @param element JSON field value
+	 * @param builder PropertyBox builder
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	private void readField(Node node, JsonElement element, PropertyBox.Builder builder)
+			throws JsonDeserializationException {
+		for (int i = 0; i < node.getFieldCount(); i++) {
+			setValue(node.getField(i), element, builder);
+		}
+		if (element.isJsonObject() && node.hasChildren()) {
+			readObject(node, element.getAsJsonObject(), builder);
+		}
+	}
+
+	/**
+	 * Deserialize given JSON value tree and set it as property value.
+	 * @param field Field definition
+	 * @param element JSON value
+	 * @param builder PropertyBox builder
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	private void setValue(Field field, JsonElement element, PropertyBox.Builder builder)
+			throws JsonDeserializationException {
+		final Object value;
+		try {
+			if (element.isJsonPrimitive()) {
+				value = field.convert(getAdapter(field).fromJsonTree(element));
+			} else if ((element.isJsonObject() || element.isJsonArray()) && field.isPropertyBox()) {
+				final Nested n = getNested(field);
+				value = n.plan.deserialize(n.propertySet, element);
+			} else {
+				value = getAdapter(field).fromJsonTree(element);
+			}
+		} catch (JsonDeserializationException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonDeserializationException("Failed to deserialize path [" + field.getPath()
+					+ "] using field name [" + field.getFieldName() + "]", e);
+		}
+		field.setValue(builder, value);
+	}
+
+	/**
+	 * Deserialize the current JSON value and set it as property value.
+	 * @param field Field definition
+	 * @param in JSON reader, positioned on the field value
+	 * @param builder PropertyBox builder
+	 * @param token Current token
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	private void setValue(Field field, JsonReader in, PropertyBox.Builder builder, JsonToken token)
+			throws JsonDeserializationException {
+		final Object value;
+		try {
+			if (token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN) {
+				value = field.convert(getAdapter(field).read(in));
+			} else if ((token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) && field.isPropertyBox()) {
+				final Nested n = getNested(field);
+				value = n.plan.deserialize(n.propertySet, in);
+			} else {
+				value = getAdapter(field).read(in);
+			}
+		} catch (JsonDeserializationException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonDeserializationException("Failed to deserialize path [" + field.getPath()
+					+ "] using field name [" + field.getFieldName() + "]", e);
+		}
+		field.setValue(builder, value);
+	}
+
+	/**
+	 * Get the value type adapter for given field.
+	 * @param field Field definition
+	 * @return The field value type adapter
+	 */
+	private TypeAdapter<Object> getAdapter(Field field) {
+		TypeAdapter<Object> adapter = adapters[field.getIndex()];
+		if (adapter == null) {
+			adapter = gson.getAdapter(field.getType());
+			adapters[field.getIndex()] = adapter;
+		}
+		return adapter;
+	}
+
+	/**
+	 * Get the nested PropertySet bound to given PropertyBox type field and its deserialization plan.
+	 * @param field Field definition
+	 * @return The nested PropertySet and its deserialization plan
+	 * @throws JsonDeserializationException If the nested PropertySet is not available
+	 */
+	private Nested getNested(Field field) throws JsonDeserializationException {
+		Nested n = nested[field.getIndex()];
+		if (n == null) {
+			final PropertySet<?> nestedPropertySet = field.getNestedPropertySet();
+			n = new Nested(nestedPropertySet, nestedPlans.apply(nestedPropertySet));
+			nested[field.getIndex()] = n;
+		}
+		return n;
+	}
+
+	/**
+	 * A nested PropertySet and its deserialization plan.
+	 */
+	private static final class Nested {
+
+		final PropertySet<?> propertySet;
+		final GsonPropertyBoxDeserializationPlan plan;
+
+		Nested(PropertySet<?> propertySet, GsonPropertyBoxDeserializationPlan plan) {
+			super();
+			this.propertySet = propertySet;
+			this.plan = plan;
+		}
+
+	}
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.temporal.TemporalType;
+import com.holonplatform.json.exceptions.JsonSerializationException;
+import com.holonplatform.json.gson.internal.datetime.GsonDateTypeAdapter;
+import com.holonplatform.json.model.PropertySetSerializationNode;
+import com.holonplatform.json.model.PropertySetSerializationTree;
+
+/**
+ * A precompiled {@link PropertyBox} serialization plan, obtained from a {@link PropertySetSerializationTree}.
+ * <p>
+ * The serialization tree is flattened into an array of steps, which are written straight to a Gson {@link JsonWriter}.
+ * The property value {@link TypeAdapter}s are obtained from the {@link Gson} instance and cached by runtime value type.
+ * For the properties with a temporal type, the {@link GsonDateTypeAdapter} is bound to the property temporal type when
+ * the adapter is resolved.
+ * </p>
+ * <p>
+ * A positional plan writes the property values without field names, as JSON array elements in serialization tree
+ * order, using a nested JSON array for each nested node and a JSON <code>null</code> for each missing value.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class GsonPropertyBoxSerializationPlan {
+
+	private final Gson gson;
+
+	private final Step[] steps;
+
+	private final boolean positional;
+
+	/**
+	 * Constructor.
+	 * @param gson The Gson instance to use to obtain the value type adapters
+	 * @param tree The serialization tree from which to build the plan
+	 */
+	public GsonPropertyBoxSerializationPlan(Gson gson, PropertySetSerializationTree tree) {
+		this(gson, tree, false);
+	}
+
+	/**
+	 * Constructor.
+	 * @param gson The Gson instance to use to obtain the value type adapters
+	 * @param tree The serialization tree from which to build the plan
+	 * @param positional Whether to write the property values as JSON array elements, without field names
+	 */
+	public GsonPropertyBoxSerializationPlan(Gson gson, PropertySetSerializationTree tree, boolean positional) {
+		super();
+		this.gson = gson;
+		final List<Step> plan = new ArrayList<>();
+		compile(tree, plan, positional);
+		this.steps = plan.toArray(new Step[plan.size()]);
+		this.positional = positional;
+	}
+
+	/**
+	 * Compile given serialization nodes into plan steps.
+	 * @param nodes Nodes to compile
+	 * @param plan Plan steps
+	 * @param positional Whether the nested nodes are written as JSON arrays
+	 */
+	private static void compile(Iterable<PropertySetSerializationNode> nodes, List<Step> plan, boolean positional) {
+		for (PropertySetSerializationNode node : nodes) {
+			final Property<?> property = node.getProperty().orElse(null);
+			if (property != null) {
+				plan.add(new Step(Step.FIELD, node.getName(), property,
+						property.getConfiguration().getTemporalType().orElse(null)));
+			} else {
+				plan.add(new Step(positional ? Step.START_ARRAY : Step.START_OBJECT, node.getName(), null, null));
+				compile(node.getChildren(), plan, positional);
+				plan.add(new Step(positional ? Step.END_ARRAY : Step.END_OBJECT, node.getName(), null, null));
+			}
+		}
+	}
+
+	/**
+	 * Get whether this plan writes the property values as JSON array elements, without field names.
+	 * @return <code>true</code> if this is a positional plan
+	 */
+	public boolean isPositional() {
+		return positional;
+	}
+
+	/**
+	 * Serialize the given {@link PropertyBox} fields, according to this plan.
+	 * @param propertyBox PropertyBox to serialize
+	 * @param out Json writer to use
+	 * @throws JsonSerializationException If an error occurred
+	 */
+	public void serialize(PropertyBox propertyBox, JsonWriter out) throws JsonSerializationException {
+		for (Step step : steps) {
+			switch (step.type) {
+			case Step.START_OBJECT:
+				try {
+					out.name(step.name);
+					out.beginObject();
+				} catch (IOException e) {
+					throw new JsonSerializationException(
+							"Failed to serialize PropertyBox [" + propertyBox + "] for field name [" + step.name + "]",
+							e);
+				}
+				break;
+			case Step.END_OBJECT:
+				try {
+					out.endObject();
+				} catch (IOException e) {
+					throw new JsonSerializationException(
+							"Failed to serialize PropertyBox [" + propertyBox + "] for field name [" + step.name + "]",
+							e);
+				}
+				break;
+			case Step.START_ARRAY:
+				try {
+					out.beginArray();
+				} catch (IOException e) {
+					throw new JsonSerializationException(
+							"Failed to serialize PropertyBox [" + propertyBox + "] for nested name [" + step.name + "]",
+							e);
+				}
+				break;
+			case Step.END_ARRAY:
+				try {
+					out.endArray();
+				} catch (IOException e) {
+					throw new JsonSerializationException(
+							"Failed to serialize PropertyBox [" + propertyBox + "] for nested name [" + step.name + "]",
+							e);
+				}
+				break;
+			case Step.FIELD:
+			default:
+				serializeProperty(propertyBox, out, step);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Serialize a PropertyBox property value, if not <code>null</code>. For a positional plan, a JSON array element is
+	 * always written, using <code>null</code> if the value is missing.
+	 * @param propertyBox PropertyBox to which the property belongs
+	 * @param out Json writer to use
+	 * @param step Plan step
+	 * @throws JsonSerializationException If an error occurred
+	 */
+	private void serializeProperty(PropertyBox propertyBox, JsonWriter out, Step step)
+			throws JsonSerializationException {
+		final Object value;
+		try {
+			value = propertyBox.getValueIfPresent(step.property).orElse(null);
+		} catch (Exception e) {
+			throw new JsonSerializationException(
+					"Failed to serialize Property [" + step.property + "] using field name [" + step.name + "]", e);
+		}
+		if (positional) {
+			try {
+				// write JSON array element
+				if (value != null) {
+					step.adapter(gson, value.getClass()).write(out, value);
+				} else {
+					out.nullValue();
+				}
+			} catch (Exception e) {
+				throw new JsonSerializationException("Failed to serialize property [" + step.property
+						+ "] at name [" + step.name + "] position using value [" + value + "]", e);
+			}
+		} else if (value != null) {
+			try {
+				// write JSON property value
+				out.name(step.name);
+				step.adapter(gson, value.getClass()).write(out, value);
+			} catch (Exception e) {
+				throw new JsonSerializationException("Failed to serialize property [" + step.property
+						+ "] using name [" + step.name + "] and value [" + value + "]", e);
+			}
+		}
+	}
+
+	/**
+	 * Serialization plan step.
+	 */
+	private static final class Step {
+
+		static final int FIELD = 0;
+		static final int START_OBJECT = 1;
+		static final int END_OBJECT = 2;
+		static final int START_ARRAY = 3;
+		static final int END_ARRAY = 4;
+
+		final int type;
+		final String name;
+		final Property<?> property;
+		final TemporalType temporalType;
+
+		/**
+		 * Last used value type adapter. The holder is immutable, so a stale read only causes a redundant lookup.
+		 */
+		private ValueAdapter adapter;
+
+		Step(int type, String name, Property<?> property, TemporalType temporalType) {
+			super();
+			this.type = type;
+			this.name = name;
+			this.property = property;
+			this.temporalType = temporalType;
+		}
+
+		/**
+		 * Get the type adapter to use for given value type.
+		 * @param gson Gson instance
+		 * @param type Value type
+		 * @return The value type adapter
+		 */
+		@SuppressWarnings("unchecked")
+		TypeAdapter<Object> adapter(Gson gson, Class<?> type) {
+			ValueAdapter a = adapter;
+			if (a == null || a.type != type) {
+				TypeAdapter<?> typeAdapter = gson.getAdapter(type);
+				if (temporalType != null && typeAdapter instanceof GsonDateTypeAdapter) {
+					// bind the date adapter to the property temporal type
+					typeAdapter = ((GsonDateTypeAdapter<?>) typeAdapter).withTemporalType(temporalType);
+				}
+				a = new ValueAdapter(type, (TypeAdapter<Object>) typeAdapter);
+				adapter = a;
+			}
+			return a.adapter;
+		}
+
+	}
+
+	/**
+	 * A value type and its type adapter.
+	 */
+	private static final class ValueAdapter {
+
+		final Class<?> type;
+		final TypeAdapter<Object> adapter;
+
+		ValueAdapter(Class<?> type, TypeAdapter<Object> adapter) {
+			super();
+			this.type = type;
+			this.adapter = adapter;
+		}
+
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.holonplatform.core.Context;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.config.JsonConfigProperties;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+import com.holonplatform.json.exceptions.JsonDeserializationException;
+import com.holonplatform.json.internal.model.PropertySetCache;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan;
+import com.holonplatform.json.model.JsonPropertySetSerializationTreeResolver;
+
+/**
+ * Gson streaming {@link TypeAdapter} to handle {@link PropertyBox} serialization and deserialization.
+ * <p>
+ * The serialization and deserialization plans are built once for each PropertySet and cached.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class GsonPropertyBoxTypeAdapter extends TypeAdapter<PropertyBox> {
+
+	private final Gson gson;
+
+	/**
+	 * Serialization mode
+	 */
+	private final PropertyBoxSerializationMode propertyBoxSerializationMode;
+
+	/**
+	 * PATH mode serialization plans
+	 */
+	private final PropertySetCache<GsonPropertyBoxSerializationPlan> pathPlans = new PropertySetCache<>();
+
+	/**
+	 * ALL mode serialization plans
+	 */
+	private final PropertySetCache<GsonPropertyBoxSerializationPlan> allPlans = new PropertySetCache<>();
+
+	/**
+	 * POSITIONAL mode serialization plans
+	 */
+	private final PropertySetCache<GsonPropertyBoxSerializationPlan> positionalPlans = new PropertySetCache<>();
+
+	/**
+	 * Deserialization plans
+	 */
+	private final PropertySetCache<GsonPropertyBoxDeserializationPlan> deserializationPlans = new PropertySetCache<>();
+
+	/**
+	 * Constructor.
+	 * @param gson The Gson instance to which the adapter is bound
+	 * @param serializationMode Serialization mode
+	 */
+	public GsonPropertyBoxTypeAdapter(Gson gson, PropertyBoxSerializationMode serializationMode) {
+		super();
+		this.gson = gson;
+		this.propertyBoxSerializationMode = (serializationMode != null) ? serializationMode
+				: PropertyBoxSerializationMode.getDefault();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+	 */
+	@Override
+	public void write(JsonWriter out, PropertyBox propertyBox) throws IOException {
+		if (propertyBox == null) {
+			out.nullValue();
+			return;
+		}
+		// get the serialization plan
+		final GsonPropertyBoxSerializationPlan plan = getSerializationPlan(propertyBox,
+				getPropertyBoxSerializationMode(propertyBox));
+
+		// serialize the PropertyBox instance
+		if (plan.isPositional()) {
+			out.beginArray();
+			plan.serialize(propertyBox, out);
+			out.endArray();
+		} else {
+			out.beginObject();
+			plan.serialize(propertyBox, out);
+			out.endObject();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+	 */
+	@Override
+	public PropertyBox read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		// get property set
+		final PropertySet<?> propertySet = Context.get().resource(PropertySet.CONTEXT_KEY, PropertySet.class)
+				.orElseThrow(() -> new JsonParseException("Missing PropertySet instance to build a PropertyBox. "
+						+ "A PropertySet instance must be available as context resource to perform PropertyBox deserialization."));
+
+		try {
+			// deserialize as PropertyBox
+			return getDeserializationPlan(propertySet).deserialize(propertySet, in);
+		} catch (JsonDeserializationException e) {
+			throw new JsonParseException("Failed to deserialize JSON element as a PropertyBox", e);
+		}
+	}
+
+	/**
+	 * Get the {@link PropertyBoxSerializationMode} to use. Check {@link PropertyBox} configuration attributes using
+	 * {@link JsonConfigProperties#PROPERTYBOX_SERIALIZATION_MODE}. If not available, the construction time value is
+	 * used.
+	 * @param propertyBox The PropertBox to serialize
+	 * @return The {@link PropertyBoxSerializationMode} to use
+	 */
+	private PropertyBoxSerializationMode getPropertyBoxSerializationMode(PropertyBox propertyBox) {
+		// check config parameter
+		if (propertyBox.getConfiguration().hasParameter(JsonConfigProperties.PROPERTYBOX_SERIALIZATION_MODE)) {
+			return propertyBox.getConfiguration().getParameter(JsonConfigProperties.PROPERTYBOX_SERIALIZATION_MODE,
+					PropertyBoxSerializationMode.getDefault());
+		}
+		return propertyBoxSerializationMode;
+	}
+
+	/**
+	 * Get the serialization plan for given PropertyBox, building and caching it if not available.
+	 * @param propertyBox PropertyBox to serialize
+	 * @param serializationMode Serialization mode
+	 * @return the PropertyBox serialization plan
+	 */
+	private GsonPropertyBoxSerializationPlan getSerializationPlan(PropertyBox propertyBox,
+			PropertyBoxSerializationMode serializationMode) {
+		switch (serializationMode) {
+		case ALL:
+			return allPlans.get(propertyBox, ps -> new GsonPropertyBoxSerializationPlan(gson,
+					JsonPropertySetSerializationTreeResolver.getDefault().resolve(propertyBox, serializationMode)));
+		case POSITIONAL:
+			return positionalPlans.get(propertyBox, ps -> new GsonPropertyBoxSerializationPlan(gson,
+					JsonPropertySetSerializationTreeResolver.getDefault().resolve(propertyBox, serializationMode),
+					true));
+		case PATH:
+		default:
+			return pathPlans.get(propertyBox, ps -> new GsonPropertyBoxSerializationPlan(gson,
+					JsonPropertySetSerializationTreeResolver.getDefault().resolve(propertyBox, serializationMode)));
+		}
+	}
+
+	/**
+	 * Get the deserialization plan for given PropertySet, building and caching it if not available.
+	 * @param propertySet The PropertySet
+	 * @return the PropertySet deserialization plan
+	 */
+	private GsonPropertyBoxDeserializationPlan getDeserializationPlan(PropertySet<?> propertySet) {
+		return deserializationPlans.get(propertySet,
+				ps -> new GsonPropertyBoxDeserializationPlan(gson, PropertySetDeserializationPlan.of(ps),
+						this::getDeserializationPlan));
+	}
+
+}
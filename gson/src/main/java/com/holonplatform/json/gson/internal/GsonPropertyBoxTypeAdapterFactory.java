@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+
+/**
+ * Gson {@link TypeAdapterFactory} to provide the {@link GsonPropertyBoxTypeAdapter} for {@link PropertyBox} types.
+ * <p>
+ * A single adapter instance is created for each {@link Gson} instance and shared by any {@link PropertyBox} sub type.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class GsonPropertyBoxTypeAdapterFactory implements TypeAdapterFactory {
+
+	/**
+	 * Serialization mode
+	 */
+	private final PropertyBoxSerializationMode serializationMode;
+
+	/**
+	 * Constructor.
+	 * @param serializationMode Serialization mode
+	 */
+	public GsonPropertyBoxTypeAdapterFactory(PropertyBoxSerializationMode serializationMode) {
+		super();
+		this.serializationMode = serializationMode;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		final Class<? super T> rawType = type.getRawType();
+		if (!PropertyBox.class.isAssignableFrom(rawType)) {
+			return null;
+		}
+		if (rawType != PropertyBox.class) {
+			return (TypeAdapter<T>) gson.getAdapter(PropertyBox.class);
+		}
+		return (TypeAdapter<T>) new GsonPropertyBoxTypeAdapter(gson, serializationMode);
+	}
+
+}
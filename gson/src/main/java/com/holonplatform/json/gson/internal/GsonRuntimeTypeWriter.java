@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Writes a sequence of values using the {@link TypeAdapter} of each value runtime type, consistently with the Gson
+ * collections serialization. The last used adapter is retained, since the values of a sequence usually share the same
+ * type.
+ *
+ * @since 6.0.3
+ */
+final class GsonRuntimeTypeWriter {
+
+	private final Gson gson;
+
+	private Class<?> adapterType;
+
+	private TypeAdapter<Object> adapter;
+
+	/**
+	 * Constructor.
+	 * @param gson Gson instance
+	 */
+	GsonRuntimeTypeWriter(Gson gson) {
+		super();
+		this.gson = gson;
+	}
+
+	/**
+	 * Write given value.
+	 * @param out JSON writer
+	 * @param value The value to write (may be null)
+	 * @throws IOException If an error occurred
+	 */
+	@SuppressWarnings("unchecked")
+	void write(JsonWriter out, Object value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+		if (value.getClass() != adapterType) {
+			adapterType = value.getClass();
+			adapter = (TypeAdapter<Object>) gson.getAdapter(adapterType);
+		}
+		adapter.write(out, value);
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.internal.datetime;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.function.LongFunction;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.temporal.TemporalType;
+import com.holonplatform.json.datetime.CurrentSerializationTemporalType;
+import com.holonplatform.json.internal.datetime.ISO8601DateFormats;
+
+/**
+ * Gson streaming {@link TypeAdapter} to handle {@link Date} types using ISO-8601 date format.
+ * <p>
+ * An adapter bound to a specific {@link TemporalType} can be obtained using {@link #withTemporalType(TemporalType)}. If
+ * no {@link TemporalType} is specified, the {@link CurrentSerializationTemporalType} one is used, if available.
+ * </p>
+ *
+ * @param <T> Date type
+ *
+ * @since 6.0.3
+ */
+public class GsonDateTypeAdapter<T extends Date> extends TypeAdapter<T> {
+
+	private final LongFunction<T> factory;
+
+	private final TemporalType temporalType;
+
+	/**
+	 * Constructor.
+	 * @param factory The function to use to create a date instance from its epoch milliseconds (not null)
+	 * @param temporalType The temporal type to use to select the date format, <code>null</code> to use the current
+	 *        serialization temporal type
+	 */
+	public GsonDateTypeAdapter(LongFunction<T> factory, TemporalType temporalType) {
+		super();
+		ObjectUtils.argumentNotNull(factory, "Date factory must be not null");
+		this.factory = factory;
+		this.temporalType = temporalType;
+	}
+
+	/**
+	 * Create a {@link GsonDateTypeAdapter} for the {@link Date} type.
+	 * @return A new {@link Date} type adapter
+	 */
+	public static GsonDateTypeAdapter<Date> forDate() {
+		return new GsonDateTypeAdapter<>(Date::new, null);
+	}
+
+	/**
+	 * Create a {@link GsonDateTypeAdapter} for the {@link java.sql.Date} type.
+	 * @return A new {@link java.sql.Date} type adapter
+	 */
+	public static GsonDateTypeAdapter<java.sql.Date> forSqlDate() {
+		return new GsonDateTypeAdapter<>(java.sql.Date::new, null);
+	}
+
+	/**
+	 * Get the temporal type to use to select the date format.
+	 * @return The temporal type, <code>null</code> if the current serialization temporal type is used
+	 */
+	public TemporalType getTemporalType() {
+		return temporalType;
+	}
+
+	/**
+	 * Get an adapter which uses given {@link TemporalType} to select the date format.
+	 * @param temporalType The temporal type
+	 * @return An adapter bound to given temporal type, this adapter if the temporal type is the same
+	 */
+	public GsonDateTypeAdapter<T> withTemporalType(TemporalType temporalType) {
+		if (temporalType == this.temporalType) {
+			return this;
+		}
+		return new GsonDateTypeAdapter<>(factory, temporalType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+	 */
+	@Override
+	public void write(JsonWriter out, T value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+		} else {
+			out.value(ISO8601DateFormats.format(value, temporalType));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+	 */
+	@Override
+	public T read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		final String value = in.nextString();
+		if (value.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			return factory.apply(ISO8601DateFormats.parseTime(value, null));
+		} catch (Exception e) {
+			throw new JsonParseException(e);
+		}
+	}
+
+}
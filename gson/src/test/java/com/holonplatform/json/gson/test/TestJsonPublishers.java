@@ -0,0 +1,287 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.gson.test;
+
+import static com.holonplatform.json.gson.test.DataTest.KEY;
+import static com.holonplatform.json.gson.test.DataTest.NAME;
+import static com.holonplatform.json.gson.test.DataTest.PROPERTIES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.gson.GsonJson;
+
+public class TestJsonPublishers {
+
+	private static final Json JSON = GsonJson.create();
+
+	@Test
+	public void testEncode() {
+
+		final List<PropertyBox> boxes = boxes(20);
+
+		final ListPublisher<PropertyBox> source = new ListPublisher<>(boxes);
+		final TestSubscriber<ByteBuffer> subscriber = new TestSubscriber<>();
+		JSON.toJsonArrayPublisher(source).subscribe(subscriber);
+
+		// backpressure
+		assertEquals(0, subscriber.values.size());
+		subscriber.request(3);
+		assertEquals(3, subscriber.values.size());
+		assertTrue(source.requested <= 3 + 16);
+
+		subscriber.request(Long.MAX_VALUE);
+		assertTrue(subscriber.completed);
+		assertNull(subscriber.error);
+		assertEquals(21, subscriber.values.size());
+
+		final String json = new String(concat(subscriber.values), StandardCharsets.UTF_8);
+		assertEquals(JSON.toJsonArray(PropertyBox.class, boxes).asString(), json);
+
+		// empty
+		final TestSubscriber<ByteBuffer> empty = new TestSubscriber<>();
+		JSON.toJsonArrayPublisher(new ListPublisher<>(Collections.emptyList())).subscribe(empty);
+		empty.request(1);
+		assertTrue(empty.completed);
+		assertEquals("[]", new String(concat(empty.values), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testDecode() {
+
+		final byte[] bytes = JSON.toJsonArray(PropertyBox.class, boxes(20)).asBytes();
+
+		final ListPublisher<ByteBuffer> source = new ListPublisher<>(chunks(bytes, 11));
+		final TestSubscriber<PropertyBox> subscriber = new TestSubscriber<>();
+		JSON.fromJsonArrayPublisher(source, PROPERTIES).subscribe(subscriber);
+
+		subscriber.request(1);
+		assertEquals(1, subscriber.values.size());
+		assertEquals(Long.valueOf(0), subscriber.values.get(0).getValue(KEY));
+		// only the chunks required for the first element were requested
+		final long requested = source.requested;
+		assertTrue(requested < bytes.length / 11);
+
+		subscriber.request(1);
+		assertEquals(2, subscriber.values.size());
+
+		subscriber.request(Long.MAX_VALUE);
+		assertTrue(subscriber.completed);
+		assertNull(subscriber.error);
+		assertEquals(20, subscriber.values.size());
+		assertEquals(Long.valueOf(19), subscriber.values.get(19).getValue(KEY));
+		assertEquals("T\u00e8st 19", subscriber.values.get(19).getValue(NAME));
+
+		// generic type and root-level values sequence
+		final TestSubscriber<Integer> integers = new TestSubscriber<>();
+		JSON.fromJsonArrayPublisher(new ListPublisher<>(chunks("1 2\n3\n null 4".getBytes(), 1)), Integer.class)
+				.subscribe(integers);
+		integers.request(Long.MAX_VALUE);
+		assertTrue(integers.completed);
+		assertEquals(Arrays.asList(1, 2, 3, 4), integers.values);
+	}
+
+	@Test
+	public void testRoundTrip() {
+
+		final List<PropertyBox> boxes = boxes(100);
+
+		final TestSubscriber<PropertyBox> subscriber = new TestSubscriber<>();
+		JSON.fromJsonArrayPublisher(JSON.toJsonArrayPublisher(new ListPublisher<>(boxes)), PROPERTIES)
+				.subscribe(subscriber);
+		subscriber.request(Long.MAX_VALUE);
+
+		assertTrue(subscriber.completed);
+		assertEquals(100, subscriber.values.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(boxes.get(i).getValue(KEY), subscriber.values.get(i).getValue(KEY));
+			assertEquals(boxes.get(i).getValue(NAME), subscriber.values.get(i).getValue(NAME));
+		}
+	}
+
+	@Test
+	public void testErrors() {
+
+		TestSubscriber<PropertyBox> subscriber = new TestSubscriber<>();
+		JSON.fromJsonArrayPublisher(new ListPublisher<>(chunks("[{\"key\":1},{\"key\":".getBytes(), 4)), PROPERTIES)
+				.subscribe(subscriber);
+		subscriber.request(Long.MAX_VALUE);
+		assertEquals(1, subscriber.values.size());
+		assertFalse(subscriber.completed);
+		assertTrue(subscriber.error instanceof JsonReadException);
+
+		subscriber = new TestSubscriber<>();
+		JSON.fromJsonArrayPublisher(new ListPublisher<>(chunks("[{\"key\":\"x\"}]".getBytes(), 4)), PROPERTIES)
+				.subscribe(subscriber);
+		subscriber.request(Long.MAX_VALUE);
+		assertTrue(subscriber.error instanceof JsonReadException);
+
+		// cancel
+		final ListPublisher<PropertyBox> source = new ListPublisher<>(boxes(20));
+		final TestSubscriber<ByteBuffer> cancelled = new TestSubscriber<>();
+		JSON.toJsonArrayPublisher(source).subscribe(cancelled);
+		cancelled.request(1);
+		cancelled.subscription.cancel();
+		cancelled.request(10);
+		assertEquals(1, cancelled.values.size());
+		assertTrue(source.cancelled);
+		assertFalse(cancelled.completed);
+
+		// invalid request
+		final TestSubscriber<ByteBuffer> invalid = new TestSubscriber<>();
+		JSON.toJsonArrayPublisher(new ListPublisher<>(boxes(1))).subscribe(invalid);
+		invalid.request(0);
+		assertTrue(invalid.error instanceof IllegalArgumentException);
+	}
+
+	private static List<PropertyBox> boxes(int count) {
+		return IntStream.range(0, count).mapToObj(i -> PropertyBox.builder(PROPERTIES).set(KEY, Long.valueOf(i))
+				.set(NAME, "T\u00e8st " + i).build()).collect(Collectors.toList());
+	}
+
+	private static List<ByteBuffer> chunks(byte[] bytes, int size) {
+		final List<ByteBuffer> chunks = new ArrayList<>();
+		for (int i = 0; i < bytes.length; i += size) {
+			chunks.add(ByteBuffer.wrap(bytes, i, Math.min(size, bytes.length - i)).slice());
+		}
+		return chunks;
+	}
+
+	private static byte[] concat(List<ByteBuffer> buffers) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		for (ByteBuffer buffer : buffers) {
+			final byte[] chunk = new byte[buffer.remaining()];
+			buffer.get(chunk);
+			bytes.write(chunk, 0, chunk.length);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Synchronous publisher of a list of values.
+	 */
+	private static class ListPublisher<T> implements Flow.Publisher<T> {
+
+		private final List<T> values;
+
+		long requested = 0;
+
+		boolean cancelled = false;
+
+		ListPublisher(List<T> values) {
+			super();
+			this.values = values;
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super T> subscriber) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+
+				private int index = 0;
+
+				private long demand = 0;
+
+				private boolean emitting = false;
+
+				private boolean done = false;
+
+				@Override
+				public void request(long n) {
+					requested += n;
+					demand += n;
+					if (emitting) {
+						return;
+					}
+					emitting = true;
+					while (demand > 0 && index < values.size() && !done) {
+						demand--;
+						subscriber.onNext(values.get(index++));
+					}
+					if (index == values.size() && !done) {
+						done = true;
+						subscriber.onComplete();
+					}
+					emitting = false;
+				}
+
+				@Override
+				public void cancel() {
+					cancelled = true;
+					done = true;
+				}
+
+			});
+		}
+
+	}
+
+	/**
+	 * Subscriber which collects the received values.
+	 */
+	private static class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+		final List<T> values = new ArrayList<>();
+
+		Flow.Subscription subscription;
+
+		Throwable error;
+
+		boolean completed = false;
+
+		void request(long n) {
+			subscription.request(n);
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T item) {
+			values.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+
+	}
+
+}
@@ -43,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
 import com.holonplatform.json.gson.GsonConfiguration;
 import com.holonplatform.json.gson.test.DataTest.TestEnum;
 
@@ -93,4 +94,33 @@ public class TestNestedPropertyBox {
 
 	}
 
+	@Test
+	public void testPositionalNestedPropertyBox() {
+
+		final Gson gson = GsonConfiguration.builder(PropertyBoxSerializationMode.POSITIONAL).create();
+
+		PropertyBox nested1 = PropertyBox.builder(NESTED_PS).set(N_CODE, 777L).set(N_VALUE, "testNested1Value").build();
+
+		PropertyBox box = PropertyBox.builder(PROPERTIES_NESTED).set(KEY, 1L).set(NAME, "Test").set(DATE, DATE_VALUE)
+				.set(ENUM, TestEnum.ONE).set(ARRAY_DATA, new int[] { 1, 2, 3 }).set(NESTED1, nested1).build();
+
+		String json = gson.toJson(box);
+		assertTrue(json.startsWith("[1,"));
+		assertTrue(json.contains("[777,\"testNested1Value\"]"));
+
+		PropertyBox readBox = PROPERTIES_NESTED.execute(() -> gson.fromJson(json, PropertyBox.class));
+
+		assertNotNull(readBox);
+		assertEquals(Long.valueOf(1), readBox.getValue(KEY));
+		assertEquals("Test", readBox.getValue(NAME));
+		assertEquals(DATE_VALUE, readBox.getValue(DATE));
+		assertEquals(TestEnum.ONE, readBox.getValue(ENUM));
+		assertTrue(Arrays.equals(new int[] { 1, 2, 3 }, readBox.getValue(ARRAY_DATA)));
+
+		PropertyBox readNested = readBox.getValue(NESTED1);
+		assertNotNull(readNested);
+		assertEquals(Long.valueOf(777L), readNested.getValue(N_CODE));
+		assertEquals("testNested1Value", readNested.getValue(N_VALUE));
+	}
+
 }
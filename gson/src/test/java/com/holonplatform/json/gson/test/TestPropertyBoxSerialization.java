@@ -31,6 +31,7 @@ import static com.holonplatform.json.gson.test.DataTest.PROPERTIES;
 import static com.holonplatform.json.gson.test.DataTest.TEST;
 import static com.holonplatform.json.gson.test.DataTest.TEST_DATA_VALUE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -169,4 +170,29 @@ public class TestPropertyBoxSerialization {
 
 	}
 
+	@Test
+	public void testUnknownFields() {
+
+		final Gson gson = builder.create();
+
+		final String json = "{\"unknown1\":{\"a\":[1,2,{\"b\":null}]},\"key\":1,\"unknown2\":[[],{}],"
+				+ "\"name\":\"Test\",\"number\":null,\"unknown3\":\"x\",\"bool\":true}";
+
+		PropertyBox readBox = PROPERTIES.execute(() -> gson.fromJson(json, PropertyBox.class));
+
+		assertNotNull(readBox);
+		assertEquals(Long.valueOf(1), readBox.getValue(KEY));
+		assertEquals("Test", readBox.getValue(NAME));
+		assertEquals(Boolean.TRUE, readBox.getValue(BOOL));
+		assertFalse(readBox.getValueIfPresent(NUMBER).isPresent());
+
+		// same PropertySet, different boxes
+		PropertyBox box1 = PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(NAME, "Test").build();
+		PropertyBox box2 = PropertyBox.builder(PROPERTIES).set(KEY, 2L).set(BOOL, Boolean.FALSE).build();
+
+		assertEquals("{\"key\":1,\"name\":\"Test\"}", gson.toJson(box1));
+		assertEquals("{\"key\":2,\"bool\":false}", gson.toJson(box2));
+
+	}
+
 }
@@ -16,8 +16,10 @@
 package com.holonplatform.json.gson.test;
 
 import static com.holonplatform.core.property.PathProperty.create;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,13 @@ public class TestSerializationConfiguration {
 
 	private static final PropertySet<?> PROPERTIES = PropertySet.of(NAME, VRT);
 
+	private static final PathProperty<Long> ID = create("id", Long.class);
+	private static final PathProperty<String> CITY = create("address.city", String.class);
+	private static final PathProperty<String> ZIP = create("address.zip", String.class);
+	private static final PathProperty<Boolean> ACTIVE = create("active", Boolean.class);
+
+	private static final PropertySet<?> POSITIONAL = PropertySet.of(ID, CITY, NAME, ZIP, ACTIVE, VRT);
+
 	private static final PropertySet<?> PROPERTIES_CFG = PropertySet.builderOf(NAME, VRT)
 			.withConfiguration(JsonConfigProperties.PROPERTYBOX_SERIALIZATION_MODE, PropertyBoxSerializationMode.ALL)
 			.build();
@@ -74,4 +83,41 @@ public class TestSerializationConfiguration {
 		assertTrue(json.contains("[test]"));
 	}
 
+	@Test
+	public void testPositionalSerializationMode() {
+
+		final Gson gson = GsonConfiguration.builder(PropertyBoxSerializationMode.POSITIONAL).create();
+
+		PropertyBox box = PropertyBox.builder(POSITIONAL).set(ID, 1L).set(CITY, "Rome").set(NAME, "test")
+				.set(ACTIVE, true).build();
+
+		String json = gson.toJson(box);
+		assertEquals("[1,[\"Rome\",null],\"test\",true]", json);
+
+		PropertyBox read = POSITIONAL.execute(() -> gson.fromJson(json, PropertyBox.class));
+		assertEquals(Long.valueOf(1L), read.getValue(ID));
+		assertEquals("Rome", read.getValue(CITY));
+		assertEquals("test", read.getValue(NAME));
+		assertNull(read.getValue(ZIP));
+		assertEquals(Boolean.TRUE, read.getValue(ACTIVE));
+
+		// missing trailing and exceeding elements
+		read = POSITIONAL.execute(() -> gson.fromJson("[2,[null,\"00100\"]]", PropertyBox.class));
+		assertEquals(Long.valueOf(2L), read.getValue(ID));
+		assertNull(read.getValue(CITY));
+		assertEquals("00100", read.getValue(ZIP));
+		assertNull(read.getValue(NAME));
+
+		read = POSITIONAL.execute(
+				() -> gson.fromJson("[3,[\"Rome\",\"00100\"],\"test\",false,\"x\",{\"a\":1}]", PropertyBox.class));
+		assertEquals(Long.valueOf(3L), read.getValue(ID));
+		assertEquals(Boolean.FALSE, read.getValue(ACTIVE));
+
+		// JSON objects are still supported
+		read = POSITIONAL.execute(() -> gson.fromJson("{\"id\":4,\"address\":{\"city\":\"Rome\"}}",
+				PropertyBox.class));
+		assertEquals(Long.valueOf(4L), read.getValue(ID));
+		assertEquals("Rome", read.getValue(CITY));
+	}
+
 }
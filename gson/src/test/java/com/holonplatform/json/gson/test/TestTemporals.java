@@ -28,6 +28,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import com.google.gson.Gson;
+import com.holonplatform.core.property.PathProperty;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
 import com.holonplatform.core.temporal.TemporalType;
@@ -103,6 +104,44 @@ public class TestTemporals {
 
 	}
 
+	@Test
+	public void testTemporalTypePropertyBox() {
+
+		final PathProperty<Date> DATE = PathProperty.create("date", Date.class).temporalType(TemporalType.DATE);
+		final PathProperty<Date> TIME = PathProperty.create("time", Date.class).temporalType(TemporalType.TIME);
+		final PathProperty<Date> DATE_TIME = PathProperty.create("dateTime", Date.class)
+				.temporalType(TemporalType.DATE_TIME);
+		final PathProperty<Date> NO_TYPE = PathProperty.create("noType", Date.class);
+
+		Gson gson = GsonConfiguration.builder().create();
+
+		Calendar c = Calendar.getInstance();
+		c.set(1979, 2, 9, 10, 30);
+		c.set(Calendar.SECOND, 25);
+		c.set(Calendar.MILLISECOND, 0);
+		Date date = c.getTime();
+
+		final int offset = (c.get(Calendar.ZONE_OFFSET) + c.get(Calendar.DST_OFFSET)) / (60 * 60 * 1000);
+		final String offsetZ = ((offset < 0) ? "-" : "+") + StringUtils.leftPad("" + Math.abs(offset), 2, '0') + "00";
+
+		PropertyBox pb = PropertyBox.builder(DATE, TIME, DATE_TIME, NO_TYPE).set(DATE, date).set(TIME, date)
+				.set(DATE_TIME, date).set(NO_TYPE, date).build();
+
+		String json = gson.toJson(pb);
+		assertEquals("{\"date\":\"1979-03-09\",\"time\":\"10:30:25\",\"dateTime\":\"1979-03-09T10:30:25" + offsetZ
+				+ "\",\"noType\":\"1979-03-09T10:30:25" + offsetZ + "\"}", json);
+
+		// current temporal type is used only when the property temporal type is not available
+		try {
+			CurrentSerializationTemporalType.setCurrentTemporalType(TemporalType.TIME);
+			assertEquals("{\"date\":\"1979-03-09\"}", gson.toJson(PropertyBox.builder(DATE).set(DATE, date).build()));
+			assertEquals("\"10:30:25\"", gson.toJson(date));
+		} finally {
+			CurrentSerializationTemporalType.removeCurrentTemporalType();
+		}
+
+	}
+
 	@Test
 	public void testSqlDate() {
 
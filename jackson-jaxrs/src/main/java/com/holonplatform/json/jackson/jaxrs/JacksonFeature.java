@@ -20,6 +20,8 @@ import jakarta.ws.rs.core.FeatureContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.cache.CacheStatistics;
+import com.holonplatform.json.internal.model.PropertySetRefCache;
 import com.holonplatform.json.jackson.jaxrs.internal.JacksonConfigurationFeature;
 import com.holonplatform.json.jackson.jaxrs.internal.JacksonProviderFeature;
 
@@ -54,6 +56,16 @@ public class JacksonFeature implements Feature {
 	 */
 	public static final String FEATURE_NAME = JacksonFeature.class.getName();
 
+	/**
+	 * Get the statistics of the cache of the {@link com.holonplatform.core.property.PropertySet}s declared through the
+	 * {@link com.holonplatform.core.property.PropertySetRef} annotation by the JAX-RS resource method parameters.
+	 * @return The cache statistics snapshot
+	 * @since 6.0.3
+	 */
+	public static CacheStatistics getPropertySetRefCacheStatistics() {
+		return PropertySetRefCache.getDefault().getStatistics();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see jakarta.ws.rs.core.Feature#configure(jakarta.ws.rs.core.FeatureContext)
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.jaxrs.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Providers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.holonplatform.core.internal.property.PropertySetRefIntrospector;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.jackson.JacksonBinaryCodec;
+import com.holonplatform.json.jackson.JacksonConfiguration;
+import com.holonplatform.json.jackson.JacksonDataFormat;
+import com.holonplatform.json.jackson.internal.DefaultJacksonBinaryCodec;
+
+/**
+ * Base JAX-RS message body reader and writer for {@link PropertyBox} values and {@link PropertyBox} collections using
+ * a Jackson binary data format.
+ * <p>
+ * The {@link PropertyBox} serialization strategy and the {@link com.holonplatform.core.property.PropertySetRef}
+ * resolution are the same of the JSON providers. The {@link ObjectMapper} is obtained from a {@link ContextResolver}
+ * bound to the data format media type, if available and if it uses the same data format, or a default one is created
+ * using {@link JacksonConfiguration#mapper(JacksonDataFormat)}.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public abstract class AbstractJacksonBinaryPropertyBoxProvider
+		implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
+
+	@Context
+	private Providers providers;
+
+	private final JacksonDataFormat dataFormat;
+
+	private final MediaType mediaType;
+
+	private ObjectMapper mapper;
+
+	private ObjectReader reader;
+
+	private ObjectWriter writer;
+
+	private JacksonBinaryCodec codec;
+
+	private PropertySetRefIntrospector propertySetRefIntrospector;
+
+	/**
+	 * Constructor.
+	 * @param dataFormat The data format (not null)
+	 */
+	protected AbstractJacksonBinaryPropertyBoxProvider(JacksonDataFormat dataFormat) {
+		super();
+		this.dataFormat = dataFormat;
+		this.mediaType = MediaType.valueOf(dataFormat.getMediaType());
+	}
+
+	/**
+	 * Get the {@link ObjectMapper} to use.
+	 * @return The {@link ObjectMapper} obtained from a suitable {@link ContextResolver}, or a default one if not
+	 *         available
+	 */
+	private ObjectMapper getObjectMapper() {
+		if (mapper == null) {
+			// init using a contextresolver, if available and bound to the same data format
+			ContextResolver<ObjectMapper> contextResolver = (providers != null)
+					? providers.getContextResolver(ObjectMapper.class, mediaType)
+					: null;
+			if (contextResolver != null) {
+				final ObjectMapper resolved = contextResolver.getContext(ObjectMapper.class);
+				if (resolved != null && dataFormat.getFormatName().equals(resolved.getFactory().getFormatName())) {
+					mapper = resolved;
+				}
+			}
+			if (mapper == null) {
+				// use default
+				mapper = JacksonConfiguration.mapper(dataFormat);
+			}
+		}
+		return mapper;
+	}
+
+	/**
+	 * Get the object reader to use to deserialize a {@link PropertyBox}.
+	 * @return The object reader
+	 */
+	private ObjectReader getObjectReader() {
+		if (reader == null) {
+			reader = getObjectMapper().readerFor(PropertyBox.class);
+		}
+		return reader;
+	}
+
+	/**
+	 * Get the object writer to use to serialize a {@link PropertyBox}.
+	 * @return The object writer
+	 */
+	private ObjectWriter getObjectWriter() {
+		if (writer == null) {
+			writer = getObjectMapper().writerFor(PropertyBox.class);
+		}
+		return writer;
+	}
+
+	/**
+	 * Get the {@link JacksonBinaryCodec} to use to read and write the {@link PropertyBox} collections.
+	 * @return The {@link JacksonBinaryCodec}
+	 */
+	private JacksonBinaryCodec getCodec() {
+		if (codec == null) {
+			codec = new DefaultJacksonBinaryCodec(dataFormat, getObjectMapper());
+		}
+		return codec;
+	}
+
+	/**
+	 * Get the {@link PropertySetRefIntrospector} instance to use.
+	 * @return The {@link PropertySetRefIntrospector} instance to use, from {@link ContextResolver} if available or the
+	 *         default one
+	 */
+	private PropertySetRefIntrospector getPropertySetRefIntrospector() {
+		if (propertySetRefIntrospector == null) {
+			propertySetRefIntrospector = JacksonProviderSupport.getPropertySetRefIntrospector(providers, mediaType);
+		}
+		return propertySetRefIntrospector;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyReader#isReadable(java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType)
+	 */
+	@Override
+	public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+		return JacksonProviderSupport.isPropertyBoxType(type.equals(genericType) ? type : genericType)
+				|| ((type == List.class || type == Collection.class || type == Iterable.class || type == Stream.class)
+						&& JacksonProviderSupport.isPropertyBoxElementType(genericType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyReader#readFrom(java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType, jakarta.ws.rs.core.MultivaluedMap,
+	 * java.io.InputStream)
+	 */
+	@Override
+	public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
+			throws IOException, WebApplicationException {
+		// check property set
+		final PropertySet<?> propertySet = JacksonProviderSupport.getPropertySet(annotations,
+				getPropertySetRefIntrospector());
+		if (JacksonProviderSupport.isPropertyBoxType(type.equals(genericType) ? type : genericType)) {
+			if (propertySet != null) {
+				try {
+					return propertySet.execute(() -> readPropertyBox(entityStream));
+				} catch (RuntimeException e) {
+					// the context execution wraps any callable exception
+					if (e.getCause() instanceof WebApplicationException) {
+						throw (WebApplicationException) e.getCause();
+					}
+					if (e.getCause() instanceof IOException) {
+						throw (IOException) e.getCause();
+					}
+					throw e;
+				}
+			}
+			return readPropertyBox(entityStream);
+		}
+		return JacksonProviderSupport.readPropertyBoxes(type, propertySet,
+				ps -> (ps != null) ? getCodec().iterateArray(entityStream, ps)
+						: getCodec().iterateArray(entityStream, PropertyBox.class));
+	}
+
+	/**
+	 * Read a {@link PropertyBox}, using current {@link com.holonplatform.core.Context} property set.
+	 * @param entityStream Entity stream
+	 * @return The deserialized {@link PropertyBox} instance
+	 * @throws IOException IO read error
+	 * @throws WebApplicationException Data processing exception
+	 */
+	private PropertyBox readPropertyBox(InputStream entityStream) throws IOException {
+		try {
+			return getObjectReader().readValue(entityStream);
+		} catch (JsonProcessingException e) {
+			throw new WebApplicationException(e.getOriginalMessage(), e, Response.status(Status.BAD_REQUEST)
+					.type(MediaType.TEXT_PLAIN).entity(e.getOriginalMessage()).build());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyWriter#isWriteable(java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType)
+	 */
+	@Override
+	public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+		return JacksonProviderSupport.isPropertyBoxType(type.equals(genericType) ? type : genericType)
+				|| ((Iterable.class.isAssignableFrom(type) || Stream.class.isAssignableFrom(type))
+						&& JacksonProviderSupport.isPropertyBoxElementType(genericType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyWriter#getSize(java.lang.Object, java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType)
+	 */
+	@Override
+	public long getSize(Object t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+		return -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyWriter#writeTo(java.lang.Object, java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType, jakarta.ws.rs.core.MultivaluedMap,
+	 * java.io.OutputStream)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void writeTo(Object t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+			throws IOException, WebApplicationException {
+		if (t instanceof PropertyBox) {
+			try {
+				getObjectWriter().writeValue(entityStream, t);
+			} catch (JsonProcessingException e) {
+				throw new WebApplicationException(e.getMessage(), e, Status.BAD_REQUEST);
+			}
+		} else if (t instanceof Stream) {
+			try (Stream<? extends PropertyBox> stream = (Stream<? extends PropertyBox>) t) {
+				writePropertyBoxes(stream.iterator(), entityStream);
+			}
+		} else {
+			writePropertyBoxes(((Iterable<? extends PropertyBox>) t).iterator(), entityStream);
+		}
+	}
+
+	/**
+	 * Write the {@link PropertyBox} values as an array.
+	 * @param values The values to write
+	 * @param entityStream Entity stream
+	 * @throws IOException IO write error
+	 * @throws WebApplicationException Data processing exception
+	 */
+	private void writePropertyBoxes(Iterator<? extends PropertyBox> values, OutputStream entityStream)
+			throws IOException {
+		JacksonProviderSupport
+				.writePropertyBoxes(() -> getCodec().writeArray(PropertyBox.class, values, entityStream));
+	}
+
+}
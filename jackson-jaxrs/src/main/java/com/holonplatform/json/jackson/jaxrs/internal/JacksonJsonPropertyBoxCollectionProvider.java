@@ -0,0 +1,198 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.jaxrs.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.Providers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holonplatform.core.internal.property.PropertySetRefIntrospector;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.ColumnarJson;
+import com.holonplatform.json.config.JsonColumnarFormat;
+import com.holonplatform.json.jackson.JacksonConfiguration;
+import com.holonplatform.json.jackson.internal.DefaultJacksonJson;
+
+/**
+ * JAX-RS message body reader and writer for {@link List}, {@link Collection}, {@link Iterable} and {@link Stream} of
+ * {@link PropertyBox} types using Jackson as JSON serializer/deserializer.
+ * <p>
+ * The {@link PropertyBox} values are written as a JSON array one element at a time, as they are obtained from the
+ * entity, and the entity stream is flushed periodically. A {@link Stream} entity is closed when the serialization is
+ * completed.
+ * </p>
+ * <p>
+ * A JSON array request entity is read lazily when an {@link Iterable} or a {@link Stream} is requested, decoding one
+ * element at a time as it is consumed. Such entities are {@link java.io.Closeable} and the entity stream is released
+ * when all the elements have been consumed or when the entity is closed. The {@link PropertySet} to use is obtained from the current
+ * {@link com.holonplatform.core.Context} or from the {@link com.holonplatform.core.property.PropertySetRef}
+ * annotation.
+ * </p>
+ * <p>
+ * When the media type declares the {@link JsonColumnarFormat#MEDIA_TYPE_PARAMETER} parameter with the
+ * {@link JsonColumnarFormat#MEDIA_TYPE_PARAMETER_VALUE} value (for example
+ * <code>application/json;layout=columnar</code>), the {@link PropertyBox} values are written and read using the
+ * {@link JsonColumnarFormat} instead of a JSON array of objects.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+@Priority(Priorities.ENTITY_CODER)
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class JacksonJsonPropertyBoxCollectionProvider implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
+
+	@Context
+	private Providers providers;
+
+	private ColumnarJson json;
+
+	private PropertySetRefIntrospector propertySetRefIntrospector;
+
+	/**
+	 * Get the {@link ColumnarJson} API to use.
+	 * @return The {@link ColumnarJson} API, backed by the {@link ObjectMapper} obtained from a suitable
+	 *         {@link ContextResolver}, or a default one if not available
+	 */
+	private ColumnarJson getJson() {
+		if (json == null) {
+			ObjectMapper mapper = null;
+			// init using a contextresolver, if available
+			ContextResolver<ObjectMapper> contextResolver = providers.getContextResolver(ObjectMapper.class,
+					MediaType.APPLICATION_JSON_TYPE);
+			if (contextResolver != null) {
+				mapper = contextResolver.getContext(ObjectMapper.class);
+			}
+			if (mapper == null) {
+				// use default
+				mapper = JacksonConfiguration.mapper();
+			}
+			json = new DefaultJacksonJson(mapper);
+		}
+		return json;
+	}
+
+	/**
+	 * Get the {@link PropertySetRefIntrospector} instance to use.
+	 * @return The {@link PropertySetRefIntrospector} instance to use, from {@link ContextResolver} if available or the
+	 *         default one
+	 */
+	private PropertySetRefIntrospector getPropertySetRefIntrospector() {
+		if (propertySetRefIntrospector == null) {
+			propertySetRefIntrospector = JacksonProviderSupport.getPropertySetRefIntrospector(providers,
+					MediaType.APPLICATION_JSON_TYPE);
+		}
+		return propertySetRefIntrospector;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyReader#isReadable(java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType)
+	 */
+	@Override
+	public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+		return (type == List.class || type == Collection.class || type == Iterable.class || type == Stream.class)
+				&& JacksonProviderSupport.isPropertyBoxElementType(genericType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyReader#readFrom(java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType, jakarta.ws.rs.core.MultivaluedMap,
+	 * java.io.InputStream)
+	 */
+	@Override
+	public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
+			throws IOException, WebApplicationException {
+		// check property set
+		final PropertySet<?> propertySet = JacksonProviderSupport.getPropertySet(annotations,
+				getPropertySetRefIntrospector());
+		return JacksonProviderSupport.readPropertyBoxes(getJson(), type, propertySet,
+				JsonColumnarFormat.isColumnar(mediaType.getParameters()), entityStream,
+				JacksonProviderSupport.getCharset(mediaType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyWriter#isWriteable(java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType)
+	 */
+	@Override
+	public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+		return (Iterable.class.isAssignableFrom(type) || Stream.class.isAssignableFrom(type))
+				&& JacksonProviderSupport.isPropertyBoxElementType(genericType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyWriter#getSize(java.lang.Object, java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType)
+	 */
+	@Override
+	public long getSize(Object t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+		return -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.ws.rs.ext.MessageBodyWriter#writeTo(java.lang.Object, java.lang.Class, java.lang.reflect.Type,
+	 * java.lang.annotation.Annotation[], jakarta.ws.rs.core.MediaType, jakarta.ws.rs.core.MultivaluedMap,
+	 * java.io.OutputStream)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void writeTo(Object t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+			throws IOException, WebApplicationException {
+		final Charset charset = JacksonProviderSupport.getCharset(mediaType);
+		final boolean columnar = JsonColumnarFormat.isColumnar(mediaType.getParameters());
+		if (t instanceof Stream) {
+			try (Stream<? extends PropertyBox> stream = (Stream<? extends PropertyBox>) t) {
+				JacksonProviderSupport.writePropertyBoxes(getJson(), stream.iterator(), columnar, entityStream,
+						charset);
+			}
+		} else {
+			JacksonProviderSupport.writePropertyBoxes(getJson(), ((Iterable<? extends PropertyBox>) t).iterator(),
+					columnar, entityStream, charset);
+		}
+	}
+
+}
@@ -19,9 +19,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Reader;
-import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
@@ -48,15 +45,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.holonplatform.core.internal.property.PropertySetRefIntrospector;
-import com.holonplatform.core.internal.property.PropertySetRefIntrospector.PropertySetIntrospectionException;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
-import com.holonplatform.core.property.PropertySetRef;
+import com.holonplatform.json.internal.Writers;
 import com.holonplatform.json.jackson.JacksonConfiguration;
 
 /**
  * JAX-RS message body reader and writer for {@link PropertyBox} type using
  * Jackson as JSON serializer/deserializer.
+ * <p>
+ * The charset declared by the media type is used, UTF-8 by default. UTF-8 JSON
+ * data are read and written directly from and to the entity streams, using the
+ * Jackson byte-based parser and generator.
+ * </p>
  *
  * @since 5.0.0
  */
@@ -66,8 +67,6 @@ import com.holonplatform.json.jackson.JacksonConfiguration;
 @Consumes(MediaType.APPLICATION_JSON)
 public class JacksonJsonPropertyBoxProvider implements MessageBodyWriter<PropertyBox>, MessageBodyReader<PropertyBox> {
 
-	private static final Charset CHARSET = StandardCharsets.UTF_8;
-
 	@Context
 	private Providers providers;
 
@@ -152,7 +151,7 @@ public class JacksonJsonPropertyBoxProvider implements MessageBodyWriter<Propert
 	 */
 	@Override
 	public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
-		return isPropertyBoxType(type.equals(genericType) ? type : genericType);
+		return JacksonProviderSupport.isPropertyBoxType(type.equals(genericType) ? type : genericType);
 	}
 
 	/*
@@ -167,40 +166,33 @@ public class JacksonJsonPropertyBoxProvider implements MessageBodyWriter<Propert
 	public PropertyBox readFrom(Class<PropertyBox> type, Type genericType, Annotation[] annotations,
 			MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
 			throws IOException, WebApplicationException {
-		try (final Reader isr = new InputStreamReader(entityStream, CHARSET)) {
-
-			// check property set
-			PropertySet<?> propertySet = null;
-			if (!com.holonplatform.core.Context.get().resource(PropertySet.CONTEXT_KEY, PropertySet.class)
-					.isPresent()) {
-				PropertySetRef propertySetRef = PropertySetRefIntrospector.getPropertySetRef(annotations).orElse(null);
-				if (propertySetRef != null) {
-					try {
-						propertySet = getPropertySetRefIntrospector().getPropertySet(propertySetRef);
-					} catch (PropertySetIntrospectionException e) {
-						throw new WebApplicationException(e.getMessage(), e, Status.INTERNAL_SERVER_ERROR);
-					}
-				}
-			}
-			if (propertySet != null) {
-				return propertySet.execute(() -> readPropertyBox(isr));
-			} else {
-				return readPropertyBox(isr);
-			}
+		// check property set
+		final PropertySet<?> propertySet = JacksonProviderSupport.getPropertySet(annotations,
+				getPropertySetRefIntrospector());
+		final Charset charset = JacksonProviderSupport.getCharset(mediaType);
+		if (propertySet != null) {
+			return propertySet.execute(() -> readPropertyBox(entityStream, charset));
+		} else {
+			return readPropertyBox(entityStream, charset);
 		}
 	}
 
 	/**
 	 * Read a {@link PropertyBox} from JSON content, using current
 	 * {@link com.holonplatform.core.Context} property set.
-	 * @param reader Reader
+	 * @param entityStream Entity stream
+	 * @param charset Entity charset
 	 * @return The deserialized {@link PropertyBox} instance
 	 * @throws IOException             IO read error
 	 * @throws WebApplicationException JSON processing exception
 	 */
-	private PropertyBox readPropertyBox(Reader reader) throws IOException {
+	private PropertyBox readPropertyBox(InputStream entityStream, Charset charset) throws IOException {
 		try {
-			return getObjectReader().readValue(reader);
+			if (StandardCharsets.UTF_8.equals(charset)) {
+				// use the Jackson UTF-8 parser
+				return getObjectReader().readValue(entityStream);
+			}
+			return getObjectReader().readValue(new InputStreamReader(entityStream, charset));
 		} catch (JsonProcessingException e) {
 			throw new WebApplicationException(e.getOriginalMessage(), e, Response.status(Status.BAD_REQUEST)
 					.type(MediaType.TEXT_PLAIN).entity(e.getOriginalMessage()).build());
@@ -216,7 +208,7 @@ public class JacksonJsonPropertyBoxProvider implements MessageBodyWriter<Propert
 	 */
 	@Override
 	public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
-		return isPropertyBoxType(type.equals(genericType) ? type : genericType);
+		return JacksonProviderSupport.isPropertyBoxType(type.equals(genericType) ? type : genericType);
 	}
 
 	/*
@@ -243,31 +235,17 @@ public class JacksonJsonPropertyBoxProvider implements MessageBodyWriter<Propert
 	public void writeTo(PropertyBox t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
 			MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
 			throws IOException, WebApplicationException {
-		try (final Writer osw = new OutputStreamWriter(entityStream, CHARSET)) {
-			try {
-				getObjectWriter().writeValue(osw, t);
-			} catch (JsonProcessingException e) {
-				throw new WebApplicationException(e.getMessage(), e, Status.BAD_REQUEST);
-			}
-		}
-	}
-
-	/**
-	 * Checks whether given <code>type</code> is a {@link PropertyBox} type.
-	 * @param type Type to check
-	 * @return <code>true</code> if given <code>type</code> is a {@link PropertyBox}
-	 *         type
-	 */
-	private static boolean isPropertyBoxType(Type type) {
-		if (type != null) {
-			if (PropertyBox.class == type) {
-				return true;
-			}
-			if (type instanceof Class && PropertyBox.class.isAssignableFrom((Class<?>) type)) {
-				return true;
+		final Charset charset = JacksonProviderSupport.getCharset(mediaType);
+		try {
+			if (StandardCharsets.UTF_8.equals(charset)) {
+				// use the Jackson UTF-8 generator
+				getObjectWriter().writeValue(entityStream, t);
+			} else {
+				getObjectWriter().writeValue(Writers.buffered(entityStream, charset), t);
 			}
+		} catch (JsonProcessingException e) {
+			throw new WebApplicationException(e.getMessage(), e, Status.BAD_REQUEST);
 		}
-		return false;
 	}
 
 }
@@ -20,10 +20,12 @@ import jakarta.ws.rs.core.FeatureContext;
 
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.json.internal.JsonLogger;
+import com.holonplatform.json.jackson.JacksonDataFormat;
 import com.holonplatform.json.jackson.jaxrs.JacksonFeature;
 
 /**
- * {@link Feature} to register Jackson JSON providers.
+ * {@link Feature} to register Jackson JSON providers, and the Smile and CBOR providers when the corresponding
+ * Jackson data formats are available.
  * 
  * @since 5.0.0
  */
@@ -49,6 +51,24 @@ public class JacksonProviderFeature implements Feature {
 					+ JacksonJsonPropertyBoxProvider.class.getName() + "]");
 			context.register(JacksonJsonPropertyBoxProvider.class);
 		}
+		if (!context.getConfiguration().isRegistered(JacksonJsonPropertyBoxCollectionProvider.class)) {
+			LOGGER.debug(() -> "<Runtime: " + context.getConfiguration().getRuntimeType() + "> Registering provider ["
+					+ JacksonJsonPropertyBoxCollectionProvider.class.getName() + "]");
+			context.register(JacksonJsonPropertyBoxCollectionProvider.class);
+		}
+		// binary data formats, if available
+		if (JacksonDataFormat.SMILE.isAvailable()
+				&& !context.getConfiguration().isRegistered(JacksonSmilePropertyBoxProvider.class)) {
+			LOGGER.debug(() -> "<Runtime: " + context.getConfiguration().getRuntimeType() + "> Registering provider ["
+					+ JacksonSmilePropertyBoxProvider.class.getName() + "]");
+			context.register(JacksonSmilePropertyBoxProvider.class);
+		}
+		if (JacksonDataFormat.CBOR.isAvailable()
+				&& !context.getConfiguration().isRegistered(JacksonCborPropertyBoxProvider.class)) {
+			LOGGER.debug(() -> "<Runtime: " + context.getConfiguration().getRuntimeType() + "> Registering provider ["
+					+ JacksonCborPropertyBoxProvider.class.getName() + "]");
+			context.register(JacksonCborPropertyBoxProvider.class);
+		}
 		return true;
 
 	}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.jaxrs.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.Providers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.holonplatform.core.Context;
+import com.holonplatform.core.internal.property.PropertySetRefIntrospector;
+import com.holonplatform.core.internal.property.PropertySetRefIntrospector.PropertySetIntrospectionException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.PropertySetRef;
+import com.holonplatform.json.ColumnarJson;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.Json.JsonWriteException;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.JsonReader;
+import com.holonplatform.json.config.JsonColumnarFormat;
+import com.holonplatform.json.internal.model.PropertySetRefCache;
+
+/**
+ * Support methods for the Jackson JAX-RS providers.
+ *
+ * @since 6.0.3
+ */
+final class JacksonProviderSupport {
+
+	private JacksonProviderSupport() {
+	}
+
+	/**
+	 * Get the charset declared by given media type.
+	 * @param mediaType The media type
+	 * @return The media type charset, UTF-8 if not declared or not supported
+	 */
+	static Charset getCharset(MediaType mediaType) {
+		final String name = (mediaType != null) ? mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) : null;
+		if (name != null) {
+			try {
+				return Charset.forName(name);
+			} catch (IllegalArgumentException e) {
+				// fallback to default
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	/**
+	 * Get the {@link PropertySetRefIntrospector} instance to use.
+	 * @param providers The JAX-RS providers, if available
+	 * @param mediaType The media type to use to lookup the {@link ContextResolver}
+	 * @return The {@link PropertySetRefIntrospector} instance to use, from {@link ContextResolver} if available or the
+	 *         default one
+	 */
+	static PropertySetRefIntrospector getPropertySetRefIntrospector(Providers providers, MediaType mediaType) {
+		PropertySetRefIntrospector introspector = null;
+		// init using a contextresolver, if available
+		ContextResolver<PropertySetRefIntrospector> contextResolver = (providers != null)
+				? providers.getContextResolver(PropertySetRefIntrospector.class, mediaType)
+				: null;
+		if (contextResolver != null) {
+			introspector = contextResolver.getContext(PropertySetRefIntrospector.class);
+		}
+		if (introspector == null) {
+			// use default
+			introspector = PropertySetRefIntrospector.getDefault();
+		}
+		return introspector;
+	}
+
+	/**
+	 * Get the {@link PropertySet} declared by a {@link PropertySetRef} annotation, if any, when a {@link PropertySet}
+	 * is not already available from the current {@link Context}. The {@link PropertySet} is cached by
+	 * {@link PropertySetRef} annotation, using the {@link PropertySetRefCache}.
+	 * @param annotations The annotations to inspect
+	 * @param introspector The {@link PropertySetRefIntrospector} to use
+	 * @return The {@link PropertySet}, <code>null</code> if a context {@link PropertySet} is available or a
+	 *         {@link PropertySetRef} annotation is not present
+	 * @throws WebApplicationException If the {@link PropertySet} cannot be obtained from the annotation
+	 */
+	static PropertySet<?> getPropertySet(Annotation[] annotations, PropertySetRefIntrospector introspector) {
+		if (!Context.get().resource(PropertySet.CONTEXT_KEY, PropertySet.class).isPresent()) {
+			try {
+				return PropertySetRefCache.getDefault().getPropertySet(annotations, introspector);
+			} catch (PropertySetIntrospectionException e) {
+				throw new WebApplicationException(e.getMessage(), e, Status.INTERNAL_SERVER_ERROR);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether given <code>type</code> is a {@link PropertyBox} type.
+	 * @param type Type to check
+	 * @return <code>true</code> if given <code>type</code> is a {@link PropertyBox} type
+	 */
+	static boolean isPropertyBoxType(Type type) {
+		if (type != null) {
+			if (PropertyBox.class == type) {
+				return true;
+			}
+			if (type instanceof Class && PropertyBox.class.isAssignableFrom((Class<?>) type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether given generic type declares a {@link PropertyBox} element type.
+	 * @param genericType Type to check
+	 * @return <code>true</code> if given type is a parameterized type with a {@link PropertyBox} type argument
+	 */
+	static boolean isPropertyBoxElementType(Type genericType) {
+		if (genericType instanceof ParameterizedType) {
+			final Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+			return arguments.length == 1 && arguments[0] instanceof Class
+					&& PropertyBox.class.isAssignableFrom((Class<?>) arguments[0]);
+		}
+		return false;
+	}
+
+	/**
+	 * Read a {@link PropertyBox} collection entity, serialized as a JSON array or as a columnar JSON array.
+	 * @param json The {@link ColumnarJson} API to use
+	 * @param type The collection type
+	 * @param propertySet The annotation property set, if any
+	 * @param columnar Whether to use the {@link JsonColumnarFormat}
+	 * @param entityStream Entity stream
+	 * @param charset Entity charset
+	 * @return The collection entity
+	 * @throws WebApplicationException Data processing exception
+	 * @see #readPropertyBoxes(Class, PropertySet, Function)
+	 */
+	static Object readPropertyBoxes(ColumnarJson json, Class<?> type, PropertySet<?> propertySet, boolean columnar,
+			InputStream entityStream, Charset charset) {
+		final JsonReader reader = JsonReader.from(entityStream, charset);
+		return readPropertyBoxes(type, propertySet, ps -> {
+			if (columnar) {
+				if (ps == null) {
+					throw new JsonReadException("Missing PropertySet instance to build a PropertyBox. "
+							+ "A PropertySet instance must be available to read a columnar JSON array.");
+				}
+				return json.iterateJsonColumnarArray(reader, ps);
+			}
+			return (ps != null) ? json.iterateJsonArray(reader, ps) : json.iterateJsonArray(reader, PropertyBox.class);
+		});
+	}
+
+	/**
+	 * Read a {@link PropertyBox} collection entity.
+	 * <p>
+	 * When an {@link Iterable} or a {@link Stream} is requested, the values are read lazily and the returned entity is
+	 * {@link java.io.Closeable}, so that the entity stream is not closed before the values are consumed. Otherwise, a
+	 * {@link List} is returned.
+	 * </p>
+	 * @param type The collection type
+	 * @param propertySet The annotation property set, if any. If <code>null</code>, the current
+	 *        {@link com.holonplatform.core.Context} property set, if any, is bound to the lazy iteration
+	 * @param reader The function to use to lazily read the entity values, using the property set, which may be
+	 *        <code>null</code>
+	 * @return The collection entity
+	 * @throws WebApplicationException Data processing exception
+	 */
+	static Object readPropertyBoxes(Class<?> type, PropertySet<?> propertySet,
+			Function<PropertySet<?>, JsonIterator<PropertyBox>> reader) {
+		PropertySet<?> ps = propertySet;
+		if (ps == null) {
+			ps = Context.get().resource(PropertySet.CONTEXT_KEY, PropertySet.class).orElse(null);
+		}
+		try {
+			final JsonIterator<PropertyBox> values = reader.apply(ps);
+			if (Stream.class == type) {
+				return LazyPropertyBoxEntity.stream(values);
+			}
+			if (Iterable.class == type) {
+				return LazyPropertyBoxEntity.iterable(values);
+			}
+			try (JsonIterator<PropertyBox> iterator = values) {
+				final List<PropertyBox> boxes = new ArrayList<>();
+				iterator.forEachRemaining(boxes::add);
+				return boxes;
+			}
+		} catch (JsonReadException e) {
+			final String message = (e.getCause() != null) ? e.getCause().getMessage() : e.getMessage();
+			throw new WebApplicationException(message, e,
+					Response.status(Status.BAD_REQUEST).type(MediaType.TEXT_PLAIN).entity(message).build());
+		}
+	}
+
+	/**
+	 * Write the {@link PropertyBox} values as a JSON array or as a columnar JSON array.
+	 * @param json The {@link ColumnarJson} API to use
+	 * @param values The values to write
+	 * @param columnar Whether to use the {@link JsonColumnarFormat}
+	 * @param entityStream Entity stream
+	 * @param charset Entity charset
+	 * @throws IOException IO write error
+	 * @throws WebApplicationException Data processing exception
+	 * @see #writePropertyBoxes(Runnable)
+	 */
+	static void writePropertyBoxes(ColumnarJson json, Iterator<? extends PropertyBox> values, boolean columnar,
+			OutputStream entityStream, Charset charset) throws IOException {
+		writePropertyBoxes(
+				() -> (columnar ? json.toJsonColumnarArray(values) : json.toJsonArray(PropertyBox.class, values))
+						.write(entityStream, charset));
+	}
+
+	/**
+	 * Write the {@link PropertyBox} values, translating the {@link JsonWriteException}s thrown by given writer.
+	 * @param writer The operation which writes the values to the entity stream
+	 * @throws IOException IO write error
+	 * @throws WebApplicationException Data processing exception
+	 */
+	static void writePropertyBoxes(Runnable writer) throws IOException {
+		try {
+			writer.run();
+		} catch (JsonWriteException e) {
+			if (e.getCause() instanceof JsonProcessingException) {
+				throw new WebApplicationException(e.getCause().getMessage(), e, Status.BAD_REQUEST);
+			}
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.jaxrs.internal;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.jackson.JacksonDataFormat;
+
+/**
+ * JAX-RS message body reader and writer for {@link PropertyBox} values and {@link PropertyBox} collections using the
+ * Jackson {@link JacksonDataFormat#SMILE} data format.
+ *
+ * @since 6.0.3
+ */
+@Priority(Priorities.ENTITY_CODER)
+@Provider
+@Produces("application/x-jackson-smile")
+@Consumes("application/x-jackson-smile")
+public class JacksonSmilePropertyBoxProvider extends AbstractJacksonBinaryPropertyBoxProvider {
+
+	/**
+	 * Constructor.
+	 */
+	public JacksonSmilePropertyBoxProvider() {
+		super(JacksonDataFormat.SMILE);
+	}
+
+}
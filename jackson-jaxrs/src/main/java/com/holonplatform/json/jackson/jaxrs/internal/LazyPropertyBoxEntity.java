@@ -0,0 +1,332 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.jaxrs.internal;
+
+import java.io.Closeable;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.JsonIterator;
+
+/**
+ * Lazy {@link PropertyBox} collection entities, backed by a {@link JsonIterator} which reads the entity stream as the
+ * values are consumed.
+ * <p>
+ * The entities are {@link Closeable}, so that the JAX-RS runtime does not close the entity stream when the message
+ * body reader returns: the entity stream is released when the iterator is exhausted or when the entity is closed.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+final class LazyPropertyBoxEntity {
+
+	private LazyPropertyBoxEntity() {
+	}
+
+	/**
+	 * Create a lazy {@link Iterable} entity. The {@link Iterable#iterator()} method can be invoked only once.
+	 * @param values The values iterator
+	 * @return A {@link Closeable} {@link Iterable} entity
+	 */
+	static Iterable<PropertyBox> iterable(JsonIterator<PropertyBox> values) {
+		return new LazyIterable(values);
+	}
+
+	/**
+	 * Create a lazy {@link Stream} entity. Closing the stream closes the values iterator.
+	 * @param values The values iterator
+	 * @return A {@link Closeable} {@link Stream} entity
+	 */
+	static Stream<PropertyBox> stream(JsonIterator<PropertyBox> values) {
+		return new LazyStream(values.stream());
+	}
+
+	/**
+	 * Single use {@link Iterable} entity.
+	 */
+	private static final class LazyIterable implements Iterable<PropertyBox>, Closeable {
+
+		private final JsonIterator<PropertyBox> values;
+
+		private boolean consumed = false;
+
+		LazyIterable(JsonIterator<PropertyBox> values) {
+			super();
+			this.values = values;
+		}
+
+		@Override
+		public synchronized Iterator<PropertyBox> iterator() {
+			if (consumed) {
+				throw new IllegalStateException("The PropertyBox entity values can be iterated only once");
+			}
+			consumed = true;
+			return values;
+		}
+
+		@Override
+		public void close() {
+			values.close();
+		}
+
+	}
+
+	/**
+	 * {@link Stream} entity which delegates to the iterator backed stream.
+	 */
+	private static final class LazyStream implements Stream<PropertyBox>, Closeable {
+
+		private final Stream<PropertyBox> stream;
+
+		LazyStream(Stream<PropertyBox> stream) {
+			super();
+			this.stream = stream;
+		}
+
+		@Override
+		public Iterator<PropertyBox> iterator() {
+			return stream.iterator();
+		}
+
+		@Override
+		public Spliterator<PropertyBox> spliterator() {
+			return stream.spliterator();
+		}
+
+		@Override
+		public boolean isParallel() {
+			return stream.isParallel();
+		}
+
+		@Override
+		public Stream<PropertyBox> sequential() {
+			return stream.sequential();
+		}
+
+		@Override
+		public Stream<PropertyBox> parallel() {
+			return stream.parallel();
+		}
+
+		@Override
+		public Stream<PropertyBox> unordered() {
+			return stream.unordered();
+		}
+
+		@Override
+		public Stream<PropertyBox> onClose(Runnable closeHandler) {
+			return stream.onClose(closeHandler);
+		}
+
+		@Override
+		public void close() {
+			stream.close();
+		}
+
+		@Override
+		public Stream<PropertyBox> filter(Predicate<? super PropertyBox> predicate) {
+			return stream.filter(predicate);
+		}
+
+		@Override
+		public <R> Stream<R> map(Function<? super PropertyBox, ? extends R> mapper) {
+			return stream.map(mapper);
+		}
+
+		@Override
+		public IntStream mapToInt(ToIntFunction<? super PropertyBox> mapper) {
+			return stream.mapToInt(mapper);
+		}
+
+		@Override
+		public LongStream mapToLong(ToLongFunction<? super PropertyBox> mapper) {
+			return stream.mapToLong(mapper);
+		}
+
+		@Override
+		public DoubleStream mapToDouble(ToDoubleFunction<? super PropertyBox> mapper) {
+			return stream.mapToDouble(mapper);
+		}
+
+		@Override
+		public <R> Stream<R> flatMap(Function<? super PropertyBox, ? extends Stream<? extends R>> mapper) {
+			return stream.flatMap(mapper);
+		}
+
+		@Override
+		public IntStream flatMapToInt(Function<? super PropertyBox, ? extends IntStream> mapper) {
+			return stream.flatMapToInt(mapper);
+		}
+
+		@Override
+		public LongStream flatMapToLong(Function<? super PropertyBox, ? extends LongStream> mapper) {
+			return stream.flatMapToLong(mapper);
+		}
+
+		@Override
+		public DoubleStream flatMapToDouble(Function<? super PropertyBox, ? extends DoubleStream> mapper) {
+			return stream.flatMapToDouble(mapper);
+		}
+
+		@Override
+		public Stream<PropertyBox> distinct() {
+			return stream.distinct();
+		}
+
+		@Override
+		public Stream<PropertyBox> sorted() {
+			return stream.sorted();
+		}
+
+		@Override
+		public Stream<PropertyBox> sorted(Comparator<? super PropertyBox> comparator) {
+			return stream.sorted(comparator);
+		}
+
+		@Override
+		public Stream<PropertyBox> peek(Consumer<? super PropertyBox> action) {
+			return stream.peek(action);
+		}
+
+		@Override
+		public Stream<PropertyBox> limit(long maxSize) {
+			return stream.limit(maxSize);
+		}
+
+		@Override
+		public Stream<PropertyBox> skip(long n) {
+			return stream.skip(n);
+		}
+
+		@Override
+		public Stream<PropertyBox> takeWhile(Predicate<? super PropertyBox> predicate) {
+			return stream.takeWhile(predicate);
+		}
+
+		@Override
+		public Stream<PropertyBox> dropWhile(Predicate<? super PropertyBox> predicate) {
+			return stream.dropWhile(predicate);
+		}
+
+		@Override
+		public void forEach(Consumer<? super PropertyBox> action) {
+			stream.forEach(action);
+		}
+
+		@Override
+		public void forEachOrdered(Consumer<? super PropertyBox> action) {
+			stream.forEachOrdered(action);
+		}
+
+		@Override
+		public Object[] toArray() {
+			return stream.toArray();
+		}
+
+		@Override
+		public <A> A[] toArray(IntFunction<A[]> generator) {
+			return stream.toArray(generator);
+		}
+
+		@Override
+		public PropertyBox reduce(PropertyBox identity, BinaryOperator<PropertyBox> accumulator) {
+			return stream.reduce(identity, accumulator);
+		}
+
+		@Override
+		public Optional<PropertyBox> reduce(BinaryOperator<PropertyBox> accumulator) {
+			return stream.reduce(accumulator);
+		}
+
+		@Override
+		public <U> U reduce(U identity, BiFunction<U, ? super PropertyBox, U> accumulator,
+				BinaryOperator<U> combiner) {
+			return stream.reduce(identity, accumulator, combiner);
+		}
+
+		@Override
+		public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super PropertyBox> accumulator,
+				BiConsumer<R, R> combiner) {
+			return stream.collect(supplier, accumulator, combiner);
+		}
+
+		@Override
+		public <R, A> R collect(Collector<? super PropertyBox, A, R> collector) {
+			return stream.collect(collector);
+		}
+
+		@Override
+		public Optional<PropertyBox> min(Comparator<? super PropertyBox> comparator) {
+			return stream.min(comparator);
+		}
+
+		@Override
+		public Optional<PropertyBox> max(Comparator<? super PropertyBox> comparator) {
+			return stream.max(comparator);
+		}
+
+		@Override
+		public long count() {
+			return stream.count();
+		}
+
+		@Override
+		public boolean anyMatch(Predicate<? super PropertyBox> predicate) {
+			return stream.anyMatch(predicate);
+		}
+
+		@Override
+		public boolean allMatch(Predicate<? super PropertyBox> predicate) {
+			return stream.allMatch(predicate);
+		}
+
+		@Override
+		public boolean noneMatch(Predicate<? super PropertyBox> predicate) {
+			return stream.noneMatch(predicate);
+		}
+
+		@Override
+		public Optional<PropertyBox> findFirst() {
+			return stream.findFirst();
+		}
+
+		@Override
+		public Optional<PropertyBox> findAny() {
+			return stream.findAny();
+		}
+
+	}
+
+}
@@ -19,6 +19,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.PUT;
@@ -28,6 +33,8 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
@@ -89,6 +96,52 @@ public class TestJerseyIntegration extends JerseyTest5 {
 			return Response.accepted().build();
 		}
 
+		@PUT
+		@Path("charset")
+		@Consumes(MediaType.APPLICATION_JSON)
+		@Produces(MediaType.TEXT_PLAIN)
+		public String charset(@PropertySetRef(value = TestJerseyIntegration.class, field = "SET") PropertyBox data) {
+			return String.valueOf(data.getValue(NUM));
+		}
+
+		@GET
+		@Path("list/{size}")
+		@Produces(MediaType.APPLICATION_JSON)
+		public List<PropertyBox> getList(@PathParam("size") int size) {
+			return IntStream.range(0, size).mapToObj(i -> PropertyBox.builder(SET).set(NUM, i).set(DBL, 7.5).build())
+					.collect(Collectors.toList());
+		}
+
+		@GET
+		@Path("stream/{size}")
+		@Produces(MediaType.APPLICATION_JSON)
+		public Stream<PropertyBox> getStream(@PathParam("size") int size) {
+			return IntStream.range(0, size).mapToObj(i -> PropertyBox.builder(SET).set(NUM, i).set(DBL, 7.5).build());
+		}
+
+		@PUT
+		@Path("sum")
+		@Consumes(MediaType.APPLICATION_JSON)
+		@Produces(MediaType.TEXT_PLAIN)
+		public String sum(@PropertySetRef(value = TestJerseyIntegration.class, field = "SET") Stream<PropertyBox> data) {
+			return String.valueOf(data.mapToInt(b -> b.getValue(NUM)).sum());
+		}
+
+		@PUT
+		@Path("count")
+		@Consumes(MediaType.APPLICATION_JSON)
+		@Produces(MediaType.TEXT_PLAIN)
+		public String count(
+				@PropertySetRef(value = TestJerseyIntegration.class, field = "SET") Iterable<PropertyBox> data) {
+			int count = 0;
+			for (PropertyBox box : data) {
+				if (box.getValue(NUM) != null) {
+					count++;
+				}
+			}
+			return String.valueOf(count);
+		}
+
 	}
 
 	@BeforeAll
@@ -138,4 +191,55 @@ public class TestJerseyIntegration extends JerseyTest5 {
 		}
 	}
 
+	@Test
+	public void testCharset() {
+		PropertyBox box = PropertyBox.builder(SET).set(NUM, 42).set(DBL, 7.5).build();
+
+		String num = target("/test/charset").request()
+				.put(Entity.entity(box, MediaType.APPLICATION_JSON_TYPE.withCharset("UTF-16")), String.class);
+		assertEquals("42", num);
+
+		num = target("/test/charset").request()
+				.put(Entity.entity(box, MediaType.APPLICATION_JSON_TYPE.withCharset("UTF-8")), String.class);
+		assertEquals("42", num);
+	}
+
+	@Test
+	public void testPropertyBoxCollections() {
+		List<PropertyBox> boxes = SET.execute(() -> target("/test/list/{size}").resolveTemplate("size", 1000)
+				.request().get(new GenericType<List<PropertyBox>>() {
+				}));
+		assertNotNull(boxes);
+		assertEquals(1000, boxes.size());
+		assertEquals(Integer.valueOf(999), boxes.get(999).getValue(NUM));
+		assertEquals("Str_999", boxes.get(999).getValue(STR1));
+
+		boxes = SET.execute(() -> target("/test/stream/{size}").resolveTemplate("size", 10).request()
+				.get(new GenericType<List<PropertyBox>>() {
+				}));
+		assertEquals(10, boxes.size());
+
+		String sum = target("/test/sum").request().put(
+				Entity.entity(new GenericEntity<List<PropertyBox>>(boxes) {
+				}, MediaType.APPLICATION_JSON), String.class);
+		assertEquals("45", sum);
+	}
+
+	@Test
+	public void testLargePropertyBoxCollections() {
+		// several hundred KB request body, larger than the parser and entity stream buffers
+		final List<PropertyBox> boxes = IntStream.range(0, 10000)
+				.mapToObj(i -> PropertyBox.builder(SET).set(NUM, i).set(DBL, 7.5).build()).collect(Collectors.toList());
+
+		String sum = target("/test/sum").request().put(
+				Entity.entity(new GenericEntity<List<PropertyBox>>(boxes) {
+				}, MediaType.APPLICATION_JSON), String.class);
+		assertEquals("49995000", sum);
+
+		String count = target("/test/count").request().put(
+				Entity.entity(new GenericEntity<List<PropertyBox>>(boxes) {
+				}, MediaType.APPLICATION_JSON), String.class);
+		assertEquals("10000", count);
+	}
+
 }
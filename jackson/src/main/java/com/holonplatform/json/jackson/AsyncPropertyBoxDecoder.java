@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.jackson.internal.DefaultAsyncPropertyBoxDecoder;
+
+/**
+ * Non-blocking {@link PropertyBox} JSON decoder, which can be fed with JSON data chunks as they become available and
+ * emits the {@link PropertyBox} instances as soon as they are completely parsed, without the need to aggregate the
+ * whole JSON data source first.
+ * <p>
+ * The JSON data can be a single JSON object, a sequence of root-level JSON objects (for example using the JSON Lines
+ * format) or a JSON array of objects: in the latter case, each array element is emitted as soon as it is parsed. JSON
+ * <code>null</code> values are skipped.
+ * </p>
+ * <p>
+ * The JSON data chunks must be UTF-8 encoded. A decoder instance is not thread-safe and it is meant to be used to
+ * decode a single JSON data source.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface AsyncPropertyBoxDecoder extends AutoCloseable {
+
+	/**
+	 * Feed the decoder with given JSON data chunk, providing the {@link PropertyBox} instances which are completely
+	 * parsed after the chunk has been processed to given <code>consumer</code>.
+	 * <p>
+	 * The chunk bytes from its current position to its limit are decoded and the chunk position is advanced to its
+	 * limit.
+	 * </p>
+	 * @param chunk The JSON data chunk (not null)
+	 * @param consumer The {@link PropertyBox} consumer (not null)
+	 * @throws JsonReadException If the JSON data is not valid or a {@link PropertyBox} cannot be deserialized
+	 */
+	void feed(ByteBuffer chunk, Consumer<? super PropertyBox> consumer);
+
+	/**
+	 * Signal the end of the JSON data source, providing any remaining {@link PropertyBox} instance to given
+	 * <code>consumer</code>. After this method is called, the decoder cannot be fed anymore.
+	 * @param consumer The {@link PropertyBox} consumer (not null)
+	 * @throws JsonReadException If the JSON data source is incomplete or not valid
+	 */
+	void complete(Consumer<? super PropertyBox> consumer);
+
+	/**
+	 * Feed the decoder with given JSON data chunk.
+	 * @param chunk The JSON data chunk (not null)
+	 * @return The {@link PropertyBox} instances completely parsed after the chunk has been processed, an empty List
+	 *         if none
+	 * @throws JsonReadException If the JSON data is not valid or a {@link PropertyBox} cannot be deserialized
+	 * @see #feed(ByteBuffer, Consumer)
+	 */
+	default List<PropertyBox> feed(ByteBuffer chunk) {
+		final List<PropertyBox> values = new ArrayList<>();
+		feed(chunk, values::add);
+		return values;
+	}
+
+	/**
+	 * Feed the decoder with given JSON data chunk.
+	 * @param chunk The JSON data chunk bytes (not null)
+	 * @return The {@link PropertyBox} instances completely parsed after the chunk has been processed, an empty List
+	 *         if none
+	 * @throws JsonReadException If the JSON data is not valid or a {@link PropertyBox} cannot be deserialized
+	 * @see #feed(ByteBuffer, Consumer)
+	 */
+	default List<PropertyBox> feed(byte[] chunk) {
+		return feed(ByteBuffer.wrap(chunk));
+	}
+
+	/**
+	 * Signal the end of the JSON data source.
+	 * @return Any remaining {@link PropertyBox} instance, an empty List if none
+	 * @throws JsonReadException If the JSON data source is incomplete or not valid
+	 * @see #complete(Consumer)
+	 */
+	default List<PropertyBox> complete() {
+		final List<PropertyBox> values = new ArrayList<>();
+		complete(values::add);
+		return values;
+	}
+
+	/**
+	 * Close the decoder, releasing any pending JSON data.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Create a new {@link AsyncPropertyBoxDecoder} using a default {@link ObjectMapper}.
+	 * @param propertySet The {@link PropertySet} to use to deserialize the {@link PropertyBox} values (not null)
+	 * @return A new {@link AsyncPropertyBoxDecoder}
+	 */
+	static AsyncPropertyBoxDecoder create(PropertySet<?> propertySet) {
+		return create(new ObjectMapper(), propertySet);
+	}
+
+	/**
+	 * Create a new {@link AsyncPropertyBoxDecoder} using given <code>objectMapper</code>.
+	 * <p>
+	 * The {@link ObjectMapper} is configured using {@link JacksonConfiguration#configure(ObjectMapper)}.
+	 * </p>
+	 * @param objectMapper The {@link ObjectMapper} to use (not null)
+	 * @param propertySet The {@link PropertySet} to use to deserialize the {@link PropertyBox} values (not null)
+	 * @return A new {@link AsyncPropertyBoxDecoder}
+	 */
+	static AsyncPropertyBoxDecoder create(ObjectMapper objectMapper, PropertySet<?> propertySet) {
+		return new DefaultAsyncPropertyBoxDecoder(JacksonConfiguration.configure(objectMapper), propertySet);
+	}
+
+}
@@ -32,7 +32,12 @@ public class ISO8601DateModule extends SimpleModule {
 
 	public ISO8601DateModule() {
 		super(ISO8601DateModule.class.getName(), new Version(5, 0, 0, null, null, null));
-		addSerializer(Date.class, new JacksonISO8601DateSerializer());
+		final JacksonISO8601DateSerializer serializer = new JacksonISO8601DateSerializer();
+		addSerializer(Date.class, serializer);
+		// register the SQL date types explicitly, to take precedence over the Jackson default serializers
+		addSerializer(java.sql.Date.class, serializer);
+		addSerializer(java.sql.Time.class, serializer);
+		addSerializer(java.sql.Timestamp.class, serializer);
 	}
 
 }
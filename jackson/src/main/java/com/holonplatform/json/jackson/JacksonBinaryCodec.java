@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.Json.JsonWriteException;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.jackson.internal.DefaultJacksonBinaryCodec;
+
+/**
+ * API to serialize and deserialize objects, including {@link PropertyBox} values, using a Jackson binary
+ * {@link JacksonDataFormat}, such as Smile or CBOR.
+ * <p>
+ * The {@link PropertyBox} serialization and deserialization strategy is the same of the {@link JacksonJson} API, but
+ * the data is always written to and read from bytes. For this reason, this API is not a {@link Json} API and does
+ * not provide the operations which rely on the textual JSON syntax, such as the JSON Lines and the reactive streams
+ * ones.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JacksonBinaryCodec {
+
+	/**
+	 * Get the data format used by this codec.
+	 * @return The data format
+	 */
+	JacksonDataFormat getDataFormat();
+
+	/**
+	 * Serialize given value.
+	 * @param value The value to serialize (may be null)
+	 * @return The serialized bytes
+	 * @throws JsonWriteException If a serialization error occurred
+	 */
+	byte[] toBytes(Object value);
+
+	/**
+	 * Serialize given value into given stream.
+	 * @param value The value to serialize (may be null)
+	 * @param stream The stream to write to (not null)
+	 * @throws JsonWriteException If a serialization error occurred
+	 */
+	void write(Object value, OutputStream stream);
+
+	/**
+	 * Serialize given values as an array into given stream, incrementally consuming the values iterator.
+	 * @param <T> Value type
+	 * @param type Value type (not null)
+	 * @param values The values to serialize (not null)
+	 * @param stream The stream to write to (not null)
+	 * @throws JsonWriteException If a serialization error occurred
+	 */
+	<T> void writeArray(Class<T> type, Iterator<? extends T> values, OutputStream stream);
+
+	/**
+	 * Deserialize a value of given type.
+	 * @param <T> Value type
+	 * @param stream The data source (not null)
+	 * @param type Value type (not null)
+	 * @return The deserialized value
+	 * @throws JsonReadException If a deserialization error occurred
+	 */
+	<T> T read(InputStream stream, Class<T> type);
+
+	/**
+	 * Deserialize a value of given type.
+	 * @param <T> Value type
+	 * @param bytes The data source (not null)
+	 * @param type Value type (not null)
+	 * @return The deserialized value
+	 * @throws JsonReadException If a deserialization error occurred
+	 */
+	default <T> T read(byte[] bytes, Class<T> type) {
+		ObjectUtils.argumentNotNull(bytes, "Bytes must be not null");
+		return read(new ByteArrayInputStream(bytes), type);
+	}
+
+	/**
+	 * Deserialize a {@link PropertyBox} using given <code>propertySet</code>.
+	 * @param <P> Property type
+	 * @param stream The data source (not null)
+	 * @param propertySet The property set to use (not null)
+	 * @return The deserialized {@link PropertyBox}
+	 * @throws JsonReadException If a deserialization error occurred
+	 */
+	@SuppressWarnings("rawtypes")
+	<P extends Property> PropertyBox read(InputStream stream, Iterable<P> propertySet);
+
+	/**
+	 * Deserialize a {@link PropertyBox} using given <code>propertySet</code>.
+	 * @param <P> Property type
+	 * @param bytes The data source (not null)
+	 * @param propertySet The property set to use (not null)
+	 * @return The deserialized {@link PropertyBox}
+	 * @throws JsonReadException If a deserialization error occurred
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> PropertyBox read(byte[] bytes, Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(bytes, "Bytes must be not null");
+		return read(new ByteArrayInputStream(bytes), propertySet);
+	}
+
+	/**
+	 * Deserialize an array of values of given type.
+	 * @param <T> Value type
+	 * @param stream The data source (not null)
+	 * @param type Value type (not null)
+	 * @return The deserialized values
+	 * @throws JsonReadException If a deserialization error occurred
+	 */
+	<T> List<T> readArray(InputStream stream, Class<T> type);
+
+	/**
+	 * Deserialize an array of {@link PropertyBox} values using given <code>propertySet</code>.
+	 * @param <P> Property type
+	 * @param stream The data source (not null)
+	 * @param propertySet The property set to use (not null)
+	 * @return The deserialized {@link PropertyBox} values
+	 * @throws JsonReadException If a deserialization error occurred
+	 */
+	@SuppressWarnings("rawtypes")
+	<P extends Property> List<PropertyBox> readArray(InputStream stream, Iterable<P> propertySet);
+
+	/**
+	 * Lazily deserialize an array of values of given type. The returned {@link JsonIterator} should be closed to
+	 * release the data source.
+	 * @param <T> Value type
+	 * @param stream The data source (not null)
+	 * @param type Value type (not null)
+	 * @return A {@link JsonIterator} of the deserialized values
+	 * @throws JsonReadException If a deserialization error occurred
+	 */
+	<T> JsonIterator<T> iterateArray(InputStream stream, Class<T> type);
+
+	/**
+	 * Lazily deserialize an array of {@link PropertyBox} values using given <code>propertySet</code>. The returned
+	 * {@link JsonIterator} should be closed to release the data source.
+	 * @param <P> Property type
+	 * @param stream The data source (not null)
+	 * @param propertySet The property set to use (not null)
+	 * @return A {@link JsonIterator} of the deserialized {@link PropertyBox} values
+	 * @throws JsonReadException If a deserialization error occurred
+	 */
+	@SuppressWarnings("rawtypes")
+	<P extends Property> JsonIterator<PropertyBox> iterateArray(InputStream stream, Iterable<P> propertySet);
+
+	/**
+	 * Create a new {@link JacksonBinaryCodec} for given data format, using a default {@link JacksonConfiguration}
+	 * configured {@link com.fasterxml.jackson.databind.ObjectMapper}.
+	 * @param dataFormat The data format (not null)
+	 * @return A new {@link JacksonBinaryCodec}
+	 * @throws IllegalStateException If the data format is not available
+	 */
+	public static JacksonBinaryCodec create(JacksonDataFormat dataFormat) {
+		return new DefaultJacksonBinaryCodec(dataFormat, JacksonConfiguration.mapper(dataFormat));
+	}
+
+}
@@ -45,6 +45,20 @@ public interface JacksonConfiguration {
 		return configure(new ObjectMapper());
 	}
 
+	/**
+	 * Create and configure a new Jackson {@link ObjectMapper} for given data format. The returned {@link ObjectMapper}
+	 * is configured in the same way of the {@link #mapper()} one, so the {@link PropertyBox} type serialization and
+	 * deserialization strategy is the same for any data format.
+	 * @param dataFormat The data format (not null)
+	 * @return A new configured {@link ObjectMapper}
+	 * @throws IllegalStateException If the data format is not available
+	 * @since 6.0.3
+	 */
+	public static ObjectMapper mapper(JacksonDataFormat dataFormat) {
+		ObjectUtils.argumentNotNull(dataFormat, "Data format must be not null");
+		return configure(dataFormat.createObjectMapper());
+	}
+
 	/**
 	 * Configures given Jackson {@link ObjectMapper} in the following way:
 	 * <ul>
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holonplatform.core.internal.utils.ClassUtils;
+import com.holonplatform.json.jackson.internal.JacksonDataFormats;
+
+/**
+ * Data formats supported by the Jackson {@link ObjectMapper}s created through the {@link JacksonConfiguration} API.
+ * <p>
+ * The {@link JacksonJson} API uses the textual JSON format, while the binary formats are supported by the
+ * {@link JacksonBinaryCodec} API.
+ * </p>
+ * <p>
+ * The binary formats use the same {@link com.holonplatform.core.property.PropertyBox} serialization and
+ * deserialization strategy of the JSON format, and require the corresponding Jackson data format artifact
+ * (<code>jackson-dataformat-smile</code> or <code>jackson-dataformat-cbor</code>) to be available in classpath.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public enum JacksonDataFormat {
+
+	/**
+	 * Textual JSON format.
+	 */
+	JSON("JSON", "application/json", "com.fasterxml.jackson.core.JsonFactory"),
+
+	/**
+	 * Binary <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> format.
+	 */
+	SMILE("Smile", "application/x-jackson-smile", "com.fasterxml.jackson.dataformat.smile.SmileFactory"),
+
+	/**
+	 * Binary <a href="https://cbor.io">CBOR</a> format.
+	 */
+	CBOR("CBOR", "application/cbor", "com.fasterxml.jackson.dataformat.cbor.CBORFactory");
+
+	private final String formatName;
+
+	private final String mediaType;
+
+	private final String factoryClassName;
+
+	private JacksonDataFormat(String formatName, String mediaType, String factoryClassName) {
+		this.formatName = formatName;
+		this.mediaType = mediaType;
+		this.factoryClassName = factoryClassName;
+	}
+
+	/**
+	 * Get the Jackson data format name, as returned by the
+	 * {@link com.fasterxml.jackson.core.JsonFactory#getFormatName()} method of the data format factory.
+	 * @return The data format name
+	 */
+	public String getFormatName() {
+		return formatName;
+	}
+
+	/**
+	 * Get the data format media type.
+	 * @return The media type
+	 */
+	public String getMediaType() {
+		return mediaType;
+	}
+
+	/**
+	 * Get whether this data format is textual.
+	 * @return <code>true</code> for the JSON format, <code>false</code> for the binary formats
+	 */
+	public boolean isTextual() {
+		return this == JSON;
+	}
+
+	/**
+	 * Checks whether this data format is available, i.e. the corresponding Jackson data format artifact is present in
+	 * classpath.
+	 * @return <code>true</code> if available
+	 */
+	public boolean isAvailable() {
+		return ClassUtils.isPresent(factoryClassName, JacksonDataFormat.class.getClassLoader());
+	}
+
+	/**
+	 * Create a new, not configured, {@link ObjectMapper} for this data format.
+	 * @return A new {@link ObjectMapper}
+	 * @throws IllegalStateException If the data format is not available
+	 */
+	public ObjectMapper createObjectMapper() {
+		if (!isAvailable()) {
+			throw new IllegalStateException("The Jackson data format [" + name()
+					+ "] is not available: the data format factory class [" + factoryClassName
+					+ "] is not present in classpath");
+		}
+		switch (this) {
+		case SMILE:
+			return JacksonDataFormats.createSmileMapper();
+		case CBOR:
+			return JacksonDataFormats.createCborMapper();
+		case JSON:
+		default:
+			return new ObjectMapper();
+		}
+	}
+
+}
@@ -16,17 +16,21 @@
 package com.holonplatform.json.jackson;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holonplatform.json.ColumnarJson;
 import com.holonplatform.json.Json;
 import com.holonplatform.json.jackson.internal.DefaultJacksonJson;
 
 /**
  * {@link Json} implementation using Jackson {@link ObjectMapper}.
+ * <p>
+ * The columnar format is supported, see {@link ColumnarJson}.
+ * </p>
  *
  * @since 5.1.0
  * 
  * @see Json
  */
-public interface JacksonJson extends Json {
+public interface JacksonJson extends ColumnarJson {
 
 	/**
 	 * Create a new {@link Json} instance using a default {@link ObjectMapper}.
@@ -31,13 +31,8 @@ import com.holonplatform.json.jackson.internal.JacksonPropertyBoxSerializer;
  */
 public class PropertyBoxModule extends Module {
 
-	private final SimpleSerializers serializers = new SimpleSerializers();
-	private final SimpleDeserializers deserializers = new SimpleDeserializers();
-
 	public PropertyBoxModule() {
 		super();
-		serializers.addSerializer(PropertyBox.class, new JacksonPropertyBoxSerializer());
-		deserializers.addDeserializer(PropertyBox.class, new JacksonPropertyBoxDeserializer());
 	}
 
 	/*
@@ -68,6 +63,11 @@ public class PropertyBoxModule extends Module {
 	 */
 	@Override
 	public void setupModule(SetupContext context) {
+		// serializers hold the PropertySet serialization plans, so they are not shared among mappers
+		final SimpleSerializers serializers = new SimpleSerializers();
+		serializers.addSerializer(PropertyBox.class, new JacksonPropertyBoxSerializer());
+		final SimpleDeserializers deserializers = new SimpleDeserializers();
+		deserializers.addDeserializer(PropertyBox.class, new JacksonPropertyBoxDeserializer());
 		context.addSerializers(serializers);
 		context.addDeserializers(deserializers);
 	}
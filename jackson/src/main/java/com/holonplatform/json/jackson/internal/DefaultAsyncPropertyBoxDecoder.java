@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.jackson.AsyncPropertyBoxDecoder;
+
+/**
+ * Default {@link AsyncPropertyBoxDecoder} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultAsyncPropertyBoxDecoder extends JacksonAsyncJsonDecoder<PropertyBox>
+		implements AsyncPropertyBoxDecoder {
+
+	/**
+	 * Constructor.
+	 * @param mapper Jackson {@link ObjectMapper} (not null)
+	 * @param propertySet The {@link PropertySet} to use to deserialize the {@link PropertyBox} values (not null)
+	 */
+	public DefaultAsyncPropertyBoxDecoder(ObjectMapper mapper, PropertySet<?> propertySet) {
+		super(mapper, PropertyBox.class, checkPropertySet(propertySet));
+	}
+
+	private static PropertySet<?> checkPropertySet(PropertySet<?> propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		return propertySet;
+	}
+
+}
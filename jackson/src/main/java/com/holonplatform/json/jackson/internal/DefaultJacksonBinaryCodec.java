@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.JsonReader;
+import com.holonplatform.json.jackson.JacksonBinaryCodec;
+import com.holonplatform.json.jackson.JacksonDataFormat;
+
+/**
+ * Default {@link JacksonBinaryCodec} implementation.
+ * <p>
+ * The serialization and deserialization operations are performed by a {@link DefaultJacksonJson} which uses the data
+ * format {@link ObjectMapper}, always writing to and reading from bytes.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class DefaultJacksonBinaryCodec implements JacksonBinaryCodec {
+
+	private final JacksonDataFormat dataFormat;
+
+	private final DefaultJacksonJson json;
+
+	private static final String MESSAGE_STREAM_NOT_NULL = "Stream must be not null";
+
+	/**
+	 * Constructor
+	 * @param dataFormat The data format (not null)
+	 * @param mapper The {@link ObjectMapper} to use, which must use the same data format (not null)
+	 */
+	public DefaultJacksonBinaryCodec(JacksonDataFormat dataFormat, ObjectMapper mapper) {
+		super();
+		ObjectUtils.argumentNotNull(dataFormat, "Data format must be not null");
+		ObjectUtils.argumentNotNull(mapper, "ObjectMapper must be not null");
+		if (!dataFormat.getFormatName().equals(mapper.getFactory().getFormatName())) {
+			throw new IllegalArgumentException("The ObjectMapper data format [" + mapper.getFactory().getFormatName()
+					+ "] does not match the [" + dataFormat.getFormatName() + "] data format");
+		}
+		this.dataFormat = dataFormat;
+		this.json = new DefaultJacksonJson(mapper);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#getDataFormat()
+	 */
+	@Override
+	public JacksonDataFormat getDataFormat() {
+		return dataFormat;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#toBytes(java.lang.Object)
+	 */
+	@Override
+	public byte[] toBytes(Object value) {
+		return json.toJson(value).asBytes();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#write(java.lang.Object, java.io.OutputStream)
+	 */
+	@Override
+	public void write(Object value, OutputStream stream) {
+		ObjectUtils.argumentNotNull(stream, MESSAGE_STREAM_NOT_NULL);
+		json.toJson(value).write(stream);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#writeArray(java.lang.Class, java.util.Iterator,
+	 * java.io.OutputStream)
+	 */
+	@Override
+	public <T> void writeArray(Class<T> type, Iterator<? extends T> values, OutputStream stream) {
+		ObjectUtils.argumentNotNull(stream, MESSAGE_STREAM_NOT_NULL);
+		json.toJsonArray(type, values).write(stream);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#read(java.io.InputStream, java.lang.Class)
+	 */
+	@Override
+	public <T> T read(InputStream stream, Class<T> type) {
+		return json.fromJson(reader(stream), type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#read(java.io.InputStream, java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> PropertyBox read(InputStream stream, Iterable<P> propertySet) {
+		return json.fromJson(reader(stream), propertySet);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#readArray(java.io.InputStream, java.lang.Class)
+	 */
+	@Override
+	public <T> List<T> readArray(InputStream stream, Class<T> type) {
+		return json.fromJsonArray(reader(stream), type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#readArray(java.io.InputStream, java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> List<PropertyBox> readArray(InputStream stream, Iterable<P> propertySet) {
+		return json.fromJsonArray(reader(stream), propertySet);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#iterateArray(java.io.InputStream, java.lang.Class)
+	 */
+	@Override
+	public <T> JsonIterator<T> iterateArray(InputStream stream, Class<T> type) {
+		return json.iterateJsonArray(reader(stream), type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.jackson.JacksonBinaryCodec#iterateArray(java.io.InputStream, java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> JsonIterator<PropertyBox> iterateArray(InputStream stream, Iterable<P> propertySet) {
+		return json.iterateJsonArray(reader(stream), propertySet);
+	}
+
+	/**
+	 * Wrap given stream into a byte based {@link JsonReader}, which is parsed by the data format parser without
+	 * decoding the bytes into characters.
+	 * @param stream The data source (not null)
+	 * @return The {@link JsonReader}
+	 */
+	private static JsonReader reader(InputStream stream) {
+		ObjectUtils.argumentNotNull(stream, MESSAGE_STREAM_NOT_NULL);
+		return JsonReader.from(stream);
+	}
+
+}
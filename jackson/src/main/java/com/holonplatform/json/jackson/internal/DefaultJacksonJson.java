@@ -15,16 +15,21 @@
  */
 package com.holonplatform.json.jackson.internal;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Flow;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.JsonIterator;
 import com.holonplatform.json.JsonReader;
 import com.holonplatform.json.JsonWriter;
+import com.holonplatform.json.internal.JsonFlowPublisher;
 import com.holonplatform.json.jackson.JacksonJson;
 
 /**
@@ -69,6 +74,38 @@ public class DefaultJacksonJson implements JacksonJson {
 		return new JacksonJsonWriter(mapper, values);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.json.Json#toJsonArray(java.lang.Class,
+	 * java.util.Iterator)
+	 */
+	@Override
+	public <T> JsonWriter toJsonArray(Class<T> type, Iterator<? extends T> values) {
+		return new JacksonJsonArrayWriter<>(mapper, type, values);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.json.Json#toJsonLines(java.lang.Class,
+	 * java.util.Iterator)
+	 */
+	@Override
+	public <T> JsonWriter toJsonLines(Class<T> type, Iterator<? extends T> values) {
+		return new JacksonJsonLinesWriter<>(mapper, type, values);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.json.ColumnarJson#toJsonColumnarArray(java.util.Iterator)
+	 */
+	@Override
+	public JsonWriter toJsonColumnarArray(Iterator<? extends PropertyBox> values) {
+		return new JacksonJsonColumnarArrayWriter(mapper, values);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -80,7 +117,7 @@ public class DefaultJacksonJson implements JacksonJson {
 		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
 		ObjectUtils.argumentNotNull(type, "Type must be not null");
 		try {
-			return mapper.reader().forType(type).readValue(reader.getReader());
+			return JacksonJsonSources.readValue(mapper.reader().forType(type), reader);
 		} catch (Exception e) {
 			throw new JsonReadException("Failed to deserialize JSON for type [" + type + "]", e);
 		}
@@ -99,8 +136,8 @@ public class DefaultJacksonJson implements JacksonJson {
 		ObjectUtils.argumentNotNull(type, "Type must be not null");
 		try {
 
-			return mapper.reader().forType(mapper.getTypeFactory().constructCollectionType(List.class, type))
-					.readValue(reader.getReader());
+			return JacksonJsonSources.readValue(
+					mapper.reader().forType(mapper.getTypeFactory().constructCollectionType(List.class, type)), reader);
 		} catch (Exception e) {
 			throw new JsonReadException("Failed to deserialize JSON for type [" + type + "]", e);
 		}
@@ -118,9 +155,7 @@ public class DefaultJacksonJson implements JacksonJson {
 		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
 		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
 
-		final PropertySet<?> ps = (PropertySet.class.isAssignableFrom(propertySet.getClass()))
-				? (PropertySet<?>) propertySet
-				: PropertySet.of(propertySet);
+		final PropertySet<?> ps = asPropertySet(propertySet);
 
 		return ps.execute(() -> fromJson(reader, PropertyBox.class));
 	}
@@ -138,11 +173,183 @@ public class DefaultJacksonJson implements JacksonJson {
 		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
 		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
 
-		final PropertySet<?> ps = (PropertySet.class.isAssignableFrom(propertySet.getClass()))
-				? (PropertySet<?>) propertySet
-				: PropertySet.of(propertySet);
+		final PropertySet<?> ps = asPropertySet(propertySet);
 
 		return ps.execute(() -> fromJsonArray(reader, PropertyBox.class));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#iterateJsonArray(com.holonplatform.json.JsonReader,
+	 * java.lang.Class)
+	 */
+	@Override
+	public <T> JsonIterator<T> iterateJsonArray(JsonReader reader, Class<T> type) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(type, "Type must be not null");
+		return iterateJsonArray(reader, type, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#iterateJsonArray(com.holonplatform.json.JsonReader,
+	 * java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> JsonIterator<PropertyBox> iterateJsonArray(JsonReader reader,
+			Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+
+		final PropertySet<?> ps = asPropertySet(propertySet);
+
+		return iterateJsonArray(reader, PropertyBox.class, ps);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#iterateJsonLines(com.holonplatform.json.JsonReader,
+	 * java.lang.Class)
+	 */
+	@Override
+	public <T> JsonIterator<T> iterateJsonLines(JsonReader reader, Class<T> type) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(type, "Type must be not null");
+		return iterateJsonLines(reader, type, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#iterateJsonLines(com.holonplatform.json.JsonReader,
+	 * java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> JsonIterator<PropertyBox> iterateJsonLines(JsonReader reader,
+			Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+
+		final PropertySet<?> ps = asPropertySet(propertySet);
+
+		return iterateJsonLines(reader, PropertyBox.class, ps);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.ColumnarJson#iterateJsonColumnarArray(com.holonplatform.json.JsonReader,
+	 * java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> JsonIterator<PropertyBox> iterateJsonColumnarArray(JsonReader reader,
+			Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(reader, MESSAGE_JSON_READER_NOT_NULL);
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+
+		final PropertySet<?> ps = asPropertySet(propertySet);
+
+		try {
+			return new JacksonJsonColumnarArrayIterator(mapper, reader, ps);
+		} catch (JsonReadException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonReadException("Failed to deserialize JSON columnar array", e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#fromJsonArrayPublisher(java.util.concurrent.Flow.Publisher,
+	 * java.lang.Class)
+	 */
+	@Override
+	public <T> Flow.Publisher<T> fromJsonArrayPublisher(Flow.Publisher<ByteBuffer> source, Class<T> type) {
+		ObjectUtils.argumentNotNull(source, "Source publisher must be not null");
+		ObjectUtils.argumentNotNull(type, "Type must be not null");
+		return new JsonFlowPublisher<ByteBuffer, T>(source, () -> new JacksonAsyncJsonDecoder<>(mapper, type, null), 1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.json.Json#fromJsonArrayPublisher(java.util.concurrent.Flow.Publisher,
+	 * java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> Flow.Publisher<PropertyBox> fromJsonArrayPublisher(Flow.Publisher<ByteBuffer> source,
+			Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(source, "Source publisher must be not null");
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+
+		final PropertySet<?> ps = asPropertySet(propertySet);
+
+		return new JsonFlowPublisher<ByteBuffer, PropertyBox>(source,
+				() -> new JacksonAsyncJsonDecoder<>(mapper, PropertyBox.class, ps), 1);
+	}
+
+	/**
+	 * Build a {@link JsonIterator} to lazily deserialize the elements of a JSON array.
+	 * @param <T> Value type
+	 * @param reader JSON data source
+	 * @param type Value type
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values, <code>null</code> if
+	 *        none
+	 * @return A new {@link JsonIterator}
+	 */
+	private <T> JsonIterator<T> iterateJsonArray(JsonReader reader, Class<T> type, PropertySet<?> propertySet) {
+		try {
+			return new JacksonJsonArrayIterator<>(mapper, reader, type, propertySet);
+		} catch (JsonReadException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonReadException("Failed to deserialize JSON array for type [" + type + "]", e);
+		}
+	}
+
+	/**
+	 * Build a {@link JsonIterator} to lazily deserialize JSON Lines.
+	 * @param <T> Value type
+	 * @param reader JSON data source
+	 * @param type Value type
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values, <code>null</code> if
+	 *        none
+	 * @return A new {@link JsonIterator}
+	 */
+	private <T> JsonIterator<T> iterateJsonLines(JsonReader reader, Class<T> type, PropertySet<?> propertySet) {
+		try {
+			return new JacksonJsonLinesIterator<>(mapper, reader, type, propertySet);
+		} catch (JsonReadException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonReadException("Failed to deserialize JSON Lines for type [" + type + "]", e);
+		}
+	}
+
+	/**
+	 * Get given property set as a {@link PropertySet}, creating a new one if it is not a {@link PropertySet}.
+	 * @param <P> Property type
+	 * @param propertySet The property set
+	 * @return The {@link PropertySet}
+	 */
+	@SuppressWarnings("rawtypes")
+	private static <P extends Property> PropertySet<?> asPropertySet(Iterable<P> propertySet) {
+		return (propertySet instanceof PropertySet) ? (PropertySet<?>) propertySet : PropertySet.of(propertySet);
+	}
+
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.internal.JsonFlowTransformer;
+
+/**
+ * Non-blocking JSON decoder, using the Jackson non-blocking {@link ByteBufferFeeder} parser.
+ * <p>
+ * The tokens of each root-level value (or root-level array element) are collected into a {@link TokenBuffer} until the
+ * value is complete, then the value is deserialized from the buffered tokens, within the {@link PropertySet} context if
+ * a {@link PropertySet} is provided. JSON <code>null</code> values are skipped.
+ * </p>
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class JacksonAsyncJsonDecoder<T> implements JsonFlowTransformer<ByteBuffer, T> {
+
+	private final ObjectMapper mapper;
+
+	private final Class<T> type;
+
+	private final ObjectReader reader;
+
+	private final PropertySet<?> propertySet;
+
+	private final JsonParser parser;
+
+	private final ByteBufferFeeder feeder;
+
+	/**
+	 * Current value tokens, <code>null</code> if no value is in progress
+	 */
+	private TokenBuffer tokens;
+
+	/**
+	 * Current value structure depth
+	 */
+	private int depth = 0;
+
+	/**
+	 * Whether a root-level JSON array is open
+	 */
+	private boolean array = false;
+
+	private boolean completed = false;
+
+	private boolean closed = false;
+
+	/**
+	 * Constructor.
+	 * @param mapper Jackson {@link ObjectMapper} (not null)
+	 * @param type Value type (not null)
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values, <code>null</code> if
+	 *        none
+	 */
+	public JacksonAsyncJsonDecoder(ObjectMapper mapper, Class<T> type, PropertySet<?> propertySet) {
+		super();
+		ObjectUtils.argumentNotNull(mapper, "ObjectMapper must be not null");
+		ObjectUtils.argumentNotNull(type, "Type must be not null");
+		this.mapper = mapper;
+		this.type = type;
+		this.reader = mapper.readerFor(type);
+		this.propertySet = propertySet;
+		try {
+			this.parser = mapper.getFactory().createNonBlockingByteBufferParser();
+		} catch (IOException e) {
+			throw new JsonReadException("Failed to create the non-blocking JSON parser", e);
+		}
+		this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.JsonFlowTransformer#feed(java.lang.Object,
+	 * java.util.function.Consumer)
+	 */
+	@Override
+	public void feed(ByteBuffer chunk, Consumer<? super T> consumer) {
+		ObjectUtils.argumentNotNull(chunk, "JSON data chunk must be not null");
+		ObjectUtils.argumentNotNull(consumer, "Consumer must be not null");
+		checkState();
+		if (!chunk.hasRemaining()) {
+			return;
+		}
+		try {
+			feeder.feedInput(chunk);
+			// the non-blocking parser consumes the whole input before asking for more
+			parse(consumer);
+		} catch (IOException e) {
+			close();
+			throw new JsonReadException("Failed to parse the JSON data", e);
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+		chunk.position(chunk.limit());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.JsonFlowTransformer#complete(java.util.function.Consumer)
+	 */
+	@Override
+	public void complete(Consumer<? super T> consumer) {
+		ObjectUtils.argumentNotNull(consumer, "Consumer must be not null");
+		checkState();
+		completed = true;
+		try {
+			feeder.endOfInput();
+			parse(consumer);
+			if (tokens != null || array) {
+				throw new JsonReadException("Failed to parse the JSON data: unexpected end of input");
+			}
+		} catch (IOException e) {
+			throw new JsonReadException("Failed to parse the JSON data", e);
+		} finally {
+			close();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.JsonFlowTransformer#close()
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			tokens = null;
+			try {
+				parser.close();
+			} catch (IOException e) {
+				throw new JsonReadException("Failed to close the JSON parser", e);
+			}
+		}
+	}
+
+	/**
+	 * Check the decoder can be fed.
+	 * @throws IllegalStateException If the decoder was completed or closed
+	 */
+	private void checkState() {
+		if (completed || closed) {
+			throw new IllegalStateException("The decoder was already completed or closed");
+		}
+	}
+
+	/**
+	 * Process the tokens available from the parser input.
+	 * @param consumer The values consumer
+	 * @throws IOException If a parsing error occurred
+	 */
+	private void parse(Consumer<? super T> consumer) throws IOException {
+		JsonToken token;
+		while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+			if (tokens == null) {
+				if (!array && token == JsonToken.START_ARRAY) {
+					array = true;
+					continue;
+				}
+				if (array && token == JsonToken.END_ARRAY) {
+					array = false;
+					continue;
+				}
+				tokens = new TokenBuffer(parser);
+			}
+			tokens.copyCurrentEvent(parser);
+			if (token.isStructStart()) {
+				depth++;
+			} else if (token.isStructEnd()) {
+				depth--;
+			}
+			if (depth == 0) {
+				final TokenBuffer value = tokens;
+				tokens = null;
+				final T decoded = decode(value);
+				if (decoded != null) {
+					consumer.accept(decoded);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Deserialize a value from given value tokens.
+	 * @param value The value tokens
+	 * @return The deserialized value, <code>null</code> for a JSON <code>null</code> value
+	 */
+	private T decode(TokenBuffer value) {
+		try {
+			if (propertySet == null) {
+				return read(value);
+			}
+			return propertySet.execute(() -> read(value));
+		} catch (IOException e) {
+			throw new JsonReadException("Failed to deserialize JSON for type [" + type + "]", e);
+		} catch (RuntimeException e) {
+			// the context execution wraps any callable exception
+			throw new JsonReadException("Failed to deserialize JSON for type [" + type + "]",
+					(e.getCause() != null) ? e.getCause() : e);
+		}
+	}
+
+	/**
+	 * Read a value from given value tokens.
+	 * @param value The value tokens
+	 * @return The value
+	 * @throws IOException If an error occurred
+	 */
+	private T read(TokenBuffer value) throws IOException {
+		try (JsonParser valueParser = value.asParser(mapper)) {
+			return reader.readValue(valueParser);
+		}
+	}
+
+}
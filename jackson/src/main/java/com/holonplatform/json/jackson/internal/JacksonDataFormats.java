@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.holonplatform.json.jackson.JacksonDataFormat;
+
+/**
+ * Jackson binary data format {@link ObjectMapper}s factory.
+ * <p>
+ * Each optional data format class is referenced only by a dedicated nested class, which is loaded only when the
+ * corresponding binary {@link JacksonDataFormat} is used. This way, a data format can be used even if the other one
+ * is not available in classpath.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class JacksonDataFormats {
+
+	private JacksonDataFormats() {
+	}
+
+	/**
+	 * Create a new Smile {@link ObjectMapper}.
+	 * @return A new Smile {@link ObjectMapper}
+	 */
+	public static ObjectMapper createSmileMapper() {
+		return Smile.createMapper();
+	}
+
+	/**
+	 * Create a new CBOR {@link ObjectMapper}.
+	 * @return A new CBOR {@link ObjectMapper}
+	 */
+	public static ObjectMapper createCborMapper() {
+		return Cbor.createMapper();
+	}
+
+	private static final class Smile {
+
+		static ObjectMapper createMapper() {
+			return new SmileMapper();
+		}
+
+	}
+
+	private static final class Cbor {
+
+		static ObjectMapper createMapper() {
+			return new CBORMapper();
+		}
+
+	}
+
+}
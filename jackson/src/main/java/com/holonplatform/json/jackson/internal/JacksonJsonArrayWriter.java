@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.JsonWriter;
+import com.holonplatform.json.internal.AbstractJsonValuesWriter;
+import com.holonplatform.json.internal.Writers;
+
+/**
+ * Jackson {@link JsonWriter} implementation to incrementally serialize an {@link Iterator} of values as a JSON array,
+ * using a {@link SequenceWriter}.
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class JacksonJsonArrayWriter<T> extends AbstractJsonValuesWriter<T> {
+
+	private final ObjectWriter writer;
+
+	/**
+	 * Constructor.
+	 * @param mapper Jackson {@link ObjectMapper} (not null)
+	 * @param type Value type (not null)
+	 * @param values The values to serialize (not null)
+	 */
+	public JacksonJsonArrayWriter(ObjectMapper mapper, Class<T> type, Iterator<? extends T> values) {
+		super(type, values);
+		ObjectUtils.argumentNotNull(mapper, "ObjectMapper must be not null");
+		// flush periodically rather than after each element
+		this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.Writer, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(Writer writer, Iterator<? extends T> values) throws Exception {
+		try (SequenceWriter sequence = this.writer.writeValuesAsArray(writer)) {
+			writeValues(sequence, values);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.OutputStream,
+	 * java.nio.charset.Charset, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(OutputStream stream, Charset charset, Iterator<? extends T> values) throws Exception {
+		if (StandardCharsets.UTF_8.equals(charset)) {
+			// use the Jackson UTF-8 encoder
+			try (SequenceWriter sequence = this.writer.writeValuesAsArray(stream)) {
+				writeValues(sequence, values);
+			}
+		} else {
+			serialize(Writers.buffered(stream, charset), values);
+		}
+	}
+
+	/**
+	 * Write the values using given sequence writer.
+	 * @param sequence The sequence writer
+	 * @param values The values to write
+	 * @throws Exception If an error occurred
+	 */
+	private void writeValues(SequenceWriter sequence, Iterator<? extends T> values) throws Exception {
+		int count = 0;
+		while (values.hasNext()) {
+			sequence.write(values.next());
+			if (isFlushRequired(++count)) {
+				sequence.flush();
+			}
+		}
+	}
+
+}
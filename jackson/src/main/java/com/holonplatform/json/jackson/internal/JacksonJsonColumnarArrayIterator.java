@@ -0,0 +1,207 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.JsonReader;
+import com.holonplatform.json.config.JsonColumnarFormat;
+import com.holonplatform.json.internal.AbstractJsonIterator;
+import com.holonplatform.json.internal.model.PropertySetColumns;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Position;
+
+/**
+ * Jackson {@link JsonIterator} implementation to lazily deserialize the rows of a {@link JsonColumnarFormat} JSON
+ * document as {@link PropertyBox} values.
+ * <p>
+ * The document columns are bound to the {@link PropertySet} properties only once, when the rows array is reached, and
+ * each row is then decoded by position. A JSON <code>null</code> row is decoded as a <code>null</code> value.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class JacksonJsonColumnarArrayIterator extends AbstractJsonIterator<PropertyBox> {
+
+	private final JsonParser parser;
+
+	private final DeserializationContext context;
+
+	private final PropertySet<?> propertySet;
+
+	private final Position layout;
+
+	private final JacksonPropertyBoxDeserializationPlan plan;
+
+	/**
+	 * Current row token, <code>null</code> if not read yet
+	 */
+	private JsonToken row;
+
+	private boolean completed;
+
+	/**
+	 * Constructor.
+	 * @param mapper Jackson {@link ObjectMapper} (not null)
+	 * @param reader JSON data source (not null)
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values (not null)
+	 * @throws IOException If the JSON data source cannot be read
+	 * @throws JsonReadException If the JSON data source is not a columnar JSON document
+	 */
+	public JacksonJsonColumnarArrayIterator(ObjectMapper mapper, JsonReader reader, PropertySet<?> propertySet)
+			throws IOException {
+		super(PropertyBox.class, propertySet);
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		this.propertySet = propertySet;
+		this.parser = JacksonJsonSources.createParser(mapper.getFactory(), reader);
+		try {
+			this.context = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+					.createInstance(mapper.getDeserializationConfig(), parser, mapper.getInjectableValues());
+			this.layout = readLayout();
+			this.completed = (layout == null);
+			this.plan = createPlan(propertySet);
+		} catch (IOException | RuntimeException e) {
+			parser.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Read the document up to the rows array, binding the columns to the PropertySet properties.
+	 * @return The rows positional layout, <code>null</code> if the document has no rows
+	 * @throws IOException If a parsing error occurred
+	 */
+	private Position readLayout() throws IOException {
+		final JsonToken token = parser.nextToken();
+		if (token != JsonToken.START_OBJECT) {
+			throw new JsonReadException("Failed to deserialize JSON columnar array: the JSON data source [" + token
+					+ "] must be a JSON object");
+		}
+		List<String> columns = null;
+		String name;
+		while ((name = parser.nextFieldName()) != null) {
+			final JsonToken value = parser.nextToken();
+			if (JsonColumnarFormat.COLUMNS.equals(name)) {
+				columns = readColumns(value);
+			} else if (JsonColumnarFormat.ROWS.equals(name)) {
+				if (columns == null) {
+					throw new JsonReadException("Failed to deserialize JSON columnar array: the ["
+							+ JsonColumnarFormat.COLUMNS + "] field must precede the [" + JsonColumnarFormat.ROWS
+							+ "] field");
+				}
+				if (value != JsonToken.START_ARRAY) {
+					throw new JsonReadException("Failed to deserialize JSON columnar array: the ["
+							+ JsonColumnarFormat.ROWS + "] field [" + value + "] must be a JSON array");
+				}
+				return PropertySetColumns.of(propertySet).getLayout(columns);
+			} else {
+				parser.skipChildren();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Read the column names.
+	 * @param token Current token
+	 * @return The column names
+	 * @throws IOException If a parsing error occurred
+	 */
+	private List<String> readColumns(JsonToken token) throws IOException {
+		if (token != JsonToken.START_ARRAY) {
+			throw new JsonReadException("Failed to deserialize JSON columnar array: the [" + JsonColumnarFormat.COLUMNS
+					+ "] field [" + token + "] must be a JSON array");
+		}
+		final List<String> columns = new ArrayList<>();
+		JsonToken column;
+		while ((column = parser.nextToken()) != JsonToken.END_ARRAY) {
+			if (column != JsonToken.VALUE_STRING) {
+				throw new JsonReadException("Failed to deserialize JSON columnar array: the column name [" + column
+						+ "] must be a JSON string");
+			}
+			columns.add(parser.getText());
+		}
+		return columns;
+	}
+
+	/**
+	 * Create the deserialization plan for given PropertySet.
+	 * @param propertySet The PropertySet
+	 * @return The deserialization plan
+	 */
+	private static JacksonPropertyBoxDeserializationPlan createPlan(PropertySet<?> propertySet) {
+		return new JacksonPropertyBoxDeserializationPlan(PropertySetDeserializationPlan.of(propertySet),
+				JacksonJsonColumnarArrayIterator::createPlan);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#hasNextValue()
+	 */
+	@Override
+	protected boolean hasNextValue() throws Exception {
+		if (completed) {
+			return false;
+		}
+		if (row == null) {
+			row = parser.nextToken();
+			if (row == null) {
+				throw new JsonReadException("Failed to deserialize JSON columnar array: unexpected end of input");
+			}
+			if (row == JsonToken.END_ARRAY) {
+				completed = true;
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#nextValue()
+	 */
+	@Override
+	protected PropertyBox nextValue() throws Exception {
+		final JsonToken token = row;
+		row = null;
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		return plan.deserialize(propertySet, layout, parser, context);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#closeSource()
+	 */
+	@Override
+	protected void closeSource() throws Exception {
+		parser.close();
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.JsonWriter;
+import com.holonplatform.json.config.JsonColumnarFormat;
+import com.holonplatform.json.internal.AbstractJsonValuesWriter;
+import com.holonplatform.json.internal.Writers;
+import com.holonplatform.json.internal.model.PropertySetColumns;
+
+/**
+ * Jackson {@link JsonWriter} implementation to incrementally serialize an {@link Iterator} of {@link PropertyBox}
+ * values using the {@link JsonColumnarFormat}.
+ * <p>
+ * The columns are obtained from the first {@link PropertyBox} property set, and the rows are written using a
+ * positional serialization plan built once for the whole JSON document. A <code>null</code> value is written as a
+ * JSON <code>null</code> row.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class JacksonJsonColumnarArrayWriter extends AbstractJsonValuesWriter<PropertyBox> {
+
+	private final ObjectWriter writer;
+
+	/**
+	 * Constructor.
+	 * @param mapper Jackson {@link ObjectMapper} (not null)
+	 * @param values The values to serialize (not null)
+	 */
+	public JacksonJsonColumnarArrayWriter(ObjectMapper mapper, Iterator<? extends PropertyBox> values) {
+		super(PropertyBox.class, values);
+		ObjectUtils.argumentNotNull(mapper, "ObjectMapper must be not null");
+		// flush periodically rather than after each element
+		this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.Writer, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(Writer writer, Iterator<? extends PropertyBox> values) throws Exception {
+		this.writer.writeValue(writer, new ColumnarArray(values));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.OutputStream,
+	 * java.nio.charset.Charset, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(OutputStream stream, Charset charset, Iterator<? extends PropertyBox> values)
+			throws Exception {
+		if (StandardCharsets.UTF_8.equals(charset)) {
+			// use the Jackson UTF-8 encoder
+			this.writer.writeValue(stream, new ColumnarArray(values));
+		} else {
+			serialize(Writers.buffered(stream, charset), values);
+		}
+	}
+
+	/**
+	 * The columnar JSON document, serialized using the {@link SerializerProvider} of the {@link ObjectWriter}.
+	 */
+	private final class ColumnarArray implements JsonSerializable {
+
+		private final Iterator<? extends PropertyBox> values;
+
+		ColumnarArray(Iterator<? extends PropertyBox> values) {
+			super();
+			this.values = values;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializable#serialize(com.fasterxml.jackson.core.JsonGenerator,
+		 * com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+			// leading null values
+			int nulls = 0;
+			PropertyBox first = null;
+			while (first == null && values.hasNext()) {
+				first = values.next();
+				if (first == null) {
+					nulls++;
+				}
+			}
+			final PropertySetColumns columns = (first != null) ? PropertySetColumns.of(first) : null;
+			gen.writeStartObject();
+			// columns
+			gen.writeFieldName(JsonColumnarFormat.COLUMNS);
+			gen.writeStartArray();
+			if (columns != null) {
+				for (String name : columns.getNames()) {
+					gen.writeString(name);
+				}
+			}
+			gen.writeEndArray();
+			// rows
+			gen.writeFieldName(JsonColumnarFormat.ROWS);
+			gen.writeStartArray();
+			int count = 0;
+			for (; count < nulls; count++) {
+				gen.writeNull();
+			}
+			if (columns != null) {
+				final JacksonPropertyBoxSerializationPlan plan = new JacksonPropertyBoxSerializationPlan(
+						columns.getSerializationTree(), true);
+				PropertyBox row = first;
+				while (true) {
+					if (row != null) {
+						gen.writeStartArray(row);
+						plan.serialize(row, gen, serializers);
+						gen.writeEndArray();
+					} else {
+						gen.writeNull();
+					}
+					if (isFlushRequired(++count)) {
+						gen.flush();
+					}
+					if (!values.hasNext()) {
+						break;
+					}
+					row = values.next();
+				}
+			}
+			gen.writeEndArray();
+			gen.writeEndObject();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializable#serializeWithType(com.fasterxml.jackson.core.
+		 * JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider,
+		 * com.fasterxml.jackson.databind.jsontype.TypeSerializer)
+		 */
+		@Override
+		public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+				throws IOException {
+			serialize(gen, serializers);
+		}
+
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.JsonReader;
+import com.holonplatform.json.internal.AbstractJsonIterator;
+
+/**
+ * Jackson {@link JsonIterator} implementation to lazily deserialize JSON Lines, i.e. a sequence of root-level JSON
+ * values, using a single {@link JsonParser} and a {@link MappingIterator}.
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class JacksonJsonLinesIterator<T> extends AbstractJsonIterator<T> {
+
+	private final JsonParser parser;
+
+	private final MappingIterator<T> values;
+
+	/**
+	 * Constructor.
+	 * @param mapper Jackson {@link ObjectMapper} (not null)
+	 * @param reader JSON data source (not null)
+	 * @param type Value type (not null)
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values, <code>null</code> if
+	 *        none
+	 * @throws IOException If the JSON data source cannot be read
+	 */
+	public JacksonJsonLinesIterator(ObjectMapper mapper, JsonReader reader, Class<T> type, PropertySet<?> propertySet)
+			throws IOException {
+		super(type, propertySet);
+		this.parser = JacksonJsonSources.createParser(mapper.getFactory(), reader);
+		try {
+			// the parser is not positioned on any token, so the root-level values are iterated
+			this.values = mapper.readerFor(type).readValues(parser);
+		} catch (IOException | RuntimeException e) {
+			parser.close();
+			throw e;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#hasNextValue()
+	 */
+	@Override
+	protected boolean hasNextValue() throws Exception {
+		return values.hasNextValue();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#nextValue()
+	 */
+	@Override
+	protected T nextValue() throws Exception {
+		return values.nextValue();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#closeSource()
+	 */
+	@Override
+	protected void closeSource() throws Exception {
+		try {
+			values.close();
+		} finally {
+			parser.close();
+		}
+	}
+
+}
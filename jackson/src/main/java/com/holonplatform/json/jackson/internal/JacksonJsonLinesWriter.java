@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.JsonWriter;
+import com.holonplatform.json.internal.AbstractJsonValuesWriter;
+import com.holonplatform.json.internal.Writers;
+
+/**
+ * Jackson {@link JsonWriter} implementation to incrementally serialize an {@link Iterator} of values as JSON Lines,
+ * i.e. one JSON value per line, using a single {@link JsonGenerator}.
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class JacksonJsonLinesWriter<T> extends AbstractJsonValuesWriter<T> {
+
+	private final JsonFactory factory;
+
+	private final ObjectWriter writer;
+
+	/**
+	 * Constructor.
+	 * @param mapper Jackson {@link ObjectMapper} (not null)
+	 * @param type Value type (not null)
+	 * @param values The values to serialize (not null)
+	 */
+	public JacksonJsonLinesWriter(ObjectMapper mapper, Class<T> type, Iterator<? extends T> values) {
+		super(type, values);
+		ObjectUtils.argumentNotNull(mapper, "ObjectMapper must be not null");
+		this.factory = mapper.getFactory();
+		// each value on a single line, flush periodically rather than after each value
+		this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+				.without(SerializationFeature.INDENT_OUTPUT);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.Writer, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(Writer writer, Iterator<? extends T> values) throws Exception {
+		try (JsonGenerator generator = factory.createGenerator(writer)) {
+			writeValues(generator, values);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.OutputStream,
+	 * java.nio.charset.Charset, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(OutputStream stream, Charset charset, Iterator<? extends T> values) throws Exception {
+		if (StandardCharsets.UTF_8.equals(charset)) {
+			// use the Jackson UTF-8 encoder
+			try (JsonGenerator generator = factory.createGenerator(stream, JsonEncoding.UTF8)) {
+				writeValues(generator, values);
+			}
+		} else {
+			serialize(Writers.buffered(stream, charset), values);
+		}
+	}
+
+	/**
+	 * Write the values as JSON Lines using given generator.
+	 * @param generator The JSON generator
+	 * @param values The values to write
+	 * @throws Exception If an error occurred
+	 */
+	private void writeValues(JsonGenerator generator, Iterator<? extends T> values) throws Exception {
+		// the line feed is the only values separator
+		generator.setRootValueSeparator(null);
+		try (SequenceWriter sequence = writer.writeValues(generator)) {
+			int count = 0;
+			while (values.hasNext()) {
+				sequence.write(values.next());
+				generator.writeRaw('\n');
+				if (isFlushRequired(++count)) {
+					sequence.flush();
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.holonplatform.json.JsonReader;
+import com.holonplatform.json.internal.ByteBufferInputStream;
+
+/**
+ * Utility class to read a {@link JsonReader} data source using the most efficient Jackson entry point for the source
+ * type.
+ * <p>
+ * String sources are parsed directly, and UTF-8 encoded byte array, {@link ByteBuffer} and {@link InputStream}
+ * sources are parsed using the Jackson byte-based UTF-8 parser, without decoding the bytes into characters first. Any
+ * other source is read through the {@link JsonReader#getReader()} method.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+final class JacksonJsonSources {
+
+	private JacksonJsonSources() {
+	}
+
+	/**
+	 * Deserialize the JSON data source using given {@link ObjectReader}.
+	 * @param <T> Value type
+	 * @param objectReader The object reader to use
+	 * @param reader The JSON data source
+	 * @return The deserialized value
+	 * @throws IOException If an error occurred
+	 */
+	static <T> T readValue(ObjectReader objectReader, JsonReader reader) throws IOException {
+		final Optional<String> string = reader.getString();
+		if (string.isPresent()) {
+			return objectReader.readValue(string.get());
+		}
+		if (isUtf8(reader)) {
+			final Optional<ByteBuffer> bytes = reader.getByteBuffer();
+			if (bytes.isPresent()) {
+				final ByteBuffer buffer = bytes.get();
+				if (buffer.hasArray()) {
+					return objectReader.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(),
+							buffer.remaining());
+				}
+				return objectReader.readValue(new ByteBufferInputStream(buffer));
+			}
+			final Optional<InputStream> stream = reader.getInputStream();
+			if (stream.isPresent()) {
+				return objectReader.readValue(stream.get());
+			}
+		}
+		return objectReader.readValue(reader.getReader());
+	}
+
+	/**
+	 * Create a {@link JsonParser} for the JSON data source.
+	 * @param factory The JSON factory to use
+	 * @param reader The JSON data source
+	 * @return A new {@link JsonParser}
+	 * @throws IOException If an error occurred
+	 */
+	static JsonParser createParser(JsonFactory factory, JsonReader reader) throws IOException {
+		final Optional<String> string = reader.getString();
+		if (string.isPresent()) {
+			return factory.createParser(string.get());
+		}
+		if (isUtf8(reader)) {
+			final Optional<ByteBuffer> bytes = reader.getByteBuffer();
+			if (bytes.isPresent()) {
+				final ByteBuffer buffer = bytes.get();
+				if (buffer.hasArray()) {
+					return factory.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(),
+							buffer.remaining());
+				}
+				return factory.createParser(new ByteBufferInputStream(buffer));
+			}
+			final Optional<InputStream> stream = reader.getInputStream();
+			if (stream.isPresent()) {
+				return factory.createParser(stream.get());
+			}
+		}
+		return factory.createParser(reader.getReader());
+	}
+
+	/**
+	 * Checks whether the JSON data source bytes, if any, are UTF-8 encoded.
+	 * @param reader The JSON data source
+	 * @return <code>true</code> if the JSON data source charset is UTF-8
+	 */
+	private static boolean isUtf8(JsonReader reader) {
+		return StandardCharsets.UTF_8.equals(reader.getCharset());
+	}
+
+}
@@ -18,6 +18,7 @@ package com.holonplatform.json.jackson.internal;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -25,6 +26,7 @@ import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.json.Json.JsonWriteException;
 import com.holonplatform.json.JsonWriter;
 import com.holonplatform.json.internal.AppendableWriterAdapter;
+import com.holonplatform.json.internal.Writers;
 
 /**
  * Jackson implementation of the {@link JsonWriter}.
@@ -95,8 +97,14 @@ public class JacksonJsonWriter implements JsonWriter {
 	 */
 	@Override
 	public void write(OutputStream stream, Charset charset) {
+		ObjectUtils.argumentNotNull(stream, "OutputStream must be not null");
 		try {
-			this.writer.writeValue(stream, value);
+			if (charset == null || StandardCharsets.UTF_8.equals(charset)) {
+				// use the Jackson UTF-8 encoder
+				this.writer.writeValue(stream, value);
+			} else {
+				this.writer.writeValue(Writers.buffered(stream, charset), value);
+			}
 		} catch (Exception e) {
 			throw new JsonWriteException("Failed to write value [" + value + "] as JSON", e);
 		}
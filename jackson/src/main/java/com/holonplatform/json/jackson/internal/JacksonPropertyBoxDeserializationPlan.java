@@ -0,0 +1,320 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+import com.holonplatform.json.exceptions.JsonDeserializationException;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Field;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Node;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Position;
+
+/**
+ * A Jackson {@link PropertyBox} deserialization plan, bound to a {@link PropertySetDeserializationPlan}.
+ * <p>
+ * The JSON object is read as a token stream: each field name is dispatched through the plan field names trie and the
+ * field value is deserialized straight into the property type, while unknown fields are skipped. The property value
+ * {@link JsonDeserializer}s are resolved once and cached by plan field.
+ * </p>
+ * <p>
+ * A JSON array is read according to the plan positional layout, as serialized using the
+ * {@link PropertyBoxSerializationMode#POSITIONAL} mode.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class JacksonPropertyBoxDeserializationPlan {
+
+	private final PropertySetDeserializationPlan plan;
+
+	/**
+	 * Nested PropertySet plans provider
+	 */
+	private final Function<PropertySet<?>, JacksonPropertyBoxDeserializationPlan> nestedPlans;
+
+	/**
+	 * Lazily resolved value deserializers, by field index. A stale read only causes a redundant lookup.
+	 */
+	private final JsonDeserializer<Object>[] deserializers;
+
+	/**
+	 * Lazily resolved nested PropertySets and their plans, by field index
+	 */
+	private final Nested[] nested;
+
+	/**
+	 * Constructor.
+	 * @param plan The PropertySet deserialization plan
+	 * @param nestedPlans The function to use to obtain the plans of the nested PropertySets
+	 */
+	@SuppressWarnings("unchecked")
+	public JacksonPropertyBoxDeserializationPlan(PropertySetDeserializationPlan plan,
+			Function<PropertySet<?>, JacksonPropertyBoxDeserializationPlan> nestedPlans) {
+		super();
+		this.plan = plan;
+		this.nestedPlans = nestedPlans;
+		this.deserializers = new JsonDeserializer[plan.getFieldCount()];
+		this.nested = new Nested[plan.getFieldCount()];
+	}
+
+	/**
+	 * Deserialize a {@link PropertyBox} from given parser, which must be positioned on the JSON object start token or on
+	 * its first field name, or on the JSON array start token for the positional layout.
+	 * @param propertySet The PropertySet for which the plan was built
+	 * @param parser JSON parser
+	 * @param ctxt Deserialization context
+	 * @return Deserialized {@link PropertyBox} instance
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	public PropertyBox deserialize(PropertySet<?> propertySet, JsonParser parser, DeserializationContext ctxt)
+			throws JsonDeserializationException {
+		final PropertyBox.Builder builder = PropertyBox.builder(propertySet).invalidAllowed(true);
+		try {
+			if (parser.isExpectedStartArrayToken()) {
+				readArray(plan.getPositionalRoot(), parser, ctxt, builder);
+			} else {
+				readObject(plan.getRoot(), parser, ctxt, builder);
+			}
+		} catch (JsonDeserializationException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonDeserializationException("Failed to deserialize JSON value as a PropertyBox", e);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Deserialize a {@link PropertyBox} from a JSON array, binding each array element to the property of the
+	 * corresponding position of given layout.
+	 * @param propertySet The PropertySet for which the plan was built
+	 * @param layout The positional layout to use, which must be built from the same PropertySet
+	 * @param parser JSON parser, positioned on the JSON array start token
+	 * @param ctxt Deserialization context
+	 * @return Deserialized {@link PropertyBox} instance
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	public PropertyBox deserialize(PropertySet<?> propertySet, Position layout, JsonParser parser, DeserializationContext ctxt)
+			throws JsonDeserializationException {
+		final PropertyBox.Builder builder = PropertyBox.builder(propertySet).invalidAllowed(true);
+		try {
+			if (!parser.isExpectedStartArrayToken()) {
+				throw new JsonDeserializationException("Failed to deserialize JSON token [" + parser.currentToken()
+						+ "]: value must be a JSON array");
+			}
+			readArray(layout, parser, ctxt, builder);
+		} catch (JsonDeserializationException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonDeserializationException("Failed to deserialize JSON array as a PropertyBox", e);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Read the fields of the current JSON object, until the object end token.
+	 * @param node Trie node which corresponds to the JSON object
+	 * @param parser JSON parser
+	 * @param ctxt Deserialization context
+	 * @param builder PropertyBox builder
+	 * @throws IOException If a parsing error occurred
+	 */
+	private void readObject(Node node, JsonParser parser, DeserializationContext ctxt, PropertyBox.Builder builder)
+			throws IOException {
+		String name;
+		if (parser.isExpectedStartObjectToken()) {
+			name = parser.nextFieldName();
+		} else if (parser.hasToken(JsonToken.FIELD_NAME)) {
+			name = parser.currentName();
+		} else if (parser.hasToken(JsonToken.END_OBJECT)) {
+			name = null;
+		} else {
+			throw new JsonDeserializationException(
+					"Failed to deserialize JSON token [" + parser.currentToken() + "]: value must be a JSON object");
+		}
+		for (; name != null; name = parser.nextFieldName()) {
+			final JsonToken token = parser.nextToken();
+			final Node child = node.getChild(name);
+			if (child == null) {
+				// unknown field
+				parser.skipChildren();
+			} else if (token != JsonToken.VALUE_NULL) {
+				readField(child, parser, ctxt, builder, token);
+			}
+		}
+	}
+
+	/**
+	 * Read the elements of the current JSON array, until the array end token. The elements which exceed the positions
+	 * count are skipped.
+	 * @param position Position which corresponds to the JSON array
+	 * @param parser JSON parser, positioned on the array start token
+	 * @param ctxt Deserialization context
+	 * @param builder PropertyBox builder
+	 * @throws IOException If a parsing error occurred
+	 */
+	private void readArray(Position position, JsonParser parser, DeserializationContext ctxt,
+			PropertyBox.Builder builder) throws IOException {
+		JsonToken token;
+		for (int index = 0; (token = parser.nextToken()) != JsonToken.END_ARRAY; index++) {
+			if (token == null) {
+				throw new JsonDeserializationException("Failed to deserialize JSON array: unexpected end of input");
+			}
+			final Position element = position.getChild(index);
+			if (element == null || token == JsonToken.VALUE_NULL) {
+				parser.skipChildren();
+			} else if (element.isNested()) {
+				if (token != JsonToken.START_ARRAY) {
+					throw new JsonDeserializationException("Failed to deserialize JSON token [" + token
+							+ "] at position [" + index + "]: value must be a JSON array");
+				}
+				readArray(element, parser, ctxt, builder);
+			} else if (element.getField() != null) {
+				setValue(element.getField(), parser, ctxt, builder, token);
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Read the current JSON field value.
+	 * @param node Trie node which corresponds to the JSON field
+	 * @param parser JSON parser, positioned on the field value
+	 * @param ctxt Deserialization context
+	 * @param builder PropertyBox builder
+	 * @param token Current token
+	 * @throws IOException If a parsing error occurred
+	 */
+	private void readField(Node node, JsonParser parser, DeserializationContext ctxt, PropertyBox.Builder builder,
+			JsonToken token) throws IOException {
+		final boolean nestedObject = token == JsonToken.START_OBJECT && node.hasChildren();
+		final int fields = node.getFieldCount();
+		final int consumers = fields + (nestedObject ? 1 : 0);
+		if (consumers == 0) {
+			parser.skipChildren();
+		} else if (consumers == 1) {
+			if (nestedObject) {
+				readObject(node, parser, ctxt, builder);
+			} else {
+				setValue(node.getField(0), parser, ctxt, builder, token);
+			}
+		} else {
+			// the same JSON value is bound to more than one property: buffer it
+			final TokenBuffer buffer = new TokenBuffer(parser, ctxt);
+			buffer.copyCurrentStructure(parser);
+			for (int i = 0; i < fields; i++) {
+				try (JsonParser bp = buffer.asParser(parser)) {
+					setValue(node.getField(i), bp, ctxt, builder, bp.nextToken());
+				}
+			}
+			if (nestedObject) {
+				try (JsonParser bp = buffer.asParser(parser)) {
+					bp.nextToken();
+					readObject(node, bp, ctxt, builder);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Deserialize the current JSON value and set it as property value.
+	 * @param field Field definition
+	 * @param parser JSON parser, positioned on the field value
+	 * @param ctxt Deserialization context
+	 * @param builder PropertyBox builder
+	 * @param token Current token
+	 * @throws JsonDeserializationException If an error occurred
+	 */
+	private void setValue(Field field, JsonParser parser, DeserializationContext ctxt, PropertyBox.Builder builder,
+			JsonToken token) throws JsonDeserializationException {
+		final Object value;
+		try {
+			if (token.isScalarValue()) {
+				value = field.convert(getDeserializer(field, ctxt).deserialize(parser, ctxt));
+			} else if ((token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) && field.isPropertyBox()) {
+				final Nested n = getNested(field);
+				value = n.plan.deserialize(n.propertySet, parser, ctxt);
+			} else {
+				value = getDeserializer(field, ctxt).deserialize(parser, ctxt);
+			}
+		} catch (JsonDeserializationException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonDeserializationException("Failed to deserialize path [" + field.getPath()
+					+ "] using field name [" + field.getFieldName() + "]", e);
+		}
+		field.setValue(builder, value);
+	}
+
+	/**
+	 * Get the value deserializer for given field.
+	 * @param field Field definition
+	 * @param ctxt Deserialization context
+	 * @return The field value deserializer
+	 * @throws IOException If the deserializer cannot be resolved
+	 */
+	private JsonDeserializer<Object> getDeserializer(Field field, DeserializationContext ctxt) throws IOException {
+		JsonDeserializer<Object> deserializer = deserializers[field.getIndex()];
+		if (deserializer == null) {
+			deserializer = ctxt.findRootValueDeserializer(ctxt.constructType(field.getType()));
+			deserializers[field.getIndex()] = deserializer;
+		}
+		return deserializer;
+	}
+
+	/**
+	 * Get the nested PropertySet bound to given PropertyBox type field and its deserialization plan.
+	 * @param field Field definition
+	 * @return The nested PropertySet and its deserialization plan
+	 * @throws JsonDeserializationException If the nested PropertySet is not available
+	 */
+	private Nested getNested(Field field) throws JsonDeserializationException {
+		Nested n = nested[field.getIndex()];
+		if (n == null) {
+			final PropertySet<?> nestedPropertySet = field.getNestedPropertySet();
+			n = new Nested(nestedPropertySet, nestedPlans.apply(nestedPropertySet));
+			nested[field.getIndex()] = n;
+		}
+		return n;
+	}
+
+	/**
+	 * A nested PropertySet and its deserialization plan.
+	 */
+	private static final class Nested {
+
+		final PropertySet<?> propertySet;
+		final JacksonPropertyBoxDeserializationPlan plan;
+
+		Nested(PropertySet<?> propertySet, JacksonPropertyBoxDeserializationPlan plan) {
+			super();
+			this.propertySet = propertySet;
+			this.plan = plan;
+		}
+
+	}
+
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.temporal.TemporalType;
+import com.holonplatform.json.exceptions.JsonSerializationException;
+import com.holonplatform.json.jackson.internal.datetime.JacksonISO8601DateSerializer;
+import com.holonplatform.json.model.PropertySetSerializationNode;
+import com.holonplatform.json.model.PropertySetSerializationTree;
+
+/**
+ * A precompiled {@link PropertyBox} serialization plan, obtained from a {@link PropertySetSerializationTree}.
+ * <p>
+ * The serialization tree is flattened into an array of steps, each one providing the pre-encoded JSON field name, the
+ * property to serialize and its temporal type, if any. The property value serializers are resolved using the Jackson
+ * {@link PropertySerializerMap} and cached by runtime value type. For the properties with a temporal type, the
+ * {@link JacksonISO8601DateSerializer} is bound to the property temporal type when the serializer is resolved.
+ * </p>
+ * <p>
+ * A positional plan writes the property values without field names, as JSON array elements in serialization tree
+ * order, using a nested JSON array for each nested node and a JSON <code>null</code> for each missing value.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class JacksonPropertyBoxSerializationPlan {
+
+	private final Step[] steps;
+
+	private final boolean positional;
+
+	/**
+	 * Constructor.
+	 * @param tree The serialization tree from which to build the plan
+	 */
+	public JacksonPropertyBoxSerializationPlan(PropertySetSerializationTree tree) {
+		this(tree, false);
+	}
+
+	/**
+	 * Constructor.
+	 * @param tree The serialization tree from which to build the plan
+	 * @param positional Whether to write the property values as JSON array elements, without field names
+	 */
+	public JacksonPropertyBoxSerializationPlan(PropertySetSerializationTree tree, boolean positional) {
+		super();
+		final List<Step> plan = new ArrayList<>();
+		compile(tree, plan, positional);
+		this.steps = plan.toArray(new Step[plan.size()]);
+		this.positional = positional;
+	}
+
+	/**
+	 * Compile given serialization nodes into plan steps.
+	 * @param nodes Nodes to compile
+	 * @param plan Plan steps
+	 * @param positional Whether the nested nodes are written as JSON arrays
+	 */
+	private static void compile(Iterable<PropertySetSerializationNode> nodes, List<Step> plan, boolean positional) {
+		for (PropertySetSerializationNode node : nodes) {
+			final Property<?> property = node.getProperty().orElse(null);
+			if (property != null) {
+				plan.add(new Step(Step.FIELD, node.getName(), property,
+						property.getConfiguration().getTemporalType().orElse(null)));
+			} else {
+				plan.add(new Step(positional ? Step.START_ARRAY : Step.START_OBJECT, node.getName(), null, null));
+				compile(node.getChildren(), plan, positional);
+				plan.add(new Step(positional ? Step.END_ARRAY : Step.END_OBJECT, node.getName(), null, null));
+			}
+		}
+	}
+
+	/**
+	 * Get whether this plan writes the property values as JSON array elements, without field names.
+	 * @return <code>true</code> if this is a positional plan
+	 */
+	public boolean isPositional() {
+		return positional;
+	}
+
+	/**
+	 * Serialize the given {@link PropertyBox} fields, according to this plan.
+	 * @param propertyBox PropertyBox to serialize
+	 * @param gen Json generator to use
+	 * @param provider Serializer provider
+	 * @throws JsonSerializationException If an error occurred
+	 */
+	public void serialize(PropertyBox propertyBox, JsonGenerator gen, SerializerProvider provider)
+			throws JsonSerializationException {
+		for (Step step : steps) {
+			switch (step.type) {
+			case Step.START_OBJECT:
+				try {
+					gen.writeFieldName(step.name);
+					gen.writeStartObject();
+				} catch (IOException e) {
+					throw new JsonSerializationException("Failed to serialize PropertyBox [" + propertyBox
+							+ "] for field name [" + step.name.getValue() + "]", e);
+				}
+				break;
+			case Step.END_OBJECT:
+				try {
+					gen.writeEndObject();
+				} catch (IOException e) {
+					throw new JsonSerializationException("Failed to serialize PropertyBox [" + propertyBox
+							+ "] for field name [" + step.name.getValue() + "]", e);
+				}
+				break;
+			case Step.START_ARRAY:
+				try {
+					gen.writeStartArray();
+				} catch (IOException e) {
+					throw new JsonSerializationException("Failed to serialize PropertyBox [" + propertyBox
+							+ "] for nested name [" + step.name.getValue() + "]", e);
+				}
+				break;
+			case Step.END_ARRAY:
+				try {
+					gen.writeEndArray();
+				} catch (IOException e) {
+					throw new JsonSerializationException("Failed to serialize PropertyBox [" + propertyBox
+							+ "] for nested name [" + step.name.getValue() + "]", e);
+				}
+				break;
+			case Step.FIELD:
+			default:
+				serializeProperty(propertyBox, gen, provider, step, positional);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Serialize a PropertyBox property value, if not <code>null</code>. For a positional plan, a JSON array element is
+	 * always written, using <code>null</code> if the value is missing.
+	 * @param propertyBox PropertyBox to which the property belongs
+	 * @param gen Json generator to use
+	 * @param provider Serializer provider
+	 * @param step Plan step
+	 * @param positional Whether to write the value as a JSON array element
+	 * @throws JsonSerializationException If an error occurred
+	 */
+	private static void serializeProperty(PropertyBox propertyBox, JsonGenerator gen, SerializerProvider provider,
+			Step step, boolean positional) throws JsonSerializationException {
+		final Object value;
+		try {
+			value = propertyBox.getValueIfPresent(step.property).orElse(null);
+		} catch (Exception e) {
+			throw new JsonSerializationException("Failed to serialize Property [" + step.property
+					+ "] using field name [" + step.name.getValue() + "]", e);
+		}
+		if (positional) {
+			try {
+				// write JSON array element
+				if (value != null) {
+					step.serializer(value.getClass(), provider).serialize(value, gen, provider);
+				} else {
+					gen.writeNull();
+				}
+			} catch (IOException e) {
+				throw new JsonSerializationException("Failed to serialize property [" + step.property
+						+ "] at name [" + step.name.getValue() + "] position using value [" + value + "]", e);
+			}
+		} else if (value != null) {
+			try {
+				// write JSON property value
+				gen.writeFieldName(step.name);
+				step.serializer(value.getClass(), provider).serialize(value, gen, provider);
+			} catch (IOException e) {
+				throw new JsonSerializationException("Failed to serialize property [" + step.property
+						+ "] using name [" + step.name.getValue() + "] and value [" + value + "]", e);
+			}
+		}
+	}
+
+	/**
+	 * Serialization plan step.
+	 */
+	private static final class Step {
+
+		static final int FIELD = 0;
+		static final int START_OBJECT = 1;
+		static final int END_OBJECT = 2;
+		static final int START_ARRAY = 3;
+		static final int END_ARRAY = 4;
+
+		final int type;
+		final SerializedString name;
+		final Property<?> property;
+		final TemporalType temporalType;
+
+		/**
+		 * Value serializers by runtime type. As for Jackson bean property writers, the map is immutable and a stale
+		 * read only causes a redundant lookup.
+		 */
+		private PropertySerializerMap serializers = PropertySerializerMap.emptyForProperties();
+
+		Step(int type, String name, Property<?> property, TemporalType temporalType) {
+			super();
+			this.type = type;
+			this.name = new SerializedString(name);
+			this.property = property;
+			this.temporalType = temporalType;
+		}
+
+		/**
+		 * Get the serializer to use for given value type.
+		 * @param type Value type
+		 * @param provider Serializer provider
+		 * @return The value serializer
+		 * @throws IOException If the serializer cannot be resolved
+		 */
+		JsonSerializer<Object> serializer(Class<?> type, SerializerProvider provider) throws IOException {
+			final PropertySerializerMap map = serializers;
+			JsonSerializer<Object> serializer = map.serializerFor(type);
+			if (serializer == null) {
+				final PropertySerializerMap.SerializerAndMapResult result = map.findAndAddRootValueSerializer(type,
+						provider);
+				final JsonSerializer<?> resolved = result.serializer;
+				if (temporalType != null && resolved instanceof JacksonISO8601DateSerializer) {
+					// bind the date serializer to the property temporal type
+					serializer = asObjectSerializer(
+							((JacksonISO8601DateSerializer) resolved).withTemporalType(temporalType));
+					serializers = map.newWith(type, serializer);
+				} else {
+					serializer = result.serializer;
+					serializers = result.map;
+				}
+			}
+			return serializer;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static JsonSerializer<Object> asObjectSerializer(JsonSerializer<?> serializer) {
+			return (JsonSerializer<Object>) serializer;
+		}
+
+	}
+
+}
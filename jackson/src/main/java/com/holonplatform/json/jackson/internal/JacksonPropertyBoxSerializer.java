@@ -16,23 +16,18 @@
 package com.holonplatform.json.jackson.internal;
 
 import java.io.IOException;
-import java.util.Optional;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.holonplatform.core.internal.Logger;
-import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
-import com.holonplatform.core.temporal.TemporalType;
 import com.holonplatform.json.config.JsonConfigProperties;
 import com.holonplatform.json.config.PropertyBoxSerializationMode;
-import com.holonplatform.json.datetime.CurrentSerializationTemporalType;
-import com.holonplatform.json.exceptions.JsonSerializationException;
 import com.holonplatform.json.internal.JsonLogger;
+import com.holonplatform.json.internal.model.PropertySetCache;
 import com.holonplatform.json.model.JsonPropertySetSerializationTreeResolver;
-import com.holonplatform.json.model.PropertySetSerializationNode;
 import com.holonplatform.json.model.PropertySetSerializationTree;
 
 /**
@@ -47,6 +42,21 @@ public class JacksonPropertyBoxSerializer extends JsonSerializer<PropertyBox> {
 	 */
 	private static final Logger LOGGER = JsonLogger.create();
 
+	/**
+	 * PATH mode serialization plans
+	 */
+	private final PropertySetCache<JacksonPropertyBoxSerializationPlan> pathPlans = new PropertySetCache<>();
+
+	/**
+	 * ALL mode serialization plans
+	 */
+	private final PropertySetCache<JacksonPropertyBoxSerializationPlan> allPlans = new PropertySetCache<>();
+
+	/**
+	 * POSITIONAL mode serialization plans
+	 */
+	private final PropertySetCache<JacksonPropertyBoxSerializationPlan> positionalPlans = new PropertySetCache<>();
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -63,98 +73,58 @@ public class JacksonPropertyBoxSerializer extends JsonSerializer<PropertyBox> {
 		final PropertyBoxSerializationMode serializationMode = getPropertyBoxSerializationMode(propertyBox,
 				serializers);
 
+		// get the serialization plan
+		final JacksonPropertyBoxSerializationPlan plan = getSerializationPlan(propertyBox, serializationMode);
+
+		if (plan.isPositional()) {
+			// serialize the PropertyBox instance as a JSON array
+			gen.writeStartArray(propertyBox);
+			plan.serialize(propertyBox, gen, serializers);
+			gen.writeEndArray();
+			return;
+		}
+
 		// JSON object start
-		gen.writeStartObject();
+		gen.writeStartObject(propertyBox);
 
 		// serialize the PropertyBox instance
-		serializePropertyBoxNodes(gen, propertyBox, getSerializationTree(propertyBox, serializationMode));
+		plan.serialize(propertyBox, gen, serializers);
 
 		// JSON object end
 		gen.writeEndObject();
 	}
 
 	/**
-	 * Build the PropertySet serialization tree for given PropertyBox.
-	 * @param propertyBox       PropertyBox to serialize
+	 * Get the serialization plan for given PropertyBox, building and caching it if not available.
+	 * @param propertyBox PropertyBox to serialize
 	 * @param serializationMode Serialization mode
-	 * @return the PropertyBox serialization tree
+	 * @return the PropertyBox serialization plan
 	 */
-	private static PropertySetSerializationTree getSerializationTree(PropertyBox propertyBox,
+	private JacksonPropertyBoxSerializationPlan getSerializationPlan(PropertyBox propertyBox,
 			PropertyBoxSerializationMode serializationMode) {
-		return JsonPropertySetSerializationTreeResolver.getDefault().resolve(propertyBox, serializationMode);
-	}
-
-	/**
-	 * Serialize a PropertyBox as a {@link PropertySetSerializationNode} tree.
-	 * @param gen         Json generator to use
-	 * @param propertyBox PropertyBox to serialize
-	 * @param nodes       Serialization tree nodes
-	 * @throws JsonSerializationException If an error occurred
-	 */
-	private static void serializePropertyBoxNodes(JsonGenerator gen, PropertyBox propertyBox,
-			Iterable<PropertySetSerializationNode> nodes) throws JsonSerializationException {
-		for (PropertySetSerializationNode node : nodes) {
-			serializePropertyBoxNode(gen, propertyBox, node);
+		switch (serializationMode) {
+		case ALL:
+			return allPlans.get(propertyBox, ps -> new JacksonPropertyBoxSerializationPlan(
+					getSerializationTree(propertyBox, serializationMode)));
+		case POSITIONAL:
+			return positionalPlans.get(propertyBox, ps -> new JacksonPropertyBoxSerializationPlan(
+					getSerializationTree(propertyBox, serializationMode), true));
+		case PATH:
+		default:
+			return pathPlans.get(propertyBox, ps -> new JacksonPropertyBoxSerializationPlan(
+					getSerializationTree(propertyBox, serializationMode)));
 		}
 	}
 
 	/**
-	 * Serialize the node of a PropertyBox serialization tree.
-	 * @param gen         Json generator to use
-	 * @param propertyBox PropertyBox to serialize
-	 * @param node        The PropertyBox node to serialize
-	 * @throws JsonSerializationException If an error occurred
-	 */
-	private static void serializePropertyBoxNode(JsonGenerator gen, PropertyBox propertyBox,
-			PropertySetSerializationNode node) throws JsonSerializationException {
-		if (node.getProperty().isPresent()) {
-			serializePropertyBoxProperty(gen, propertyBox, node.getProperty().get(), node.getName());
-		} else {
-			try {
-				gen.writeObjectFieldStart(node.getName());
-				// nested object
-				serializePropertyBoxNodes(gen, propertyBox, node.getChildren());
-				gen.writeEndObject();
-			} catch (IOException e) {
-				throw new JsonSerializationException(
-						"Failed to serialize PropertyBox [" + propertyBox + "] for field name [" + node.getName() + "]",
-						e);
-			}
-		}
-	}
-
-	/**
-	 * Serialize a PropertyBox property value.
-	 * @param gen         Json generator to use
-	 * @param propertyBox PropertyBox to which the property belongs
-	 * @param property    Property to serialize
-	 * @param name        Property serialization name
-	 * @throws JsonSerializationException If an error occurred
+	 * Build the PropertySet serialization tree for given PropertyBox.
+	 * @param propertyBox       PropertyBox to serialize
+	 * @param serializationMode Serialization mode
+	 * @return the PropertyBox serialization tree
 	 */
-	private static void serializePropertyBoxProperty(JsonGenerator gen, PropertyBox propertyBox, Property<?> property,
-			String name) throws JsonSerializationException {
-		try {
-			// check property value is not null
-			propertyBox.getValueIfPresent(property).ifPresent(value -> {
-				// check temporal type
-				Optional<TemporalType> temporalType = property.getConfiguration().getTemporalType();
-				try {
-					temporalType.ifPresent(CurrentSerializationTemporalType::setCurrentTemporalType);
-					try {
-						// write JSON property value
-						gen.writeObjectField(name, value);
-					} catch (IOException e) {
-						throw new JsonSerializationException("Failed to serialize property [" + property
-								+ "] using name [" + name + "] and value [" + value + "]", e);
-					}
-				} finally {
-					temporalType.ifPresent(tt -> CurrentSerializationTemporalType.removeCurrentTemporalType());
-				}
-			});
-		} catch (Exception e) {
-			throw new JsonSerializationException(
-					"Failed to serialize Property [" + property + "] using field name [" + name + "]", e);
-		}
+	private static PropertySetSerializationTree getSerializationTree(PropertyBox propertyBox,
+			PropertyBoxSerializationMode serializationMode) {
+		return JsonPropertySetSerializationTreeResolver.getDefault().resolve(propertyBox, serializationMode);
 	}
 
 	/**
@@ -19,16 +19,106 @@ import java.io.IOException;
 import java.util.Date;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.holonplatform.core.beans.Temporal;
+import com.holonplatform.core.temporal.TemporalType;
+import com.holonplatform.json.datetime.CurrentSerializationTemporalType;
 import com.holonplatform.json.internal.datetime.ISO8601DateFormats;
 
 /**
  * Jackson serializer for {@link Date}, using ISO-8601 format.
+ * <p>
+ * A serializer bound to a specific {@link TemporalType} can be obtained using {@link #withTemporalType(TemporalType)}.
+ * When used for a bean property, the {@link Temporal} annotation is used to obtain the serializer {@link TemporalType}.
+ * If no {@link TemporalType} is specified, the {@link CurrentSerializationTemporalType} one is used, if available.
+ * </p>
+ * <p>
+ * The date characters are formatted into a short local buffer and written directly to the {@link JsonGenerator},
+ * without creating an intermediate {@link String}. The {@link Date} subclasses, such as <code>java.sql.Date</code> and
+ * <code>java.sql.Timestamp</code>, are serialized in the same way.
+ * </p>
  *
  * @since 5.1.0
  */
-public class JacksonISO8601DateSerializer extends JsonSerializer<Date> {
+public class JacksonISO8601DateSerializer extends JsonSerializer<Date> implements ContextualSerializer {
+
+	private static final JacksonISO8601DateSerializer DATE = new JacksonISO8601DateSerializer(TemporalType.DATE);
+	private static final JacksonISO8601DateSerializer TIME = new JacksonISO8601DateSerializer(TemporalType.TIME);
+	private static final JacksonISO8601DateSerializer DATE_TIME = new JacksonISO8601DateSerializer(
+			TemporalType.DATE_TIME);
+
+	private final TemporalType temporalType;
+
+	/**
+	 * Constructor.
+	 */
+	public JacksonISO8601DateSerializer() {
+		this(null);
+	}
+
+	/**
+	 * Constructor.
+	 * @param temporalType The temporal type to use to select the date format, <code>null</code> to use the current
+	 *        serialization temporal type
+	 * @since 6.0.3
+	 */
+	public JacksonISO8601DateSerializer(TemporalType temporalType) {
+		super();
+		this.temporalType = temporalType;
+	}
+
+	/**
+	 * Get the temporal type to use to select the date format.
+	 * @return The temporal type, <code>null</code> if the current serialization temporal type is used
+	 * @since 6.0.3
+	 */
+	public TemporalType getTemporalType() {
+		return temporalType;
+	}
+
+	/**
+	 * Get a serializer which uses given {@link TemporalType} to select the date format.
+	 * @param temporalType The temporal type
+	 * @return A serializer bound to given temporal type, this serializer if the temporal type is the same
+	 * @since 6.0.3
+	 */
+	public JacksonISO8601DateSerializer withTemporalType(TemporalType temporalType) {
+		if (temporalType == this.temporalType) {
+			return this;
+		}
+		if (temporalType != null) {
+			switch (temporalType) {
+			case DATE:
+				return DATE;
+			case TIME:
+				return TIME;
+			case DATE_TIME:
+				return DATE_TIME;
+			default:
+				break;
+			}
+		}
+		return new JacksonISO8601DateSerializer(temporalType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.ser.ContextualSerializer#createContextual(com.fasterxml.jackson.databind.
+	 * SerializerProvider, com.fasterxml.jackson.databind.BeanProperty)
+	 */
+	@Override
+	public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) {
+		if (property != null) {
+			final Temporal temporal = property.getAnnotation(Temporal.class);
+			if (temporal != null) {
+				return withTemporalType(temporal.value());
+			}
+		}
+		return this;
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -40,7 +130,8 @@ public class JacksonISO8601DateSerializer extends JsonSerializer<Date> {
 		if (value == null) {
 			gen.writeNull();
 		} else {
-			gen.writeString(ISO8601DateFormats.format(value));
+			final char[] buffer = new char[ISO8601DateFormats.MAX_FORMAT_LENGTH];
+			gen.writeString(buffer, 0, ISO8601DateFormats.format(value, temporalType, buffer, 0));
 		}
 	}
 
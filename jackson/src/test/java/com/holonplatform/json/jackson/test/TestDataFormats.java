@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.test;
+
+import static com.holonplatform.json.jackson.test.DataTest.BOOL;
+import static com.holonplatform.json.jackson.test.DataTest.DATE;
+import static com.holonplatform.json.jackson.test.DataTest.DATE_VALUE;
+import static com.holonplatform.json.jackson.test.DataTest.ENUM;
+import static com.holonplatform.json.jackson.test.DataTest.KEY;
+import static com.holonplatform.json.jackson.test.DataTest.LOCAL_DATE;
+import static com.holonplatform.json.jackson.test.DataTest.NAME;
+import static com.holonplatform.json.jackson.test.DataTest.NUMBER;
+import static com.holonplatform.json.jackson.test.DataTest.PROPERTIES;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.jackson.JacksonBinaryCodec;
+import com.holonplatform.json.jackson.JacksonConfiguration;
+import com.holonplatform.json.jackson.JacksonDataFormat;
+import com.holonplatform.json.jackson.JacksonJson;
+import com.holonplatform.json.jackson.internal.DefaultJacksonBinaryCodec;
+import com.holonplatform.json.jackson.test.DataTest.TestEnum;
+
+public class TestDataFormats {
+
+	@Test
+	public void testAvailability() {
+		for (JacksonDataFormat format : JacksonDataFormat.values()) {
+			assertTrue(format.isAvailable());
+		}
+		assertEquals("application/x-jackson-smile", JacksonDataFormat.SMILE.getMediaType());
+		assertEquals("application/cbor", JacksonDataFormat.CBOR.getMediaType());
+		assertEquals("Smile", JacksonConfiguration.mapper(JacksonDataFormat.SMILE).getFactory().getFormatName());
+		assertEquals("CBOR", JacksonConfiguration.mapper(JacksonDataFormat.CBOR).getFactory().getFormatName());
+	}
+
+	@Test
+	public void testSmile() {
+		testBinaryFormat(JacksonDataFormat.SMILE);
+	}
+
+	@Test
+	public void testCbor() {
+		testBinaryFormat(JacksonDataFormat.CBOR);
+	}
+
+	private static void testBinaryFormat(JacksonDataFormat format) {
+		final JacksonBinaryCodec codec = JacksonBinaryCodec.create(format);
+		final Json text = JacksonJson.create();
+
+		assertEquals(format, codec.getDataFormat());
+
+		final PropertyBox box = PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(NAME, "T\u00e8st").set(NUMBER, 7.5)
+				.set(DATE, DATE_VALUE).set(ENUM, TestEnum.TWO).set(BOOL, true).set(LOCAL_DATE, LocalDate.of(1979, 3, 9))
+				.build();
+
+		final byte[] bytes = codec.toBytes(box);
+		assertNotEquals(text.toJson(box).asString(), new String(bytes));
+
+		// same PropertyBox semantics of the textual format
+		final PropertyBox decoded = codec.read(bytes, PROPERTIES);
+		assertEquals(text.toJson(box).asString(), text.toJson(decoded).asString());
+		assertEquals(text.toJson(box).asString(),
+				text.toJson(codec.read(new ByteArrayInputStream(bytes), PROPERTIES)).asString());
+
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		codec.write(box, stream);
+		assertArrayEquals(bytes, stream.toByteArray());
+
+		// arrays
+		final List<PropertyBox> boxes = Arrays.asList(box, PropertyBox.builder(PROPERTIES).set(KEY, 2L).build());
+		final byte[] array = codec.toBytes(boxes);
+
+		final List<PropertyBox> decodedArray = codec.readArray(new ByteArrayInputStream(array), PROPERTIES);
+		assertEquals(2, decodedArray.size());
+		assertEquals(Long.valueOf(2), decodedArray.get(1).getValue(KEY));
+
+		// streaming array writer (CBOR uses an indefinite-length array)
+		final ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+		codec.writeArray(PropertyBox.class, boxes.iterator(), streamed);
+		assertEquals(text.toJsonArray(PropertyBox.class, decodedArray).asString(),
+				text.toJsonArray(PropertyBox.class,
+						codec.readArray(new ByteArrayInputStream(streamed.toByteArray()), PROPERTIES)).asString());
+
+		try (JsonIterator<PropertyBox> iterator = codec.iterateArray(new ByteArrayInputStream(array), PROPERTIES)) {
+			assertEquals(Long.valueOf(1), iterator.next().getValue(KEY));
+			assertEquals(Long.valueOf(2), iterator.next().getValue(KEY));
+			assertFalse(iterator.hasNext());
+		}
+
+		// the ObjectMapper must use the codec data format
+		assertThrows(IllegalArgumentException.class,
+				() -> new DefaultJacksonBinaryCodec(format, JacksonConfiguration.mapper()));
+	}
+
+}
@@ -33,11 +33,16 @@ import static com.holonplatform.json.jackson.test.DataTest.TEST_DATA_VALUE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
@@ -45,13 +50,24 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.ColumnarJson;
 import com.holonplatform.json.Json;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.Json.JsonWriteException;
+import com.holonplatform.json.JsonIterator;
 import com.holonplatform.json.JsonReader;
+import com.holonplatform.json.JsonWriter;
+import com.holonplatform.json.jackson.AsyncPropertyBoxDecoder;
 import com.holonplatform.json.jackson.JacksonJson;
 import com.holonplatform.json.jackson.test.DataTest.TestEnum;
 
@@ -214,6 +230,96 @@ public class TestJson {
 
 	}
 
+	@Test
+	public void testByteSources() {
+
+		final Json json = JacksonJson.create();
+
+		PropertyBox box = PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(NAME, "T\u00e8st").build();
+
+		final byte[] bytes = json.toJson(box).asBytes();
+
+		// heap buffer with offset
+		final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 2);
+		buffer.put((byte) ' ').put(bytes).put((byte) ' ').flip().position(1);
+		PropertyBox readBox = json.fromJson(JsonReader.from(buffer), PROPERTIES);
+		assertEquals(Long.valueOf(1), readBox.getValue(KEY));
+		assertEquals("T\u00e8st", readBox.getValue(NAME));
+		assertEquals(1, buffer.position());
+
+		// direct buffer
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		readBox = json.fromJson(JsonReader.from(direct), PROPERTIES);
+		assertEquals("T\u00e8st", readBox.getValue(NAME));
+
+		// not UTF-8 encoded bytes
+		final String value = json.toJson(box).asString();
+		readBox = json.fromJson(JsonReader.from(value.getBytes(StandardCharsets.UTF_16), StandardCharsets.UTF_16),
+				PROPERTIES);
+		assertEquals("T\u00e8st", readBox.getValue(NAME));
+		readBox = json.fromJson(JsonReader.from(new ByteArrayInputStream(value.getBytes(StandardCharsets.ISO_8859_1)),
+				StandardCharsets.ISO_8859_1), PROPERTIES);
+		assertEquals("T\u00e8st", readBox.getValue(NAME));
+
+		// arrays and lines
+		final byte[] array = json.toJsonArray(PropertyBox.class, box, box).asBytes();
+		assertEquals(2, json.fromJsonArray(JsonReader.from(ByteBuffer.wrap(array)), PROPERTIES).size());
+		assertEquals(2, json.streamJsonArray(JsonReader.from(array), PROPERTIES).count());
+		final byte[] lines = json.toJsonLines(PropertyBox.class, Stream.of(box, box, box)).asBytes();
+		assertEquals(3, json.streamJsonLines(JsonReader.from(new ByteArrayInputStream(lines)), PROPERTIES).count());
+
+	}
+
+	@Test
+	public void testByteTargets() {
+
+		final Json json = JacksonJson.create();
+
+		PropertyBox box = PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(NAME, "T\u00e8st \u20ac \ud83d\ude00")
+				.build();
+
+		final byte[] bytes = json.toJson(box).asBytes();
+		assertEquals(box.getValue(NAME), json.fromJson(JsonReader.from(bytes), PROPERTIES).getValue(NAME));
+
+		// heap buffer
+		ByteBuffer buffer = json.toJson(box).asByteBuffer();
+		assertEquals(0, buffer.position());
+		assertEquals(bytes.length, buffer.remaining());
+		byte[] read = new byte[buffer.remaining()];
+		buffer.get(read);
+		assertTrue(Arrays.equals(bytes, read));
+
+		// target buffer
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 10);
+		direct.position(5);
+		assertEquals(bytes.length, json.toJson(box).write(direct));
+		assertEquals(bytes.length + 5, direct.position());
+		direct.flip().position(5);
+		assertEquals(box.getValue(NAME), json.fromJson(JsonReader.from(direct), PROPERTIES).getValue(NAME));
+
+		final ByteBuffer small = ByteBuffer.allocate(bytes.length - 1);
+		small.position(1);
+		assertThrows(JsonWriteException.class, () -> json.toJson(box).write(small));
+		assertEquals(1, small.position());
+
+		// channel
+		final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		json.toJson(box).write(Channels.newChannel(bos));
+		assertTrue(Arrays.equals(bytes, bos.toByteArray()));
+
+		final ByteArrayOutputStream lines = new ByteArrayOutputStream();
+		json.toJsonLines(PropertyBox.class, Stream.of(box, box)).write(Channels.newChannel(lines));
+		assertEquals(2, json.streamJsonLines(JsonReader.from(lines.toByteArray()), PROPERTIES).count());
+
+		// charset
+		final ByteArrayOutputStream utf16 = new ByteArrayOutputStream();
+		json.toJson(box).write(utf16, StandardCharsets.UTF_16);
+		assertEquals(box.getValue(NAME),
+				json.fromJson(JsonReader.from(utf16.toByteArray(), StandardCharsets.UTF_16), PROPERTIES).getValue(NAME));
+
+	}
+
 	@Test
 	public void testPropertySet() {
 
@@ -345,6 +451,258 @@ public class TestJson {
 
 	}
 
+	@Test
+	public void testStreamJsonArray() {
+
+		final Json json = JacksonJson.create();
+
+		PropertyBox box1 = PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(NAME, "Test").set(NUMBER, 7.1d)
+				.set(ENUM, TestEnum.ONE).build();
+		PropertyBox box2 = PropertyBox.builder(PROPERTIES).set(KEY, 2L).set(NAME, "Test2").build();
+
+		String jsonString = json.toJsonArray(PropertyBox.class, box1, box2).asString();
+
+		try (Stream<PropertyBox> boxes = json.streamJsonArray(JsonReader.from(jsonString), PROPERTIES)) {
+			List<PropertyBox> values = boxes.collect(Collectors.toList());
+			assertEquals(2, values.size());
+			assertEquals(Long.valueOf(1), values.get(0).getValue(KEY));
+			assertEquals("Test", values.get(0).getValue(NAME));
+			assertEquals(Double.valueOf(7.1), values.get(0).getValue(NUMBER));
+			assertEquals(TestEnum.ONE, values.get(0).getValue(ENUM));
+			assertEquals(Long.valueOf(2), values.get(1).getValue(KEY));
+			assertEquals("Test2", values.get(1).getValue(NAME));
+		}
+
+		try (Stream<Integer> values = json.streamJsonArray(JsonReader.from("[1,2,3]"), Integer.class)) {
+			assertEquals(6, values.mapToInt(Integer::intValue).sum());
+		}
+
+		try (JsonIterator<Integer> values = json.iterateJsonArray(JsonReader.from("[]"), Integer.class)) {
+			assertFalse(values.hasNext());
+			assertThrows(NoSuchElementException.class, () -> values.next());
+		}
+
+		// elements are decoded only when consumed
+		try (JsonIterator<PropertyBox> values = json.iterateJsonArray(
+				JsonReader.from(new StringReader("[{\"key\":1},{\"key\":2},{\"key\":")), KEY, NAME)) {
+			assertEquals(Long.valueOf(1), values.next().getValue(KEY));
+			assertEquals(Long.valueOf(2), values.next().getValue(KEY));
+			assertThrows(JsonReadException.class, () -> values.next());
+		}
+
+		assertThrows(JsonReadException.class,
+				() -> json.iterateJsonArray(JsonReader.from("{\"key\":1}"), KEY, NAME));
+
+	}
+
+	@Test
+	public void testIncrementalJsonArray() {
+
+		final Json json = JacksonJson.create();
+
+		PropertyBox box1 = PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(NAME, "Test").set(NUMBER, 7.1d)
+				.set(ENUM, TestEnum.ONE).build();
+		PropertyBox box2 = PropertyBox.builder(PROPERTIES).set(KEY, 2L).set(NAME, "Test2").build();
+
+		String expected = json.toJsonArray(PropertyBox.class, box1, box2).asString();
+
+		assertEquals(expected, json.toJsonArray(PropertyBox.class, Stream.of(box1, box2)).asString());
+		assertEquals(expected, new String(json.toJsonArray(PropertyBox.class, Arrays.asList(box1, box2).iterator())
+				.asBytes(), StandardCharsets.UTF_8));
+		assertEquals("[]", json.toJsonArray(PropertyBox.class, Stream.empty()).asString());
+		assertEquals("[1,null,3]", json.toJsonArray(Integer.class, Stream.of(1, null, 3)).asString());
+
+		StringBuilder sb = new StringBuilder();
+		json.toJsonArray(PropertyBox.class, Stream.of(box1, box2)).write(sb);
+		assertEquals(expected, sb.toString());
+
+		// single use
+		final JsonWriter writer = json.toJsonArray(Integer.class, Stream.of(1, 2, 3));
+		assertEquals("[1,2,3]", writer.asString());
+		assertThrows(JsonWriteException.class, () -> writer.asString());
+
+		// periodic flush
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final AtomicInteger flushed = new AtomicInteger();
+		json.toJsonArray(Integer.class, IntStream.range(0, 1000).boxed().peek(i -> {
+			if (i == 500) {
+				flushed.set(stream.size());
+			}
+		})).write(stream);
+		assertTrue(flushed.get() > 0);
+		List<Integer> values = json.fromJsonArray(JsonReader.from(stream.toByteArray()), Integer.class);
+		assertEquals(1000, values.size());
+		assertEquals(Integer.valueOf(999), values.get(999));
+
+	}
+
+	@Test
+	public void testJsonLines() {
+
+		final Json json = JacksonJson.create();
+
+		PropertyBox box1 = PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(NAME, "Test").set(NUMBER, 7.1d)
+				.set(ENUM, TestEnum.ONE).set(LOCAL_DATE, LocalDate.of(1979, Month.MARCH, 9)).build();
+		PropertyBox box2 = PropertyBox.builder(PROPERTIES).set(KEY, 2L).set(NAME, "Test2").build();
+
+		String lines = json.toJsonLines(PropertyBox.class, Stream.of(box1, box2)).asString();
+		assertEquals(json.toJsonString(box1) + "\n" + json.toJsonString(box2) + "\n", lines);
+
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		json.toJsonLines(PropertyBox.class, Arrays.asList(box1, box2).iterator()).write(stream);
+		assertEquals(lines, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+
+		try (Stream<PropertyBox> boxes = json.streamJsonLines(JsonReader.from(stream.toByteArray()), PROPERTIES)) {
+			List<PropertyBox> values = boxes.collect(Collectors.toList());
+			assertEquals(2, values.size());
+			assertEquals(Long.valueOf(1), values.get(0).getValue(KEY));
+			assertEquals("Test", values.get(0).getValue(NAME));
+			assertEquals(TestEnum.ONE, values.get(0).getValue(ENUM));
+			assertEquals(LocalDate.of(1979, Month.MARCH, 9), values.get(0).getValue(LOCAL_DATE));
+			assertEquals(Long.valueOf(2), values.get(1).getValue(KEY));
+			assertEquals("Test2", values.get(1).getValue(NAME));
+		}
+
+		try (Stream<Integer> values = json.streamJsonLines(JsonReader.from("1\n2\r\n\n3"), Integer.class)) {
+			assertEquals(Arrays.asList(1, 2, 3), values.collect(Collectors.toList()));
+		}
+
+		try (Stream<Integer> values = json.streamJsonLines(JsonReader.from(""), Integer.class)) {
+			assertEquals(0, values.count());
+		}
+
+		// a JSON array on a single line is a single value
+		try (Stream<int[]> values = json.streamJsonLines(JsonReader.from("[1,2]\n[3]\n"), int[].class)) {
+			assertEquals(2, values.count());
+		}
+
+		// values are decoded only when consumed
+		try (JsonIterator<PropertyBox> values = json.iterateJsonLines(
+				JsonReader.from(new StringReader("{\"key\":1}\n{\"key\":2}\n{\"key\":")), KEY, NAME)) {
+			assertEquals(Long.valueOf(1), values.next().getValue(KEY));
+			assertEquals(Long.valueOf(2), values.next().getValue(KEY));
+			assertThrows(JsonReadException.class, () -> values.next());
+		}
+
+	}
+
+	@Test
+	public void testColumnarArray() {
+
+		assertTrue(JacksonJson.create() instanceof ColumnarJson);
+
+		final ColumnarJson json = (ColumnarJson) JacksonJson.create();
+
+		PropertyBox box1 = PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(NAME, "Test").set(NUMBER, 7.1d)
+				.set(ENUM, TestEnum.ONE).set(LOCAL_DATE, LocalDate.of(1979, Month.MARCH, 9)).build();
+		PropertyBox box2 = PropertyBox.builder(PROPERTIES).set(KEY, 2L).set(NAME, "Test2").build();
+
+		String columnar = json.toJsonColumnarArray(Arrays.asList(box1, box2)).asString();
+		assertNotNull(columnar);
+		assertTrue(columnar.startsWith("{\"columns\":[\"key\",\"name\",\"number\",\"date\",\"enum\""));
+		assertTrue(columnar.contains("\"rows\":[[1,\"Test\",7.1,null,\"ONE\""));
+
+		List<PropertyBox> values = json.fromJsonColumnarArray(columnar, PROPERTIES);
+		assertEquals(2, values.size());
+		assertEquals(Long.valueOf(1), values.get(0).getValue(KEY));
+		assertEquals("Test", values.get(0).getValue(NAME));
+		assertEquals(Double.valueOf(7.1), values.get(0).getValue(NUMBER));
+		assertEquals(TestEnum.ONE, values.get(0).getValue(ENUM));
+		assertEquals(LocalDate.of(1979, Month.MARCH, 9), values.get(0).getValue(LOCAL_DATE));
+		assertEquals(Long.valueOf(2), values.get(1).getValue(KEY));
+		assertEquals("Test2", values.get(1).getValue(NAME));
+		assertFalse(values.get(1).containsValue(NUMBER));
+
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		json.toJsonColumnarArray(Stream.of(box1, box2)).write(stream);
+		assertEquals(columnar, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+
+		// columns are matched by name, unknown columns are ignored
+		values = json.fromJsonColumnarArray(
+				"{\"columns\":[\"name\",\"unknown\",\"key\"],\"rows\":[[\"A\",{\"x\":1},1],null,[\"B\",[2],2,\"extra\"]]}",
+				KEY, NAME);
+		assertEquals(3, values.size());
+		assertEquals(Long.valueOf(1), values.get(0).getValue(KEY));
+		assertEquals("A", values.get(0).getValue(NAME));
+		assertNull(values.get(1));
+		assertEquals(Long.valueOf(2), values.get(2).getValue(KEY));
+		assertEquals("B", values.get(2).getValue(NAME));
+
+		assertEquals("{\"columns\":[],\"rows\":[]}", json.toJsonColumnarArray(new ArrayList<PropertyBox>()).asString());
+		assertEquals(0, json.fromJsonColumnarArray("{\"columns\":[],\"rows\":[]}", KEY).size());
+
+		assertThrows(JsonReadException.class,
+				() -> json.fromJsonColumnarArray("{\"rows\":[[1]],\"columns\":[\"key\"]}", KEY));
+		assertThrows(JsonReadException.class, () -> json.fromJsonColumnarArray("[[1]]", KEY));
+		assertThrows(JsonReadException.class,
+				() -> json.fromJsonColumnarArray("{\"columns\":[\"key\"],\"rows\":[{\"key\":1}]}", KEY));
+
+		// rows are decoded only when consumed
+		try (JsonIterator<PropertyBox> rows = json.iterateJsonColumnarArray(
+				JsonReader.from(new StringReader("{\"columns\":[\"key\"],\"rows\":[[1],[2],[")), KEY, NAME)) {
+			assertEquals(Long.valueOf(1), rows.next().getValue(KEY));
+			assertEquals(Long.valueOf(2), rows.next().getValue(KEY));
+			assertThrows(JsonReadException.class, () -> rows.next());
+		}
+
+	}
+
+	@Test
+	public void testAsyncDecoder() {
+
+		final Json json = JacksonJson.create();
+
+		final List<PropertyBox> boxes = IntStream.range(0, 50)
+				.mapToObj(i -> PropertyBox.builder(PROPERTIES).set(KEY, Long.valueOf(i)).set(NAME, "T\u00e8st " + i)
+						.set(LOCAL_DATE, LocalDate.of(1979, Month.MARCH, 9)).build())
+				.collect(Collectors.toList());
+
+		// JSON array fed in small chunks, splitting multi-byte characters
+		final byte[] array = json.toJsonArray(PropertyBox.class, boxes).asBytes();
+		final List<PropertyBox> decoded = new ArrayList<>();
+		try (AsyncPropertyBoxDecoder decoder = AsyncPropertyBoxDecoder.create(PROPERTIES)) {
+			for (int i = 0; i < array.length; i += 7) {
+				final ByteBuffer chunk = ByteBuffer.wrap(array, i, Math.min(7, array.length - i));
+				decoder.feed(chunk, decoded::add);
+				assertFalse(chunk.hasRemaining());
+			}
+			// elements are emitted as soon as they are parsed
+			assertEquals(50, decoded.size());
+			assertEquals(0, decoder.complete().size());
+		}
+		assertEquals(Long.valueOf(49), decoded.get(49).getValue(KEY));
+		assertEquals("T\u00e8st 49", decoded.get(49).getValue(NAME));
+		assertEquals(LocalDate.of(1979, Month.MARCH, 9), decoded.get(49).getValue(LOCAL_DATE));
+
+		// single object and root-level values sequence
+		final String value = json.toJsonString(boxes.get(1));
+		try (AsyncPropertyBoxDecoder decoder = AsyncPropertyBoxDecoder.create(new ObjectMapper(), PROPERTIES)) {
+			assertEquals(0, decoder.feed(value.substring(0, 5).getBytes(StandardCharsets.UTF_8)).size());
+			final ByteBuffer direct = ByteBuffer.allocateDirect(value.length() * 2 + 10);
+			direct.put((value.substring(5) + "\n" + value + "\nnull").getBytes(StandardCharsets.UTF_8)).flip();
+			final List<PropertyBox> values = decoder.feed(direct);
+			assertEquals(2, values.size());
+			assertEquals(Long.valueOf(1), values.get(1).getValue(KEY));
+			assertEquals(0, decoder.complete().size());
+			assertThrows(IllegalStateException.class, () -> decoder.feed(new byte[] { 1 }));
+		}
+
+		// truncated data
+		try (AsyncPropertyBoxDecoder decoder = AsyncPropertyBoxDecoder.create(PROPERTIES)) {
+			assertEquals(1, decoder.feed(("[" + value + "," + value.substring(0, 10)).getBytes()).size());
+			assertThrows(JsonReadException.class, () -> decoder.complete());
+		}
+
+		// invalid data
+		try (AsyncPropertyBoxDecoder decoder = AsyncPropertyBoxDecoder.create(PROPERTIES)) {
+			assertThrows(JsonReadException.class, () -> decoder.feed("{\"key\":]".getBytes()));
+		}
+		try (AsyncPropertyBoxDecoder decoder = AsyncPropertyBoxDecoder.create(PROPERTIES)) {
+			assertThrows(JsonReadException.class, () -> decoder.feed("[1]".getBytes()));
+		}
+
+	}
+
 	@Test
 	public void testNulls() {
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.jackson.test;
+
+import static com.holonplatform.json.jackson.test.DataTest.KEY;
+import static com.holonplatform.json.jackson.test.DataTest.NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.JsonReader;
+import com.holonplatform.json.JsonWriter;
+import com.holonplatform.json.jackson.JacksonJson;
+
+public class TestJsonDefaultMethods {
+
+	private static final PropertySet<?> SET = PropertySet.of(KEY, NAME);
+
+	@Test
+	public void testIterateJsonArray() {
+
+		final Json json = new MinimalJson(JacksonJson.create());
+
+		try (JsonIterator<Integer> values = json.iterateJsonArray(JsonReader.from("[1,2,3]"), Integer.class)) {
+			assertEquals(Integer.valueOf(1), values.next());
+			assertEquals(Integer.valueOf(2), values.next());
+			assertEquals(Integer.valueOf(3), values.next());
+			assertFalse(values.hasNext());
+		}
+
+		try (JsonIterator<PropertyBox> values = json.iterateJsonArray(
+				JsonReader.from("[{\"key\":1,\"name\":\"One\"},{\"key\":2}]"), SET)) {
+			assertEquals("One", values.next().getValue(NAME));
+			assertEquals(Long.valueOf(2), values.next().getValue(KEY));
+			assertFalse(values.hasNext());
+		}
+	}
+
+	@Test
+	public void testToJsonArray() {
+
+		final Json json = new MinimalJson(JacksonJson.create());
+
+		assertEquals("[1,2,3]", json.toJsonArray(Integer.class, Arrays.asList(1, 2, 3).iterator()).asString());
+		assertEquals("[1,2]", json.toJsonArray(Integer.class, Stream.of(1, 2)).asString());
+		assertEquals("[]", json.toJsonArray(Integer.class, Stream.empty()).asString());
+	}
+
+	@Test
+	public void testJsonLines() {
+
+		final Json json = new MinimalJson(JacksonJson.create());
+
+		PropertyBox box1 = PropertyBox.builder(SET).set(KEY, 1L).set(NAME, "One").build();
+		PropertyBox box2 = PropertyBox.builder(SET).set(KEY, 2L).build();
+
+		final String lines = json.toJsonLines(PropertyBox.class, Stream.of(box1, box2)).asString();
+		assertEquals("{\"key\":1,\"name\":\"One\"}\n{\"key\":2}\n", lines);
+
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		json.toJsonLines(Integer.class, Arrays.asList(1, 2).iterator()).write(stream);
+		assertEquals("1\n2\n", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+
+		try (Stream<PropertyBox> values = json.streamJsonLines(JsonReader.from(lines), SET)) {
+			List<PropertyBox> boxes = values.collect(Collectors.toList());
+			assertEquals(2, boxes.size());
+			assertEquals("One", boxes.get(0).getValue(NAME));
+			assertEquals(Long.valueOf(2), boxes.get(1).getValue(KEY));
+		}
+
+		try (JsonIterator<Integer> values = json.iterateJsonLines(JsonReader.from("1\r\n\n 2\n3"), Integer.class)) {
+			assertEquals(Integer.valueOf(1), values.next());
+			assertEquals(Integer.valueOf(2), values.next());
+			assertEquals(Integer.valueOf(3), values.next());
+			assertFalse(values.hasNext());
+		}
+
+		try (JsonIterator<Integer> values = json.iterateJsonLines(JsonReader.from("1\n{"), Integer.class)) {
+			assertEquals(Integer.valueOf(1), values.next());
+			assertThrows(JsonReadException.class, () -> values.next());
+		}
+	}
+
+	/**
+	 * A {@link Json} implementation which only implements the abstract methods.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final class MinimalJson implements Json {
+
+		private final Json json;
+
+		MinimalJson(Json json) {
+			super();
+			this.json = json;
+		}
+
+		@Override
+		public JsonWriter toJson(Object value) {
+			return json.toJson(value);
+		}
+
+		@Override
+		public <T> JsonWriter toJsonArray(Class<T> type, Collection<T> values) {
+			return json.toJsonArray(type, values);
+		}
+
+		@Override
+		public <T> T fromJson(JsonReader reader, Class<T> type) {
+			return json.fromJson(reader, type);
+		}
+
+		@Override
+		public <T> List<T> fromJsonArray(JsonReader reader, Class<T> type) {
+			return json.fromJsonArray(reader, type);
+		}
+
+		@Override
+		public <P extends Property> PropertyBox fromJson(JsonReader reader, Iterable<P> propertySet) {
+			return json.fromJson(reader, propertySet);
+		}
+
+		@Override
+		public <P extends Property> List<PropertyBox> fromJsonArray(JsonReader reader, Iterable<P> propertySet) {
+			return json.fromJsonArray(reader, propertySet);
+		}
+
+	}
+
+}
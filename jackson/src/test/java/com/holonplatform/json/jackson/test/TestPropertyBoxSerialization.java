@@ -28,6 +28,7 @@ import static com.holonplatform.json.jackson.test.DataTest.PROPERTIES;
 import static com.holonplatform.json.jackson.test.DataTest.TEST;
 import static com.holonplatform.json.jackson.test.DataTest.TEST_DATA_VALUE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -44,6 +45,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.json.config.JsonConfigProperties;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
 import com.holonplatform.json.jackson.JacksonConfiguration;
 import com.holonplatform.json.jackson.test.DataTest.TestEnum;
 
@@ -174,4 +177,44 @@ public class TestPropertyBoxSerialization {
 
 	}
 
+	@Test
+	public void testSerializationPlanReuse() throws IOException {
+
+		final ObjectWriter writer = mapper.writer();
+
+		PropertyBox box1 = PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(NAME, "Test").set(BOOL, Boolean.TRUE)
+				.build();
+		PropertyBox box2 = PropertyBox.builder(PROPERTIES).set(KEY, 2L).set(NUMBER, 8.1d).build();
+		PropertyBox box3 = PropertyBox.builder(PROPERTIES).set(KEY, 3L).set(NAME, "Test3").set(ENUM, TestEnum.TWO)
+				.build();
+
+		assertEquals("{\"key\":1,\"name\":\"Test\",\"bool\":true}", writer.writeValueAsString(box1));
+		assertEquals("{\"key\":2,\"number\":8.1}", writer.writeValueAsString(box2));
+		assertEquals("{\"key\":3,\"name\":\"Test3\",\"enum\":\"TWO\"}", writer.writeValueAsString(box3));
+
+		// same PropertySet using a different serialization mode
+		String json = writer.withAttribute(JsonConfigProperties.PROPERTYBOX_SERIALIZATION_MODE_ATTRIBUTE_NAME,
+				PropertyBoxSerializationMode.ALL).writeValueAsString(box1);
+		assertTrue(json.startsWith("{\"key\":1,\"name\":\"Test\",\"bool\":true,"));
+		assertTrue(json.endsWith(":\"Name is: Test\"}"));
+		assertEquals("{\"key\":1,\"name\":\"Test\",\"bool\":true}", writer.writeValueAsString(box1));
+
+	}
+
+	@Test
+	public void testUnknownFields() throws IOException {
+
+		final String json = "{\"unknown1\":{\"a\":[1,2,{\"b\":null}]},\"key\":1,\"unknown2\":[[],{}],"
+				+ "\"name\":\"Test\",\"number\":null,\"unknown3\":\"x\",\"bool\":true}";
+
+		PropertyBox readBox = PROPERTIES.execute(() -> mapper.reader().forType(PropertyBox.class).readValue(json));
+
+		assertNotNull(readBox);
+		assertEquals(Long.valueOf(1), readBox.getValue(KEY));
+		assertEquals("Test", readBox.getValue(NAME));
+		assertEquals(Boolean.TRUE, readBox.getValue(BOOL));
+		assertFalse(readBox.getValueIfPresent(NUMBER).isPresent());
+
+	}
+
 }
@@ -15,6 +15,8 @@
  */
 package com.holonplatform.json.jackson.test;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -31,4 +33,18 @@ public class TestProvider {
 		assertTrue(JacksonJson.class.isAssignableFrom(Json.require().getClass()));
 	}
 
+	@Test
+	public void testCachedJson() {
+		final Json json = Json.require();
+		assertSame(json, Json.require());
+		assertSame(json, Json.get(TestProvider.class.getClassLoader()).orElse(null));
+
+		Json.refresh();
+
+		final Json refreshed = Json.require();
+		assertNotSame(json, refreshed);
+		assertTrue(JacksonJson.class.isAssignableFrom(refreshed.getClass()));
+		assertSame(refreshed, Json.require());
+	}
+
 }
@@ -28,10 +28,16 @@ import java.util.Date;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holonplatform.core.beans.Temporal;
 import com.holonplatform.core.internal.utils.CalendarUtils;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.temporal.TemporalType;
 import com.holonplatform.json.datetime.CurrentSerializationTemporalType;
+import com.holonplatform.json.internal.datetime.ISO8601DateFormats;
 import com.holonplatform.json.jackson.JacksonConfiguration;
 
 public class TestTemporals {
@@ -77,6 +83,99 @@ public class TestTemporals {
 
 	}
 
+	@Test
+	public void testTemporalTypePropertyBox() throws IOException {
+
+		final PathProperty<Date> DATE = PathProperty.create("date", Date.class).temporalType(TemporalType.DATE);
+		final PathProperty<Date> TIME = PathProperty.create("time", Date.class).temporalType(TemporalType.TIME);
+		final PathProperty<Date> DATE_TIME = PathProperty.create("dateTime", Date.class)
+				.temporalType(TemporalType.DATE_TIME);
+		final PathProperty<Date> NO_TYPE = PathProperty.create("noType", Date.class);
+
+		final ObjectMapper mapper = JacksonConfiguration.mapper();
+
+		Calendar c = Calendar.getInstance();
+		c.set(1979, 2, 9, 10, 30);
+		c.set(Calendar.SECOND, 25);
+		c.set(Calendar.MILLISECOND, 0);
+		Date date = c.getTime();
+
+		final int offset = (c.get(Calendar.ZONE_OFFSET) + c.get(Calendar.DST_OFFSET)) / (60 * 60 * 1000);
+		final String offsetZ = ((offset < 0) ? "-" : "+") + StringUtils.leftPad("" + Math.abs(offset), 2, '0') + "00";
+
+		PropertyBox pb = PropertyBox.builder(DATE, TIME, DATE_TIME, NO_TYPE).set(DATE, date).set(TIME, date)
+				.set(DATE_TIME, date).set(NO_TYPE, date).build();
+
+		String json = mapper.writeValueAsString(pb);
+		assertEquals("{\"date\":\"1979-03-09\",\"time\":\"10:30:25\",\"dateTime\":\"1979-03-09T10:30:25" + offsetZ
+				+ "\",\"noType\":\"1979-03-09T10:30:25" + offsetZ + "\"}", json);
+
+		// current temporal type is used only when the property temporal type is not available
+		try {
+			CurrentSerializationTemporalType.setCurrentTemporalType(TemporalType.TIME);
+			assertEquals("{\"date\":\"1979-03-09\"}", mapper.writeValueAsString(PropertyBox.builder(DATE).set(DATE, date).build()));
+			assertEquals("\"10:30:25\"", mapper.writeValueAsString(date));
+		} finally {
+			CurrentSerializationTemporalType.removeCurrentTemporalType();
+		}
+
+	}
+
+	@Test
+	public void testSqlDates() throws IOException {
+
+		final ObjectMapper mapper = JacksonConfiguration.mapper();
+
+		Calendar c = Calendar.getInstance();
+		c.set(1979, 2, 9, 10, 30);
+		c.set(Calendar.SECOND, 25);
+		c.set(Calendar.MILLISECOND, 0);
+		final long time = c.getTimeInMillis();
+
+		final String expected = "\"" + ISO8601DateFormats.format(new Date(time)) + "\"";
+
+		assertEquals(expected, mapper.writeValueAsString(new java.sql.Date(time)));
+		assertEquals(expected, mapper.writeValueAsString(new java.sql.Time(time)));
+		assertEquals(expected, mapper.writeValueAsString(new java.sql.Timestamp(time)));
+
+		final PathProperty<java.sql.Date> DATE = PathProperty.create("date", java.sql.Date.class)
+				.temporalType(TemporalType.DATE);
+		final PathProperty<java.sql.Timestamp> TIMESTAMP = PathProperty.create("timestamp", java.sql.Timestamp.class)
+				.temporalType(TemporalType.TIME);
+
+		final PropertyBox pb = PropertyBox.builder(DATE, TIMESTAMP).set(DATE, new java.sql.Date(time))
+				.set(TIMESTAMP, new java.sql.Timestamp(time)).build();
+		assertEquals("{\"date\":\"1979-03-09\",\"timestamp\":\"10:30:25\"}", mapper.writeValueAsString(pb));
+	}
+
+	@Test
+	public void testTemporalAnnotation() throws IOException {
+
+		final ObjectMapper mapper = JacksonConfiguration.mapper();
+
+		Calendar c = Calendar.getInstance();
+		c.set(1979, 2, 9, 10, 30);
+		c.set(Calendar.SECOND, 25);
+		c.set(Calendar.MILLISECOND, 0);
+
+		final TemporalBean bean = new TemporalBean();
+		bean.date = c.getTime();
+		bean.time = c.getTime();
+
+		assertEquals("{\"date\":\"1979-03-09\",\"time\":\"10:30:25\"}", mapper.writeValueAsString(bean));
+	}
+
+	@JsonAutoDetect(fieldVisibility = Visibility.ANY)
+	private static class TemporalBean {
+
+		@Temporal(TemporalType.DATE)
+		Date date;
+
+		@Temporal(TemporalType.TIME)
+		Date time;
+
+	}
+
 	@Test
 	public void testLocalDate() throws IOException {
 
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.config.JsonColumnarFormat;
+import com.holonplatform.json.config.JsonConfigProperties;
+
+/**
+ * A {@link Json} API which supports the compact <em>columnar</em> format to
+ * serialize and deserialize a sequence of {@link PropertyBox} values which
+ * share the same property set, writing the property names only once. See
+ * {@link #toJsonColumnarArray(Iterator)} and
+ * {@link #fromJsonColumnarArray(JsonReader, Iterable)}.
+ * <p>
+ * The rows are written and read using the {@link PropertyBox} serialization
+ * strategy of the concrete JSON parser implementation, so the columnar format
+ * is provided only by the implementations which support it, such as the
+ * Jackson and Gson based ones.
+ * </p>
+ *
+ * @since 6.0.3
+ * 
+ * @see JsonColumnarFormat
+ */
+public interface ColumnarJson extends Json {
+
+	/**
+	 * Incrementally serialize the {@link PropertyBox} values provided by given
+	 * {@link Iterator} using the columnar format, i.e. as a JSON object which
+	 * provides the property names only once, in the
+	 * {@link JsonColumnarFormat#COLUMNS} array, and the property values of each
+	 * {@link PropertyBox} as a JSON array of the {@link JsonColumnarFormat#ROWS}
+	 * array.
+	 * <p>
+	 * The columns are obtained from the property set of the first
+	 * {@link PropertyBox}, which must be shared by all the values. A
+	 * <code>null</code> JSON value is written for each missing property value.
+	 * The values are obtained from the iterator and serialized one at a time only
+	 * when the JSON data is written, and the output is periodically flushed. See
+	 * {@link JsonConfigProperties#STREAM_FLUSH_INTERVAL}.
+	 * </p>
+	 * <p>
+	 * Since the iterator can be consumed only once, the JSON data can be obtained
+	 * only once from the returned {@link JsonWriter}.
+	 * </p>
+	 * @param values PropertyBox values iterator (not null)
+	 * @return a {@link JsonWriter} from which to obtain the serialized JSON data.
+	 * @see JsonColumnarFormat
+	 */
+	JsonWriter toJsonColumnarArray(Iterator<? extends PropertyBox> values);
+
+	/**
+	 * Serialize given {@link PropertyBox} values using the columnar format.
+	 * @param values PropertyBox values to serialize (not null)
+	 * @return a {@link JsonWriter} from which to obtain the serialized JSON data.
+	 * @see #toJsonColumnarArray(Iterator)
+	 */
+	default JsonWriter toJsonColumnarArray(Collection<? extends PropertyBox> values) {
+		ObjectUtils.argumentNotNull(values, "Values must be not null");
+		return toJsonColumnarArray(values.iterator());
+	}
+
+	/**
+	 * Incrementally serialize the {@link PropertyBox} values provided by given
+	 * {@link Stream} using the columnar format. The stream is not closed.
+	 * @param values PropertyBox values stream (not null)
+	 * @return a {@link JsonWriter} from which to obtain the serialized JSON data.
+	 * @see #toJsonColumnarArray(Iterator)
+	 */
+	default JsonWriter toJsonColumnarArray(Stream<? extends PropertyBox> values) {
+		ObjectUtils.argumentNotNull(values, "Values must be not null");
+		return toJsonColumnarArray(values.iterator());
+	}
+
+	/**
+	 * Lazily deserializes the specified columnar format JSON data source into
+	 * {@link PropertyBox} instances, using given <code>propertySet</code> as
+	 * {@link PropertyBox} property set.
+	 * <p>
+	 * The {@link JsonColumnarFormat#COLUMNS} array, which must precede the
+	 * {@link JsonColumnarFormat#ROWS} array, is bound to the property set only
+	 * once: the columns which do not match any property are ignored. Each row is
+	 * decoded only when it is consumed from the returned {@link JsonIterator}. The
+	 * iterator must be closed to release the JSON data source, unless all the
+	 * values are consumed.
+	 * </p>
+	 * @param <P>         Actual property type
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A {@link JsonIterator} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see JsonColumnarFormat
+	 */
+	@SuppressWarnings("rawtypes")
+	<P extends Property> JsonIterator<PropertyBox> iterateJsonColumnarArray(JsonReader reader,
+			Iterable<P> propertySet);
+
+	/**
+	 * Lazily deserializes the specified columnar format JSON data source into
+	 * {@link PropertyBox} instances, using given <code>propertySet</code> as
+	 * {@link PropertyBox} property set.
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A {@link JsonIterator} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see #iterateJsonColumnarArray(JsonReader, Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	default JsonIterator<PropertyBox> iterateJsonColumnarArray(JsonReader reader, Property... propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		return iterateJsonColumnarArray(reader, PropertySet.of(propertySet));
+	}
+
+	/**
+	 * Deserializes the specified columnar format JSON data source into a
+	 * {@link List} of {@link PropertyBox}, using given <code>propertySet</code> as
+	 * {@link PropertyBox} property set.
+	 * @param <P>         Actual property type
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return the deserialized {@link PropertyBox}s list
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see #iterateJsonColumnarArray(JsonReader, Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> List<PropertyBox> fromJsonColumnarArray(JsonReader reader,
+			Iterable<P> propertySet) {
+		try (JsonIterator<PropertyBox> values = iterateJsonColumnarArray(reader, propertySet)) {
+			final List<PropertyBox> boxes = new ArrayList<>();
+			values.forEachRemaining(boxes::add);
+			return boxes;
+		}
+	}
+
+	/**
+	 * Deserializes the specified columnar format JSON data source into a
+	 * {@link List} of {@link PropertyBox}, using given <code>propertySet</code> as
+	 * {@link PropertyBox} property set.
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return the deserialized {@link PropertyBox}s list
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see #iterateJsonColumnarArray(JsonReader, Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	default List<PropertyBox> fromJsonColumnarArray(JsonReader reader, Property... propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		return fromJsonColumnarArray(reader, PropertySet.of(propertySet));
+	}
+
+	/**
+	 * Deserializes the specified columnar format JSON string into a {@link List}
+	 * of {@link PropertyBox}, using given <code>propertySet</code> as
+	 * {@link PropertyBox} property set.
+	 * @param <P>         Actual property type
+	 * @param json        JSON string
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return the deserialized {@link PropertyBox}s list
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see #iterateJsonColumnarArray(JsonReader, Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> List<PropertyBox> fromJsonColumnarArray(String json, Iterable<P> propertySet) {
+		return fromJsonColumnarArray(JsonReader.from(json), propertySet);
+	}
+
+	/**
+	 * Deserializes the specified columnar format JSON string into a {@link List}
+	 * of {@link PropertyBox}, using given <code>propertySet</code> as
+	 * {@link PropertyBox} property set.
+	 * @param json        JSON string
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return the deserialized {@link PropertyBox}s list
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see #iterateJsonColumnarArray(JsonReader, Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	default List<PropertyBox> fromJsonColumnarArray(String json, Property... propertySet) {
+		return fromJsonColumnarArray(JsonReader.from(json), propertySet);
+	}
+
+}
@@ -16,10 +16,15 @@
 package com.holonplatform.json;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 import com.holonplatform.core.Context;
 import com.holonplatform.core.internal.utils.ClassUtils;
@@ -28,6 +33,13 @@ import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
 import com.holonplatform.core.property.VirtualProperty;
+import com.holonplatform.json.config.JsonConfigProperties;
+import com.holonplatform.json.internal.CollectedJsonIterator;
+import com.holonplatform.json.internal.DefaultJsonLinesIterator;
+import com.holonplatform.json.internal.DefaultJsonLinesWriter;
+import com.holonplatform.json.internal.JsonArrayFlowEncoder;
+import com.holonplatform.json.internal.JsonFlowDecoder;
+import com.holonplatform.json.internal.JsonFlowPublisher;
 import com.holonplatform.json.internal.JsonProviders;
 
 /**
@@ -40,7 +52,14 @@ import com.holonplatform.json.internal.JsonProviders;
  * A set of methods are specifically provided to deal with collections in a
  * simple way, serializing and deserializing to and from a JSON array. See for
  * example {@link #toJsonArray(Class, Collection)} or
- * {@link #fromJsonArray(JsonReader, Class)}.
+ * {@link #fromJsonArray(JsonReader, Class)}. Large JSON arrays can be lazily
+ * deserialized one element at a time, see for example
+ * {@link #streamJsonArray(JsonReader, Class)}, and a {@link Stream} of values
+ * can be incrementally serialized as a JSON array using
+ * {@link #toJsonArray(Class, Stream)}. The
+ * <a href="https://jsonlines.org">JSON Lines</a> format is supported too, see
+ * {@link #toJsonLines(Class, Stream)} and
+ * {@link #streamJsonLines(JsonReader, Class)}.
  * </p>
  * <p>
  * The {@link JsonWriter} interface is used to provide the JSON serialization
@@ -126,6 +145,110 @@ public interface Json {
 		return toJsonArray(type, (values == null) ? null : Arrays.asList(values));
 	}
 
+	/**
+	 * Incrementally serialize the values provided by given {@link Iterator} as a
+	 * JSON array.
+	 * <p>
+	 * The values are obtained from the iterator and serialized one at a time only
+	 * when the JSON data is written, and the output is periodically flushed, so
+	 * the values never need to be collected in memory. See
+	 * {@link JsonConfigProperties#STREAM_FLUSH_INTERVAL}.
+	 * </p>
+	 * <p>
+	 * Since the iterator can be consumed only once, the JSON data can be obtained
+	 * only once from the returned {@link JsonWriter}.
+	 * </p>
+	 * <p>
+	 * The default implementation collects the values into a {@link List} and
+	 * delegates to {@link #toJsonArray(Class, Collection)}: the {@link Json}
+	 * implementations override it to provide the incremental serialization.
+	 * </p>
+	 * @param <T>    Values type
+	 * @param type   Value type (not null)
+	 * @param values Values iterator (not null)
+	 * @return a {@link JsonWriter} from which to obtain the serialized JSON data.
+	 * @since 6.0.3
+	 */
+	default <T> JsonWriter toJsonArray(Class<T> type, Iterator<? extends T> values) {
+		ObjectUtils.argumentNotNull(values, "Values must be not null");
+		final List<T> list = new ArrayList<>();
+		values.forEachRemaining(list::add);
+		return toJsonArray(type, list);
+	}
+
+	/**
+	 * Incrementally serialize the values provided by given {@link Stream} as a
+	 * JSON array.
+	 * <p>
+	 * The stream elements are consumed and serialized one at a time only when the
+	 * JSON data is written, and the output is periodically flushed, so the values
+	 * never need to be collected in memory. See
+	 * {@link JsonConfigProperties#STREAM_FLUSH_INTERVAL}. The stream is not
+	 * closed.
+	 * </p>
+	 * <p>
+	 * Since the stream can be consumed only once, the JSON data can be obtained
+	 * only once from the returned {@link JsonWriter}.
+	 * </p>
+	 * @param <T>    Values type
+	 * @param type   Value type (not null)
+	 * @param values Values stream (not null)
+	 * @return a {@link JsonWriter} from which to obtain the serialized JSON data.
+	 * @since 6.0.3
+	 */
+	default <T> JsonWriter toJsonArray(Class<T> type, Stream<? extends T> values) {
+		ObjectUtils.argumentNotNull(values, "Values must be not null");
+		return toJsonArray(type, values.iterator());
+	}
+
+	/**
+	 * Incrementally serialize the values provided by given {@link Iterator} as
+	 * <a href="https://jsonlines.org">JSON Lines</a> (also known as
+	 * <em>NDJSON</em>), i.e. writing each value as a single line JSON text
+	 * terminated by a line feed character.
+	 * <p>
+	 * The values are obtained from the iterator and serialized one at a time only
+	 * when the JSON data is written, using a single JSON generator, and the output
+	 * is periodically flushed. See
+	 * {@link JsonConfigProperties#STREAM_FLUSH_INTERVAL}.
+	 * </p>
+	 * <p>
+	 * Since the iterator can be consumed only once, the JSON data can be obtained
+	 * only once from the returned {@link JsonWriter}.
+	 * </p>
+	 * <p>
+	 * The default implementation serializes each value using
+	 * {@link #toJson(Object)}, which is expected to produce a single line JSON
+	 * text: the {@link Json} implementations override it to use a single JSON
+	 * generator.
+	 * </p>
+	 * @param <T>    Values type
+	 * @param type   Value type (not null)
+	 * @param values Values iterator (not null)
+	 * @return a {@link JsonWriter} from which to obtain the serialized JSON data.
+	 * @since 6.0.3
+	 */
+	default <T> JsonWriter toJsonLines(Class<T> type, Iterator<? extends T> values) {
+		return new DefaultJsonLinesWriter<>(type, values, this::toJson);
+	}
+
+	/**
+	 * Incrementally serialize the values provided by given {@link Stream} as
+	 * <a href="https://jsonlines.org">JSON Lines</a> (also known as
+	 * <em>NDJSON</em>), i.e. writing each value as a single line JSON text
+	 * terminated by a line feed character. The stream is not closed.
+	 * @param <T>    Values type
+	 * @param type   Value type (not null)
+	 * @param values Values stream (not null)
+	 * @return a {@link JsonWriter} from which to obtain the serialized JSON data.
+	 * @see #toJsonLines(Class, Iterator)
+	 * @since 6.0.3
+	 */
+	default <T> JsonWriter toJsonLines(Class<T> type, Stream<? extends T> values) {
+		ObjectUtils.argumentNotNull(values, "Values must be not null");
+		return toJsonLines(type, values.iterator());
+	}
+
 	/**
 	 * Serialize given collection of values as a JSON array string.
 	 * @param <T>    Values type
@@ -314,6 +437,367 @@ public interface Json {
 		return fromJsonArray(JsonReader.from(json), PropertySet.of(propertySet));
 	}
 
+	/**
+	 * Lazily deserializes the specified JSON array data source into objects of
+	 * the specified type.
+	 * <p>
+	 * The array elements are decoded one at a time, only when they are consumed
+	 * from the returned {@link JsonIterator}, so the JSON array is never fully
+	 * materialized. The iterator must be closed to release the JSON data source,
+	 * unless all the elements are consumed.
+	 * </p>
+	 * <p>
+	 * The default implementation deserializes the whole JSON array using
+	 * {@link #fromJsonArray(JsonReader, Class)}: the {@link Json}
+	 * implementations override it to provide the lazy deserialization.
+	 * </p>
+	 * @param <T>    desired object type
+	 * @param reader JSON data source (not null)
+	 * @param type   the type of the desired objects (not null)
+	 * @return A {@link JsonIterator} of the deserialized objects
+	 * @throws JsonReadException If the JSON data source is not a JSON array or a
+	 *                           JSON deserialization error occured
+	 * @since 6.0.3
+	 */
+	default <T> JsonIterator<T> iterateJsonArray(JsonReader reader, Class<T> type) {
+		return new CollectedJsonIterator<>(type, fromJsonArray(reader, type));
+	}
+
+	/**
+	 * Lazily deserializes the specified JSON array data source into
+	 * {@link PropertyBox} instances, using given <code>propertySet</code> as
+	 * {@link PropertyBox} property set.
+	 * <p>
+	 * The array elements are decoded one at a time, only when they are consumed
+	 * from the returned {@link JsonIterator}, so the JSON array is never fully
+	 * materialized. The iterator must be closed to release the JSON data source,
+	 * unless all the elements are consumed.
+	 * </p>
+	 * <p>
+	 * The default implementation deserializes the whole JSON array using
+	 * {@link #fromJsonArray(JsonReader, Iterable)}: the {@link Json}
+	 * implementations override it to provide the lazy deserialization.
+	 * </p>
+	 * @param <P>         Actual property type
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A {@link JsonIterator} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If the JSON data source is not a JSON array or a
+	 *                           JSON deserialization error occured
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> JsonIterator<PropertyBox> iterateJsonArray(JsonReader reader,
+			Iterable<P> propertySet) {
+		return new CollectedJsonIterator<>(PropertyBox.class, fromJsonArray(reader, propertySet));
+	}
+
+	/**
+	 * Lazily deserializes the specified JSON array data source into
+	 * {@link PropertyBox} instances, using given <code>propertySet</code> as
+	 * {@link PropertyBox} property set.
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A {@link JsonIterator} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If the JSON data source is not a JSON array or a
+	 *                           JSON deserialization error occured
+	 * @see #iterateJsonArray(JsonReader, Iterable)
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default JsonIterator<PropertyBox> iterateJsonArray(JsonReader reader, Property... propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		return iterateJsonArray(reader, PropertySet.of(propertySet));
+	}
+
+	/**
+	 * Lazily deserializes the specified JSON array data source into a
+	 * {@link Stream} of objects of the specified type.
+	 * <p>
+	 * The array elements are decoded one at a time, only when they are consumed
+	 * from the stream. The stream should be closed, for example using a
+	 * <em>try-with-resources</em> statement, to release the JSON data source.
+	 * </p>
+	 * @param <T>    desired object type
+	 * @param reader JSON data source (not null)
+	 * @param type   the type of the desired objects (not null)
+	 * @return A lazy {@link Stream} of the deserialized objects
+	 * @throws JsonReadException If the JSON data source is not a JSON array or a
+	 *                           JSON deserialization error occured
+	 * @see #iterateJsonArray(JsonReader, Class)
+	 * @since 6.0.3
+	 */
+	default <T> Stream<T> streamJsonArray(JsonReader reader, Class<T> type) {
+		return iterateJsonArray(reader, type).stream();
+	}
+
+	/**
+	 * Lazily deserializes the specified JSON array data source into a
+	 * {@link Stream} of {@link PropertyBox}, using given
+	 * <code>propertySet</code> as {@link PropertyBox} property set.
+	 * <p>
+	 * The array elements are decoded one at a time, only when they are consumed
+	 * from the stream. The stream should be closed, for example using a
+	 * <em>try-with-resources</em> statement, to release the JSON data source.
+	 * </p>
+	 * @param <P>         Actual property type
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A lazy {@link Stream} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If the JSON data source is not a JSON array or a
+	 *                           JSON deserialization error occured
+	 * @see #iterateJsonArray(JsonReader, Iterable)
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> Stream<PropertyBox> streamJsonArray(JsonReader reader, Iterable<P> propertySet) {
+		return iterateJsonArray(reader, propertySet).stream();
+	}
+
+	/**
+	 * Lazily deserializes the specified JSON array data source into a
+	 * {@link Stream} of {@link PropertyBox}, using given
+	 * <code>propertySet</code> as {@link PropertyBox} property set.
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A lazy {@link Stream} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If the JSON data source is not a JSON array or a
+	 *                           JSON deserialization error occured
+	 * @see #iterateJsonArray(JsonReader, Iterable)
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default Stream<PropertyBox> streamJsonArray(JsonReader reader, Property... propertySet) {
+		return iterateJsonArray(reader, propertySet).stream();
+	}
+
+	/**
+	 * Lazily deserializes the specified <a href="https://jsonlines.org">JSON
+	 * Lines</a> (also known as <em>NDJSON</em>) data source, i.e. a sequence of
+	 * JSON values separated by line feed characters, into objects of the specified
+	 * type.
+	 * <p>
+	 * The values are decoded one at a time, only when they are consumed from the
+	 * returned {@link JsonIterator}, using a single JSON parser for the whole data
+	 * source. The iterator must be closed to release the JSON data source, unless
+	 * all the values are consumed.
+	 * </p>
+	 * <p>
+	 * The default implementation reads the data source one line at a time and
+	 * decodes each non blank line using {@link #fromJson(JsonReader, Class)}: the
+	 * {@link Json} implementations override it to use a single JSON parser.
+	 * </p>
+	 * @param <T>    desired object type
+	 * @param reader JSON data source (not null)
+	 * @param type   the type of the desired objects (not null)
+	 * @return A {@link JsonIterator} of the deserialized objects
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @since 6.0.3
+	 */
+	default <T> JsonIterator<T> iterateJsonLines(JsonReader reader, Class<T> type) {
+		ObjectUtils.argumentNotNull(type, "Type must be not null");
+		return new DefaultJsonLinesIterator<>(reader, type, line -> fromJson(line, type));
+	}
+
+	/**
+	 * Lazily deserializes the specified <a href="https://jsonlines.org">JSON
+	 * Lines</a> (also known as <em>NDJSON</em>) data source, i.e. a sequence of
+	 * JSON objects separated by line feed characters, into {@link PropertyBox}
+	 * instances, using given <code>propertySet</code> as {@link PropertyBox}
+	 * property set.
+	 * <p>
+	 * The values are decoded one at a time, only when they are consumed from the
+	 * returned {@link JsonIterator}, using a single JSON parser for the whole data
+	 * source. The iterator must be closed to release the JSON data source, unless
+	 * all the values are consumed.
+	 * </p>
+	 * <p>
+	 * The default implementation reads the data source one line at a time and
+	 * decodes each non blank line using
+	 * {@link #fromJson(JsonReader, Iterable)}: the {@link Json} implementations
+	 * override it to use a single JSON parser.
+	 * </p>
+	 * @param <P>         Actual property type
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A {@link JsonIterator} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> JsonIterator<PropertyBox> iterateJsonLines(JsonReader reader,
+			Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		return new DefaultJsonLinesIterator<>(reader, PropertyBox.class, line -> fromJson(line, propertySet));
+	}
+
+	/**
+	 * Lazily deserializes the specified <a href="https://jsonlines.org">JSON
+	 * Lines</a> data source into {@link PropertyBox} instances, using given
+	 * <code>propertySet</code> as {@link PropertyBox} property set.
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A {@link JsonIterator} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see #iterateJsonLines(JsonReader, Iterable)
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default JsonIterator<PropertyBox> iterateJsonLines(JsonReader reader, Property... propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		return iterateJsonLines(reader, PropertySet.of(propertySet));
+	}
+
+	/**
+	 * Lazily deserializes the specified <a href="https://jsonlines.org">JSON
+	 * Lines</a> data source into a {@link Stream} of objects of the specified
+	 * type. The stream should be closed to release the JSON data source.
+	 * @param <T>    desired object type
+	 * @param reader JSON data source (not null)
+	 * @param type   the type of the desired objects (not null)
+	 * @return A lazy {@link Stream} of the deserialized objects
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see #iterateJsonLines(JsonReader, Class)
+	 * @since 6.0.3
+	 */
+	default <T> Stream<T> streamJsonLines(JsonReader reader, Class<T> type) {
+		return iterateJsonLines(reader, type).stream();
+	}
+
+	/**
+	 * Lazily deserializes the specified <a href="https://jsonlines.org">JSON
+	 * Lines</a> data source into a {@link Stream} of {@link PropertyBox}, using
+	 * given <code>propertySet</code> as {@link PropertyBox} property set. The
+	 * stream should be closed to release the JSON data source.
+	 * @param <P>         Actual property type
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A lazy {@link Stream} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see #iterateJsonLines(JsonReader, Iterable)
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> Stream<PropertyBox> streamJsonLines(JsonReader reader, Iterable<P> propertySet) {
+		return iterateJsonLines(reader, propertySet).stream();
+	}
+
+	/**
+	 * Lazily deserializes the specified <a href="https://jsonlines.org">JSON
+	 * Lines</a> data source into a {@link Stream} of {@link PropertyBox}, using
+	 * given <code>propertySet</code> as {@link PropertyBox} property set. The
+	 * stream should be closed to release the JSON data source.
+	 * @param reader      JSON data source (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A lazy {@link Stream} of the deserialized {@link PropertyBox}s
+	 * @throws JsonReadException If a JSON deserialization error occured
+	 * @see #iterateJsonLines(JsonReader, Iterable)
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default Stream<PropertyBox> streamJsonLines(JsonReader reader, Property... propertySet) {
+		return iterateJsonLines(reader, propertySet).stream();
+	}
+
+	// ------- Reactive streams
+
+	/**
+	 * Serialize the values emitted by given {@link Flow.Publisher} as a JSON
+	 * array, obtaining a {@link Flow.Publisher} of the UTF-8 encoded JSON data
+	 * chunks.
+	 * <p>
+	 * Each value is serialized as soon as it is received and emitted as a JSON
+	 * data chunk, which includes the array opening bracket or the elements
+	 * separator. The values are requested from the source publisher according to
+	 * the downstream demand, so the internal buffering is bounded.
+	 * </p>
+	 * @param values The values publisher (not null)
+	 * @return A {@link Flow.Publisher} of the JSON array data chunks
+	 * @since 6.0.3
+	 */
+	default Flow.Publisher<ByteBuffer> toJsonArrayPublisher(Flow.Publisher<?> values) {
+		ObjectUtils.argumentNotNull(values, "Values publisher must be not null");
+		return new JsonFlowPublisher<Object, ByteBuffer>(values, () -> new JsonArrayFlowEncoder(this::toJson),
+				JsonFlowPublisher.DEFAULT_PREFETCH);
+	}
+
+	/**
+	 * Deserialize the UTF-8 encoded JSON data chunks emitted by given
+	 * {@link Flow.Publisher} into objects of the specified type.
+	 * <p>
+	 * The JSON data can be a JSON array, a single JSON value or a sequence of
+	 * root-level JSON values (for example using the JSON Lines format). For a JSON
+	 * array, each element is emitted as soon as it is completely received. JSON
+	 * <code>null</code> values are skipped. The JSON data chunks are requested
+	 * from the source publisher one at a time, only when the previously decoded
+	 * values were emitted, according to the downstream demand.
+	 * </p>
+	 * <p>
+	 * Any JSON deserialization error is signaled as a {@link JsonReadException}
+	 * to the subscriber.
+	 * </p>
+	 * @param <T>    desired object type
+	 * @param source The JSON data chunks publisher (not null)
+	 * @param type   the type of the desired objects (not null)
+	 * @return A {@link Flow.Publisher} of the deserialized objects
+	 * @since 6.0.3
+	 */
+	default <T> Flow.Publisher<T> fromJsonArrayPublisher(Flow.Publisher<ByteBuffer> source, Class<T> type) {
+		ObjectUtils.argumentNotNull(source, "Source publisher must be not null");
+		ObjectUtils.argumentNotNull(type, "Type must be not null");
+		return new JsonFlowPublisher<ByteBuffer, T>(source,
+				() -> new JsonFlowDecoder<>(reader -> fromJson(reader, type)), 1);
+	}
+
+	/**
+	 * Deserialize the UTF-8 encoded JSON data chunks emitted by given
+	 * {@link Flow.Publisher} into {@link PropertyBox} instances, using given
+	 * <code>propertySet</code> as {@link PropertyBox} property set.
+	 * @param <P>         Actual property type
+	 * @param source      The JSON data chunks publisher (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A {@link Flow.Publisher} of the deserialized {@link PropertyBox}s
+	 * @see #fromJsonArrayPublisher(Flow.Publisher, Class)
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> Flow.Publisher<PropertyBox> fromJsonArrayPublisher(Flow.Publisher<ByteBuffer> source,
+			Iterable<P> propertySet) {
+		ObjectUtils.argumentNotNull(source, "Source publisher must be not null");
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		final PropertySet<?> ps = (propertySet instanceof PropertySet) ? (PropertySet<?>) propertySet
+				: PropertySet.of(propertySet);
+		return new JsonFlowPublisher<ByteBuffer, PropertyBox>(source,
+				() -> new JsonFlowDecoder<>(reader -> fromJson(reader, ps)), 1);
+	}
+
+	/**
+	 * Deserialize the UTF-8 encoded JSON data chunks emitted by given
+	 * {@link Flow.Publisher} into {@link PropertyBox} instances, using given
+	 * <code>propertySet</code> as {@link PropertyBox} property set.
+	 * @param source      The JSON data chunks publisher (not null)
+	 * @param propertySet Property set to use to build the deserialized
+	 *                    {@link PropertyBox}s (not null)
+	 * @return A {@link Flow.Publisher} of the deserialized {@link PropertyBox}s
+	 * @see #fromJsonArrayPublisher(Flow.Publisher, Class)
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("rawtypes")
+	default Flow.Publisher<PropertyBox> fromJsonArrayPublisher(Flow.Publisher<ByteBuffer> source,
+			Property... propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		return fromJsonArrayPublisher(source, PropertySet.of(propertySet));
+	}
+
 	// ------- Providers
 
 	/**
@@ -346,6 +830,11 @@ public interface Json {
 	 * Try to obtain a {@link Json} implementation using given Classloader, either
 	 * from {@link Context}, if available using {@link #CONTEXT_KEY}, or relying on
 	 * registered {@link JsonProvider}s and using the one with higher priority.
+	 * <p>
+	 * The {@link Json} implementation obtained from the {@link JsonProvider} is
+	 * cached by ClassLoader, so the same instance is returned by subsequent calls
+	 * until {@link #refresh(ClassLoader)} is invoked.
+	 * </p>
 	 * @param classLoader ClassLoader to use
 	 * @return The {@link Json} implementation, if available
 	 */
@@ -356,7 +845,28 @@ public interface Json {
 			return fromContext;
 		}
 		// use providers
-		return JsonProviders.getDefaultJsonProvider(classLoader).map(JsonProvider::provide);
+		return JsonProviders.getDefaultJson(classLoader);
+	}
+
+	/**
+	 * Discard the cached {@link Json} implementation and the registered
+	 * {@link JsonProvider}s for the default ClassLoader, so that they are obtained
+	 * again at next {@link #get()} or {@link #require()} call.
+	 * @since 6.0.3
+	 */
+	static void refresh() {
+		refresh(ClassUtils.getDefaultClassLoader());
+	}
+
+	/**
+	 * Discard the cached {@link Json} implementation and the registered
+	 * {@link JsonProvider}s for given ClassLoader, so that they are obtained again
+	 * at next {@link #get(ClassLoader)} call.
+	 * @param classLoader ClassLoader to refresh
+	 * @since 6.0.3
+	 */
+	static void refresh(ClassLoader classLoader) {
+		JsonProviders.refresh(classLoader);
 	}
 
 	// ------- Exceptions
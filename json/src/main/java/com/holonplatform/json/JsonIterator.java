@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.holonplatform.json.Json.JsonReadException;
+
+/**
+ * A lazy {@link Iterator} of the values deserialized from a JSON data source.
+ * <p>
+ * Each value is decoded only when it is consumed, so the values which have already been returned are not retained by
+ * the iterator. The iterator holds the underlying JSON data source and parser, which are released when the iterator
+ * is closed. The {@link #close()} method is also invoked automatically when the last value has been consumed.
+ * </p>
+ * <p>
+ * Any JSON deserialization error is notified using a {@link JsonReadException}.
+ * </p>
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ *
+ * @see Json#iterateJsonArray(JsonReader, Class)
+ */
+public interface JsonIterator<T> extends Iterator<T>, AutoCloseable {
+
+	/**
+	 * Close the iterator and release the underlying JSON data source. Further invocations have no effect.
+	 * @throws JsonReadException If an error occurred
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Get a sequential {@link Stream} backed by this iterator. The stream {@link Stream#close()} method closes this
+	 * iterator.
+	 * @return A new lazy {@link Stream} of the iterator values
+	 */
+	default Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+				.onClose(this::close);
+	}
+
+}
@@ -32,6 +32,11 @@ import jakarta.annotation.Priority;
  * order) can be used to order the providers.
  * </p>
  * 
+ * <p>
+ * The {@link Json} implementation obtained from the default provider through {@link Json#get()} is cached by
+ * ClassLoader, so it must be thread-safe. Use {@link Json#refresh()} to discard the cached instance.
+ * </p>
+ * 
  * @since 5.1.0
  *
  */
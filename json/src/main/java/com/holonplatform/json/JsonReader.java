@@ -17,12 +17,24 @@ package com.holonplatform.json;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 import com.holonplatform.json.internal.DefaultJsonReader;
 
 /**
  * Represents a JSON encoded data source.
+ * <p>
+ * Besides the {@link #getReader()} method, which is always supported, the original JSON data source is made available
+ * through the {@link #getString()}, {@link #getByteBuffer()} and {@link #getInputStream()} methods, according to the
+ * source type. This allows a JSON parser to use the most efficient entry point for the source, for example parsing
+ * UTF-8 encoded bytes without decoding them into characters first.
+ * </p>
+ * <p>
+ * A JSON data source is meant to be read only once.
+ * </p>
  * 
  * @since 5.1.0
  * 
@@ -36,6 +48,48 @@ public interface JsonReader {
 	 */
 	Reader getReader();
 
+	/**
+	 * Get the JSON data as a {@link String}, if the JSON data source is a String.
+	 * @return Optional JSON string, empty if the JSON data source is not a String
+	 * @since 6.0.3
+	 */
+	default Optional<String> getString() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the JSON data as a {@link ByteBuffer}, if the JSON data source is a byte array or a {@link ByteBuffer}. The
+	 * JSON data are the remaining bytes of the buffer, encoded using the {@link #getCharset()} charset.
+	 * <p>
+	 * The returned buffer shares the source bytes, and a new buffer view is returned at each invocation.
+	 * </p>
+	 * @return Optional JSON bytes, empty if the JSON data source is neither a byte array nor a {@link ByteBuffer}
+	 * @since 6.0.3
+	 */
+	default Optional<ByteBuffer> getByteBuffer() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the JSON data as an {@link InputStream}, if the JSON data source is an {@link InputStream}. The JSON data are
+	 * encoded using the {@link #getCharset()} charset.
+	 * @return Optional JSON data stream, empty if the JSON data source is not an {@link InputStream}
+	 * @since 6.0.3
+	 */
+	default Optional<InputStream> getInputStream() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the charset with which the JSON data are encoded, when the JSON data source is a byte array, a
+	 * {@link ByteBuffer} or an {@link InputStream}.
+	 * @return The JSON data charset, UTF-8 by default
+	 * @since 6.0.3
+	 */
+	default Charset getCharset() {
+		return StandardCharsets.UTF_8;
+	}
+
 	/**
 	 * Build a {@link JsonReader} using given {@link Reader} as JSON data source.
 	 * @param reader JSON data reader
@@ -63,6 +117,40 @@ public interface JsonReader {
 		return new DefaultJsonReader(bytes);
 	}
 
+	/**
+	 * Build a {@link JsonReader} using given byte array as JSON data source and given charset.
+	 * @param bytes JSON data bytes
+	 * @param charset charset with which the bytes are encoded
+	 * @return a new {@link JsonReader}
+	 * @since 6.0.3
+	 */
+	static JsonReader from(byte[] bytes, Charset charset) {
+		return new DefaultJsonReader(bytes, charset);
+	}
+
+	/**
+	 * Build a {@link JsonReader} using the remaining bytes of given {@link ByteBuffer} as JSON data source and UTF-8 as
+	 * charset. The buffer position is not changed.
+	 * @param buffer JSON data buffer (not null)
+	 * @return a new {@link JsonReader}
+	 * @since 6.0.3
+	 */
+	static JsonReader from(ByteBuffer buffer) {
+		return new DefaultJsonReader(buffer);
+	}
+
+	/**
+	 * Build a {@link JsonReader} using the remaining bytes of given {@link ByteBuffer} as JSON data source and given
+	 * charset. The buffer position is not changed.
+	 * @param buffer JSON data buffer (not null)
+	 * @param charset charset with which the bytes are encoded
+	 * @return a new {@link JsonReader}
+	 * @since 6.0.3
+	 */
+	static JsonReader from(ByteBuffer buffer, Charset charset) {
+		return new DefaultJsonReader(buffer, charset);
+	}
+
 	/**
 	 * Build a {@link JsonReader} using given {@link InputStream} as JSON data source and UTF-8 as charset.
 	 * @param stream JSON data input stream
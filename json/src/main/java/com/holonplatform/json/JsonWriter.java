@@ -15,14 +15,26 @@
  */
 package com.holonplatform.json;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
+import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.json.Json.JsonWriteException;
+import com.holonplatform.json.internal.ByteBufferOutputStream;
+import com.holonplatform.json.internal.WritableByteChannelOutputStream;
 
 /**
  * Represents a JSON serialization result, providing methods to obtain the JSON data in different formats.
+ * <p>
+ * Besides the String, byte array, {@link Appendable} and {@link OutputStream} targets, the JSON data can be obtained
+ * as a {@link ByteBuffer}, written into a given (heap or direct) {@link ByteBuffer} or written into a
+ * {@link WritableByteChannel}. The byte targets are written through the JSON backend UTF-8 encoding path, without an
+ * intermediate String representation of the JSON data.
+ * </p>
  * 
  * @since 5.1.0
  * 
@@ -81,4 +93,74 @@ public interface JsonWriter {
 	 */
 	void write(OutputStream stream, Charset charset);
 
+	/**
+	 * Get the JSON data as a heap {@link ByteBuffer}, using the UTF-8 charset for encoding.
+	 * <p>
+	 * The returned buffer is ready to be read: its position is <code>0</code> and its limit is the JSON data size.
+	 * </p>
+	 * @return the JSON data as a ByteBuffer
+	 * @throws JsonWriteException If a JSON serialization error occured
+	 * @since 6.0.3
+	 */
+	default ByteBuffer asByteBuffer() {
+		final ByteBufferOutputStream stream = new ByteBufferOutputStream();
+		write(stream, StandardCharsets.UTF_8);
+		return stream.toByteBuffer();
+	}
+
+	/**
+	 * Write the JSON data into given {@link ByteBuffer}, using the UTF-8 charset for encoding.
+	 * <p>
+	 * The JSON data are written starting from the current buffer position, which is then advanced by the number of
+	 * written bytes. This allows to write the JSON data directly into a pooled or direct buffer. If the buffer has not
+	 * enough remaining space, a {@link JsonWriteException} is thrown and the buffer position is not changed.
+	 * </p>
+	 * @param buffer the buffer into which to write the JSON data (not null)
+	 * @return the number of written bytes
+	 * @throws JsonWriteException If a JSON serialization error occured or the buffer has not enough remaining space
+	 * @since 6.0.3
+	 */
+	default int write(ByteBuffer buffer) {
+		ObjectUtils.argumentNotNull(buffer, "ByteBuffer must be not null");
+		final int position = buffer.position();
+		try {
+			write(new ByteBufferOutputStream(buffer), StandardCharsets.UTF_8);
+		} catch (RuntimeException e) {
+			buffer.position(position);
+			throw e;
+		}
+		return buffer.position() - position;
+	}
+
+	/**
+	 * Write the JSON data into given {@link WritableByteChannel}, using the UTF-8 charset for encoding.
+	 * @param channel the channel into which to write the JSON data (not null)
+	 * @throws JsonWriteException If a JSON serialization error occured
+	 * @since 6.0.3
+	 * @see #write(WritableByteChannel, Charset)
+	 */
+	default void write(WritableByteChannel channel) {
+		write(channel, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Write the JSON data into given {@link WritableByteChannel}, using the given {@link Charset} for encoding.
+	 * <p>
+	 * The JSON data are written to the channel through a recycled direct buffer, and the channel is not closed. The
+	 * channel is expected to be in blocking mode.
+	 * </p>
+	 * @param channel the channel into which to write the JSON data (not null)
+	 * @param charset charset to use for encoding
+	 * @throws JsonWriteException If a JSON serialization error occured
+	 * @since 6.0.3
+	 */
+	default void write(WritableByteChannel channel, Charset charset) {
+		ObjectUtils.argumentNotNull(channel, "WritableByteChannel must be not null");
+		try (WritableByteChannelOutputStream stream = new WritableByteChannelOutputStream(channel)) {
+			write(stream, charset);
+		} catch (IOException e) {
+			throw new JsonWriteException("Failed to write JSON data to the channel", e);
+		}
+	}
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.cache;
+
+/**
+ * Statistics about the performance of a cache.
+ * <p>
+ * A statistics instance is an immutable snapshot of the cache counters at the time it was obtained.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface CacheStatistics {
+
+	/**
+	 * Get the number of cache lookups which returned a cached value.
+	 * @return the cache hit count
+	 */
+	long getHitCount();
+
+	/**
+	 * Get the number of cache lookups which required a new value to be computed.
+	 * @return the cache miss count
+	 */
+	long getMissCount();
+
+	/**
+	 * Get the number of entries which were removed from the cache to honor the maximum size.
+	 * @return the cache eviction count
+	 */
+	long getEvictionCount();
+
+	/**
+	 * Get the number of cached entries.
+	 * @return the cache size
+	 */
+	int getSize();
+
+	/**
+	 * Get the maximum number of cached entries.
+	 * @return the cache maximum size, <code>0</code> if the cache is unbounded
+	 */
+	int getMaximumSize();
+
+	/**
+	 * Get the total number of cache lookups.
+	 * @return the cache request count
+	 */
+	default long getRequestCount() {
+		return getHitCount() + getMissCount();
+	}
+
+	/**
+	 * Get the ratio of cache lookups which returned a cached value.
+	 * @return the cache hit rate, <code>1.0</code> if no lookup was performed
+	 */
+	default double getHitRate() {
+		final long requests = getRequestCount();
+		return (requests == 0) ? 1.0 : (double) getHitCount() / requests;
+	}
+
+}
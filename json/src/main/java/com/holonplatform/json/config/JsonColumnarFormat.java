@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.config;
+
+import java.util.Map;
+
+import com.holonplatform.core.property.PropertyBox;
+
+/**
+ * Definitions of the <em>columnar</em> JSON array format, which can be used to serialize a sequence of
+ * {@link PropertyBox} values sharing the same property set.
+ * <p>
+ * Using the columnar format, the {@link PropertyBox} values are serialized as a JSON object with two fields: the
+ * {@link #COLUMNS} field, a JSON array of the property serialization names, written only once, and the {@link #ROWS}
+ * field, a JSON array which contains a JSON array of property values for each {@link PropertyBox}, in the same order
+ * of the columns. For example:
+ * </p>
+ * 
+ * <pre>
+ * {"columns":["id","name","address.city"],"rows":[[1,"One","Rome"],[2,"Two",null]]}
+ * </pre>
+ * <p>
+ * The columns are obtained from the {@link PropertyBoxSerializationMode#PATH} serialization tree, using the dot
+ * notation for the nested paths.
+ * </p>
+ *
+ * @since 6.0.3
+ * 
+ * @see com.holonplatform.json.ColumnarJson#toJsonColumnarArray(java.util.Iterator)
+ */
+public interface JsonColumnarFormat {
+
+	/**
+	 * Name of the JSON field which contains the column names
+	 */
+	static final String COLUMNS = "columns";
+
+	/**
+	 * Name of the JSON field which contains the rows
+	 */
+	static final String ROWS = "rows";
+
+	/**
+	 * Name of the media type parameter which can be used to request the columnar format, for example when using the
+	 * JAX-RS integration: <code>application/json;layout=columnar</code>
+	 */
+	static final String MEDIA_TYPE_PARAMETER = "layout";
+
+	/**
+	 * Value of the {@link #MEDIA_TYPE_PARAMETER} media type parameter which requests the columnar format
+	 */
+	static final String MEDIA_TYPE_PARAMETER_VALUE = "columnar";
+
+	/**
+	 * Checks whether the columnar format is requested by given media type parameters.
+	 * @param mediaTypeParameters The media type parameters, may be <code>null</code>
+	 * @return <code>true</code> if the {@link #MEDIA_TYPE_PARAMETER} parameter is available and its value is
+	 *         {@link #MEDIA_TYPE_PARAMETER_VALUE}
+	 */
+	static boolean isColumnar(Map<String, String> mediaTypeParameters) {
+		return mediaTypeParameters != null
+				&& MEDIA_TYPE_PARAMETER_VALUE.equalsIgnoreCase(mediaTypeParameters.get(MEDIA_TYPE_PARAMETER));
+	}
+
+}
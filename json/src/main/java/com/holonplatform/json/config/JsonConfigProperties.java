@@ -46,6 +46,28 @@ public interface JsonConfigProperties extends ConfigPropertySet {
 	static final String PROPERTYBOX_SERIALIZATION_MODE_ATTRIBUTE_NAME = JsonConfigProperties.DEFAULT_NAME + "."
 			+ PROPERTYBOX_SERIALIZATION_MODE.getKey();
 
+	/**
+	 * Maximum number of entries of each PropertySet serialization and deserialization metadata cache. A value less
+	 * than <code>1</code> means no size limit. Default is <code>1000</code>.
+	 * <p>
+	 * The caches compare the property sets and the properties by identity, to avoid the <code>equals</code> and
+	 * <code>hashCode</code> cost on each lookup. Property sets, or properties, which are created for each
+	 * serialization never hit the caches and add a new entry each time, until the maximum size is reached and the
+	 * least used entries are evicted. They should be created once and shared, for example as constants.
+	 * </p>
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Integer> CACHE_MAX_SIZE = ConfigProperty.create("cache.max-size", Integer.class);
+
+	/**
+	 * Number of JSON array elements after which the output is flushed when a {@link java.util.stream.Stream} or an
+	 * {@link java.util.Iterator} of values is incrementally serialized. A value less than <code>1</code> means that the
+	 * output is flushed only when the serialization is completed. Default is <code>100</code>.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Integer> STREAM_FLUSH_INTERVAL = ConfigProperty.create("stream.flush-interval",
+			Integer.class);
+
 	/**
 	 * Builder to create property set instances bound to a property data source.
 	 * @return ConfigPropertySet builder
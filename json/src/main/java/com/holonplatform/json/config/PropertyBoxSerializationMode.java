@@ -18,6 +18,7 @@ package com.holonplatform.json.config;
 import com.holonplatform.core.Path;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
 
 /**
  * Enumeration of {@link PropertyBox} property serialization mode when it is serialized as a JSON object.
@@ -45,7 +46,24 @@ public enum PropertyBoxSerializationMode {
 	 * The property name, obtained through {@link Property#getName()}, is used as serialized property name.
 	 * </p>
 	 */
-	ALL;
+	ALL,
+
+	/**
+	 * Serialize only the {@link Path} type properties, as a JSON array of values instead of a JSON object.
+	 * <p>
+	 * The values are written in the {@link PropertySet} order, without property names, using a nested JSON array for
+	 * each nested path (i.e. a path with a parent path or whose name uses the dot notation) and a JSON
+	 * <code>null</code> for each missing value. For example, a <code>PropertyBox</code> with the <code>id</code>,
+	 * <code>address.city</code> and <code>address.zip</code> paths is serialized as <code>[1,["Rome","00100"]]</code>.
+	 * </p>
+	 * <p>
+	 * Since the property names are not available in the serialized JSON, the same {@link PropertySet}, with the same
+	 * properties order, must be used to deserialize the JSON arrays. This mode is intended for high-volume data
+	 * exchanges between parties which share the PropertySet definition.
+	 * </p>
+	 * @since 6.0.3
+	 */
+	POSITIONAL;
 
 	/**
 	 * Get the default {@link PropertyBoxSerializationMode}.
@@ -21,6 +21,12 @@ import com.holonplatform.core.temporal.TemporalType;
  * Utility class to set the current {@link TemporalType} which has to be used
  * for <code>java.util.Date</code> values JSON serialization using a
  * {@link ThreadLocal}.
+ * <p>
+ * The current {@link TemporalType} is only used for the <code>java.util.Date</code>
+ * values which are not bound to a property with a declared {@link TemporalType}:
+ * the PropertyBox serializers bind the date serializers to the property
+ * {@link TemporalType} when the serialization plan is built.
+ * </p>
  * 
  * @since 5.1.0
  */
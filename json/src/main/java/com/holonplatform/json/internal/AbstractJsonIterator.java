@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.util.NoSuchElementException;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.JsonIterator;
+
+/**
+ * Base {@link JsonIterator} implementation.
+ * <p>
+ * When a {@link PropertySet} is provided, each value is decoded within the {@link PropertySet} context, to make it
+ * available to the backend {@link PropertyBox} deserializers. The context is bound to the current thread only while a
+ * value is decoded, since the iterator can be consumed at any time and from any thread.
+ * </p>
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public abstract class AbstractJsonIterator<T> implements JsonIterator<T> {
+
+	private final Class<T> type;
+
+	private final PropertySet<?> propertySet;
+
+	private boolean closed = false;
+
+	/**
+	 * Constructor.
+	 * @param type Value type
+	 * @param propertySet The PropertySet to use to deserialize the {@link PropertyBox} values, <code>null</code> if
+	 *        none
+	 */
+	protected AbstractJsonIterator(Class<T> type, PropertySet<?> propertySet) {
+		super();
+		this.type = type;
+		this.propertySet = propertySet;
+	}
+
+	/**
+	 * Get the value type.
+	 * @return the value type
+	 */
+	protected Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Checks whether another value is available from the JSON data source.
+	 * @return <code>true</code> if another value is available
+	 * @throws Exception If an error occurred
+	 */
+	protected abstract boolean hasNextValue() throws Exception;
+
+	/**
+	 * Decode the next value from the JSON data source.
+	 * @return The decoded value
+	 * @throws Exception If an error occurred
+	 */
+	protected abstract T nextValue() throws Exception;
+
+	/**
+	 * Release the JSON data source.
+	 * @throws Exception If an error occurred
+	 */
+	protected abstract void closeSource() throws Exception;
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+		if (closed) {
+			return false;
+		}
+		final boolean hasNext;
+		try {
+			hasNext = hasNextValue();
+		} catch (Exception e) {
+			close();
+			throw new JsonReadException("Failed to read the JSON data source for type [" + type + "]", e);
+		}
+		if (!hasNext) {
+			close();
+		}
+		return hasNext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more values available from the JSON data source");
+		}
+		if (propertySet == null) {
+			return decode();
+		}
+		try {
+			return propertySet.execute(this::decode);
+		} catch (JsonReadException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			// the context execution wraps any callable exception
+			if (e.getCause() instanceof JsonReadException) {
+				throw (JsonReadException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.JsonIterator#close()
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			try {
+				closeSource();
+			} catch (Exception e) {
+				throw new JsonReadException("Failed to close the JSON data source", e);
+			}
+		}
+	}
+
+	/**
+	 * Decode the next value, wrapping any error into a {@link JsonReadException}.
+	 * @return The decoded value
+	 */
+	private T decode() {
+		try {
+			return nextValue();
+		} catch (JsonReadException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonReadException("Failed to deserialize JSON for type [" + type + "]", e);
+		}
+	}
+
+}
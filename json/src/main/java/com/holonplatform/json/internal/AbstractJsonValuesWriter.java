@@ -0,0 +1,204 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.Json.JsonWriteException;
+import com.holonplatform.json.JsonWriter;
+import com.holonplatform.json.config.JsonConfigProperties;
+
+/**
+ * Base {@link JsonWriter} implementation to incrementally serialize an {@link Iterator} of values, for example as a
+ * JSON array or as JSON Lines.
+ * <p>
+ * The values are serialized one at a time, as they are obtained from the iterator, and the output is flushed every
+ * {@link #getFlushInterval()} elements. Since the iterator can be consumed only once, the JSON data can be obtained
+ * only once from this writer.
+ * </p>
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public abstract class AbstractJsonValuesWriter<T> implements JsonWriter {
+
+	/**
+	 * Default flush interval
+	 */
+	public static final int DEFAULT_FLUSH_INTERVAL = 100;
+
+	private static final int FLUSH_INTERVAL = getConfiguredFlushInterval();
+
+	private final Class<T> type;
+
+	private final Iterator<? extends T> values;
+
+	private boolean consumed = false;
+
+	/**
+	 * Constructor.
+	 * @param type Value type (not null)
+	 * @param values The values to serialize (not null)
+	 */
+	protected AbstractJsonValuesWriter(Class<T> type, Iterator<? extends T> values) {
+		super();
+		ObjectUtils.argumentNotNull(type, "Type must be not null");
+		ObjectUtils.argumentNotNull(values, "Values must be not null");
+		this.type = type;
+		this.values = values;
+	}
+
+	/**
+	 * Get the value type.
+	 * @return the value type
+	 */
+	protected Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Get the number of elements after which the output is flushed.
+	 * @return The flush interval, a value less than <code>1</code> if the output is flushed only when the
+	 *         serialization is completed
+	 * @see JsonConfigProperties#STREAM_FLUSH_INTERVAL
+	 */
+	protected int getFlushInterval() {
+		return FLUSH_INTERVAL;
+	}
+
+	/**
+	 * Checks whether the output has to be flushed after given number of serialized elements.
+	 * @param count The number of serialized elements
+	 * @return <code>true</code> if the output has to be flushed
+	 */
+	protected boolean isFlushRequired(int count) {
+		final int interval = getFlushInterval();
+		return interval > 0 && count % interval == 0;
+	}
+
+	/**
+	 * Serialize the values using given {@link Writer}.
+	 * @param writer The writer
+	 * @param values The values to serialize
+	 * @throws Exception If an error occurred
+	 */
+	protected abstract void serialize(Writer writer, Iterator<? extends T> values) throws Exception;
+
+	/**
+	 * Serialize the values using given {@link OutputStream}.
+	 * @param stream The output stream
+	 * @param charset The charset to use for encoding
+	 * @param values The values to serialize
+	 * @throws Exception If an error occurred
+	 */
+	protected abstract void serialize(OutputStream stream, Charset charset, Iterator<? extends T> values)
+			throws Exception;
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.JsonWriter#asString()
+	 */
+	@Override
+	public String asString() {
+		final StringWriter writer = new StringWriter();
+		write(writer);
+		return writer.toString();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.JsonWriter#asBytes()
+	 */
+	@Override
+	public byte[] asBytes() {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		write(stream, StandardCharsets.UTF_8);
+		return stream.toByteArray();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.JsonWriter#write(java.lang.Appendable)
+	 */
+	@SuppressWarnings("resource")
+	@Override
+	public void write(Appendable writer) {
+		ObjectUtils.argumentNotNull(writer, "Writer must be not null");
+		try {
+			serialize((writer instanceof Writer) ? (Writer) writer : new AppendableWriterAdapter(writer), consume());
+		} catch (JsonWriteException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonWriteException("Failed to write values of type [" + type + "] as JSON", e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.JsonWriter#write(java.io.OutputStream, java.nio.charset.Charset)
+	 */
+	@Override
+	public void write(OutputStream stream, Charset charset) {
+		ObjectUtils.argumentNotNull(stream, "OutputStream must be not null");
+		try {
+			serialize(stream, (charset != null) ? charset : StandardCharsets.UTF_8, consume());
+		} catch (JsonWriteException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonWriteException("Failed to write values of type [" + type + "] as JSON", e);
+		}
+	}
+
+	/**
+	 * Get the values to serialize, checking they were not already consumed.
+	 * @return The values iterator
+	 * @throws JsonWriteException If the values were already consumed
+	 */
+	private Iterator<? extends T> consume() {
+		if (consumed) {
+			throw new JsonWriteException("The values to serialize were already consumed: the JSON data of a values "
+					+ "Stream or Iterator can be obtained only once");
+		}
+		consumed = true;
+		return values;
+	}
+
+	/**
+	 * Get the flush interval using the {@link JsonConfigProperties#STREAM_FLUSH_INTERVAL} system property, if
+	 * available.
+	 * @return The flush interval
+	 */
+	private static int getConfiguredFlushInterval() {
+		try {
+			return JsonConfigProperties.builder().withSystemPropertySource().build()
+					.getConfigPropertyValue(JsonConfigProperties.STREAM_FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL);
+		} catch (Exception e) {
+			JsonLogger.create().warn("Failed to read the [" + JsonConfigProperties.DEFAULT_NAME + "."
+					+ JsonConfigProperties.STREAM_FLUSH_INTERVAL.getKey()
+					+ "] configuration property, using the default value [" + DEFAULT_FLUSH_INTERVAL + "]", e);
+			return DEFAULT_FLUSH_INTERVAL;
+		}
+	}
+
+}
@@ -45,7 +45,7 @@ public class AppendableWriterAdapter extends Writer {
 
 	@Override
 	public void write(char[] cbuf, int off, int len) throws IOException {
-		appendable.append(String.valueOf(cbuf), off, len);
+		appendable.append(String.valueOf(cbuf, off, len));
 	}
 
 	@Override
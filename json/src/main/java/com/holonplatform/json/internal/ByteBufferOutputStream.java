@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * An {@link OutputStream} which writes into a {@link ByteBuffer}.
+ * <p>
+ * When created with a target buffer, the bytes are written into it starting from its current position, and a
+ * {@link BufferOverflowException} is thrown if the buffer has not enough remaining space. Otherwise, a heap or direct
+ * buffer is allocated and grown as required.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class ByteBufferOutputStream extends OutputStream {
+
+	/**
+	 * Default initial capacity
+	 */
+	public static final int DEFAULT_INITIAL_CAPACITY = 512;
+
+	private final boolean growable;
+
+	private ByteBuffer buffer;
+
+	/**
+	 * Constructor using a growable heap buffer and the default initial capacity.
+	 */
+	public ByteBufferOutputStream() {
+		this(DEFAULT_INITIAL_CAPACITY, false);
+	}
+
+	/**
+	 * Constructor using a growable buffer.
+	 * @param initialCapacity Initial buffer capacity
+	 * @param direct Whether to allocate a direct buffer
+	 */
+	public ByteBufferOutputStream(int initialCapacity, boolean direct) {
+		super();
+		final int capacity = Math.max(initialCapacity, 16);
+		this.buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+		this.growable = true;
+	}
+
+	/**
+	 * Constructor using a fixed target buffer.
+	 * @param buffer The buffer into which to write the bytes (not null)
+	 */
+	public ByteBufferOutputStream(ByteBuffer buffer) {
+		super();
+		ObjectUtils.argumentNotNull(buffer, "ByteBuffer must be not null");
+		this.buffer = buffer;
+		this.growable = false;
+	}
+
+	/**
+	 * Get the written bytes as a buffer ready to be read, i.e. with position <code>0</code> and limit set to the
+	 * number of written bytes. The returned buffer shares the content of the stream buffer.
+	 * @return The written bytes
+	 */
+	public ByteBuffer toByteBuffer() {
+		final ByteBuffer bytes = buffer.duplicate();
+		bytes.flip();
+		return bytes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.OutputStream#write(int)
+	 */
+	@Override
+	public void write(int b) {
+		ensureCapacity(1);
+		buffer.put((byte) b);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.OutputStream#write(byte[], int, int)
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) {
+		ensureCapacity(len);
+		buffer.put(b, off, len);
+	}
+
+	/**
+	 * Ensure the buffer has at least given remaining space, growing it if allowed.
+	 * @param required The required space
+	 * @throws BufferOverflowException If the buffer has not enough space and cannot grow
+	 */
+	private void ensureCapacity(int required) {
+		if (buffer.remaining() < required) {
+			if (!growable) {
+				throw new BufferOverflowException();
+			}
+			final int capacity = Math.max(buffer.capacity() << 1, buffer.position() + required);
+			final ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity)
+					: ByteBuffer.allocate(capacity);
+			buffer.flip();
+			grown.put(buffer);
+			buffer = grown;
+		}
+	}
+
+}
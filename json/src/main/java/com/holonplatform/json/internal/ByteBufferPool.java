@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A small, bounded and shared pool of recyclable direct {@link ByteBuffer}s, used as I/O buffers.
+ * <p>
+ * The pool does not bind any buffer to a thread: a buffer is taken from a free slot, if any, or allocated otherwise,
+ * and must be {@link #release(ByteBuffer)}d when no longer used, to make it available for the next
+ * {@link #acquire()} invocation of any thread. When all the slots are occupied, the released buffer is discarded.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class ByteBufferPool {
+
+	/**
+	 * Pooled buffers size
+	 */
+	public static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Maximum number of pooled buffers
+	 */
+	private static final int MAX_POOLED = Math.min(Runtime.getRuntime().availableProcessors(), 16);
+
+	private static final AtomicReferenceArray<ByteBuffer> BUFFERS = new AtomicReferenceArray<>(MAX_POOLED);
+
+	private ByteBufferPool() {
+	}
+
+	/**
+	 * Acquire a cleared direct buffer of {@link #BUFFER_SIZE} capacity, recycling a previously released one if
+	 * available.
+	 * @return A direct buffer
+	 */
+	public static ByteBuffer acquire() {
+		for (int i = 0; i < MAX_POOLED; i++) {
+			if (BUFFERS.get(i) != null) {
+				final ByteBuffer buffer = BUFFERS.getAndSet(i, null);
+				if (buffer != null) {
+					buffer.clear();
+					return buffer;
+				}
+			}
+		}
+		return ByteBuffer.allocateDirect(BUFFER_SIZE);
+	}
+
+	/**
+	 * Release given buffer, making it available for recycling.
+	 * @param buffer The buffer to release
+	 */
+	public static void release(ByteBuffer buffer) {
+		if (buffer != null && buffer.isDirect() && buffer.capacity() == BUFFER_SIZE) {
+			for (int i = 0; i < MAX_POOLED; i++) {
+				if (BUFFERS.get(i) == null && BUFFERS.compareAndSet(i, null, buffer)) {
+					return;
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.util.Iterator;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.JsonIterator;
+
+/**
+ * A {@link JsonIterator} over values which were already deserialized, used by the {@link Json} default methods for
+ * the implementations which do not support lazy deserialization.
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class CollectedJsonIterator<T> extends AbstractJsonIterator<T> {
+
+	private final Iterator<? extends T> values;
+
+	/**
+	 * Constructor.
+	 * @param type Value type
+	 * @param values The deserialized values (not null)
+	 */
+	public CollectedJsonIterator(Class<T> type, Iterable<? extends T> values) {
+		super(type, null);
+		ObjectUtils.argumentNotNull(values, "Values must be not null");
+		this.values = values.iterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#hasNextValue()
+	 */
+	@Override
+	protected boolean hasNextValue() throws Exception {
+		return values.hasNext();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#nextValue()
+	 */
+	@Override
+	protected T nextValue() throws Exception {
+		return values.next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#closeSource()
+	 */
+	@Override
+	protected void closeSource() throws Exception {
+		// noop
+	}
+
+}
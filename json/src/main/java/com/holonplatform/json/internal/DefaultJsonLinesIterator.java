@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.io.BufferedReader;
+import java.util.function.Function;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.JsonIterator;
+import com.holonplatform.json.JsonReader;
+
+/**
+ * A {@link JsonIterator} which reads a JSON Lines data source one line at a time and decodes each non blank line as a
+ * JSON value, used by the {@link Json} default methods for the implementations which do not support the JSON Lines
+ * format.
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class DefaultJsonLinesIterator<T> extends AbstractJsonIterator<T> {
+
+	private final BufferedReader reader;
+
+	private final Function<JsonReader, T> deserializer;
+
+	/**
+	 * Next line, <code>null</code> if not read yet
+	 */
+	private String line;
+
+	/**
+	 * Constructor.
+	 * @param reader JSON data source (not null)
+	 * @param type Value type
+	 * @param deserializer The function to use to decode each line (not null)
+	 */
+	public DefaultJsonLinesIterator(JsonReader reader, Class<T> type, Function<JsonReader, T> deserializer) {
+		super(type, null);
+		ObjectUtils.argumentNotNull(reader, "JsonReader must be not null");
+		ObjectUtils.argumentNotNull(deserializer, "Deserializer function must be not null");
+		this.reader = new BufferedReader(reader.getReader());
+		this.deserializer = deserializer;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#hasNextValue()
+	 */
+	@Override
+	protected boolean hasNextValue() throws Exception {
+		while (line == null) {
+			final String next = reader.readLine();
+			if (next == null) {
+				return false;
+			}
+			if (!next.trim().isEmpty()) {
+				line = next;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#nextValue()
+	 */
+	@Override
+	protected T nextValue() throws Exception {
+		final String value = line;
+		line = null;
+		return deserializer.apply(JsonReader.from(value));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonIterator#closeSource()
+	 */
+	@Override
+	protected void closeSource() throws Exception {
+		reader.close();
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.Json;
+import com.holonplatform.json.JsonWriter;
+
+/**
+ * A {@link AbstractJsonValuesWriter} which writes each value as a JSON Lines line using a {@link JsonWriter} for each
+ * value, used by the {@link Json} default methods for the implementations which do not support the JSON Lines format.
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class DefaultJsonLinesWriter<T> extends AbstractJsonValuesWriter<T> {
+
+	private final Function<Object, JsonWriter> serializer;
+
+	/**
+	 * Constructor.
+	 * @param type Value type (not null)
+	 * @param values The values to serialize (not null)
+	 * @param serializer The function to use to serialize each value (not null)
+	 */
+	public DefaultJsonLinesWriter(Class<T> type, Iterator<? extends T> values,
+			Function<Object, JsonWriter> serializer) {
+		super(type, values);
+		ObjectUtils.argumentNotNull(serializer, "Serializer function must be not null");
+		this.serializer = serializer;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.Writer, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(Writer writer, Iterator<? extends T> values) throws Exception {
+		int count = 0;
+		while (values.hasNext()) {
+			final String json = serializer.apply(values.next()).asString();
+			writer.write((json != null) ? json : "null");
+			writer.write('\n');
+			if (isFlushRequired(++count)) {
+				writer.flush();
+			}
+		}
+		writer.flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.AbstractJsonValuesWriter#serialize(java.io.OutputStream,
+	 * java.nio.charset.Charset, java.util.Iterator)
+	 */
+	@Override
+	protected void serialize(OutputStream stream, Charset charset, Iterator<? extends T> values) throws Exception {
+		serialize(Writers.buffered(stream, charset), values);
+	}
+
+}
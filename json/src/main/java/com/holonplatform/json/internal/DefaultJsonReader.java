@@ -19,23 +19,54 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.json.JsonReader;
 
 /**
  * Default {@link JsonReader} implementation.
+ * <p>
+ * The original JSON data source is retained, and the {@link Reader} is only created when requested, so that a JSON
+ * parser which supports the source type directly never needs to decode it.
+ * </p>
  * 
  * @since 5.1.0
  */
 public class DefaultJsonReader implements JsonReader {
 
+	/**
+	 * Empty JSON bytes
+	 */
+	private static final byte[] EMPTY = new byte[0];
+
+	/**
+	 * String source
+	 */
+	private final String string;
+
+	/**
+	 * Bytes source
+	 */
+	private final ByteBuffer bytes;
+
+	/**
+	 * Stream source
+	 */
+	private final InputStream stream;
+
+	/**
+	 * Bytes and stream charset
+	 */
+	private final Charset charset;
+
 	/**
 	 * Actual reader
 	 */
-	private final Reader reader;
+	private Reader reader;
 
 	/**
 	 * Constructor using an {@link InputStream} and default UTF-8 encoding.
@@ -56,19 +87,50 @@ public class DefaultJsonReader implements JsonReader {
 
 	/**
 	 * Constructor using an {@link InputStream}.
-	 * @param stream The JSON {@link InputStream}
+	 * @param stream The JSON {@link InputStream} (not null)
 	 * @param charset Encoding charset (if <code>null</code>, default UTF-8 will be used)
 	 */
 	public DefaultJsonReader(InputStream stream, Charset charset) {
-		this(new InputStreamReader(stream, (charset != null) ? charset : StandardCharsets.UTF_8));
+		this(null, null, stream, null, charset);
+		ObjectUtils.argumentNotNull(stream, "InputStream must be not null");
 	}
 
 	/**
-	 * Constructor using a byte array.
+	 * Constructor using a byte array and default UTF-8 encoding.
 	 * @param bytes JSON bytes
 	 */
 	public DefaultJsonReader(byte[] bytes) {
-		this((bytes == null) ? "" : new String(bytes, StandardCharsets.UTF_8));
+		this(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Constructor using a byte array.
+	 * @param bytes JSON bytes
+	 * @param charset Encoding charset (if <code>null</code>, default UTF-8 will be used)
+	 * @since 6.0.3
+	 */
+	public DefaultJsonReader(byte[] bytes, Charset charset) {
+		this(null, ByteBuffer.wrap((bytes != null) ? bytes : EMPTY), null, null, charset);
+	}
+
+	/**
+	 * Constructor using the remaining bytes of a {@link ByteBuffer} and default UTF-8 encoding.
+	 * @param buffer JSON bytes buffer (not null)
+	 * @since 6.0.3
+	 */
+	public DefaultJsonReader(ByteBuffer buffer) {
+		this(buffer, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Constructor using the remaining bytes of a {@link ByteBuffer}.
+	 * @param buffer JSON bytes buffer (not null)
+	 * @param charset Encoding charset (if <code>null</code>, default UTF-8 will be used)
+	 * @since 6.0.3
+	 */
+	public DefaultJsonReader(ByteBuffer buffer, Charset charset) {
+		this(null, ObjectUtils.argumentNotNull(buffer, "ByteBuffer must be not null").duplicate(), null, null,
+				charset);
 	}
 
 	/**
@@ -76,7 +138,7 @@ public class DefaultJsonReader implements JsonReader {
 	 * @param string JSON string
 	 */
 	public DefaultJsonReader(String string) {
-		this(new StringReader((string != null) ? string : ""));
+		this((string != null) ? string : "", null, null, null, null);
 	}
 
 	/**
@@ -84,9 +146,24 @@ public class DefaultJsonReader implements JsonReader {
 	 * @param reader JSON Reader (not null)
 	 */
 	public DefaultJsonReader(Reader reader) {
+		this(null, null, null, ObjectUtils.argumentNotNull(reader, "Reader must be not null"), null);
+	}
+
+	/**
+	 * Internal constructor.
+	 * @param string String source
+	 * @param bytes Bytes source
+	 * @param stream Stream source
+	 * @param reader Reader source
+	 * @param charset Bytes and stream charset
+	 */
+	private DefaultJsonReader(String string, ByteBuffer bytes, InputStream stream, Reader reader, Charset charset) {
 		super();
-		ObjectUtils.argumentNotNull(reader, "Reader must be not null");
+		this.string = string;
+		this.bytes = bytes;
+		this.stream = stream;
 		this.reader = reader;
+		this.charset = (charset != null) ? charset : StandardCharsets.UTF_8;
 	}
 
 	/*
@@ -95,7 +172,52 @@ public class DefaultJsonReader implements JsonReader {
 	 */
 	@Override
 	public Reader getReader() {
+		if (reader == null) {
+			if (string != null) {
+				reader = new StringReader(string);
+			} else if (bytes != null) {
+				reader = new InputStreamReader(new ByteBufferInputStream(bytes), charset);
+			} else {
+				reader = new InputStreamReader(stream, charset);
+			}
+		}
 		return reader;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.JsonReader#getString()
+	 */
+	@Override
+	public Optional<String> getString() {
+		return Optional.ofNullable(string);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.JsonReader#getByteBuffer()
+	 */
+	@Override
+	public Optional<ByteBuffer> getByteBuffer() {
+		return (bytes != null) ? Optional.of(bytes.duplicate()) : Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.JsonReader#getInputStream()
+	 */
+	@Override
+	public Optional<InputStream> getInputStream() {
+		return Optional.ofNullable(stream);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.JsonReader#getCharset()
+	 */
+	@Override
+	public Charset getCharset() {
+		return charset;
+	}
+
 }
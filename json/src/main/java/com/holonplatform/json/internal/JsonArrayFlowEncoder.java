@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.JsonWriter;
+
+/**
+ * A {@link JsonFlowTransformer} which encodes each value as a UTF-8 JSON array element, emitting a {@link ByteBuffer}
+ * for each value which includes the array opening bracket or the elements separator.
+ *
+ * @since 6.0.3
+ */
+public class JsonArrayFlowEncoder implements JsonFlowTransformer<Object, ByteBuffer> {
+
+	private final Function<Object, JsonWriter> serializer;
+
+	private boolean started = false;
+
+	private int capacity = ByteBufferOutputStream.DEFAULT_INITIAL_CAPACITY;
+
+	/**
+	 * Constructor.
+	 * @param serializer The function to use to serialize each value (not null)
+	 */
+	public JsonArrayFlowEncoder(Function<Object, JsonWriter> serializer) {
+		super();
+		ObjectUtils.argumentNotNull(serializer, "Serializer function must be not null");
+		this.serializer = serializer;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.JsonFlowTransformer#feed(java.lang.Object, java.util.function.Consumer)
+	 */
+	@Override
+	public void feed(Object value, Consumer<? super ByteBuffer> consumer) {
+		final ByteBufferOutputStream stream = new ByteBufferOutputStream(capacity, false);
+		stream.write(started ? ',' : '[');
+		started = true;
+		serializer.apply(value).write(stream);
+		final ByteBuffer bytes = stream.toByteBuffer();
+		// size the next buffer after the last element
+		capacity = bytes.remaining() + 16;
+		consumer.accept(bytes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.JsonFlowTransformer#complete(java.util.function.Consumer)
+	 */
+	@Override
+	public void complete(Consumer<? super ByteBuffer> consumer) {
+		consumer.accept(ByteBuffer.wrap(started ? new byte[] { ']' } : new byte[] { '[', ']' }));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.JsonFlowTransformer#close()
+	 */
+	@Override
+	public void close() {
+		// noop
+	}
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.Json.JsonReadException;
+import com.holonplatform.json.JsonReader;
+
+/**
+ * A {@link JsonFlowTransformer} which decodes UTF-8 JSON data chunks into values.
+ * <p>
+ * The chunks are scanned to detect the boundaries of each root-level JSON value, or of each element when the JSON data
+ * is a JSON array, and the bytes of a value are collected only until the value is complete, then the value is decoded
+ * using the provided deserializer function. JSON <code>null</code> values are skipped.
+ * </p>
+ * <p>
+ * Since the UTF-8 multi-byte sequences never contain ASCII bytes, the structural characters can be safely detected at
+ * byte level.
+ * </p>
+ *
+ * @param <T> Value type
+ *
+ * @since 6.0.3
+ */
+public class JsonFlowDecoder<T> implements JsonFlowTransformer<ByteBuffer, T> {
+
+	private final Function<JsonReader, T> deserializer;
+
+	/**
+	 * Current value bytes
+	 */
+	private byte[] value = new byte[256];
+
+	/**
+	 * Current value length, <code>0</code> if no value is in progress
+	 */
+	private int length = 0;
+
+	/**
+	 * Current value structure depth
+	 */
+	private int depth = 0;
+
+	/**
+	 * Whether the current value is a root-level scalar, i.e. not a JSON object, array or string
+	 */
+	private boolean scalar = false;
+
+	private boolean string = false;
+
+	private boolean escape = false;
+
+	/**
+	 * Whether a root-level JSON array is open
+	 */
+	private boolean array = false;
+
+	/**
+	 * Constructor.
+	 * @param deserializer The function to use to decode each value from its JSON data (not null)
+	 */
+	public JsonFlowDecoder(Function<JsonReader, T> deserializer) {
+		super();
+		ObjectUtils.argumentNotNull(deserializer, "Deserializer function must be not null");
+		this.deserializer = deserializer;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.JsonFlowTransformer#feed(java.lang.Object, java.util.function.Consumer)
+	 */
+	@Override
+	public void feed(ByteBuffer chunk, Consumer<? super T> consumer) {
+		ObjectUtils.argumentNotNull(chunk, "JSON data chunk must be not null");
+		while (chunk.hasRemaining()) {
+			final byte b = chunk.get();
+			if (length > 0) {
+				if (scalar && isDelimiter(b)) {
+					emit(consumer);
+					delimiter(b);
+				} else {
+					append(b);
+					if (scan(b)) {
+						emit(consumer);
+					}
+				}
+			} else if (!isWhitespace(b)) {
+				delimiter(b);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.JsonFlowTransformer#complete(java.util.function.Consumer)
+	 */
+	@Override
+	public void complete(Consumer<? super T> consumer) {
+		if (length > 0 && scalar) {
+			emit(consumer);
+		}
+		if (length > 0 || array) {
+			throw new JsonReadException("Failed to parse the JSON data: unexpected end of input");
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.internal.JsonFlowTransformer#close()
+	 */
+	@Override
+	public void close() {
+		length = 0;
+	}
+
+	/**
+	 * Process a byte outside of any value.
+	 * @param b The byte
+	 */
+	private void delimiter(byte b) {
+		if (isWhitespace(b)) {
+			return;
+		}
+		if (array && b == ',') {
+			return;
+		}
+		if (array && b == ']') {
+			array = false;
+			return;
+		}
+		if (!array && b == '[') {
+			array = true;
+			return;
+		}
+		if (b == ',' || b == ']' || b == '}') {
+			throw new JsonReadException("Failed to parse the JSON data: unexpected character [" + (char) b + "]");
+		}
+		// value start
+		append(b);
+		depth = 0;
+		string = false;
+		escape = false;
+		scalar = (b != '{' && b != '[' && b != '"');
+		if (!scalar) {
+			scan(b);
+		}
+	}
+
+	/**
+	 * Scan given value byte, tracking strings and structures.
+	 * @param b The byte
+	 * @return <code>true</code> if the byte completes a JSON object, array or string value
+	 */
+	private boolean scan(byte b) {
+		if (scalar) {
+			return false;
+		}
+		if (string) {
+			if (escape) {
+				escape = false;
+			} else if (b == '\\') {
+				escape = true;
+			} else if (b == '"') {
+				string = false;
+				return depth == 0;
+			}
+			return false;
+		}
+		switch (b) {
+		case '"':
+			string = true;
+			return false;
+		case '{':
+		case '[':
+			depth++;
+			return false;
+		case '}':
+		case ']':
+			return --depth == 0;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Decode the current value and provide it to given consumer, unless it is <code>null</code>.
+	 * @param consumer The values consumer
+	 */
+	private void emit(Consumer<? super T> consumer) {
+		final int size = length;
+		length = 0;
+		final T decoded;
+		try {
+			decoded = deserializer.apply(JsonReader.from(ByteBuffer.wrap(value, 0, size)));
+		} catch (JsonReadException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			// the context execution wraps any callable exception
+			if (e.getCause() instanceof JsonReadException) {
+				throw (JsonReadException) e.getCause();
+			}
+			throw e;
+		}
+		if (decoded != null) {
+			consumer.accept(decoded);
+		}
+	}
+
+	/**
+	 * Append a byte to the current value.
+	 * @param b The byte
+	 */
+	private void append(byte b) {
+		if (length == value.length) {
+			value = Arrays.copyOf(value, length << 1);
+		}
+		value[length++] = b;
+	}
+
+	private static boolean isDelimiter(byte b) {
+		return b == ',' || b == ']' || b == '}' || isWhitespace(b);
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+	}
+
+}
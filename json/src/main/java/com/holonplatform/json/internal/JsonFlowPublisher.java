@@ -0,0 +1,322 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * A {@link Flow.Publisher} which transforms the values of an upstream publisher using a {@link JsonFlowTransformer}.
+ * <p>
+ * The upstream values are requested only when there is outstanding downstream demand and no transformed value is
+ * waiting to be emitted, at most <code>prefetch</code> values at a time, so that the internal buffering is bounded by
+ * the values produced by a single upstream batch.
+ * </p>
+ * <p>
+ * Each subscription subscribes to the upstream publisher and uses a new transformer instance.
+ * </p>
+ *
+ * @param <U> Upstream value type
+ * @param <D> Downstream value type
+ *
+ * @since 6.0.3
+ */
+public class JsonFlowPublisher<U, D> implements Flow.Publisher<D> {
+
+	/**
+	 * Default number of upstream values to request at a time
+	 */
+	public static final int DEFAULT_PREFETCH = 16;
+
+	private final Flow.Publisher<? extends U> source;
+
+	private final Supplier<? extends JsonFlowTransformer<? super U, ? extends D>> transformer;
+
+	private final int prefetch;
+
+	/**
+	 * Constructor.
+	 * @param source The upstream publisher (not null)
+	 * @param transformer The supplier of the transformer to use for each subscription (not null)
+	 * @param prefetch The maximum number of upstream values to request at a time
+	 */
+	public JsonFlowPublisher(Flow.Publisher<? extends U> source,
+			Supplier<? extends JsonFlowTransformer<? super U, ? extends D>> transformer, int prefetch) {
+		super();
+		ObjectUtils.argumentNotNull(source, "Source publisher must be not null");
+		ObjectUtils.argumentNotNull(transformer, "Transformer supplier must be not null");
+		this.source = source;
+		this.transformer = transformer;
+		this.prefetch = Math.max(1, prefetch);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.concurrent.Flow.Publisher#subscribe(java.util.concurrent.Flow.Subscriber)
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super D> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("Subscriber must be not null");
+		}
+		final FlowSubscription<U, D> subscription = new FlowSubscription<>(subscriber, transformer.get(), prefetch);
+		subscriber.onSubscribe(subscription);
+		source.subscribe(subscription);
+	}
+
+	/**
+	 * Subscription which acts as upstream subscriber and serializes the downstream signals.
+	 *
+	 * @param <U> Upstream value type
+	 * @param <D> Downstream value type
+	 */
+	private static final class FlowSubscription<U, D> implements Flow.Subscription, Flow.Subscriber<U> {
+
+		private final Flow.Subscriber<? super D> downstream;
+
+		private final JsonFlowTransformer<? super U, ? extends D> transformer;
+
+		private final int prefetch;
+
+		private final Queue<D> queue = new ConcurrentLinkedQueue<>();
+
+		private final AtomicLong requested = new AtomicLong();
+
+		private final AtomicLong pending = new AtomicLong();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile Flow.Subscription upstream;
+
+		private volatile boolean done;
+
+		private volatile Throwable error;
+
+		private volatile boolean cancelled;
+
+		FlowSubscription(Flow.Subscriber<? super D> downstream, JsonFlowTransformer<? super U, ? extends D> transformer,
+				int prefetch) {
+			super();
+			this.downstream = downstream;
+			this.transformer = transformer;
+			this.prefetch = prefetch;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Flow.Subscriber#onSubscribe(java.util.concurrent.Flow.Subscription)
+		 */
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			if (upstream != null) {
+				subscription.cancel();
+				return;
+			}
+			upstream = subscription;
+			if (cancelled) {
+				subscription.cancel();
+			} else {
+				drain();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Flow.Subscriber#onNext(java.lang.Object)
+		 */
+		@Override
+		public void onNext(U item) {
+			pending.decrementAndGet();
+			if (done) {
+				return;
+			}
+			if (cancelled) {
+				done = true;
+				transformer.close();
+				return;
+			}
+			try {
+				transformer.feed(item, queue::add);
+			} catch (RuntimeException e) {
+				upstream.cancel();
+				fail(e);
+				return;
+			}
+			drain();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Flow.Subscriber#onError(java.lang.Throwable)
+		 */
+		@Override
+		public void onError(Throwable throwable) {
+			if (!done) {
+				fail(throwable);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Flow.Subscriber#onComplete()
+		 */
+		@Override
+		public void onComplete() {
+			if (!done) {
+				try {
+					transformer.complete(queue::add);
+				} catch (RuntimeException e) {
+					fail(e);
+					return;
+				}
+				transformer.close();
+				done = true;
+				drain();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Flow.Subscription#request(long)
+		 */
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				final Flow.Subscription subscription = upstream;
+				if (subscription != null) {
+					subscription.cancel();
+				}
+				if (!done) {
+					fail(new IllegalArgumentException("The number of requested values must be positive: " + n));
+				}
+				return;
+			}
+			long current, next;
+			do {
+				current = requested.get();
+				if (current == Long.MAX_VALUE) {
+					break;
+				}
+				next = current + n;
+				if (next < 0) {
+					next = Long.MAX_VALUE;
+				}
+			} while (!requested.compareAndSet(current, next));
+			drain();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Flow.Subscription#cancel()
+		 */
+		@Override
+		public void cancel() {
+			if (!cancelled) {
+				cancelled = true;
+				final Flow.Subscription subscription = upstream;
+				if (subscription != null) {
+					subscription.cancel();
+				}
+				drain();
+			}
+		}
+
+		/**
+		 * Terminate the flow with given error.
+		 * @param throwable The error
+		 */
+		private void fail(Throwable throwable) {
+			error = throwable;
+			done = true;
+			transformer.close();
+			drain();
+		}
+
+		/**
+		 * Emit the available values according to the downstream demand, request more upstream values if required and
+		 * signal the flow termination.
+		 */
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				if (cancelled) {
+					queue.clear();
+				} else {
+					final long demand = requested.get();
+					long emitted = 0L;
+					boolean terminated = false;
+					while (!cancelled) {
+						final boolean completed = done;
+						if (completed && error != null) {
+							terminated = true;
+							break;
+						}
+						if (emitted == demand) {
+							terminated = completed && queue.isEmpty();
+							break;
+						}
+						final D value = queue.poll();
+						if (value == null) {
+							terminated = completed;
+							break;
+						}
+						downstream.onNext(value);
+						emitted++;
+					}
+					if (emitted > 0 && demand != Long.MAX_VALUE) {
+						requested.addAndGet(-emitted);
+					}
+					if (terminated && !cancelled) {
+						cancelled = true;
+						queue.clear();
+						final Throwable throwable = error;
+						if (throwable != null) {
+							downstream.onError(throwable);
+						} else {
+							downstream.onComplete();
+						}
+					} else if (!cancelled && !done) {
+						requestUpstream();
+					}
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		/**
+		 * Request more upstream values if there is downstream demand, no value is waiting to be emitted and no
+		 * upstream value is pending.
+		 */
+		private void requestUpstream() {
+			final Flow.Subscription subscription = upstream;
+			if (subscription != null && requested.get() > 0 && queue.isEmpty() && pending.get() <= 0) {
+				pending.addAndGet(prefetch);
+				subscription.request(prefetch);
+			}
+		}
+
+	}
+
+}
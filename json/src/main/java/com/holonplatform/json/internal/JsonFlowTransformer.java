@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.util.function.Consumer;
+
+/**
+ * A {@link JsonFlowPublisher} transformation stage, which converts the values received from the upstream publisher
+ * into the values to emit downstream.
+ * <p>
+ * The methods of a transformer are never invoked concurrently.
+ * </p>
+ *
+ * @param <U> Upstream value type
+ * @param <D> Downstream value type
+ *
+ * @since 6.0.3
+ */
+public interface JsonFlowTransformer<U, D> {
+
+	/**
+	 * Transform given upstream value, providing the resulting downstream values, if any, to given
+	 * <code>consumer</code>.
+	 * @param value The upstream value
+	 * @param consumer The downstream values consumer
+	 */
+	void feed(U value, Consumer<? super D> consumer);
+
+	/**
+	 * Signal that no more upstream values are available, providing any remaining downstream value to given
+	 * <code>consumer</code>.
+	 * @param consumer The downstream values consumer
+	 */
+	void complete(Consumer<? super D> consumer);
+
+	/**
+	 * Release any resource held by the transformer.
+	 */
+	void close();
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.JsonProvider;
+
+/**
+ * Build-time generated {@link JsonProvider}s index.
+ * <p>
+ * When one or more index resources named {@link #RESOURCE_NAME} are available from a ClassLoader, the indexed
+ * provider classes are instantiated directly and the {@link ServiceLoader} lookup is skipped. So the index must list
+ * every provider which has to be available at runtime.
+ * </p>
+ * <p>
+ * The index is a UTF-8 text file which contains a fully qualified provider class name per line, in priority order.
+ * Blank lines and lines starting with <code>#</code> are ignored. The {@link #main(String[])} method can be used at
+ * build time to generate the index from the providers registered in the build classpath.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class JsonProviderIndex {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger LOGGER = JsonLogger.create();
+
+	/**
+	 * Index resource name
+	 */
+	public static final String RESOURCE_NAME = "META-INF/holon/json-providers.index";
+
+	private JsonProviderIndex() {
+	}
+
+	/**
+	 * Load the {@link JsonProvider}s listed by the index resources available from given ClassLoader.
+	 * @param classLoader The ClassLoader to use (not null)
+	 * @return The indexed providers, in index order, or an empty Optional if no index is available or it cannot be
+	 *         read
+	 */
+	public static Optional<List<JsonProvider>> load(ClassLoader classLoader) {
+		ObjectUtils.argumentNotNull(classLoader, "ClassLoader must be not null");
+		final Set<String> classNames = new LinkedHashSet<>();
+		try {
+			final Enumeration<URL> resources = classLoader.getResources(RESOURCE_NAME);
+			if (!resources.hasMoreElements()) {
+				return Optional.empty();
+			}
+			while (resources.hasMoreElements()) {
+				read(resources.nextElement(), classNames);
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Failed to read the JsonProvider index [" + RESOURCE_NAME + "], falling back to ServiceLoader",
+					e);
+			return Optional.empty();
+		}
+		final List<JsonProvider> providers = new ArrayList<>(classNames.size());
+		for (String className : classNames) {
+			try {
+				final Class<?> providerClass = Class.forName(className, true, classLoader);
+				providers.add(JsonProvider.class.cast(providerClass.getDeclaredConstructor().newInstance()));
+				LOGGER.debug(() -> "Registered indexed JsonProvider [" + className + "] for classloader ["
+						+ classLoader + "]");
+			} catch (Exception | LinkageError e) {
+				LOGGER.warn("Failed to load the indexed JsonProvider [" + className + "], skipping", e);
+			}
+		}
+		return Optional.of(providers);
+	}
+
+	/**
+	 * Write the index of the {@link JsonProvider}s available from given ClassLoader using the {@link ServiceLoader}
+	 * API.
+	 * @param classLoader The ClassLoader to use (not null)
+	 * @param writer The writer to use (not null)
+	 * @throws IOException If an I/O error occurs
+	 */
+	public static void write(ClassLoader classLoader, Writer writer) throws IOException {
+		ObjectUtils.argumentNotNull(classLoader, "ClassLoader must be not null");
+		ObjectUtils.argumentNotNull(writer, "Writer must be not null");
+		final List<JsonProvider> providers = new ArrayList<>();
+		ServiceLoader.load(JsonProvider.class, classLoader).forEach(providers::add);
+		providers.sort(JsonProviders.PRIORITY_COMPARATOR);
+		writer.write("# Generated JsonProvider index\n");
+		for (JsonProvider provider : providers) {
+			writer.write(provider.getClass().getName());
+			writer.write('\n');
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Generate the {@link JsonProvider}s index into given output directory, using the current classpath.
+	 * @param args The output directory, for example the build classes directory
+	 * @throws IOException If an I/O error occurs
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args == null || args.length != 1) {
+			throw new IllegalArgumentException("Usage: " + JsonProviderIndex.class.getName() + " <output directory>");
+		}
+		final Path index = Paths.get(args[0], RESOURCE_NAME);
+		Files.createDirectories(index.getParent());
+		try (Writer writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+			write(JsonProviderIndex.class.getClassLoader(), writer);
+		}
+	}
+
+	/**
+	 * Read the provider class names from given index resource.
+	 * @param resource The index resource URL
+	 * @param classNames The class names set to populate
+	 * @throws IOException If an I/O error occurs
+	 */
+	private static void read(URL resource, Set<String> classNames) throws IOException {
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				final String className = line.trim();
+				if (!className.isEmpty() && className.charAt(0) != '#') {
+					classNames.add(className);
+				}
+			}
+		}
+	}
+
+}
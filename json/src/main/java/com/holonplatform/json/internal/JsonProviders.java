@@ -15,26 +15,41 @@
  */
 package com.holonplatform.json.internal;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.annotation.Priority;
 
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ClassUtils;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.json.Json;
 import com.holonplatform.json.JsonProvider;
 
 /**
  * Default {@link JsonProvider}s handler by {@link ClassLoader}.
+ * <p>
+ * The providers are loaded once for each {@link ClassLoader}, and the {@link Json} implementation obtained from the
+ * default provider is cached, so that the same thread-safe instance is returned until the {@link ClassLoader}
+ * registry is refreshed using {@link #refresh(ClassLoader)}. The registry lookup does not require any lock, and the
+ * providers of each ClassLoader are kept as an immutable array sorted by priority.
+ * </p>
+ * <p>
+ * If a {@link JsonProviderIndex} is available, the indexed providers are used and the {@link ServiceLoader} lookup is
+ * skipped.
+ * </p>
  *
  * @since 5.1.0
  */
@@ -48,14 +63,19 @@ public final class JsonProviders {
 	/**
 	 * {@link Priority} based comparator.
 	 */
-	private static final Comparator<Object> PRIORITY_COMPARATOR = Comparator.comparingInt(
+	static final Comparator<Object> PRIORITY_COMPARATOR = Comparator.comparingInt(
 			p -> p.getClass().isAnnotationPresent(Priority.class) ? p.getClass().getAnnotation(Priority.class).value()
 					: JsonProvider.DEFAULT_PRIORITY);
 
 	/**
-	 * Providers by ClassLoader
+	 * Registries by ClassLoader
 	 */
-	private static final Map<ClassLoader, List<JsonProvider>> PROVIDERS = new WeakHashMap<>();
+	private static final ConcurrentMap<ClassLoaderKey, Registry> REGISTRIES = new ConcurrentHashMap<>();
+
+	/**
+	 * Queue of the collected ClassLoader keys
+	 */
+	private static final ReferenceQueue<ClassLoader> COLLECTED = new ReferenceQueue<>();
 
 	private JsonProviders() {
 	}
@@ -77,11 +97,22 @@ public final class JsonProviders {
 	 */
 	public static Optional<JsonProvider> getDefaultJsonProvider(ClassLoader classLoader) {
 		ClassLoader cl = (classLoader != null) ? classLoader : ClassUtils.getDefaultClassLoader();
-		List<JsonProvider> providers = getJsonProviders(cl);
-		if (!providers.isEmpty()) {
-			return Optional.of(providers.get(0));
-		}
-		return Optional.empty();
+		return Optional.ofNullable(getRegistry(cl).getDefaultProvider());
+	}
+
+	/**
+	 * Get the {@link Json} implementation provided by the default {@link JsonProvider} for given ClassLoader, if any.
+	 * <p>
+	 * The {@link Json} instance is obtained from the provider only once and then cached for the ClassLoader, until
+	 * {@link #refresh(ClassLoader)} is invoked.
+	 * </p>
+	 * @param classLoader ClassLoader to use
+	 * @return Optional {@link Json} implementation
+	 * @since 6.0.3
+	 */
+	public static Optional<Json> getDefaultJson(ClassLoader classLoader) {
+		ClassLoader cl = (classLoader != null) ? classLoader : ClassUtils.getDefaultClassLoader();
+		return Optional.ofNullable(getRegistry(cl).getJson());
 	}
 
 	/**
@@ -91,37 +122,176 @@ public final class JsonProviders {
 	 */
 	public static List<JsonProvider> getJsonProviders(ClassLoader classLoader) {
 		ObjectUtils.argumentNotNull(classLoader, "ClassLoader must be not null");
-		ensureInited(classLoader);
-		return PROVIDERS.get(classLoader);
+		return getRegistry(classLoader).getProviders();
+	}
+
+	/**
+	 * Discard the registered {@link JsonProvider}s and the cached {@link Json} implementation for given ClassLoader,
+	 * so that they will be loaded again at next lookup.
+	 * @param classLoader ClassLoader to refresh
+	 * @since 6.0.3
+	 */
+	public static void refresh(ClassLoader classLoader) {
+		ClassLoader cl = (classLoader != null) ? classLoader : ClassUtils.getDefaultClassLoader();
+		REGISTRIES.remove(new ClassLoaderKey(cl, null));
+		LOGGER.debug(() -> "Refreshed JsonProviders for classloader [" + cl + "]");
 	}
 
 	/**
-	 * Ensure the JsonProviders are inited for given classloader.
+	 * Get the providers registry for given classloader, loading it if not available.
 	 * @param classLoader ClassLoader to use
+	 * @return The ClassLoader registry
+	 */
+	private static Registry getRegistry(final ClassLoader classLoader) {
+		final Registry registry = REGISTRIES.get(new ClassLoaderKey(classLoader, null));
+		if (registry != null) {
+			return registry;
+		}
+		// load outside of the map update, a provider could perform a lookup itself
+		final Registry loaded = new Registry(loadProviders(classLoader));
+		expungeCollected();
+		final Registry current = REGISTRIES.putIfAbsent(new ClassLoaderKey(classLoader, COLLECTED), loaded);
+		return (current != null) ? current : loaded;
+	}
+
+	/**
+	 * Load the {@link JsonProvider}s for given classloader, sorted by priority.
+	 * @param classLoader ClassLoader to use
+	 * @return The providers array
+	 */
+	private static JsonProvider[] loadProviders(final ClassLoader classLoader) {
+		final List<JsonProvider> results = JsonProviderIndex.load(classLoader)
+				.orElseGet(() -> lookupProviders(classLoader));
+		final JsonProvider[] providers = results.toArray(new JsonProvider[results.size()]);
+		Arrays.sort(providers, PRIORITY_COMPARATOR);
+		return providers;
+	}
+
+	/**
+	 * Lookup the {@link JsonProvider}s for given classloader using the {@link ServiceLoader} API.
+	 * @param classLoader ClassLoader to use
+	 * @return The providers list
+	 */
+	private static List<JsonProvider> lookupProviders(final ClassLoader classLoader) {
+
+		LOGGER.debug(() -> "Load JsonProviders for classloader [" + classLoader
+				+ "] using ServiceLoader with service name: " + JsonProvider.class.getName());
+
+		final List<JsonProvider> results = new ArrayList<>();
+		// load from META-INF/services
+		Iterable<JsonProvider> loaded = AccessController.doPrivileged(new PrivilegedAction<Iterable<JsonProvider>>() {
+			@Override
+			public Iterable<JsonProvider> run() {
+				return ServiceLoader.load(JsonProvider.class, classLoader);
+			}
+		});
+		loaded.forEach(l -> {
+			results.add(l);
+			LOGGER.debug(() -> "Registered JsonProvider [" + l + "] for classloader [" + classLoader + "]");
+		});
+		return results;
+	}
+
+	/**
+	 * Remove the registries of the garbage collected classloaders.
+	 */
+	private static void expungeCollected() {
+		Reference<? extends ClassLoader> collected;
+		while ((collected = COLLECTED.poll()) != null) {
+			REGISTRIES.remove(collected);
+		}
+	}
+
+	/**
+	 * ClassLoader registry key, which holds a weak reference to the ClassLoader and uses identity equality.
+	 */
+	private static final class ClassLoaderKey extends WeakReference<ClassLoader> {
+
+		private final int hash;
+
+		ClassLoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+			super(classLoader, queue);
+			this.hash = System.identityHashCode(classLoader);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ClassLoaderKey)) {
+				return false;
+			}
+			final ClassLoader classLoader = get();
+			return classLoader != null && classLoader == ((ClassLoaderKey) obj).get();
+		}
+
+	}
+
+	/**
+	 * The {@link JsonProvider}s and the cached {@link Json} implementation of a ClassLoader.
 	 */
-	private static synchronized void ensureInited(final ClassLoader classLoader) {
-		if (!PROVIDERS.containsKey(classLoader)) {
-
-			LOGGER.debug(() -> "Load JsonProviders for classloader [" + classLoader
-					+ "] using ServiceLoader with service name: " + JsonProvider.class.getName());
-
-			final List<JsonProvider> results = new LinkedList<>();
-			// load from META-INF/services
-			Iterable<JsonProvider> loaded = AccessController
-					.doPrivileged(new PrivilegedAction<Iterable<JsonProvider>>() {
-						@Override
-						public Iterable<JsonProvider> run() {
-							return ServiceLoader.load(JsonProvider.class, classLoader);
-						}
-					});
-			loaded.forEach(l -> {
-				results.add(l);
-				LOGGER.debug(() -> "Registered JsonProvider [" + l + "] for classloader [" + classLoader + "]");
-			});
-			Collections.sort(results, PRIORITY_COMPARATOR);
-
-			PROVIDERS.put(classLoader, results);
+	private static final class Registry {
+
+		private final JsonProvider[] providers;
+
+		private final List<JsonProvider> providersList;
+
+		private volatile Json json;
+
+		Registry(JsonProvider[] providers) {
+			super();
+			this.providers = providers;
+			this.providersList = Collections.unmodifiableList(Arrays.asList(providers));
 		}
+
+		/**
+		 * Get the registered providers.
+		 * @return The providers list, sorted by priority
+		 */
+		List<JsonProvider> getProviders() {
+			return providersList;
+		}
+
+		/**
+		 * Get the default provider, i.e. the one with higher priority.
+		 * @return The default provider, <code>null</code> if none
+		 */
+		JsonProvider getDefaultProvider() {
+			return (providers.length > 0) ? providers[0] : null;
+		}
+
+		/**
+		 * Get the {@link Json} implementation of the default provider, obtaining it only once.
+		 * @return The {@link Json} implementation, <code>null</code> if not available
+		 */
+		Json getJson() {
+			Json current = json;
+			if (current == null && providers.length > 0) {
+				synchronized (this) {
+					current = json;
+					if (current == null) {
+						current = providers[0].provide();
+						json = current;
+					}
+				}
+			}
+			return current;
+		}
+
 	}
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * An {@link OutputStream} which writes into a {@link WritableByteChannel}, through a direct buffer obtained from the
+ * {@link ByteBufferPool}.
+ * <p>
+ * Closing the stream flushes the buffered bytes and releases the buffer, but does not close the channel.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class WritableByteChannelOutputStream extends OutputStream {
+
+	private final WritableByteChannel channel;
+
+	private ByteBuffer buffer;
+
+	/**
+	 * Constructor.
+	 * @param channel The channel into which to write the bytes (not null)
+	 */
+	public WritableByteChannelOutputStream(WritableByteChannel channel) {
+		super();
+		ObjectUtils.argumentNotNull(channel, "WritableByteChannel must be not null");
+		this.channel = channel;
+		this.buffer = ByteBufferPool.acquire();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.OutputStream#write(int)
+	 */
+	@Override
+	public void write(int b) throws IOException {
+		ensureOpen();
+		if (!buffer.hasRemaining()) {
+			drain();
+		}
+		buffer.put((byte) b);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.OutputStream#write(byte[], int, int)
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		ensureOpen();
+		int offset = off;
+		int remaining = len;
+		while (remaining > 0) {
+			if (!buffer.hasRemaining()) {
+				drain();
+			}
+			final int count = Math.min(remaining, buffer.remaining());
+			buffer.put(b, offset, count);
+			offset += count;
+			remaining -= count;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.OutputStream#flush()
+	 */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		drain();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.OutputStream#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		if (buffer != null) {
+			try {
+				drain();
+			} finally {
+				ByteBufferPool.release(buffer);
+				buffer = null;
+			}
+		}
+	}
+
+	/**
+	 * Write the buffered bytes into the channel.
+	 * @throws IOException If an I/O error occurred
+	 */
+	private void drain() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Checks the stream is not closed.
+	 * @throws IOException If the stream is closed
+	 */
+	private void ensureOpen() throws IOException {
+		if (buffer == null) {
+			throw new IOException("Stream closed");
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * {@link Writer} utility methods.
+ *
+ * @since 6.0.3
+ */
+public final class Writers {
+
+	private Writers() {
+	}
+
+	/**
+	 * Get a buffered {@link Writer} to write characters into given {@link OutputStream} using given charset.
+	 * @param stream The stream into which to write the encoded characters (not null)
+	 * @param charset The charset to use for encoding (if <code>null</code>, UTF-8 is used)
+	 * @return A new buffered Writer
+	 */
+	public static Writer buffered(OutputStream stream, Charset charset) {
+		ObjectUtils.argumentNotNull(stream, "OutputStream must be not null");
+		return new BufferedWriter(new OutputStreamWriter(stream, (charset != null) ? charset : StandardCharsets.UTF_8));
+	}
+
+}
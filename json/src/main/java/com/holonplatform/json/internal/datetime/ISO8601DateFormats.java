@@ -16,7 +16,10 @@
 package com.holonplatform.json.internal.datetime;
 
 import java.text.ParseException;
+import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
 
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.time.FastDateFormat;
@@ -28,6 +31,15 @@ import com.holonplatform.json.datetime.CurrentSerializationTemporalType;
 /**
  * ISO-8601 date formats used by JSON {@link Date} serializers and
  * deserializers.
+ * <p>
+ * The dates are formatted and parsed using the default time zone, through a
+ * hand-written codec which does not allocate intermediate objects. The
+ * {@link FastDateFormat} patterns are still used for the values the codec does
+ * not handle, i.e. dates before the Gregorian calendar adoption or after year
+ * 9999, local date-times close to a time zone offset transition, non canonical
+ * date strings and default locales which do not use the Gregorian calendar, so
+ * that the results are always consistent with the format patterns.
+ * </p>
  *
  * @since 5.1.0
  */
@@ -38,6 +50,33 @@ public final class ISO8601DateFormats {
 	static final String ISO_DATE_FORMAT = "yyyy-MM-dd";
 	static final String ISO_TIME_FORMAT = "HH:mm:ss";
 
+	/**
+	 * The maximum number of characters of a formatted date.
+	 * @since 6.0.3
+	 */
+	public static final int MAX_FORMAT_LENGTH = 32;
+
+	private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+	/**
+	 * Lower bound of the codec range (1600-01-01T00:00:00Z), after the Gregorian
+	 * calendar cutover
+	 */
+	private static final long MIN_TIME = -11676096000000L;
+
+	/**
+	 * Upper bound of the codec range (9999-12-30T00:00:00Z), so that years have
+	 * four digits in any time zone
+	 */
+	private static final long MAX_TIME = 253402041600000L;
+
+	private static final int NO_VALUE = -1;
+
+	/**
+	 * Last checked default locale
+	 */
+	private static volatile LocaleCalendar localeCalendar;
+
 	private ISO8601DateFormats() {
 	}
 
@@ -63,11 +102,52 @@ public final class ISO8601DateFormats {
 	 */
 	public static String format(Date date, TemporalType temporalType) {
 		if (date != null) {
-			return getDateFormat(getTemporalType(temporalType), true).format(date);
+			final char[] buffer = new char[MAX_FORMAT_LENGTH];
+			return new String(buffer, 0, format(date, temporalType, buffer, 0));
 		}
 		return null;
 	}
 
+	/**
+	 * Format given <code>date</code> into given character buffer, using a suitable
+	 * format pattern according to given {@link TemporalType}, or
+	 * {@link TemporalType#DATE_TIME} if none available.
+	 * @param date         Date to format (not null)
+	 * @param temporalType TemporalType to use, <code>null</code> to use current
+	 *                     TemporalType
+	 * @param buffer       The buffer into which to write the formatted date, which
+	 *                     must have at least {@link #MAX_FORMAT_LENGTH} available
+	 *                     characters from given <code>offset</code>
+	 * @param offset       The buffer offset from which to write the characters
+	 * @return The number of written characters
+	 * @since 6.0.3
+	 */
+	public static int format(Date date, TemporalType temporalType, char[] buffer, int offset) {
+		final TemporalType tt = getTemporalType(temporalType);
+		final long time = date.getTime();
+		if (time < MIN_TIME || time > MAX_TIME || !isGregorianLocale()) {
+			final String formatted = getDateFormat(tt, true).format(date);
+			formatted.getChars(0, formatted.length(), buffer, offset);
+			return formatted.length();
+		}
+		final int zoneOffset = TimeZone.getDefault().getOffset(time);
+		final long local = time + zoneOffset;
+		int position = offset;
+		if (tt != TemporalType.TIME) {
+			position = writeDate(Math.floorDiv(local, MILLIS_PER_DAY), buffer, position);
+		}
+		if (tt == TemporalType.DATE_TIME) {
+			buffer[position++] = 'T';
+		}
+		if (tt != TemporalType.DATE) {
+			position = writeTime((int) Math.floorMod(local, MILLIS_PER_DAY), buffer, position);
+		}
+		if (tt == TemporalType.DATE_TIME) {
+			position = writeZoneOffset(zoneOffset, buffer, position);
+		}
+		return position - offset;
+	}
+
 	/**
 	 * Parse given date/time string, using a suitable date pattern.
 	 * @param str String to parse
@@ -87,41 +167,338 @@ public final class ISO8601DateFormats {
 	 * @throws ParseException If a parsing error occurred
 	 */
 	public static Date parse(String str, TemporalType temporalType) throws ParseException {
-		if (str != null && !str.trim().isEmpty()) {
-			final TemporalType tt = getTemporalType(temporalType);
-
-			final Date date;
-			boolean noTime = TemporalType.DATE == tt;
-
-			long asLong = NumberUtils.toLong(str);
-			if (asLong > 0) {
-				// parse as an instant
-				date = new Date(asLong);
-			} else {
-
-				if (str.indexOf('T') > -1) {
-					// with time
-					if (hasTimeZone(str)) {
-						// with time zone
-						date = FastDateFormat.getInstance(ISO_DATETIME_FORMAT).parse(str);
-					} else {
-						// without time zone
-						date = FastDateFormat.getInstance(ISO_DATETIME_FORMAT_NO_TIMEZONE).parse(str);
-					}
-				} else {
-					// no time
-					noTime = true;
-					date = FastDateFormat.getInstance(ISO_DATE_FORMAT).parse(str);
-				}
+		if (str != null && !isBlank(str)) {
+			return new Date(parseTime(str, temporalType));
+		}
+		return null;
+	}
+
+	/**
+	 * Parse given date/time string, using a suitable date pattern and given
+	 * {@link TemporalType} to provide a consistent value, obtaining the
+	 * milliseconds since the epoch.
+	 * @param str          String to parse (not null)
+	 * @param temporalType Temporal type
+	 * @return The milliseconds since January 1, 1970, 00:00:00 GMT of the parsed
+	 *         date
+	 * @throws ParseException If a parsing error occurred or the string is blank
+	 * @since 6.0.3
+	 */
+	public static long parseTime(String str, TemporalType temporalType) throws ParseException {
+		if (isBlank(str)) {
+			throw new ParseException("Unparseable date: \"" + str + "\"", 0);
+		}
+		final TemporalType tt = getTemporalType(temporalType);
+
+		boolean noTime = TemporalType.DATE == tt;
 
+		long time = toLong(str);
+		if (time <= 0) {
+			// not an instant
+			if (str.indexOf('T') < 0) {
+				noTime = true;
+			}
+			time = isGregorianLocale() ? parseCanonical(str) : NO_VALUE;
+			if (time == NO_VALUE) {
+				time = parseWithPattern(str).getTime();
 			}
+		}
 
-			if (date != null && noTime) {
-				return CalendarUtils.floorTime(date);
+		if (noTime) {
+			return floorTime(time);
+		}
+		return time;
+	}
+
+	/**
+	 * Parse given date/time string using the suitable {@link FastDateFormat}
+	 * pattern.
+	 * @param str String to parse
+	 * @return Parsed Date
+	 * @throws ParseException If a parsing error occurred
+	 */
+	private static Date parseWithPattern(String str) throws ParseException {
+		if (str.indexOf('T') > -1) {
+			// with time
+			if (hasTimeZone(str)) {
+				// with time zone
+				return FastDateFormat.getInstance(ISO_DATETIME_FORMAT).parse(str);
 			}
-			return date;
+			// without time zone
+			return FastDateFormat.getInstance(ISO_DATETIME_FORMAT_NO_TIMEZONE).parse(str);
 		}
-		return null;
+		// no time
+		return FastDateFormat.getInstance(ISO_DATE_FORMAT).parse(str);
+	}
+
+	/**
+	 * Parse given date/time string if it has one of the canonical
+	 * <code>yyyy-MM-dd</code>, <code>yyyy-MM-dd'T'HH:mm:ss</code> or
+	 * <code>yyyy-MM-dd'T'HH:mm:ssZ</code> forms, with valid field values.
+	 * @param str String to parse
+	 * @return The epoch milliseconds, {@link #NO_VALUE} if the string cannot be
+	 *         parsed by the codec
+	 */
+	private static long parseCanonical(String str) {
+		final int length = str.length();
+		if (length != 10 && length != 19 && length != 24) {
+			return NO_VALUE;
+		}
+		if (str.charAt(4) != '-' || str.charAt(7) != '-') {
+			return NO_VALUE;
+		}
+		final int year = digits(str, 0, 4);
+		final int month = digits(str, 5, 2);
+		final int day = digits(str, 8, 2);
+		if (year < 1600 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+			return NO_VALUE;
+		}
+		final long date = daysFromCivil(year, month, day) * MILLIS_PER_DAY;
+		if (length == 10) {
+			return toTime(date);
+		}
+		if (str.charAt(10) != 'T' || str.charAt(13) != ':' || str.charAt(16) != ':') {
+			return NO_VALUE;
+		}
+		final int hour = digits(str, 11, 2);
+		final int minute = digits(str, 14, 2);
+		final int second = digits(str, 17, 2);
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+			return NO_VALUE;
+		}
+		final long local = date + ((hour * 60L + minute) * 60L + second) * 1000L;
+		if (length == 19) {
+			return toTime(local);
+		}
+		final char sign = str.charAt(19);
+		final int offsetHours = digits(str, 20, 2);
+		final int offsetMinutes = digits(str, 22, 2);
+		if ((sign != '+' && sign != '-') || offsetHours < 0 || offsetHours > 23 || offsetMinutes < 0
+				|| offsetMinutes > 59) {
+			return NO_VALUE;
+		}
+		final long offset = (offsetHours * 60L + offsetMinutes) * 60L * 1000L;
+		return (sign == '+') ? local - offset : local + offset;
+	}
+
+	/**
+	 * Convert given local date-time, expressed as milliseconds from the local
+	 * epoch, into the epoch milliseconds using the default time zone.
+	 * @param local Local date-time
+	 * @return The epoch milliseconds, {@link #NO_VALUE} if the local date-time is
+	 *         out of the codec range or close to a time zone offset transition
+	 */
+	private static long toTime(long local) {
+		if (local < MIN_TIME || local > MAX_TIME) {
+			return NO_VALUE;
+		}
+		final TimeZone zone = TimeZone.getDefault();
+		final int offset = zone.getOffset(local - zone.getRawOffset());
+		final long time = local - offset;
+		if (zone.getOffset(time) != offset || zone.getOffset(time - MILLIS_PER_DAY) != offset
+				|| zone.getOffset(time + MILLIS_PER_DAY) != offset) {
+			// gap or overlap: let the calendar resolve it
+			return NO_VALUE;
+		}
+		return time;
+	}
+
+	/**
+	 * Get the start of the day of given epoch milliseconds, using the default time
+	 * zone.
+	 * @param time Epoch milliseconds
+	 * @return The epoch milliseconds of the start of the day
+	 */
+	private static long floorTime(long time) {
+		if (time >= MIN_TIME && time <= MAX_TIME) {
+			final long local = time + TimeZone.getDefault().getOffset(time);
+			final long floor = toTime(local - Math.floorMod(local, MILLIS_PER_DAY));
+			if (floor != NO_VALUE) {
+				return floor;
+			}
+		}
+		return CalendarUtils.floorTime(new Date(time)).getTime();
+	}
+
+	/**
+	 * Write the <code>yyyy-MM-dd</code> representation of given epoch day.
+	 * @param epochDay Days since 1970-01-01
+	 * @param buffer   Characters buffer
+	 * @param position Buffer position
+	 * @return The new buffer position
+	 */
+	private static int writeDate(long epochDay, char[] buffer, int position) {
+		// civil from days, see http://howardhinnant.github.io/date_algorithms.html
+		final long z = epochDay + 719468;
+		final long era = Math.floorDiv(z, 146097);
+		final int doe = (int) (z - era * 146097);
+		final int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		final int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		final int mp = (5 * doy + 2) / 153;
+		final int day = doy - (153 * mp + 2) / 5 + 1;
+		final int month = (mp < 10) ? mp + 3 : mp - 9;
+		final int year = (int) (yoe + era * 400) + ((month <= 2) ? 1 : 0);
+		int p = position;
+		p = writeTwoDigits(year / 100, buffer, p);
+		p = writeTwoDigits(year % 100, buffer, p);
+		buffer[p++] = '-';
+		p = writeTwoDigits(month, buffer, p);
+		buffer[p++] = '-';
+		return writeTwoDigits(day, buffer, p);
+	}
+
+	/**
+	 * Write the <code>HH:mm:ss</code> representation of given milliseconds of day.
+	 * @param millisOfDay Milliseconds of day
+	 * @param buffer      Characters buffer
+	 * @param position    Buffer position
+	 * @return The new buffer position
+	 */
+	private static int writeTime(int millisOfDay, char[] buffer, int position) {
+		final int secondOfDay = millisOfDay / 1000;
+		int p = writeTwoDigits(secondOfDay / 3600, buffer, position);
+		buffer[p++] = ':';
+		p = writeTwoDigits((secondOfDay / 60) % 60, buffer, p);
+		buffer[p++] = ':';
+		return writeTwoDigits(secondOfDay % 60, buffer, p);
+	}
+
+	/**
+	 * Write the <code>+HHmm</code> representation of given time zone offset.
+	 * @param zoneOffset Time zone offset in milliseconds
+	 * @param buffer     Characters buffer
+	 * @param position   Buffer position
+	 * @return The new buffer position
+	 */
+	private static int writeZoneOffset(int zoneOffset, char[] buffer, int position) {
+		int offset = zoneOffset;
+		if (offset < 0) {
+			buffer[position] = '-';
+			offset = -offset;
+		} else {
+			buffer[position] = '+';
+		}
+		final int hours = offset / (60 * 60 * 1000);
+		final int p = writeTwoDigits(hours, buffer, position + 1);
+		return writeTwoDigits(offset / (60 * 1000) - 60 * hours, buffer, p);
+	}
+
+	private static int writeTwoDigits(int value, char[] buffer, int position) {
+		buffer[position] = (char) ('0' + value / 10);
+		buffer[position + 1] = (char) ('0' + value % 10);
+		return position + 2;
+	}
+
+	/**
+	 * Parse a fixed number of ASCII digits.
+	 * @param str    String
+	 * @param start  Start index
+	 * @param length Number of digits
+	 * @return The parsed value, <code>-1</code> if a character is not a digit
+	 */
+	private static int digits(String str, int start, int length) {
+		int value = 0;
+		for (int i = start; i < start + length; i++) {
+			final char c = str.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * Get the days since 1970-01-01 of given date.
+	 * @param year  Year
+	 * @param month Month (1-12)
+	 * @param day   Day of month
+	 * @return Epoch day
+	 */
+	private static long daysFromCivil(int year, int month, int day) {
+		final int y = (month <= 2) ? year - 1 : year;
+		final int era = Math.floorDiv(y, 400);
+		final int yoe = y - era * 400;
+		final int doy = (153 * ((month > 2) ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		final int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097L + doe - 719468;
+	}
+
+	private static int lengthOfMonth(int year, int month) {
+		switch (month) {
+		case 2:
+			return ((year % 4 == 0 && year % 100 != 0) || year % 400 == 0) ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
+		}
+	}
+
+	/**
+	 * Parse given string as a <code>long</code>, consistently with
+	 * {@link NumberUtils#toLong(String)}.
+	 * @param str String to parse
+	 * @return The parsed value, <code>0</code> if the string is not a valid
+	 *         number
+	 */
+	private static long toLong(String str) {
+		final int length = str.length();
+		final char first = str.charAt(0);
+		if (first == '-') {
+			// not positive in any case
+			return 0;
+		}
+		int i = (first == '+') ? 1 : 0;
+		if (i == length) {
+			return 0;
+		}
+		long value = 0;
+		for (; i < length; i++) {
+			final char c = str.charAt(i);
+			if (c < '0' || c > '9') {
+				return (c > 127) ? NumberUtils.toLong(str) : 0;
+			}
+			final int digit = c - '0';
+			if (value > (Long.MAX_VALUE - digit) / 10) {
+				return 0;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * Checks whether given string is empty or contains only characters which are
+	 * removed by {@link String#trim()}.
+	 * @param str String to check
+	 * @return <code>true</code> if the string is blank
+	 */
+	private static boolean isBlank(String str) {
+		for (int i = 0; i < str.length(); i++) {
+			if (str.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the default locale uses the Gregorian calendar, which is
+	 * required by the codec.
+	 * @return <code>true</code> if the default locale uses the Gregorian calendar
+	 */
+	private static boolean isGregorianLocale() {
+		final Locale locale = Locale.getDefault();
+		LocaleCalendar lc = localeCalendar;
+		if (lc == null || lc.locale != locale) {
+			lc = new LocaleCalendar(locale, "gregory".equals(Calendar.getInstance(locale).getCalendarType()));
+			localeCalendar = lc;
+		}
+		return lc.gregorian;
 	}
 
 	/**
@@ -174,4 +551,21 @@ public final class ISO8601DateFormats {
 		return tt;
 	}
 
+	/**
+	 * Default locale calendar check result.
+	 */
+	private static final class LocaleCalendar {
+
+		final Locale locale;
+
+		final boolean gregorian;
+
+		LocaleCalendar(Locale locale, boolean gregorian) {
+			super();
+			this.locale = locale;
+			this.gregorian = gregorian;
+		}
+
+	}
+
 }
@@ -15,14 +15,14 @@
  */
 package com.holonplatform.json.internal.model;
 
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import com.holonplatform.core.Path;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.cache.CacheStatistics;
 import com.holonplatform.json.config.PropertyBoxSerializationMode;
 import com.holonplatform.json.model.JsonPropertySetSerializationTreeResolver;
 import com.holonplatform.json.model.PropertySetSerializationTree;
@@ -58,12 +58,12 @@ public enum DefaultJsonPropertySetSerializationTreeResolver implements JsonPrope
 	/**
 	 * PATH mode cache
 	 */
-	private static final Map<PropertySet<?>, PropertySetSerializationTree> PATH_CACHE = new WeakHashMap<>();
+	private static final PropertySetCache<PropertySetSerializationTree> PATH_CACHE = new PropertySetCache<>();
 
 	/**
 	 * ALL mode cache
 	 */
-	private static final Map<PropertySet<?>, PropertySetSerializationTree> ALL_CACHE = new WeakHashMap<>();
+	private static final PropertySetCache<PropertySetSerializationTree> ALL_CACHE = new PropertySetCache<>();
 
 	/*
 	 * (non-Javadoc)
@@ -79,16 +79,40 @@ public enum DefaultJsonPropertySetSerializationTreeResolver implements JsonPrope
 
 		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
 
-		final PropertyBoxSerializationMode mode = (serializationMode != null) ? serializationMode
-				: PropertyBoxSerializationMode.getDefault();
+		switch (getSerializationMode(serializationMode)) {
+		case ALL:
+			return ALL_CACHE.get(propertySet, ALL_MODE_RESOLVER::resolve);
+		case PATH:
+		case POSITIONAL:
+		default:
+			return PATH_CACHE.get(propertySet, PATH_MODE_RESOLVER::resolve);
+		}
+	}
 
-		switch (mode) {
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.json.model.JsonPropertySetSerializationTreeResolver#getCacheStatistics(com.holonplatform.
+	 * json.config.PropertyBoxSerializationMode)
+	 */
+	@Override
+	public Optional<CacheStatistics> getCacheStatistics(PropertyBoxSerializationMode serializationMode) {
+		switch (getSerializationMode(serializationMode)) {
 		case ALL:
-			return ALL_CACHE.computeIfAbsent(propertySet, ALL_MODE_RESOLVER::resolve);
+			return Optional.of(ALL_CACHE.getStatistics());
 		case PATH:
+		case POSITIONAL:
 		default:
-			return PATH_CACHE.computeIfAbsent(propertySet, PATH_MODE_RESOLVER::resolve);
+			return Optional.of(PATH_CACHE.getStatistics());
 		}
 	}
 
+	/**
+	 * Get the serialization mode to use.
+	 * @param serializationMode The requested serialization mode
+	 * @return The requested serialization mode, or the default one if <code>null</code>
+	 */
+	private static PropertyBoxSerializationMode getSerializationMode(PropertyBoxSerializationMode serializationMode) {
+		return (serializationMode != null) ? serializationMode : PropertyBoxSerializationMode.getDefault();
+	}
+
 }
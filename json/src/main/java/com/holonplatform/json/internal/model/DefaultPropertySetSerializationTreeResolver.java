@@ -15,11 +15,10 @@
  */
 package com.holonplatform.json.internal.model;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -27,7 +26,6 @@ import com.holonplatform.core.Path;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertySet;
-import com.holonplatform.json.model.PropertySetSerializationNode;
 import com.holonplatform.json.model.PropertySetSerializationTree;
 import com.holonplatform.json.model.PropertySetSerializationTreeResolver;
 
@@ -44,6 +42,8 @@ public class DefaultPropertySetSerializationTreeResolver implements PropertySetS
 
 	private Predicate<Property<?>> validator = p -> true;
 
+	private static final String[] NO_NAMES = new String[0];
+
 	/**
 	 * Set the property set pre-processor.
 	 * @param preProcessor the pre-processor to set (not null)
@@ -77,157 +77,114 @@ public class DefaultPropertySetSerializationTreeResolver implements PropertySetS
 
 	/**
 	 * Build the PropertySet serialization tree.
+	 * <p>
+	 * The tree is built in a single pass over the properties: each property path names hierarchy is inserted into a
+	 * trie of nested nodes, which are created at the position of the first property which belongs to them.
+	 * </p>
 	 * @param propertySet PropertySet to serialize
 	 * @return the serialization tree
 	 */
 	private PropertySetSerializationTree getSerializationTree(PropertySet<?> propertySet) {
-		DefaultPropertySetSerializationTree tree = new DefaultPropertySetSerializationTree();
-
+		final DefaultPropertySetSerializationTree tree = new DefaultPropertySetSerializationTree();
+		// nested nodes by name
+		final Map<String, NestedNode> nested = new HashMap<>();
 		// pre-process
-		Iterable<Property> actualPropertySet = preProcessor.apply(propertySet);
-
-		// progress tracking list
-		final List<Property<?>> properties = new LinkedList<>();
-		actualPropertySet.forEach(properties::add);
-
-		for (Property<?> property : actualPropertySet) {
-			getSerializationNode(properties, property).ifPresent(tree::add);
-		}
-		return tree;
-	}
-
-	/**
-	 * Get the {@link PropertySetSerializationNode} for given property.
-	 * @param properties Available properties
-	 * @param property   Property to parse
-	 * @return The optional {@link PropertySetSerializationNode} which corresponds
-	 *         to given property
-	 */
-	private Optional<PropertySetSerializationNode> getSerializationNode(List<Property<?>> properties,
-			Property<?> property) {
-		final List<String> pathNames = getPropertySerializationHierarchy(property);
-		if (!pathNames.isEmpty()) {
-			if (pathNames.size() == 1) {
-				properties.remove(property);
-				return Optional.of(new DefaultPropertySetSerializationNode(pathNames.get(0), property));
-			} else {
-				return getSerializationNode(properties, Collections.singletonList(pathNames.get(0)));
-			}
-		}
-		return Optional.empty();
-	}
-
-	/**
-	 * Get the {@link PropertySetSerializationNode} which corresponds to given
-	 * parent path names hierarchy.
-	 * @param properties        Available properties
-	 * @param parentPathNames   Parent path names hierarchy
-	 * @param serializationMode Serialization mode
-	 * @return Optional {@link PropertySetSerializationNode} which corresponds to
-	 *         given parent path names hierarchy
-	 */
-	private Optional<PropertySetSerializationNode> getSerializationNode(List<Property<?>> properties,
-			List<String> parentPathNames) {
-		// check valid path names
-		if (parentPathNames == null || parentPathNames.isEmpty()) {
-			return Optional.empty();
-		}
-		// build node
-		DefaultPropertySetSerializationNode node = new DefaultPropertySetSerializationNode(
-				parentPathNames.get(parentPathNames.size() - 1));
-		for (Property<?> property : properties) {
-			final List<String> pathNames = getPropertySerializationHierarchy(property);
-			if (pathNames.size() > parentPathNames.size()
-					&& pathNamesEquals(pathNames.subList(0, parentPathNames.size()), parentPathNames)) {
-				// check hierarchy
-				if (pathNames.size() == parentPathNames.size() + 1) {
-					getSerializationPropertyName(property)
-							.ifPresent(name -> node.addChild(new DefaultPropertySetSerializationNode(name, property)));
-				} else {
-					List<String> parents = new LinkedList<>();
-					parents.addAll(parentPathNames);
-					parents.add(pathNames.get(parentPathNames.size()));
-					// check sub hierarchy
-					getSerializationNode(properties, parents).ifPresent(node::addChild);
+		for (Property<?> property : preProcessor.apply(propertySet)) {
+			final String[] pathNames = getPropertySerializationHierarchy(property);
+			if (pathNames.length == 1) {
+				tree.add(new DefaultPropertySetSerializationNode(pathNames[0], property));
+			} else if (pathNames.length > 1) {
+				NestedNode node = nested.get(pathNames[0]);
+				if (node == null) {
+					node = new NestedNode(pathNames[0]);
+					nested.put(pathNames[0], node);
+					tree.add(node.node);
 				}
+				for (int i = 1; i < pathNames.length - 1; i++) {
+					node = node.getOrCreateChild(pathNames[i]);
+				}
+				node.node.addChild(new DefaultPropertySetSerializationNode(pathNames[pathNames.length - 1], property));
 			}
 		}
-		if (!node.getChildren().isEmpty()) {
-			// remove processed properties
-			node.getChildren().forEach(c -> c.getProperty().ifPresent(properties::remove));
-			return Optional.of(node);
-		}
-		return Optional.empty();
-	}
-
-	/**
-	 * Checks if given path names hierarchies are equal.
-	 * @param p1 First path name hierarchy
-	 * @param p2 Second path name hierarchy
-	 * @return <code>true</code> if given path names hierarchies are equal
-	 */
-	private static boolean pathNamesEquals(List<String> p1, List<String> p2) {
-		if (p1 == null || p2 == null) {
-			return false;
-		}
-		for (int i = 0; i < p1.size(); i++) {
-			if (p1.get(i) == null || !p1.get(i).equals(p2.get(i))) {
-				return false;
-			}
-		}
-		return true;
+		return tree;
 	}
 
 	/**
 	 * Get the property serialization names hierarchy, only if the property must be
 	 * included in serialization according to current validator.
 	 * @param property The property for which to obtain the serialization hierarchy
-	 * @return the property serialization names hierarchy
+	 * @return the property serialization names hierarchy, an empty array if none
 	 */
-	private List<String> getPropertySerializationHierarchy(Property<?> property) {
+	private String[] getPropertySerializationHierarchy(Property<?> property) {
 		if (!validator.test(property)) {
-			return Collections.emptyList();
+			return NO_NAMES;
 		}
 		if (Path.class.isAssignableFrom(property.getClass())) {
 			return getPathNameHierarchy((Path<?>) property);
 		}
 		if (property.getName() != null) {
-			return Collections.singletonList(property.getName());
+			return new String[] { property.getName() };
 		}
-		return Collections.emptyList();
+		return NO_NAMES;
 	}
 
 	/**
 	 * Get the path names hierarchy from given path, ujsing any parent path and
 	 * splitting the path name if a dot notation is detected.
 	 * @param path Path
-	 * @return the path names hierarchy
+	 * @return the path names hierarchy, an empty array if none
 	 */
-	private static List<String> getPathNameHierarchy(Path<?> path) {
+	static String[] getPathNameHierarchy(Path<?> path) {
 		final String pathName = path.relativeName();
 		if (pathName == null) {
-			return Collections.emptyList();
+			return NO_NAMES;
 		}
 		if (pathName.indexOf('.') < 1) {
-			return Collections.singletonList(pathName);
-		}
-		return Arrays.asList(pathName.split("\\."));
+			return new String[] { pathName };
+		}
+		// split by dot, discarding trailing empty names
+		final List<String> names = new ArrayList<>(4);
+		int start = 0;
+		int index;
+		while ((index = pathName.indexOf('.', start)) > -1) {
+			names.add(pathName.substring(start, index));
+			start = index + 1;
+		}
+		names.add(pathName.substring(start));
+		int size = names.size();
+		while (size > 0 && names.get(size - 1).isEmpty()) {
+			size--;
+		}
+		return names.subList(0, size).toArray(new String[size]);
 	}
 
 	/**
-	 * Get the property serialization name, if the property serialization names
-	 * hierarchy is not empty.
-	 * @param property Property
-	 * @return Optional property serialization name
+	 * A nested serialization node, with its nested children by name.
 	 */
-	private static Optional<String> getSerializationPropertyName(Property<?> property) {
-		List<String> names = (Path.class.isAssignableFrom(property.getClass()))
-				? getPathNameHierarchy((Path<?>) property)
-				: Collections.singletonList(property.getName());
-		if (!names.isEmpty()) {
-			return Optional.ofNullable(names.get(names.size() - 1));
+	private static final class NestedNode {
+
+		final DefaultPropertySetSerializationNode node;
+
+		private Map<String, NestedNode> children;
+
+		NestedNode(String name) {
+			super();
+			this.node = new DefaultPropertySetSerializationNode(name);
 		}
-		return Optional.empty();
+
+		NestedNode getOrCreateChild(String name) {
+			if (children == null) {
+				children = new HashMap<>(4);
+			}
+			NestedNode child = children.get(name);
+			if (child == null) {
+				child = new NestedNode(name);
+				children.put(name, child);
+				node.addChild(child.node);
+			}
+			return child;
+		}
+
 	}
 
 	// ------- Builder
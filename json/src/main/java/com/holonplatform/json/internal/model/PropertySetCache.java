@@ -0,0 +1,402 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.cache.CacheStatistics;
+import com.holonplatform.json.config.JsonConfigProperties;
+import com.holonplatform.json.internal.JsonLogger;
+
+/**
+ * A thread-safe and bounded cache of values bound to a {@link PropertySet}.
+ * <p>
+ * {@link PropertySet} keys are weakly referenced and compared by identity, so the {@link PropertySet}
+ * <code>equals</code> and <code>hashCode</code> methods are never invoked. Since a {@link PropertyBox} identity is bound
+ * to the single instance and its equality to the identifier values, {@link PropertyBox} keys are replaced by their
+ * {@link PropertySetShape}.
+ * </p>
+ * <p>
+ * A {@link PropertyBox} lookup does not create its shape: the cache is looked up through a small key which computes
+ * the shape hash code and compares the {@link PropertyBox} properties by identity, so a lookup costs a walk of the
+ * properties and does not copy them. The shape, with its properties array, is created only when a value is computed
+ * and stored. The cache holds no state shared by all the lookups besides the map, so concurrent lookups of different
+ * property sets do not contend.
+ * </p>
+ * <p>
+ * When the maximum size is exceeded, entries are evicted using a <em>clock</em> (second chance) policy: each hit marks
+ * the entry as referenced, and the eviction scan clears the mark of the referenced entries and evicts the first ones
+ * which were not hit since the previous scan. This way the frequently used entries are retained.
+ * </p>
+ * <p>
+ * Since the keys are compared by identity, the cost of the {@link PropertySet} and {@link Property}
+ * <code>equals</code> and <code>hashCode</code> methods is avoided on each lookup, but equal keys which are not the
+ * same instances do not hit the same entry, as they did in the previous <code>WeakHashMap</code> based cache. A
+ * {@link PropertySet} instance created for each serialization (for example for each request), and a
+ * {@link PropertyBox} built with {@link Property} instances created for each serialization, never hit the cache and
+ * their entries only churn it until they are evicted. The property sets and the properties should be created once
+ * and shared, for example as constants.
+ * </p>
+ *
+ * @param <V> Cached value type
+ *
+ * @since 6.0.3
+ */
+public final class PropertySetCache<V> {
+
+	/**
+	 * Default cache maximum size
+	 */
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final ConcurrentHashMap<Object, Entry<V>> cache = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	private final int maxSize;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Constructor using the configured maximum size.
+	 * @see JsonConfigProperties#CACHE_MAX_SIZE
+	 */
+	public PropertySetCache() {
+		this(getConfiguredMaxSize());
+	}
+
+	/**
+	 * Constructor.
+	 * @param maxSize The cache maximum size. A value less than <code>1</code> means no size limit.
+	 */
+	public PropertySetCache(int maxSize) {
+		super();
+		this.maxSize = (maxSize < 1) ? 0 : maxSize;
+	}
+
+	/**
+	 * Get the value bound to given {@link PropertySet}, using given function to compute it if not available.
+	 * @param propertySet The property set (not null)
+	 * @param loader The function to use to compute the value (not null)
+	 * @return The cached or computed value
+	 */
+	public V get(PropertySet<?> propertySet, Function<PropertySet<?>, ? extends V> loader) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		if (propertySet instanceof PropertyBox) {
+			return getByShape(propertySet, loader);
+		}
+		final Entry<V> entry = cache.get(new LookupKey(propertySet));
+		if (entry != null) {
+			return hit(entry);
+		}
+		misses.increment();
+		expungeStaleEntries();
+		final V value = loader.apply(propertySet);
+		final Object entryKey = new WeakKey(propertySet, queue);
+		final Entry<V> previous = cache.putIfAbsent(entryKey, new Entry<>(value));
+		if (previous != null) {
+			return previous.value;
+		}
+		evict(entryKey);
+		return value;
+	}
+
+	/**
+	 * Get the value bound to the shape of given {@link PropertyBox}, using given function to compute it if not
+	 * available.
+	 * @param propertySet The {@link PropertyBox}
+	 * @param loader The function to use to compute the value
+	 * @return The cached or computed value
+	 */
+	private V getByShape(PropertySet<?> propertySet, Function<PropertySet<?>, ? extends V> loader) {
+		final Entry<V> entry = cache.get(new ShapeLookupKey(propertySet));
+		if (entry != null) {
+			return hit(entry);
+		}
+		misses.increment();
+		expungeStaleEntries();
+		final V value = loader.apply(propertySet);
+		final PropertySetShape shape = PropertySetShape.of(propertySet);
+		final Entry<V> previous = cache.putIfAbsent(shape, new Entry<>(value));
+		if (previous != null) {
+			return previous.value;
+		}
+		evict(shape);
+		return value;
+	}
+
+	/**
+	 * Register a cache hit, marking given entry as referenced.
+	 * @param entry The cache entry
+	 * @return The entry value
+	 */
+	private V hit(Entry<V> entry) {
+		hits.increment();
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+		return entry.value;
+	}
+
+	/**
+	 * Remove all the cached values.
+	 */
+	public void clear() {
+		cache.clear();
+		expungeStaleEntries();
+	}
+
+	/**
+	 * Get the cache statistics.
+	 * @return The cache statistics snapshot
+	 */
+	public CacheStatistics getStatistics() {
+		return new DefaultCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), cache.size(), maxSize);
+	}
+
+	/**
+	 * Evict entries until the cache size does not exceed the maximum size. The referenced entries are given a second
+	 * chance: their mark is cleared and they are evicted only if no unreferenced entry is available.
+	 * @param retain The key to not evict
+	 */
+	private void evict(Object retain) {
+		for (int pass = 0; pass < 2 && maxSize > 0 && cache.size() > maxSize; pass++) {
+			final Iterator<Map.Entry<Object, Entry<V>>> entries = cache.entrySet().iterator();
+			while (cache.size() > maxSize && entries.hasNext()) {
+				final Map.Entry<Object, Entry<V>> entry = entries.next();
+				if (entry.getKey() != retain) {
+					final Entry<V> value = entry.getValue();
+					if (value.referenced) {
+						value.referenced = false;
+					} else if (cache.remove(entry.getKey(), value)) {
+						evictions.increment();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove the entries whose key was garbage collected.
+	 */
+	private void expungeStaleEntries() {
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			cache.remove(reference);
+		}
+	}
+
+	/**
+	 * Get the cache maximum size using the {@link JsonConfigProperties#CACHE_MAX_SIZE} system property, if available.
+	 * @return The cache maximum size
+	 */
+	static int getConfiguredMaxSize() {
+		try {
+			return JsonConfigProperties.builder().withSystemPropertySource().build()
+					.getConfigPropertyValue(JsonConfigProperties.CACHE_MAX_SIZE, DEFAULT_MAX_SIZE);
+		} catch (Exception e) {
+			JsonLogger.create().warn("Failed to read the [" + JsonConfigProperties.DEFAULT_NAME + "."
+					+ JsonConfigProperties.CACHE_MAX_SIZE.getKey() + "] configuration property, using the default value ["
+					+ DEFAULT_MAX_SIZE + "]", e);
+			return DEFAULT_MAX_SIZE;
+		}
+	}
+
+	/**
+	 * A key which refers to a property set instance.
+	 */
+	private interface IdentityKey {
+
+		Object referent();
+
+	}
+
+	/**
+	 * Strong identity key used for lookups.
+	 */
+	private static final class LookupKey implements IdentityKey {
+
+		private final Object referent;
+
+		LookupKey(Object referent) {
+			super();
+			this.referent = referent;
+		}
+
+		@Override
+		public Object referent() {
+			return referent;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(referent);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this || (obj instanceof IdentityKey && ((IdentityKey) obj).referent() == referent);
+		}
+
+	}
+
+	/**
+	 * Weak identity key used for cache entries.
+	 */
+	private static final class WeakKey extends WeakReference<Object> implements IdentityKey {
+
+		private final int hash;
+
+		WeakKey(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public Object referent() {
+			return get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			final Object referent = get();
+			return referent != null && obj instanceof IdentityKey && ((IdentityKey) obj).referent() == referent;
+		}
+
+	}
+
+	/**
+	 * Lookup key which matches the {@link PropertySetShape} of a {@link PropertyBox} without creating it.
+	 */
+	private static final class ShapeLookupKey {
+
+		private final PropertySet<?> propertySet;
+		private final int hash;
+
+		ShapeLookupKey(PropertySet<?> propertySet) {
+			super();
+			this.propertySet = propertySet;
+			this.hash = PropertySetShape.hashOf(propertySet);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof PropertySetShape && obj.hashCode() == hash
+					&& ((PropertySetShape) obj).matches(propertySet);
+		}
+
+	}
+
+	/**
+	 * A cache entry.
+	 * @param <V> Value type
+	 */
+	private static final class Entry<V> {
+
+		final V value;
+
+		/**
+		 * Whether the entry was hit since the last eviction scan
+		 */
+		volatile boolean referenced;
+
+		Entry(V value) {
+			super();
+			this.value = value;
+		}
+
+	}
+
+	/**
+	 * Default {@link CacheStatistics} implementation.
+	 */
+	static final class DefaultCacheStatistics implements CacheStatistics {
+
+		private final long hitCount;
+		private final long missCount;
+		private final long evictionCount;
+		private final int size;
+		private final int maximumSize;
+
+		DefaultCacheStatistics(long hitCount, long missCount, long evictionCount, int size, int maximumSize) {
+			super();
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.size = size;
+			this.maximumSize = maximumSize;
+		}
+
+		@Override
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		@Override
+		public long getMissCount() {
+			return missCount;
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		@Override
+		public int getSize() {
+			return size;
+		}
+
+		@Override
+		public int getMaximumSize() {
+			return maximumSize;
+		}
+
+		@Override
+		public String toString() {
+			return "CacheStatistics [hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+					+ ", size=" + size + ", maximumSize=" + maximumSize + "]";
+		}
+
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.config.JsonColumnarFormat;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Position;
+import com.holonplatform.json.model.JsonPropertySetSerializationTreeResolver;
+import com.holonplatform.json.model.PropertySetSerializationNode;
+import com.holonplatform.json.model.PropertySetSerializationTree;
+
+/**
+ * The {@link JsonColumnarFormat} columns of a {@link PropertySet}.
+ * <p>
+ * The columns are obtained by flattening the {@link PropertyBoxSerializationMode#PATH} serialization tree, joining the
+ * nested node names using the dot notation. The columns are provided as a flat serialization tree, which the JSON
+ * backends can use to build a positional serialization plan for the rows, and can be bound to the columns of a JSON
+ * document using {@link #getLayout(List)}, which resolves each column position only once per document.
+ * </p>
+ * <p>
+ * The columns are cached by {@link PropertySet} and can be obtained using {@link #of(PropertySet)}.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class PropertySetColumns {
+
+	/**
+	 * Columns cache
+	 */
+	private static final PropertySetCache<PropertySetColumns> CACHE = new PropertySetCache<>();
+
+	/**
+	 * Position of the columns which are not bound to any property
+	 */
+	private static final Position UNBOUND = new Position(null, null);
+
+	private final List<String> names;
+
+	private final PropertySetSerializationTree tree;
+
+	private final Map<String, Position> positions;
+
+	/**
+	 * Constructor.
+	 * @param propertySet The PropertySet
+	 */
+	private PropertySetColumns(PropertySet<?> propertySet) {
+		super();
+		final List<String> columns = new ArrayList<>(propertySet.size());
+		final DefaultPropertySetSerializationTree columnsTree = new DefaultPropertySetSerializationTree();
+		final Map<String, Position> columnPositions = new HashMap<>();
+		// the positional layout is built from the same serialization tree
+		collect(JsonPropertySetSerializationTreeResolver.getDefault().resolve(propertySet,
+				PropertyBoxSerializationMode.POSITIONAL),
+				PropertySetDeserializationPlan.of(propertySet).getPositionalRoot(), null, columns, columnsTree,
+				columnPositions);
+		this.names = Collections.unmodifiableList(columns);
+		this.tree = columnsTree;
+		this.positions = columnPositions;
+	}
+
+	/**
+	 * Collect the columns of given serialization nodes.
+	 * @param nodes Serialization nodes
+	 * @param position The positional layout which corresponds to the nodes
+	 * @param prefix Parent column name prefix, <code>null</code> if none
+	 * @param columns Column names
+	 * @param columnsTree Columns serialization tree
+	 * @param columnPositions Column positions by name
+	 */
+	private static void collect(Iterable<PropertySetSerializationNode> nodes, Position position, String prefix,
+			List<String> columns, DefaultPropertySetSerializationTree columnsTree,
+			Map<String, Position> columnPositions) {
+		int index = 0;
+		for (PropertySetSerializationNode node : nodes) {
+			final String name = (prefix != null) ? prefix + "." + node.getName() : node.getName();
+			final Position child = position.getChild(index++);
+			final Property<?> property = node.getProperty().orElse(null);
+			if (property != null) {
+				columns.add(name);
+				columnsTree.add(new DefaultPropertySetSerializationNode(name, property));
+				columnPositions.putIfAbsent(name, (child != null) ? child : UNBOUND);
+			} else {
+				collect(node.getChildren(), (child != null) ? child : UNBOUND, name, columns, columnsTree,
+						columnPositions);
+			}
+		}
+	}
+
+	/**
+	 * Get the columns of given {@link PropertySet}, building and caching them if not available.
+	 * @param propertySet The PropertySet (not null). A {@link PropertyBox} can be used to obtain the columns of its
+	 *        property set.
+	 * @return The PropertySet columns
+	 */
+	public static PropertySetColumns of(PropertySet<?> propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		return CACHE.get(propertySet, PropertySetColumns::new);
+	}
+
+	/**
+	 * Get the column names.
+	 * @return The column names, in serialization order
+	 */
+	public List<String> getNames() {
+		return names;
+	}
+
+	/**
+	 * Get the columns serialization tree, a flat tree with a node for each column, named as the column.
+	 * @return The columns serialization tree
+	 */
+	public PropertySetSerializationTree getSerializationTree() {
+		return tree;
+	}
+
+	/**
+	 * Bind given JSON document column names to the properties, obtaining the positional layout to use to deserialize
+	 * the document rows. The columns which are not bound to any property are skipped.
+	 * @param columns The JSON document column names
+	 * @return The rows positional layout
+	 */
+	public Position getLayout(List<String> columns) {
+		final Position[] children = new Position[columns.size()];
+		for (int i = 0; i < children.length; i++) {
+			final Position position = positions.get(columns.get(i));
+			children[i] = (position != null) ? position : UNBOUND;
+		}
+		return new Position(null, children);
+	}
+
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.holonplatform.core.Path;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.CalendarUtils;
+import com.holonplatform.core.internal.utils.ConversionUtils;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.internal.utils.TypeUtils;
+import com.holonplatform.core.property.PathPropertySetAdapter;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.temporal.TemporalType;
+import com.holonplatform.json.cache.CacheStatistics;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+import com.holonplatform.json.exceptions.JsonDeserializationException;
+import com.holonplatform.json.internal.JsonLogger;
+import com.holonplatform.json.model.JsonPropertySetSerializationTreeResolver;
+import com.holonplatform.json.model.PropertySetSerializationNode;
+
+/**
+ * A backend-neutral {@link PropertyBox} deserialization plan for a {@link PropertySet}.
+ * <p>
+ * The property paths are organized in a trie of JSON field names, using the dot notation to split a path name into
+ * nested JSON objects. For each property the target type, the value conversion strategy and the nested
+ * {@link PropertySet} of {@link PropertyBox} type properties are resolved once, so that the JSON backends only have to
+ * decode the field values.
+ * </p>
+ * <p>
+ * The plan provides also the positional layout used by the {@link PropertyBoxSerializationMode#POSITIONAL} mode, which
+ * binds each JSON array element position to a property, following the {@link PropertyBoxSerializationMode#PATH}
+ * serialization tree order.
+ * </p>
+ * <p>
+ * The plans are cached by {@link PropertySet} and can be obtained using {@link #of(PropertySet)}.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class PropertySetDeserializationPlan {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger LOGGER = JsonLogger.create();
+
+	/**
+	 * Plans cache
+	 */
+	private static final PropertySetCache<PropertySetDeserializationPlan> CACHE = new PropertySetCache<>();
+
+	private final Node root;
+
+	private final Field[] fields;
+
+	private final Position positionalRoot;
+
+	/**
+	 * Constructor.
+	 * @param propertySet The PropertySet for which to build the plan
+	 */
+	@SuppressWarnings("unchecked")
+	private PropertySetDeserializationPlan(PropertySet<?> propertySet) {
+		super();
+		final List<Field> plan = new ArrayList<>(propertySet.size());
+		final Node rootNode = new Node();
+		final PathPropertySetAdapter adapter = PathPropertySetAdapter.create(propertySet);
+		for (Property<?> property : propertySet) {
+			adapter.getPath(property).ifPresent(path -> {
+				final String[] names = DefaultPropertySetSerializationTreeResolver.getPathNameHierarchy(path);
+				if (names.length > 0) {
+					Node node = rootNode;
+					for (String name : names) {
+						node = node.child(name);
+					}
+					final Field field = new Field(plan.size(), (Property<Object>) property, (Path<Object>) path,
+							names[names.length - 1]);
+					node.fields.add(field);
+					plan.add(field);
+				}
+			});
+		}
+		this.root = rootNode;
+		this.fields = plan.toArray(new Field[plan.size()]);
+		// positional layout
+		final Map<Property<?>, Field> byProperty = new IdentityHashMap<>(plan.size());
+		for (Field field : plan) {
+			byProperty.put(field.getProperty(), field);
+		}
+		this.positionalRoot = new Position(null,
+				getPositions(JsonPropertySetSerializationTreeResolver.getDefault().resolve(propertySet,
+						PropertyBoxSerializationMode.POSITIONAL), byProperty));
+	}
+
+	/**
+	 * Build the positions of given serialization nodes.
+	 * @param nodes Serialization nodes
+	 * @param fields Fields by property
+	 * @return The positions array
+	 */
+	private static Position[] getPositions(Iterable<PropertySetSerializationNode> nodes,
+			Map<Property<?>, Field> fields) {
+		final List<Position> positions = new ArrayList<>();
+		for (PropertySetSerializationNode node : nodes) {
+			final Property<?> property = node.getProperty().orElse(null);
+			if (property != null) {
+				positions.add(new Position(fields.get(property), null));
+			} else {
+				positions.add(new Position(null, getPositions(node.getChildren(), fields)));
+			}
+		}
+		return positions.toArray(new Position[positions.size()]);
+	}
+
+	/**
+	 * Get the deserialization plan for given {@link PropertySet}, building and caching it if not available.
+	 * @param propertySet The PropertySet (not null)
+	 * @return The PropertySet deserialization plan
+	 */
+	public static PropertySetDeserializationPlan of(PropertySet<?> propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		return CACHE.get(propertySet, PropertySetDeserializationPlan::new);
+	}
+
+	/**
+	 * Get the deserialization plans cache statistics.
+	 * @return The cache statistics snapshot
+	 */
+	public static CacheStatistics getCacheStatistics() {
+		return CACHE.getStatistics();
+	}
+
+	/**
+	 * Get the root node, which corresponds to the JSON object to deserialize.
+	 * @return The root node
+	 */
+	public Node getRoot() {
+		return root;
+	}
+
+	/**
+	 * Get the root position of the {@link PropertyBoxSerializationMode#POSITIONAL} layout, which corresponds to the
+	 * JSON array to deserialize.
+	 * @return The root position
+	 */
+	public Position getPositionalRoot() {
+		return positionalRoot;
+	}
+
+	/**
+	 * Get the number of properties bound to a JSON field. Each {@link Field} provides its index, which can be used by
+	 * the JSON backends to bind any backend-specific resource to the field.
+	 * @return The fields count
+	 */
+	public int getFieldCount() {
+		return fields.length;
+	}
+
+	/**
+	 * Field names trie node.
+	 */
+	public static final class Node {
+
+		private final Map<String, Node> children = new HashMap<>(8);
+
+		private final List<Field> fields = new ArrayList<>(1);
+
+		Node() {
+			super();
+		}
+
+		Node child(String name) {
+			return children.computeIfAbsent(name, n -> new Node());
+		}
+
+		/**
+		 * Get the child node which corresponds to given JSON field name.
+		 * @param name JSON field name
+		 * @return The child node, or <code>null</code> if the JSON field is not bound to any property
+		 */
+		public Node getChild(String name) {
+			return children.get(name);
+		}
+
+		/**
+		 * Get whether this node has any child node, i.e. whether the JSON field value can be a nested JSON object.
+		 * @return <code>true</code> if this node has any child node
+		 */
+		public boolean hasChildren() {
+			return !children.isEmpty();
+		}
+
+		/**
+		 * Get the properties bound to the JSON field which corresponds to this node.
+		 * @return The fields, empty if none
+		 */
+		public List<Field> getFields() {
+			return Collections.unmodifiableList(fields);
+		}
+
+		/**
+		 * Get the number of properties bound to the JSON field which corresponds to this node.
+		 * @return The fields count
+		 */
+		public int getFieldCount() {
+			return fields.size();
+		}
+
+		/**
+		 * Get the property bound to the JSON field which corresponds to this node at given position.
+		 * @param index Field index
+		 * @return The field
+		 */
+		public Field getField(int index) {
+			return fields.get(index);
+		}
+
+	}
+
+	/**
+	 * A JSON array element position of the {@link PropertyBoxSerializationMode#POSITIONAL} layout, which is either
+	 * bound to a property or a nested JSON array of positions.
+	 */
+	public static final class Position {
+
+		private final Field field;
+
+		private final Position[] children;
+
+		Position(Field field, Position[] children) {
+			super();
+			this.field = field;
+			this.children = children;
+		}
+
+		/**
+		 * Get whether the JSON array element at this position is a nested JSON array.
+		 * @return <code>true</code> if this position is a nested JSON array of positions
+		 */
+		public boolean isNested() {
+			return children != null;
+		}
+
+		/**
+		 * Get the property bound to this position.
+		 * @return The field, <code>null</code> if this position is nested or not bound to any property
+		 */
+		public Field getField() {
+			return field;
+		}
+
+		/**
+		 * Get the number of nested positions.
+		 * @return The nested positions count, <code>0</code> if this position is not nested
+		 */
+		public int getChildCount() {
+			return (children != null) ? children.length : 0;
+		}
+
+		/**
+		 * Get the nested position at given index.
+		 * @param index Position index
+		 * @return The nested position, <code>null</code> if not available
+		 */
+		public Position getChild(int index) {
+			return (children != null && index < children.length) ? children[index] : null;
+		}
+
+	}
+
+	/**
+	 * Property value conversion strategy.
+	 */
+	private enum Conversion {
+
+		NONE, ENUM, NUMBER, DATE;
+
+	}
+
+	/**
+	 * A property bound to a JSON field.
+	 */
+	public static final class Field {
+
+		private final int index;
+		private final Property<Object> property;
+		private final Path<Object> path;
+		private final String fieldName;
+		private final Class<Object> type;
+		private final boolean propertyBox;
+		private final PropertySet<?> nestedPropertySet;
+		private final Conversion conversion;
+
+		@SuppressWarnings("unchecked")
+		Field(int index, Property<Object> property, Path<Object> path, String fieldName) {
+			super();
+			this.index = index;
+			this.property = property;
+			this.path = path;
+			this.fieldName = fieldName;
+			this.type = (Class<Object>) path.getType();
+			this.propertyBox = PropertyBox.class.isAssignableFrom(type);
+			this.nestedPropertySet = propertyBox
+					? property.getConfiguration().getParameter(PropertySet.PROPERTY_CONFIGURATION_ATTRIBUTE).orElse(null)
+					: null;
+			if (TypeUtils.isEnum(type)) {
+				this.conversion = Conversion.ENUM;
+			} else if (TypeUtils.isNumber(type)) {
+				this.conversion = Conversion.NUMBER;
+			} else if (path.getTemporalType().orElse(TemporalType.DATE_TIME) == TemporalType.DATE) {
+				this.conversion = Conversion.DATE;
+			} else {
+				this.conversion = Conversion.NONE;
+			}
+		}
+
+		/**
+		 * Get the field index within the plan.
+		 * @return the field index
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * Get the property.
+		 * @return the property
+		 */
+		public Property<Object> getProperty() {
+			return property;
+		}
+
+		/**
+		 * Get the property path.
+		 * @return the property path
+		 */
+		public Path<Object> getPath() {
+			return path;
+		}
+
+		/**
+		 * Get the JSON field name, i.e. the last path name of the property path names hierarchy.
+		 * @return the JSON field name
+		 */
+		public String getFieldName() {
+			return fieldName;
+		}
+
+		/**
+		 * Get the value type.
+		 * @return the value type
+		 */
+		public Class<Object> getType() {
+			return type;
+		}
+
+		/**
+		 * Get whether the property is of {@link PropertyBox} type.
+		 * @return <code>true</code> if the property is of {@link PropertyBox} type
+		 */
+		public boolean isPropertyBox() {
+			return propertyBox;
+		}
+
+		/**
+		 * Get the {@link PropertySet} to use to deserialize a {@link PropertyBox} type property value.
+		 * @return The nested PropertySet
+		 * @throws JsonDeserializationException If the property is not of {@link PropertyBox} type or the nested
+		 *         PropertySet is not available from the property configuration
+		 */
+		public PropertySet<?> getNestedPropertySet() throws JsonDeserializationException {
+			if (nestedPropertySet == null) {
+				throw new JsonDeserializationException("Failed to deserialize PropertyBox type path [" + path
+						+ "] for JSON field [" + fieldName + "]: missing PropertySet. Check property configuration attribute ["
+						+ PropertySet.PROPERTY_CONFIGURATION_ATTRIBUTE.getKey() + "]");
+			}
+			return nestedPropertySet;
+		}
+
+		/**
+		 * Convert a decoded scalar value into the property type, if required.
+		 * @param value The value to convert
+		 * @return The converted value
+		 * @throws JsonDeserializationException If an error occurred
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Object convert(Object value) throws JsonDeserializationException {
+			if (value == null || conversion == Conversion.NONE) {
+				return value;
+			}
+			try {
+				switch (conversion) {
+				case ENUM:
+					return ConversionUtils.convertEnumValue((Class<Enum>) (Class<?>) type, value);
+				case NUMBER:
+					return (value instanceof Number)
+							? ConversionUtils.convertNumberToTargetClass((Number) value, (Class<Number>) (Class<?>) type)
+							: value;
+				case DATE:
+					// reset time
+					return (value instanceof Date) ? CalendarUtils.floorTime((Date) value) : value;
+				default:
+					return value;
+				}
+			} catch (Exception e) {
+				throw new JsonDeserializationException("Failed to deserialize path [" + path + "] value [" + value + "]",
+						e);
+			}
+		}
+
+		/**
+		 * Set the property value using given {@link PropertyBox} builder, if the value is not <code>null</code>.
+		 * @param builder The PropertyBox builder
+		 * @param value The property value
+		 */
+		public void setValue(PropertyBox.Builder builder, Object value) {
+			if (value != null) {
+				builder.setIgnoreReadOnly(property, value);
+			} else {
+				LOGGER.debug(() -> "Property [" + property
+						+ "] value not found in JSON object - skip PropertyBox value setting");
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "Field [path=" + path + ", fieldName=" + fieldName + "]";
+		}
+
+	}
+
+}
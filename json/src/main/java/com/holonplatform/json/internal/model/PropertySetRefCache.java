@@ -0,0 +1,299 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal.model;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.holonplatform.core.internal.property.PropertySetRefIntrospector;
+import com.holonplatform.core.internal.property.PropertySetRefIntrospector.PropertySetIntrospectionException;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.PropertySetRef;
+import com.holonplatform.json.cache.CacheStatistics;
+import com.holonplatform.json.config.JsonConfigProperties;
+import com.holonplatform.json.internal.model.PropertySetCache.DefaultCacheStatistics;
+
+/**
+ * A thread-safe and bounded cache of the {@link PropertySet}s declared through a {@link PropertySetRef} annotation.
+ * <p>
+ * The cache is keyed by the {@link PropertySetRef} annotation, compared by value: the annotations arrays which do not
+ * contain a {@link PropertySetRef} annotation are not cached, and distinct annotations arrays which declare the same
+ * {@link PropertySetRef} hit the same entry. Since the same {@link PropertySet} instance is returned, the
+ * {@link PropertySet} bound serialization and deserialization plans caches are hit too.
+ * </p>
+ * <p>
+ * The {@link PropertySetRef} annotation keys, the {@link PropertySet} values and the {@link PropertySetRefIntrospector}
+ * are weakly referenced, so the cache, which is usually shared, does not prevent the class loader of the classes they
+ * refer to from being garbage collected. A {@link PropertySet} which is not referenced elsewhere, for example not
+ * declared as a constant, is introspected again once collected.
+ * </p>
+ * <p>
+ * When the maximum size is exceeded, entries are evicted using the same <em>clock</em> policy of the
+ * {@link PropertySetCache}, so the frequently used entries are retained.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class PropertySetRefCache {
+
+	private static final PropertySetRefCache DEFAULT = new PropertySetRefCache();
+
+	private final ConcurrentHashMap<Object, Entry> cache = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<PropertySetRef> queue = new ReferenceQueue<>();
+
+	private final int maxSize;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Constructor using the configured maximum size.
+	 * @see JsonConfigProperties#CACHE_MAX_SIZE
+	 */
+	public PropertySetRefCache() {
+		this(PropertySetCache.getConfiguredMaxSize());
+	}
+
+	/**
+	 * Constructor.
+	 * @param maxSize The cache maximum size. A value less than <code>1</code> means no size limit.
+	 */
+	public PropertySetRefCache(int maxSize) {
+		super();
+		this.maxSize = (maxSize < 1) ? 0 : maxSize;
+	}
+
+	/**
+	 * Get the default, shared, {@link PropertySetRefCache}.
+	 * @return The default cache
+	 */
+	public static PropertySetRefCache getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Get the {@link PropertySet} declared by the {@link PropertySetRef} annotation contained in given annotations
+	 * array, if any.
+	 * @param annotations The annotations array
+	 * @param introspector The introspector to use to obtain the {@link PropertySet} from the {@link PropertySetRef}
+	 *        annotation (not null)
+	 * @return The declared {@link PropertySet}, <code>null</code> if a {@link PropertySetRef} annotation is not
+	 *         available
+	 * @throws PropertySetIntrospectionException If the {@link PropertySet} cannot be obtained from the annotation
+	 */
+	public PropertySet<?> getPropertySet(Annotation[] annotations, PropertySetRefIntrospector introspector)
+			throws PropertySetIntrospectionException {
+		final PropertySetRef propertySetRef = getPropertySetRef(annotations);
+		if (propertySetRef == null) {
+			return null;
+		}
+		final Entry entry = cache.get(new LookupKey(propertySetRef));
+		if (entry != null && entry.introspector.get() == introspector) {
+			final PropertySet<?> propertySet = entry.propertySet.get();
+			if (propertySet != null) {
+				hits.increment();
+				if (!entry.referenced) {
+					entry.referenced = true;
+				}
+				return propertySet;
+			}
+		}
+		misses.increment();
+		expungeStaleEntries();
+		final PropertySet<?> propertySet = introspector.getPropertySet(propertySetRef);
+		final Object entryKey = new WeakKey(propertySetRef, queue);
+		cache.put(entryKey, new Entry(introspector, propertySet));
+		evict(entryKey);
+		return propertySet;
+	}
+
+	/**
+	 * Remove all the cached values.
+	 */
+	public void clear() {
+		cache.clear();
+		expungeStaleEntries();
+	}
+
+	/**
+	 * Get the cache statistics.
+	 * @return The cache statistics snapshot
+	 */
+	public CacheStatistics getStatistics() {
+		return new DefaultCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), cache.size(), maxSize);
+	}
+
+	/**
+	 * Get the {@link PropertySetRef} annotation contained in given annotations array, if any.
+	 * @param annotations The annotations array
+	 * @return The {@link PropertySetRef} annotation, <code>null</code> if not available
+	 */
+	private static PropertySetRef getPropertySetRef(Annotation[] annotations) {
+		if (annotations != null) {
+			for (Annotation annotation : annotations) {
+				if (annotation instanceof PropertySetRef) {
+					return (PropertySetRef) annotation;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Evict entries until the cache size does not exceed the maximum size. The referenced entries are given a second
+	 * chance: their mark is cleared and they are evicted only if no unreferenced entry is available.
+	 * @param retain The key to not evict
+	 */
+	private void evict(Object retain) {
+		for (int pass = 0; pass < 2 && maxSize > 0 && cache.size() > maxSize; pass++) {
+			final Iterator<Map.Entry<Object, Entry>> entries = cache.entrySet().iterator();
+			while (cache.size() > maxSize && entries.hasNext()) {
+				final Map.Entry<Object, Entry> entry = entries.next();
+				if (entry.getKey() != retain) {
+					final Entry value = entry.getValue();
+					if (value.referenced) {
+						value.referenced = false;
+					} else if (cache.remove(entry.getKey(), value)) {
+						evictions.increment();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove the entries whose key was garbage collected.
+	 */
+	private void expungeStaleEntries() {
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			cache.remove(reference);
+		}
+	}
+
+	/**
+	 * A key which refers to a {@link PropertySetRef} annotation.
+	 */
+	private interface AnnotationKey {
+
+		PropertySetRef annotation();
+
+	}
+
+	/**
+	 * Strong key used for lookups.
+	 */
+	private static final class LookupKey implements AnnotationKey {
+
+		private final PropertySetRef annotation;
+
+		LookupKey(PropertySetRef annotation) {
+			super();
+			this.annotation = annotation;
+		}
+
+		@Override
+		public PropertySetRef annotation() {
+			return annotation;
+		}
+
+		@Override
+		public int hashCode() {
+			return annotation.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (obj instanceof AnnotationKey) {
+				final PropertySetRef other = ((AnnotationKey) obj).annotation();
+				return other == annotation || (other != null && annotation.equals(other));
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * Weak key used for cache entries.
+	 */
+	private static final class WeakKey extends WeakReference<PropertySetRef> implements AnnotationKey {
+
+		private final int hash;
+
+		WeakKey(PropertySetRef annotation, ReferenceQueue<PropertySetRef> queue) {
+			super(annotation, queue);
+			this.hash = annotation.hashCode();
+		}
+
+		@Override
+		public PropertySetRef annotation() {
+			return get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			final PropertySetRef annotation = get();
+			if (annotation != null && obj instanceof AnnotationKey) {
+				final PropertySetRef other = ((AnnotationKey) obj).annotation();
+				return other == annotation || annotation.equals(other);
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * Cache entry.
+	 */
+	private static final class Entry {
+
+		final WeakReference<PropertySetRefIntrospector> introspector;
+
+		final WeakReference<PropertySet<?>> propertySet;
+
+		/**
+		 * Whether the entry was hit since the last eviction scan
+		 */
+		volatile boolean referenced;
+
+		Entry(PropertySetRefIntrospector introspector, PropertySet<?> propertySet) {
+			super();
+			this.introspector = new WeakReference<>(introspector);
+			this.propertySet = new WeakReference<>(propertySet);
+		}
+
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.internal.model;
+
+import java.util.Iterator;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+
+/**
+ * Identity based key which represents the ordered properties of a {@link PropertySet}.
+ * <p>
+ * Two shapes are equal when they contain the same {@link Property} instances in the same order. Property
+ * <code>equals</code> and <code>hashCode</code> are never invoked, so the shape can be used as a cache key for
+ * {@link PropertyBox} instances, which do not expose the {@link PropertySet} they are bound to and which use the
+ * identifier values for equality.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class PropertySetShape {
+
+	private final Property<?>[] properties;
+	private final int hash;
+
+	private PropertySetShape(Property<?>[] properties, int hash) {
+		super();
+		this.properties = properties;
+		this.hash = hash;
+	}
+
+	/**
+	 * Create the shape of given {@link PropertySet}.
+	 * @param propertySet The property set (not null)
+	 * @return The property set shape
+	 */
+	public static PropertySetShape of(PropertySet<?> propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		final Property<?>[] properties = new Property<?>[propertySet.size()];
+		int hash = 1;
+		int index = 0;
+		final Iterator<?> iterator = propertySet.iterator();
+		while (iterator.hasNext() && index < properties.length) {
+			final Property<?> property = (Property<?>) iterator.next();
+			properties[index++] = property;
+			hash = 31 * hash + System.identityHashCode(property);
+		}
+		return new PropertySetShape(properties, hash);
+	}
+
+	/**
+	 * Compute the hash code of the shape of given {@link PropertySet}, without creating the shape.
+	 * @param propertySet The property set (not null)
+	 * @return The hash code of the property set shape
+	 */
+	static int hashOf(PropertySet<?> propertySet) {
+		final int size = propertySet.size();
+		int hash = 1;
+		int index = 0;
+		final Iterator<?> iterator = propertySet.iterator();
+		while (iterator.hasNext() && index++ < size) {
+			hash = 31 * hash + System.identityHashCode(iterator.next());
+		}
+		return hash;
+	}
+
+	/**
+	 * Checks whether given {@link PropertySet} has this shape, i.e. contains the same {@link Property} instances in
+	 * the same order, without creating its shape.
+	 * @param propertySet The property set (not null)
+	 * @return <code>true</code> if the property set has this shape
+	 */
+	public boolean matches(PropertySet<?> propertySet) {
+		if (propertySet.size() != properties.length) {
+			return false;
+		}
+		int index = 0;
+		final Iterator<?> iterator = propertySet.iterator();
+		while (iterator.hasNext() && index < properties.length) {
+			if (iterator.next() != properties[index++]) {
+				return false;
+			}
+		}
+		return index == properties.length;
+	}
+
+	/**
+	 * Get the number of properties of this shape.
+	 * @return the number of properties
+	 */
+	public int size() {
+		return properties.length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PropertySetShape)) {
+			return false;
+		}
+		final PropertySetShape other = (PropertySetShape) obj;
+		if (hash != other.hash || properties.length != other.properties.length) {
+			return false;
+		}
+		for (int i = 0; i < properties.length; i++) {
+			if (properties[i] != other.properties[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
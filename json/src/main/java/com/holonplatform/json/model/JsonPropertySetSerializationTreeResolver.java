@@ -15,7 +15,10 @@
  */
 package com.holonplatform.json.model;
 
+import java.util.Optional;
+
 import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.json.cache.CacheStatistics;
 import com.holonplatform.json.config.PropertyBoxSerializationMode;
 import com.holonplatform.json.internal.model.DefaultJsonPropertySetSerializationTreeResolver;
 
@@ -34,6 +37,16 @@ public interface JsonPropertySetSerializationTreeResolver {
 	 */
 	PropertySetSerializationTree resolve(PropertySet<?> propertySet, PropertyBoxSerializationMode serializationMode);
 
+	/**
+	 * Get the statistics of the cache used to store the serialization trees resolved for given serialization mode.
+	 * @param serializationMode PropertyBox serialization mode
+	 * @return The cache statistics, an empty Optional if the resolver does not use a cache
+	 * @since 6.0.3
+	 */
+	default Optional<CacheStatistics> getCacheStatistics(PropertyBoxSerializationMode serializationMode) {
+		return Optional.empty();
+	}
+
 	/**
 	 * Get the default {@link JsonPropertySetSerializationTreeResolver}.
 	 * @return The default {@link JsonPropertySetSerializationTreeResolver}
@@ -20,8 +20,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.commons.lang3.time.FastDateFormat;
 import org.junit.jupiter.api.Test;
 
 import com.holonplatform.core.internal.utils.CalendarUtils;
@@ -88,4 +93,105 @@ public class TestISO8601Dates {
 
 	}
 
+	@Test
+	public void testFormatPatternsConsistency() throws ParseException {
+		final TimeZone defaultZone = TimeZone.getDefault();
+		final Locale defaultLocale = Locale.getDefault();
+		try {
+			for (String zone : new String[] { "UTC", "Europe/Rome", "Europe/Paris", "America/New_York",
+					"America/St_Johns", "Asia/Kolkata", "Australia/Lord_Howe", "Pacific/Chatham",
+					"Pacific/Kiritimati", "America/Sao_Paulo" }) {
+				TimeZone.setDefault(TimeZone.getTimeZone(zone));
+				checkConsistency(new Random(zone.hashCode()));
+			}
+			// non gregorian calendar locale
+			Locale.setDefault(new Locale("th", "TH"));
+			TimeZone.setDefault(TimeZone.getTimeZone("Asia/Bangkok"));
+			checkConsistency(new Random(1));
+		} finally {
+			TimeZone.setDefault(defaultZone);
+			Locale.setDefault(defaultLocale);
+		}
+	}
+
+	private static void checkConsistency(Random random) throws ParseException {
+		final char[] buffer = new char[ISO8601DateFormats.MAX_FORMAT_LENGTH + 3];
+		for (int i = 0; i < 5000; i++) {
+			final long time;
+			if (i % 2 == 0) {
+				// years 1000-10200
+				time = -30610224000000L + (long) (random.nextDouble() * 291000000000000L);
+			} else {
+				// around the time zone transitions of recent years
+				time = 946684800000L + (long) (random.nextDouble() * 946684800000L);
+			}
+			final Date date = new Date((i % 3 == 0) ? (time / 1000 * 1000) : time);
+			for (TemporalType tt : TemporalType.values()) {
+				final String expected = formatWithPattern(date, tt);
+				assertEquals(expected, ISO8601DateFormats.format(date, tt));
+				final int length = ISO8601DateFormats.format(date, tt, buffer, 3);
+				assertEquals(expected, new String(buffer, 3, length));
+				if (tt != TemporalType.TIME) {
+					assertEquals(parseWithPattern(expected, null), ISO8601DateFormats.parse(expected));
+					assertEquals(parseWithPattern(expected, TemporalType.DATE),
+							ISO8601DateFormats.parse(expected, TemporalType.DATE));
+				}
+			}
+			// local date-times
+			final String local = FastDateFormat.getInstance("yyyy-MM-dd'T'HH:mm:ss").format(date);
+			assertEquals(parseWithPattern(local, null), ISO8601DateFormats.parse(local));
+			if (date.getTime() > 0) {
+				final String instant = String.valueOf(date.getTime());
+				assertEquals(parseWithPattern(instant, TemporalType.DATE),
+						ISO8601DateFormats.parse(instant, TemporalType.DATE));
+			}
+		}
+		// non canonical values
+		for (String value : new String[] { "2019-02-29", "2019-3-5", "2019-03-05T25:10:00", "2019-03-05T10:10:00Z",
+				"2019-03-05T10:10:00+2500", "2019-03-05T10:10:00+01:00", "+1234", "1234", "-1234-01-01" }) {
+			Object expected;
+			try {
+				expected = parseWithPattern(value, null);
+			} catch (Exception e) {
+				expected = e.getClass();
+			}
+			Object parsed;
+			try {
+				parsed = ISO8601DateFormats.parse(value);
+			} catch (Exception e) {
+				parsed = e.getClass();
+			}
+			assertEquals(expected, parsed, value);
+		}
+	}
+
+	private static String formatWithPattern(Date date, TemporalType temporalType) {
+		switch (temporalType) {
+		case DATE:
+			return FastDateFormat.getInstance("yyyy-MM-dd").format(date);
+		case TIME:
+			return FastDateFormat.getInstance("HH:mm:ss").format(date);
+		default:
+			return FastDateFormat.getInstance("yyyy-MM-dd'T'HH:mm:ssZ").format(date);
+		}
+	}
+
+	private static Date parseWithPattern(String str, TemporalType temporalType) throws ParseException {
+		boolean noTime = TemporalType.DATE == temporalType;
+		final Date date;
+		final long asLong = NumberUtils.toLong(str);
+		if (asLong > 0) {
+			date = new Date(asLong);
+		} else if (str.indexOf('T') > -1) {
+			final int tidx = str.lastIndexOf('T');
+			final boolean timeZone = str.lastIndexOf('+') > tidx || str.lastIndexOf('-') > tidx;
+			date = FastDateFormat.getInstance(timeZone ? "yyyy-MM-dd'T'HH:mm:ssZ" : "yyyy-MM-dd'T'HH:mm:ss")
+					.parse(str);
+		} else {
+			noTime = true;
+			date = FastDateFormat.getInstance("yyyy-MM-dd").parse(str);
+		}
+		return noTime ? CalendarUtils.floorTime(date) : date;
+	}
+
 }
@@ -16,12 +16,15 @@
 package com.holonplatform.json.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
@@ -63,6 +66,64 @@ public class TestJsonReader {
 		}
 	}
 
+	@Test
+	public void testByteBuffer() throws IOException {
+
+		final String json = "{a:\"\u00e8\"}";
+
+		final ByteBuffer buffer = ByteBuffer.allocate(32);
+		buffer.put((byte) 0).put(json.getBytes(StandardCharsets.UTF_8)).flip().position(1);
+
+		JsonReader jr = JsonReader.from(buffer);
+		assertTrue(jr.getByteBuffer().isPresent());
+		assertEquals(json.getBytes(StandardCharsets.UTF_8).length, jr.getByteBuffer().get().remaining());
+		assertEquals(StandardCharsets.UTF_8, jr.getCharset());
+		try (Reader reader = jr.getReader()) {
+			assertEquals(json, read(reader));
+		}
+		assertEquals(1, buffer.position());
+
+		final ByteBuffer direct = ByteBuffer.allocateDirect(32);
+		direct.put(json.getBytes(StandardCharsets.ISO_8859_1)).flip();
+
+		jr = JsonReader.from(direct, StandardCharsets.ISO_8859_1);
+		assertEquals(StandardCharsets.ISO_8859_1, jr.getCharset());
+		try (Reader reader = jr.getReader()) {
+			assertEquals(json, read(reader));
+		}
+
+		jr = JsonReader.from(json.getBytes(StandardCharsets.UTF_16), StandardCharsets.UTF_16);
+		try (Reader reader = jr.getReader()) {
+			assertEquals(json, read(reader));
+		}
+	}
+
+	@Test
+	public void testSources() {
+
+		final String json = "{a:1}";
+
+		JsonReader jr = JsonReader.from(json);
+		assertEquals(json, jr.getString().orElse(null));
+		assertFalse(jr.getByteBuffer().isPresent());
+		assertFalse(jr.getInputStream().isPresent());
+
+		jr = JsonReader.from(json.getBytes(StandardCharsets.UTF_8));
+		assertFalse(jr.getString().isPresent());
+		assertTrue(jr.getByteBuffer().isPresent());
+		assertFalse(jr.getInputStream().isPresent());
+
+		jr = JsonReader.from(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+		assertFalse(jr.getString().isPresent());
+		assertFalse(jr.getByteBuffer().isPresent());
+		assertTrue(jr.getInputStream().isPresent());
+
+		jr = JsonReader.from(new StringReader(json));
+		assertFalse(jr.getString().isPresent());
+		assertFalse(jr.getByteBuffer().isPresent());
+		assertFalse(jr.getInputStream().isPresent());
+	}
+
 	@Test
 	public void testStream() throws IOException {
 
@@ -15,12 +15,29 @@
  */
 package com.holonplatform.json.test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.annotation.Priority;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import com.holonplatform.json.Json;
+import com.holonplatform.json.JsonProvider;
+import com.holonplatform.json.internal.JsonProviderIndex;
+import com.holonplatform.json.internal.JsonProviders;
 
 public class TestProviders {
 
@@ -31,4 +48,49 @@ public class TestProviders {
 		Assertions.assertThrows(IllegalStateException.class, () -> Json.require());
 	}
 
+	@Test
+	public void testProviderIndex() throws IOException {
+		final StringWriter generated = new StringWriter();
+		JsonProviderIndex.write(TestProviders.class.getClassLoader(), generated);
+		assertTrue(generated.toString().startsWith("#"));
+		assertEquals(1, generated.toString().split("\n").length);
+
+		final Path root = Files.createTempDirectory("json-index");
+		final Path index = root.resolve(JsonProviderIndex.RESOURCE_NAME);
+		Files.createDirectories(index.getParent());
+		Files.write(index, Arrays.asList("# test index", "", LowPriorityProvider.class.getName(),
+				"com.holonplatform.json.test.MissingProvider", HighPriorityProvider.class.getName()),
+				StandardCharsets.UTF_8);
+
+		try (URLClassLoader cl = new URLClassLoader(new URL[] { root.toUri().toURL() },
+				TestProviders.class.getClassLoader())) {
+			final List<JsonProvider> providers = JsonProviders.getJsonProviders(cl);
+			assertEquals(2, providers.size());
+			assertTrue(providers.get(0) instanceof HighPriorityProvider);
+			assertTrue(providers.get(1) instanceof LowPriorityProvider);
+			assertTrue(JsonProviders.getDefaultJsonProvider(cl).get() instanceof HighPriorityProvider);
+			Assertions.assertThrows(UnsupportedOperationException.class, () -> providers.remove(0));
+			JsonProviders.refresh(cl);
+		}
+	}
+
+	public static class LowPriorityProvider implements JsonProvider {
+
+		@Override
+		public Json provide() {
+			return null;
+		}
+
+	}
+
+	@Priority(100)
+	public static class HighPriorityProvider implements JsonProvider {
+
+		@Override
+		public Json provide() {
+			return null;
+		}
+
+	}
+
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.internal.property.PropertySetRefIntrospector;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.PropertySetRef;
+import com.holonplatform.json.cache.CacheStatistics;
+import com.holonplatform.json.config.PropertyBoxSerializationMode;
+import com.holonplatform.json.internal.model.PropertySetCache;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan;
+import com.holonplatform.json.internal.model.PropertySetDeserializationPlan.Node;
+import com.holonplatform.json.internal.model.PropertySetRefCache;
+import com.holonplatform.json.model.JsonPropertySetSerializationTreeResolver;
+import com.holonplatform.json.model.PropertySetSerializationTree;
+
+public class TestSerializationTreeCache {
+
+	private static final PathProperty<Long> KEY = PathProperty.create("key", Long.class);
+	private static final PathProperty<String> NAME = PathProperty.create("name", String.class);
+
+	public static final PropertySet<?> PROPERTIES = PropertySet.of(KEY, NAME);
+
+	@Test
+	public void testResolverStatistics() {
+
+		final JsonPropertySetSerializationTreeResolver resolver = JsonPropertySetSerializationTreeResolver.getDefault();
+
+		final long hits = resolver.getCacheStatistics(PropertyBoxSerializationMode.PATH).get().getHitCount();
+
+		PropertySetSerializationTree tree = resolver.resolve(PROPERTIES, PropertyBoxSerializationMode.PATH);
+		assertSame(tree, resolver.resolve(PROPERTIES, PropertyBoxSerializationMode.PATH));
+
+		// property boxes with the same properties share the tree
+		PropertyBox box1 = PropertyBox.builder(PROPERTIES).set(KEY, 1L).build();
+		PropertyBox box2 = PropertyBox.builder(PROPERTIES).set(KEY, 2L).build();
+		assertSame(resolver.resolve(box1, PropertyBoxSerializationMode.PATH),
+				resolver.resolve(box2, PropertyBoxSerializationMode.PATH));
+
+		CacheStatistics statistics = resolver.getCacheStatistics(PropertyBoxSerializationMode.PATH).get();
+		assertTrue(statistics.getHitCount() >= hits + 2);
+		assertTrue(statistics.getSize() > 0);
+	}
+
+	@Test
+	public void testPropertySetRefCache() throws Exception {
+
+		final PropertySetRefCache cache = new PropertySetRefCache(2);
+		final PropertySetRefIntrospector introspector = PropertySetRefIntrospector.getDefault();
+
+		final Annotation[] annotations = TestSerializationTreeCache.class.getDeclaredMethod("refMethod", Object.class,
+				Object.class).getParameterAnnotations()[0];
+		final Annotation[] none = TestSerializationTreeCache.class.getDeclaredMethod("refMethod", Object.class,
+				Object.class).getParameterAnnotations()[1];
+
+		final PropertySet<?> set = cache.getPropertySet(annotations, introspector);
+		assertSame(PROPERTIES, set);
+		assertSame(set, cache.getPropertySet(annotations, introspector));
+		assertNull(cache.getPropertySet(none, introspector));
+		assertNull(cache.getPropertySet(none, introspector));
+		assertNull(cache.getPropertySet(new Annotation[0], introspector));
+
+		// annotations arrays without a PropertySetRef are not cached
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+		assertEquals(1, statistics.getSize());
+
+		// different annotations array instances
+		assertSame(PROPERTIES, cache.getPropertySet(annotations.clone(), introspector));
+		assertSame(PROPERTIES, cache.getPropertySet(TestSerializationTreeCache.class
+				.getDeclaredMethod("refMethod", Object.class, Object.class).getParameterAnnotations()[0],
+				introspector));
+		statistics = cache.getStatistics();
+		assertEquals(3, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+		assertEquals(1, statistics.getSize());
+		assertEquals(0, statistics.getEvictionCount());
+
+		cache.clear();
+		assertSame(PROPERTIES, cache.getPropertySet(annotations, introspector));
+		assertEquals(2, cache.getStatistics().getMissCount());
+	}
+
+	@SuppressWarnings("unused")
+	private static void refMethod(@PropertySetRef(value = TestSerializationTreeCache.class,
+			field = "PROPERTIES") Object ref, @Deprecated Object none) {
+	}
+
+	@Test
+	public void testEviction() {
+
+		final PropertySetCache<String> cache = new PropertySetCache<>(2);
+
+		final List<PropertySet<?>> sets = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			PropertySet<?> set = PropertySet.of(KEY, NAME);
+			sets.add(set);
+			assertEquals("v" + i, cache.get(set, ps -> "v" + indexOf(sets, ps)));
+		}
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.getMaximumSize());
+		assertEquals(2, statistics.getSize());
+		assertEquals(3, statistics.getEvictionCount());
+		assertEquals(5, statistics.getMissCount());
+		assertEquals(0, statistics.getHitCount());
+
+		// the last one is retained
+		assertEquals("v4", cache.get(sets.get(4), ps -> "x"));
+		assertEquals(1, cache.getStatistics().getHitCount());
+	}
+
+	@Test
+	public void testEvictionRetainsHotEntries() {
+
+		final PropertySetCache<String> cache = new PropertySetCache<>(2);
+
+		final PropertySet<?> hot = PropertySet.of(KEY, NAME);
+		assertEquals("hot", cache.get(hot, ps -> "hot"));
+
+		final List<PropertySet<?>> sets = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			assertEquals("hot", cache.get(hot, ps -> "reloaded"));
+			PropertySet<?> set = PropertySet.of(KEY, NAME);
+			sets.add(set);
+			assertEquals("v" + i, cache.get(set, ps -> "v" + indexOf(sets, ps)));
+		}
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.getSize());
+		assertEquals(19, statistics.getEvictionCount());
+		assertEquals(21, statistics.getMissCount());
+		assertEquals(20, statistics.getHitCount());
+	}
+
+	@Test
+	public void testPropertyBoxShapes() {
+
+		final PropertySetCache<String> cache = new PropertySetCache<>(10);
+
+		final PropertySet<?> reversed = PropertySet.of(NAME, KEY);
+		final PropertyBox box1 = PropertyBox.builder(PROPERTIES).set(KEY, 1L).build();
+		final PropertyBox box2 = PropertyBox.builder(reversed).set(KEY, 1L).build();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals("keyname", cache.get(PropertyBox.builder(PROPERTIES).set(KEY, 2L).build(), ps -> "keyname"));
+			assertEquals("keyname", cache.get(box1, ps -> "x"));
+			assertEquals("namekey", cache.get(box2, ps -> "namekey"));
+		}
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.getSize());
+		assertEquals(2, statistics.getMissCount());
+		assertEquals(7, statistics.getHitCount());
+
+		cache.clear();
+		assertEquals("y", cache.get(box1, ps -> "y"));
+	}
+
+	@Test
+	public void testConcurrency() throws Exception {
+
+		final PropertySetCache<String> cache = new PropertySetCache<>(10);
+
+		final List<PropertySet<?>> sets = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			sets.add(PropertySet.of(KEY, NAME));
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 16; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						PropertySet<?> set = sets.get(i % sets.size());
+						assertEquals(String.valueOf(indexOf(sets, set)),
+								cache.get(set, ps -> String.valueOf(indexOf(sets, ps))));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(16000, statistics.getRequestCount());
+		assertTrue(statistics.getSize() <= 10);
+	}
+
+	@Test
+	public void testDeserializationPlan() throws Exception {
+
+		final PathProperty<Integer> NESTED_CODE = PathProperty.create("nested.code", Integer.class);
+		final PathProperty<PropertyBox> NESTED = PathProperty.create("nested", PropertyBox.class)
+				.configuration(PropertySet.PROPERTY_CONFIGURATION_ATTRIBUTE, PROPERTIES);
+		final PropertySet<?> set = PropertySet.of(KEY, NESTED, NESTED_CODE, NAME);
+
+		final PropertySetDeserializationPlan plan = PropertySetDeserializationPlan.of(set);
+		assertSame(plan, PropertySetDeserializationPlan.of(set));
+		assertEquals(4, plan.getFieldCount());
+
+		final Node key = plan.getRoot().getChild("key");
+		assertEquals(1, key.getFieldCount());
+		assertFalse(key.hasChildren());
+		assertEquals(Long.class, key.getField(0).getType());
+		assertEquals(Long.valueOf(3), key.getField(0).convert(Integer.valueOf(3)));
+
+		final Node nested = plan.getRoot().getChild("nested");
+		assertTrue(nested.hasChildren());
+		assertTrue(nested.getField(0).isPropertyBox());
+		assertSame(PROPERTIES, nested.getField(0).getNestedPropertySet());
+		assertEquals("code", nested.getChild("code").getField(0).getFieldName());
+
+		assertNull(plan.getRoot().getChild("code"));
+		assertTrue(PropertySetDeserializationPlan.getCacheStatistics().getHitCount() > 0);
+	}
+
+	private static int indexOf(List<PropertySet<?>> sets, PropertySet<?> set) {
+		for (int i = 0; i < sets.size(); i++) {
+			if (sets.get(i) == set) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
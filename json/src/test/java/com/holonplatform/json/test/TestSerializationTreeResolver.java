@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.json.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.VirtualProperty;
+import com.holonplatform.json.model.PropertySetSerializationNode;
+import com.holonplatform.json.model.PropertySetSerializationTree;
+import com.holonplatform.json.model.PropertySetSerializationTreeResolver;
+
+public class TestSerializationTreeResolver {
+
+	private static final PathProperty<Long> KEY = PathProperty.create("key", Long.class);
+	private static final PathProperty<PropertyBox> NESTED = PathProperty.create("nested", PropertyBox.class);
+	private static final PathProperty<Integer> NESTED_CODE = PathProperty.create("nested.code", Integer.class);
+	private static final PathProperty<String> NESTED_VALUE = PathProperty.create("nested.value", String.class);
+	private static final PathProperty<String> NAME = PathProperty.create("name", String.class);
+	private static final PathProperty<String> PARENT_VALUE = PathProperty.create("value", String.class)
+			.parent(PathProperty.create("parent", String.class));
+	private static final Property<String> VIRTUAL = VirtualProperty.create(String.class, pb -> "v").name("virtual");
+
+	@Test
+	public void testTree() {
+
+		final PropertySetSerializationTreeResolver resolver = PropertySetSerializationTreeResolver.builder()
+				.validator(p -> true).build();
+
+		List<PropertySetSerializationNode> tree = nodes(resolver.resolve(
+				PropertySet.of(KEY, NESTED, NESTED_CODE, NAME, PARENT_VALUE, NESTED_VALUE, VIRTUAL)));
+
+		assertEquals(6, tree.size());
+		assertLeaf(tree.get(0), "key", KEY);
+		assertLeaf(tree.get(1), "nested", NESTED);
+		assertNode(tree.get(2), "nested", 2);
+		assertLeaf(tree.get(2).getChildren().get(0), "code", NESTED_CODE);
+		assertLeaf(tree.get(2).getChildren().get(1), "value", NESTED_VALUE);
+		assertLeaf(tree.get(3), "name", NAME);
+		assertNode(tree.get(4), "parent", 1);
+		assertLeaf(tree.get(4).getChildren().get(0), "value", PARENT_VALUE);
+		assertLeaf(tree.get(5), "virtual", VIRTUAL);
+
+		// validator
+		tree = nodes(PropertySetSerializationTreeResolver.builder().validator(p -> p != NESTED_CODE && p != VIRTUAL)
+				.build().resolve(PropertySet.of(KEY, NESTED, NESTED_CODE, NAME, PARENT_VALUE, NESTED_VALUE, VIRTUAL)));
+
+		assertEquals(5, tree.size());
+		assertLeaf(tree.get(1), "nested", NESTED);
+		assertLeaf(tree.get(2), "name", NAME);
+		assertNode(tree.get(3), "parent", 1);
+		assertNode(tree.get(4), "nested", 1);
+		assertLeaf(tree.get(4).getChildren().get(0), "value", NESTED_VALUE);
+	}
+
+	@Test
+	public void testDeepHierarchy() {
+
+		final PathProperty<String> ABC = PathProperty.create("a.b.c", String.class);
+		final PathProperty<String> AX = PathProperty.create("a.x", String.class);
+		final PathProperty<String> ABD = PathProperty.create("a.b.d", String.class);
+		final PathProperty<String> ABEF = PathProperty.create("a.b.e.f", String.class);
+
+		List<PropertySetSerializationNode> tree = nodes(PropertySetSerializationTreeResolver.builder().build()
+				.resolve(PropertySet.of(KEY, ABC, AX, ABD, NAME, ABEF)));
+
+		assertEquals(3, tree.size());
+		assertLeaf(tree.get(0), "key", KEY);
+		assertNode(tree.get(1), "a", 2);
+		assertLeaf(tree.get(2), "name", NAME);
+
+		final PropertySetSerializationNode a = tree.get(1);
+		assertNode(a.getChildren().get(0), "b", 3);
+		assertLeaf(a.getChildren().get(1), "x", AX);
+
+		final PropertySetSerializationNode b = a.getChildren().get(0);
+		assertLeaf(b.getChildren().get(0), "c", ABC);
+		assertLeaf(b.getChildren().get(1), "d", ABD);
+		assertNode(b.getChildren().get(2), "e", 1);
+		assertLeaf(b.getChildren().get(2).getChildren().get(0), "f", ABEF);
+	}
+
+	@Test
+	public void testWidePropertySet() {
+
+		for (int size : new int[] { 10, 100, 500, 2000 }) {
+			final List<Property<?>> properties = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				switch (i % 3) {
+				case 0:
+					properties.add(PathProperty.create("p" + i, String.class));
+					break;
+				case 1:
+					properties.add(PathProperty.create("g" + (i % 10) + ".p" + i, String.class));
+					break;
+				default:
+					properties.add(PathProperty.create("g" + (i % 10) + ".s" + (i % 7) + ".p" + i, String.class));
+					break;
+				}
+			}
+
+			final PropertySetSerializationTree tree = PropertySetSerializationTreeResolver.builder().build()
+					.resolve(PropertySet.of(properties));
+
+			assertEquals(size, countLeaves(tree));
+			for (PropertySetSerializationNode node : tree) {
+				if (!node.getProperty().isPresent()) {
+					assertTrue(node.getName().startsWith("g"));
+				}
+			}
+		}
+	}
+
+	private static List<PropertySetSerializationNode> nodes(PropertySetSerializationTree tree) {
+		final List<PropertySetSerializationNode> nodes = new ArrayList<>();
+		tree.forEach(nodes::add);
+		return nodes;
+	}
+
+	private static int countLeaves(Iterable<PropertySetSerializationNode> nodes) {
+		int count = 0;
+		for (PropertySetSerializationNode node : nodes) {
+			count += node.getProperty().isPresent() ? 1 : countLeaves(node.getChildren());
+		}
+		return count;
+	}
+
+	private static void assertLeaf(PropertySetSerializationNode node, String name, Property<?> property) {
+		assertEquals(name, node.getName());
+		assertTrue(node.getProperty().isPresent());
+		assertSame(property, node.getProperty().get());
+		assertTrue(node.getChildren().isEmpty());
+	}
+
+	private static void assertNode(PropertySetSerializationNode node, String name, int children) {
+		assertEquals(name, node.getName());
+		assertFalse(node.getProperty().isPresent());
+		assertEquals(children, node.getChildren().size());
+	}
+
+}